@@ -71,6 +71,13 @@ gradlePlugin {
             description = "Generates JSON schemas from JVM types"
             tags.set(listOf("creek", "creekservice", "json", "schema", "jsonschema", "json-schema", "schema-generator", "generator"))
         }
+        register("CreekSettingsPlugin") {
+            id = "org.creekservice.schema.json.settings"
+            implementationClass = "org.creekservice.api.json.schema.gradle.plugin.JsonSchemaSettingsPlugin"
+            displayName = "Creek JSON schema generator settings plugin"
+            description = "Shares JSON schema generator infrastructure across all projects in a build"
+            tags.set(listOf("creek", "creekservice", "json", "schema", "jsonschema", "json-schema", "schema-generator", "generator"))
+        }
     }
 }
 
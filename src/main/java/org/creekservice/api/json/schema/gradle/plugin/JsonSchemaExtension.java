@@ -16,8 +16,11 @@
 
 package org.creekservice.api.json.schema.gradle.plugin;
 
+import java.time.Duration;
 import java.util.List;
+import org.gradle.api.file.ConfigurableFileCollection;
 import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
 import org.gradle.api.plugins.ExtensionAware;
 import org.gradle.api.provider.ListProperty;
 import org.gradle.api.provider.Property;
@@ -27,6 +30,9 @@ public abstract class JsonSchemaExtension implements ExtensionAware {
 
     private final TypeScanningSpec typeScanning;
     private final TypeScanningSpec subTypeScanning;
+    private final ProfilingSpec profiling;
+    private final RegistrySpec registry;
+    private final MetricsSpec metrics;
 
     /**
      * Gradle extension for configuring which packages and modules are included when scanning for
@@ -88,10 +94,150 @@ public abstract class JsonSchemaExtension implements ExtensionAware {
         }
     }
 
+    /** Gradle extension for configuring profiling of the schema generator. */
+    public abstract static class ProfilingSpec {
+
+        /**
+         * Controls whether the generator is run with a Java Flight Recorder recording and GC
+         * logging.
+         *
+         * <p>When enabled, the recording and GC log are written to a subdirectory of the {@link
+         * #getReportsDirectory() reports directory}, named after the task, and a short summary of
+         * the hottest methods, allocation rate and class loading time is logged.
+         *
+         * <p>Default: {@code false}.
+         *
+         * @return the enabled property.
+         */
+        public abstract Property<Boolean> getEnabled();
+
+        /**
+         * The directory under which profiling reports are written.
+         *
+         * <p>Default: {@code $buildDir/reports/jsonSchema}.
+         *
+         * @return the reports directory property.
+         */
+        public abstract DirectoryProperty getReportsDirectory();
+    }
+
+    /** Gradle extension for configuring publishing schemas to a schema registry. */
+    public abstract static class RegistrySpec {
+
+        /**
+         * The base URL of a Confluent compatible schema registry to publish schemas to.
+         *
+         * <p>Default: none.
+         *
+         * @return the registry URL property.
+         */
+        public abstract Property<String> getUrl();
+
+        /**
+         * Optional user name, for basic authentication with the registry.
+         *
+         * @return the user name property.
+         */
+        public abstract Property<String> getUsername();
+
+        /**
+         * Optional password, for basic authentication with the registry.
+         *
+         * @return the password property.
+         */
+        public abstract Property<String> getPassword();
+
+        /**
+         * The maximum number of requests to the registry in flight at once.
+         *
+         * <p>Default: 4.
+         *
+         * @return the max concurrent requests property.
+         */
+        public abstract Property<Integer> getMaxConcurrentRequests();
+
+        /**
+         * The timeout of each request to the registry.
+         *
+         * <p>Default: 30 seconds.
+         *
+         * @return the request timeout property.
+         */
+        public abstract Property<Duration> getRequestTimeout();
+
+        /**
+         * The file recording the fingerprints of published schemas, used to avoid republishing
+         * unchanged schemas.
+         *
+         * <p>Default: {@code $buildDir/jsonSchema/publish-ledger.properties}.
+         *
+         * @return the ledger file property.
+         */
+        public abstract RegularFileProperty getLedgerFile();
+    }
+
+    /**
+     * Gradle extension for configuring the complexity budgets of generated schemas.
+     *
+     * <p>Each budget is optional. Where set, any schema exceeding the budget either fails the
+     * {@code checkJsonSchemaMetrics} task, or is logged as a warning.
+     */
+    public abstract static class MetricsSpec {
+
+        /**
+         * The maximum size of a schema file, in bytes.
+         *
+         * @return the max size property.
+         */
+        public abstract Property<Integer> getMaxSize();
+
+        /**
+         * The maximum nesting depth of subschemas within a schema, with the root schema at depth
+         * 1.
+         *
+         * @return the max depth property.
+         */
+        public abstract Property<Integer> getMaxDepth();
+
+        /**
+         * The maximum number of alternatives in any single {@code oneOf} or {@code anyOf}.
+         *
+         * @return the max fan-out property.
+         */
+        public abstract Property<Integer> getMaxFanOut();
+
+        /**
+         * The maximum number of {@code $ref}s in a schema.
+         *
+         * @return the max refs property.
+         */
+        public abstract Property<Integer> getMaxRefs();
+
+        /**
+         * The maximum number of regular expressions in a schema, i.e. {@code pattern}s and
+         * {@code patternProperties}.
+         *
+         * @return the max patterns property.
+         */
+        public abstract Property<Integer> getMaxPatterns();
+
+        /**
+         * Controls whether exceeding a budget fails the build, or is only logged as a warning.
+         *
+         * <p>Default: {@code true}.
+         *
+         * @return the fail on exceeded property.
+         */
+        public abstract Property<Boolean> getFailOnExceeded();
+    }
+
     /** Constructor */
     public JsonSchemaExtension() {
         this.typeScanning = getExtensions().create("typeScanning", TypeScanningSpec.class);
         this.subTypeScanning = getExtensions().create("subTypeScanning", TypeScanningSpec.class);
+        this.profiling = getExtensions().create("profiling", ProfilingSpec.class);
+        this.registry = getExtensions().create("registry", RegistrySpec.class);
+        this.metrics = getExtensions().create("metrics", MetricsSpec.class);
     }
 
     /**
@@ -114,6 +260,51 @@ public abstract class JsonSchemaExtension implements ExtensionAware {
         return subTypeScanning;
     }
 
+    /**
+     * Configure profiling of the schema generator.
+     *
+     * @return the profiling config
+     */
+    public ProfilingSpec getProfiling() {
+        return profiling;
+    }
+
+    /**
+     * Configure publishing schemas to a schema registry.
+     *
+     * @return the registry config
+     */
+    public RegistrySpec getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Configure the complexity budgets of generated schemas.
+     *
+     * @return the metrics config
+     */
+    public MetricsSpec getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Optionally, resolve the subtypes of polymorphic types from type metadata, rather than by
+     * scanning.
+     *
+     * <p>When enabled, and no subtype scanning package white list is set, compiled polymorphic
+     * types, i.e. those annotated with {@code @JsonTypeInfo}, are inspected. If all such types are
+     * annotated with {@code @JsonSubTypes}, or are {@code sealed} with only {@code final} or {@code
+     * sealed} permitted subclasses, then subtype scanning is limited to the packages containing
+     * those subtypes. Otherwise, subtype scanning is unchanged.
+     *
+     * <p>Only polymorphic types compiled within the project are inspected.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return resolve subtypes from metadata property.
+     */
+    public abstract Property<Boolean> getResolveSubtypesFromMetadata();
+
     /**
      * Optional resource root where generated schemas should be stored
      *
@@ -132,6 +323,31 @@ public abstract class JsonSchemaExtension implements ExtensionAware {
      */
     public abstract DirectoryProperty getTestSchemaResourceRoot();
 
+    /**
+     * Optionally, write minified copies of the generated schemas for use at runtime.
+     *
+     * <p>When enabled, a minified copy of each schema, with annotations such as {@code title} and
+     * {@code description} removed, duplicate definitions merged, and written as JSON without
+     * insignificant whitespace, is written to the {@link #getMinifiedSchemaResourceRoot() minified
+     * resource root}, under the same resource path. The minified schemas replace the full schemas
+     * in the main source set's output, and hence the jar, while the full schemas remain under the
+     * {@link #getSchemaResourceRoot() resource root}, and in the schema archive, e.g. for docs.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return minify schemas property.
+     */
+    public abstract Property<Boolean> getMinifySchemas();
+
+    /**
+     * Optional resource root where minified schemas should be stored
+     *
+     * <p>Default: {@code $buildDir/generated/resources/schema/minified}
+     *
+     * @return the minified resource root property.
+     */
+    public abstract DirectoryProperty getMinifiedSchemaResourceRoot();
+
     /**
      * Optionally, provide a specific directory to generate schemas into.
      *
@@ -153,6 +369,254 @@ public abstract class JsonSchemaExtension implements ExtensionAware {
      */
     public abstract Property<String> getOutputDirectoryName();
 
+    /**
+     * Optionally, control whether schema generation is skipped when a source set contains no
+     * {@code @GeneratesSchema} annotated types.
+     *
+     * <p>When enabled, compiled class files are checked for annotated types without loading them
+     * and, if none are found, the generator is not run.
+     *
+     * <p>Disable this if schemas should be generated for annotated types found only in
+     * dependencies.
+     *
+     * <p>Default: {@code true}.
+     *
+     * @return skip when no annotated types property.
+     */
+    public abstract Property<Boolean> getSkipWhenNoAnnotatedTypes();
+
+    /**
+     * Optionally, control whether only schemas affected by changes since the last run are
+     * regenerated.
+     *
+     * <p>When enabled, the generator is only run for packages containing annotated types whose
+     * class files, or those of the types they reference, have changed. If nothing relevant has
+     * changed, the generator is not run at all. This speeds up the edit-compile cycle, especially
+     * in continuous builds.
+     *
+     * <p>Changes to subtypes of polymorphic types, and removed types, always trigger a full
+     * regeneration.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return incremental generation property.
+     */
+    public abstract Property<Boolean> getIncrementalGeneration();
+
+    /**
+     * Optionally, generate Java validators for the main schemas.
+     *
+     * <p>When enabled, a {@code <Type>Validator} class is generated, in the type's package, for
+     * each generated schema. Validators check instances in the generic JSON data model, i.e. {@code
+     * Map}, {@code List}, {@code String}, {@code Number}, {@code Boolean} and {@code null}, without
+     * loading or interpreting the schema at runtime.
+     *
+     * <p>The validators are compiled into a separate {@code jsonSchemaValidators} source set, whose
+     * output is included in the main jar and on the test classpath.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return generate validators property.
+     */
+    public abstract Property<Boolean> getGenerateValidators();
+
+    /**
+     * Optionally, generate GraalVM native-image reflection metadata alongside the schemas.
+     *
+     * <p>When enabled, a {@code reflect-config.json} is written under {@code
+     * META-INF/native-image/<project-group>/<project-name>} in the schema resource roots. It
+     * registers the {@code @GeneratesSchema} annotated types, the types of their properties, their
+     * super types and the subtypes of polymorphic types for reflection. Only types compiled within
+     * the source set are included.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return generate reflection metadata property.
+     */
+    public abstract Property<Boolean> getGenerateReflectionMetadata();
+
+    /**
+     * Optionally, write a manifest of the generated schemas.
+     *
+     * <p>When enabled, a {@code META-INF/creek/json-schemas.manifest} file is written under the
+     * schema resource roots, listing each schema's type name, resource path, size, content SHA-256
+     * and canonical fingerprint. The canonical fingerprint is unaffected by formatting and key
+     * order, so only changes to the schema's content change it.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return generate manifest property.
+     */
+    public abstract Property<Boolean> getGenerateManifest();
+
+    /**
+     * Optionally, write an index of the generated schemas.
+     *
+     * <p>When enabled, a {@code META-INF/creek/json-schemas.idx} file is written under the schema
+     * resource roots, listing the resource path of each schema, one per line. Consumers can find
+     * the schemas in all jars on the class path by reading each {@code
+     * ClassLoader.getResources("META-INF/creek/json-schemas.idx")} resource, without walking the
+     * class path.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return generate index property.
+     */
+    public abstract Property<Boolean> getGenerateIndex();
+
+    /**
+     * Optionally, write binary copies of the generated schemas.
+     *
+     * <p>When enabled, each schema is also written in CBOR, next to its YAML file, with the same
+     * base name and a {@code .cbor} extension. Services loading many schemas at startup can load
+     * these with any CBOR parser, e.g. Jackson's {@code CBORFactory}, which is faster than parsing
+     * YAML.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return generate binary schemas property.
+     */
+    public abstract Property<Boolean> getGenerateBinarySchemas();
+
+    /**
+     * Optionally, move definitions repeated across the generated schemas to a shared file.
+     *
+     * <p>When enabled, definitions of common types, e.g. money or ids, that are identical in two or
+     * more schemas are written once, to a {@code
+     * META-INF/creek/json-schema-definitions/<group>/<name>/<source-set>.yml} resource, and the
+     * schemas reference them there using relative {@code $ref}s, rather than each inlining a copy.
+     * This reduces the size of the schemas and the work needed to load and compile them.
+     *
+     * <p>Enabling this disables {@link #getIncrementalGeneration() incremental generation}.
+     *
+     * <p>Can not be combined with generating validators, checking compatibility against a
+     * baseline, or publishing schemas to a registry, as these only support local {@code $ref}s.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return share definitions property.
+     */
+    public abstract Property<Boolean> getShareDefinitions();
+
+    /**
+     * Optionally, split schema generation across multiple generator processes.
+     *
+     * <p>When greater than one, the packages containing annotated types are split into up to this
+     * many shards, and a generator process is run for each, in parallel. The output of the shards
+     * is merged, and verified, so that it matches the output of a single generator run. Useful for
+     * modules with very many annotated types. The number of shards is capped at the maximum
+     * number of parallel generators, configured in the settings plugin.
+     *
+     * <p>Default: {@code 1}.
+     *
+     * @return shards property.
+     */
+    public abstract Property<Integer> getShards();
+
+    /**
+     * Optionally, launch the generator JVM before the generate tasks execute.
+     *
+     * <p>When enabled, a {@code prelaunchJsonSchemaGenerator} task, which compilation runs after,
+     * launches the generator JVM with only the generator's class path. It loads the generator and
+     * opens the jars on its class path, then waits for the generate task to hand over the
+     * project's class path and the generator's arguments, taking JVM startup off the build's
+     * critical path.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return prelaunch generator property.
+     */
+    public abstract Property<Boolean> getPrelaunchGenerator();
+
+    /**
+     * Optionally, run the generator for all projects in the build in a single shared JVM.
+     *
+     * <p>When enabled, generate tasks hand their class path and arguments to a build-wide service,
+     * which runs them one at a time in a single long-lived generator JVM, each in its own class
+     * loader. In builds with many small projects this avoids paying JVM startup and generator
+     * class loading per project. Takes precedence over {@link #getPrelaunchGenerator()}.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return batch generation property.
+     */
+    public abstract Property<Boolean> getBatchGeneration();
+
+    /**
+     * Optionally, run the generator with its dependencies merged into a single jar.
+     *
+     * <p>When enabled, the generator jar and its dependencies are merged into a single jar by an
+     * artifact transform, once per generator version, with the result cached. This reduces the
+     * number of jars each generator JVM opens at startup. Not used when running the generator from
+     * the module path.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return merge generator class path property.
+     */
+    public abstract Property<Boolean> getMergeGeneratorClasspath();
+
+    /**
+     * Optionally, reference the schemas of upstream projects, rather than duplicating them.
+     *
+     * <p>When enabled, the schema variant of each of the project's direct runtime dependencies, as
+     * published by this plugin, is resolved. Definitions in the generated schemas that are
+     * equivalent to an upstream schema are replaced with an absolute {@code $ref} to the upstream
+     * schema, i.e. its {@code $id} or a {@code classpath:} reference to its resource path, and
+     * definitions left unused are removed. Dependencies without a schema variant are ignored.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return reference upstream schemas property.
+     */
+    public abstract Property<Boolean> getReferenceUpstreamSchemas();
+
+    /**
+     * Optionally, publish the schemas-only variant as part of the {@code java} component.
+     *
+     * <p>The {@code jsonSchemaElements} variant is always available to other projects in the
+     * build. When enabled, it is also added to the {@code java} component as an optional variant,
+     * so that it is published, e.g. by the {@code maven-publish} plugin, alongside the jar.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return publish schema variant property.
+     */
+    public abstract Property<Boolean> getPublishSchemaVariant();
+
+    /**
+     * The baseline schemas the generated schemas must be backwards compatible with, e.g. the
+     * schemas of the previous release.
+     *
+     * <p>Accepts directories of schema files, laid out as under the schema resource root, and jar
+     * or zip archives containing schema files, e.g. a previously published artifact.
+     *
+     * <p>When set, the {@code checkJsonSchemaCompatibility} task, which runs as part of {@code
+     * check}, fails the build on any breaking change to a schema, including removing a schema.
+     *
+     * <p>Default: empty, meaning no compatibility check.
+     *
+     * @return the baseline file collection.
+     */
+    public abstract ConfigurableFileCollection getCompatibilityBaseline();
+
+    /**
+     * The directory containing test fixtures, i.e. example JSON or YAML instances, to validate
+     * against the generated schemas.
+     *
+     * <p>Fixtures for a type are stored in a directory matching the type's fully qualified name,
+     * with one directory per package, e.g. {@code acme/models/Thing/example.json}. Fixtures whose
+     * file name starts with {@code invalid} must fail validation. The {@code
+     * validateJsonSchemaFixtures} task, which runs as part of {@code check}, fails the build on any
+     * fixture that does not validate as expected.
+     *
+     * <p>Default: {@code src/test/resources/schema-fixtures}. The task is skipped if the directory
+     * contains no fixtures.
+     *
+     * @return the fixture directory property.
+     */
+    public abstract DirectoryProperty getFixtureDirectory();
+
     /**
      * Optional list of additional arguments to pass to the generator.
      *
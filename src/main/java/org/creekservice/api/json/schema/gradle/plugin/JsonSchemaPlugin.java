@@ -16,25 +16,63 @@
 
 package org.creekservice.api.json.schema.gradle.plugin;
 
-import static org.creekservice.api.json.schema.gradle.plugin.GeneratorVersion.defaultGeneratorVersion;
-
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.creekservice.api.json.schema.gradle.plugin.task.BatchGeneratorService;
+import org.creekservice.api.json.schema.gradle.plugin.task.CheckJsonSchemaCompatibility;
+import org.creekservice.api.json.schema.gradle.plugin.task.CheckJsonSchemaMetrics;
 import org.creekservice.api.json.schema.gradle.plugin.task.GenerateJsonSchema;
+import org.creekservice.api.json.schema.gradle.plugin.task.GenerateJsonSchemaTransform;
+import org.creekservice.api.json.schema.gradle.plugin.task.GenerateJsonSchemaValidators;
+import org.creekservice.api.json.schema.gradle.plugin.task.JsonSchemaGeneratorService;
+import org.creekservice.api.json.schema.gradle.plugin.task.MergeGeneratorJarTransform;
+import org.creekservice.api.json.schema.gradle.plugin.task.PrelaunchJsonSchemaGenerator;
+import org.creekservice.api.json.schema.gradle.plugin.task.PrelaunchedGeneratorService;
+import org.creekservice.api.json.schema.gradle.plugin.task.PublishJsonSchemas;
+import org.creekservice.api.json.schema.gradle.plugin.task.ValidateJsonSchemaFixtures;
+import org.gradle.api.GradleException;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
 import org.gradle.api.Task;
 import org.gradle.api.artifacts.Configuration;
+import org.gradle.api.artifacts.ConfigurationContainer;
+import org.gradle.api.artifacts.ModuleDependency;
+import org.gradle.api.artifacts.ProjectDependency;
+import org.gradle.api.artifacts.component.ComponentIdentifier;
+import org.gradle.api.artifacts.component.ModuleComponentIdentifier;
 import org.gradle.api.artifacts.dsl.DependencyHandler;
+import org.gradle.api.artifacts.type.ArtifactTypeDefinition;
+import org.gradle.api.attributes.Attribute;
+import org.gradle.api.attributes.AttributeContainer;
+import org.gradle.api.attributes.Category;
+import org.gradle.api.attributes.LibraryElements;
+import org.gradle.api.attributes.Usage;
+import org.gradle.api.component.AdhocComponentWithVariants;
+import org.gradle.api.component.SoftwareComponent;
+import org.gradle.api.file.Directory;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.file.RegularFile;
+import org.gradle.api.model.ObjectFactory;
+import org.gradle.api.plugins.BasePluginExtension;
 import org.gradle.api.plugins.ExtensionAware;
 import org.gradle.api.plugins.ExtensionContainer;
 import org.gradle.api.plugins.JavaPlugin;
+import org.gradle.api.provider.Provider;
 import org.gradle.api.tasks.SourceSet;
 import org.gradle.api.tasks.SourceSetContainer;
+import org.gradle.api.tasks.Sync;
 import org.gradle.api.tasks.TaskProvider;
+import org.gradle.api.tasks.bundling.Jar;
+import org.gradle.api.tasks.bundling.Zip;
+import org.gradle.api.tasks.compile.AbstractCompile;
+import org.gradle.language.base.plugins.LifecycleBasePlugin;
+import org.gradle.util.GradleVersion;
 
 /** Plugin for generating JSON schemas from code */
 public final class JsonSchemaPlugin implements Plugin<Project> {
@@ -57,32 +95,160 @@ public final class JsonSchemaPlugin implements Plugin<Project> {
     /** Generate test schema task name. */
     public static final String GENERATE_TEST_SCHEMA_TASK_NAME = "generateTestJsonSchema";
 
+    /** Generate schema validators task name. */
+    public static final String GENERATE_VALIDATORS_TASK_NAME = "generateJsonSchemaValidators";
+
+    /** Check schema compatibility task name. */
+    public static final String CHECK_COMPATIBILITY_TASK_NAME = "checkJsonSchemaCompatibility";
+
+    /** Check schema metrics task name. */
+    public static final String CHECK_METRICS_TASK_NAME = "checkJsonSchemaMetrics";
+
+    /** Validate schema test fixtures task name. */
+    public static final String VALIDATE_FIXTURES_TASK_NAME = "validateJsonSchemaFixtures";
+
+    /** Publish schemas task name. */
+    public static final String PUBLISH_SCHEMA_TASK_NAME = "publishJsonSchemas";
+
+    /** Name of the task building the schemas-only archive. */
+    public static final String SCHEMA_ZIP_TASK_NAME = "jsonSchemaZip";
+
+    /** Name of the consumable configuration exposing the schemas-only archive. */
+    public static final String SCHEMA_ELEMENTS_CONFIGURATION_NAME = "jsonSchemaElements";
+
+    /** Value of the {@code org.gradle.usage} attribute of the schemas-only variant. */
+    public static final String SCHEMA_USAGE = "creek-json-schema";
+
+    /** Suffix added to the project name to form the capability of the schemas-only variant. */
+    public static final String SCHEMA_CAPABILITY_SUFFIX = "-json-schemas";
+
+    /** Name of the resolvable configuration containing the schemas of upstream projects. */
+    public static final String UPSTREAM_SCHEMA_CONFIGURATION_NAME = "jsonSchemaUpstream";
+
+    /** Name of the configuration of third-party model jars to generate schemas for. */
+    public static final String MODEL_CONFIGURATION_NAME = "jsonSchemaModels";
+
+    /** Name of the task collecting the schemas generated for third-party model jars. */
+    public static final String MODEL_SCHEMA_TASK_NAME = "syncModelJsonSchemas";
+
+    /** Artifact type of the directories of schemas generated for third-party model jars. */
+    public static final String MODEL_SCHEMA_ARTIFACT_TYPE = "creek-json-schema-directory";
+
+    /** Classifier of the schemas-only archive. */
+    public static final String SCHEMA_ARCHIVE_CLASSIFIER = "json-schemas";
+
+    /** Name of the source set containing generated schema validators. */
+    public static final String VALIDATORS_SOURCE_SET_NAME = "jsonSchemaValidators";
+
     /** Standard Creek group name. */
     public static final String GROUP_NAME = "creek";
 
     /** Default resource root */
     public static final String DEFAULT_RESOURCE_ROOT = "generated/resources/schema/main";
 
+    /** Default resource root for minified schemas */
+    public static final String DEFAULT_MINIFIED_RESOURCE_ROOT =
+            "generated/resources/schema/minified";
+
     /** Default test resource root */
     public static final String DEFAULT_TEST_RESOURCE_ROOT = "generated/resources/schema/test";
 
+    /** Default directory for schemas generated for third-party model jars. */
+    public static final String DEFAULT_MODEL_RESOURCE_ROOT = "generated/resources/schema/models";
+
+    /** Default directory for generated validator source */
+    public static final String DEFAULT_VALIDATORS_SOURCE_DIR =
+            "generated/sources/jsonSchemaValidators/java/main";
+
+    /** Root directory of GraalVM native-image metadata within resources */
+    public static final String NATIVE_IMAGE_METADATA_DIR = "META-INF/native-image/";
+
+    /** Root directory of shared schema definitions within resources */
+    public static final String SHARED_DEFINITIONS_DIR = "META-INF/creek/json-schema-definitions/";
+
+    /** Default file recording the fingerprints of published schemas */
+    public static final String DEFAULT_PUBLISH_LEDGER = "jsonSchema/publish-ledger.properties";
+
+    /** Default directory for storing per-schema compatibility results between builds */
+    public static final String DEFAULT_COMPATIBILITY_RESULTS_DIR = "jsonSchema/compatibility";
+
+    /** Default directory for the lists of schemas changed by each generate task's last run */
+    public static final String DEFAULT_CHANGED_SCHEMAS_DIR = "jsonSchema/changes";
+
+    /** Default directory for storing per-fixture validation results between builds */
+    public static final String DEFAULT_FIXTURE_RESULTS_DIR = "jsonSchema/fixtures";
+
+    /** Default directory containing schema test fixtures, relative to the project directory */
+    public static final String DEFAULT_FIXTURE_DIR = "src/test/resources/schema-fixtures";
+
+    /** Default reports directory, used for profiling reports. */
+    public static final String DEFAULT_REPORTS_DIR = "reports/jsonSchema";
+
     /** Artifact group for generator */
     public static final String GENERATOR_DEP_GROUP_NAME = "org.creekservice";
 
     /** Artifact name for generator */
     public static final String GENERATOR_DEP_ARTEFACT_NAME = "creek-json-schema-generator";
 
+    private static final String JAVA_COMPONENT_NAME = "java";
+
+    // ArtifactTypeDefinition.ARTIFACT_TYPE_ATTRIBUTE is not available until Gradle 7.3:
+    private static final Attribute<String> ARTIFACT_TYPE =
+            Attribute.of("artifactType", String.class);
+    private static final Attribute<Boolean> MODEL_SCHEMAS_GENERATED =
+            Attribute.of("org.creekservice.json-schema.generated", Boolean.class);
+    private static final Attribute<Boolean> GENERATOR_JARS_MERGED =
+            Attribute.of("org.creekservice.json-schema.generator-merged", Boolean.class);
+
     private static final List<String> ALL_MODULES = List.of();
     private static final List<String> ALL_PACKAGES = List.of();
 
+    /** The first Gradle version accepting a provider as an outgoing capability. */
+    private static final GradleVersion LAZY_CAPABILITY_VERSION = GradleVersion.version("8.6");
+
     @Override
     public void apply(final Project project) {
         project.getPluginManager().apply(JavaPlugin.class);
 
         final JsonSchemaExtension extension = registerExtension(project);
-        registerGenerateSchemaTask(project, extension);
-        registerGenerateTestSchemaTask(project, extension);
-        registerJsonSchemaConfiguration(project);
+        final TaskProvider<GenerateJsonSchema> generateTask =
+                registerGenerateSchemaTask(project, extension);
+        registerGenerateValidatorsTask(project, extension, generateTask);
+        registerSchemaVariant(project, extension, generateTask);
+        registerUpstreamSchemas(project, extension, generateTask);
+        registerModelSchemas(project, generateTask);
+        registerCheckCompatibilityTask(project, extension, generateTask);
+        registerCheckMetricsTask(project, extension, generateTask);
+        registerPublishSchemaTask(project, extension, generateTask);
+        rejectNonLocalRefConsumers(project, extension, generateTask);
+        final TaskProvider<GenerateJsonSchema> generateTestTask =
+                registerGenerateTestSchemaTask(project, extension);
+        registerValidateFixturesTask(project, extension, generateTask, generateTestTask);
+        project.afterEvaluate(
+                proj -> {
+                    if (extension.getBatchGeneration().get()) {
+                        useBatchService(proj);
+                    } else if (extension.getPrelaunchGenerator().get()) {
+                        usePrelaunchService(proj);
+                    }
+                });
+
+        if (settingsExtension(project) == null) {
+            final Configuration cfg =
+                    registerJsonSchemaConfiguration(
+                            project, project.provider(GeneratorVersion::defaultGeneratorVersion));
+            final FileCollection merged = mergedGeneratorClasspath(project, cfg);
+            project.getTasks()
+                    .withType(GenerateJsonSchema.class)
+                    .configureEach(
+                            task -> {
+                                task.getGeneratorDeps().from(cfg);
+                                task.getGeneratorJar().from(generatorJar(cfg));
+                                task.getMergedGeneratorDeps().from(merged);
+                            });
+        } else {
+            useSharedGenerator(project);
+        }
     }
 
     private JsonSchemaExtension registerExtension(final Project project) {
@@ -97,6 +263,7 @@ public final class JsonSchemaPlugin implements Plugin<Project> {
         extension.getTypeScanning().getPackageWhiteListed().convention(ALL_PACKAGES);
         extension.getSubtypeScanning().getModuleWhiteList().convention(ALL_MODULES);
         extension.getSubtypeScanning().getPackageWhiteListed().convention(ALL_PACKAGES);
+        extension.getResolveSubtypesFromMetadata().convention(false);
         extension
                 .getSchemaResourceRoot()
                 .convention(project.getLayout().getBuildDirectory().dir(DEFAULT_RESOURCE_ROOT));
@@ -104,12 +271,55 @@ public final class JsonSchemaPlugin implements Plugin<Project> {
                 .getTestSchemaResourceRoot()
                 .convention(
                         project.getLayout().getBuildDirectory().dir(DEFAULT_TEST_RESOURCE_ROOT));
+        extension.getMinifySchemas().convention(false);
+        extension
+                .getMinifiedSchemaResourceRoot()
+                .convention(
+                        project.getLayout()
+                                .getBuildDirectory()
+                                .dir(DEFAULT_MINIFIED_RESOURCE_ROOT));
         extension.getOutputDirectoryName().convention((String) null);
+        extension.getSkipWhenNoAnnotatedTypes().convention(true);
+        extension.getIncrementalGeneration().convention(false);
+        extension.getGenerateValidators().convention(false);
+        extension.getGenerateReflectionMetadata().convention(false);
+        extension.getGenerateManifest().convention(false);
+        extension.getGenerateIndex().convention(false);
+        extension.getGenerateBinarySchemas().convention(false);
+        extension.getShareDefinitions().convention(false);
+        extension.getReferenceUpstreamSchemas().convention(false);
+        extension.getPublishSchemaVariant().convention(false);
+        extension.getPrelaunchGenerator().convention(false);
+        extension.getBatchGeneration().convention(false);
+        extension.getMergeGeneratorClasspath().convention(false);
+        extension.getShards().convention(1);
         extension.getExtraArguments().convention(List.of());
+        extension.getProfiling().getEnabled().convention(false);
+        extension
+                .getProfiling()
+                .getReportsDirectory()
+                .convention(project.getLayout().getBuildDirectory().dir(DEFAULT_REPORTS_DIR));
+
+        extension.getMetrics().getFailOnExceeded().convention(true);
+        extension
+                .getFixtureDirectory()
+                .convention(project.getLayout().getProjectDirectory().dir(DEFAULT_FIXTURE_DIR));
+
+        extension.getRegistry().getMaxConcurrentRequests().convention(4);
+        extension.getRegistry().getRequestTimeout().convention(Duration.ofSeconds(30));
+        extension
+                .getRegistry()
+                .getLedgerFile()
+                .convention(project.getLayout().getBuildDirectory().file(DEFAULT_PUBLISH_LEDGER));
+
+        final JsonSchemaSettingsExtension settings = settingsExtension(project);
+        if (settings != null) {
+            settings.applyDefaults(extension);
+        }
         return extension;
     }
 
-    private void registerGenerateSchemaTask(
+    private TaskProvider<GenerateJsonSchema> registerGenerateSchemaTask(
             final Project project, final JsonSchemaExtension extension) {
         final TaskProvider<GenerateJsonSchema> taskProvider =
                 project.getTasks()
@@ -119,7 +329,14 @@ public final class JsonSchemaPlugin implements Plugin<Project> {
                                 task -> {
                                     task.getSchemaResourceRoot()
                                             .set(extension.getSchemaResourceRoot());
-                                    configure(extension, task);
+                                    task.getMinifiedSchemaResourceRoot()
+                                            .set(minifiedSchemaResourceRoot(project, extension));
+                                    task.getSharedDefinitionsPath()
+                                            .set(
+                                                    sharedDefinitionsPath(
+                                                            project,
+                                                            SourceSet.MAIN_SOURCE_SET_NAME));
+                                    configure(project, extension, task);
                                 });
 
         configureSourceSetOutput(project, taskProvider, SourceSet.MAIN_SOURCE_SET_NAME);
@@ -128,16 +345,500 @@ public final class JsonSchemaPlugin implements Plugin<Project> {
                 proj ->
                         afterEvaluate(
                                 proj,
-                                GENERATE_SCHEMA_TASK_NAME,
+                                taskProvider,
                                 JavaPlugin.RUNTIME_CLASSPATH_CONFIGURATION_NAME,
                                 List.of(
                                         JavaPlugin.COMPILE_JAVA_TASK_NAME,
                                         "compileKotlin",
                                         "compileGroovy"),
                                 JavaPlugin.PROCESS_RESOURCES_TASK_NAME));
+        return taskProvider;
+    }
+
+    private static Provider<Directory> minifiedSchemaResourceRoot(
+            final Project project, final JsonSchemaExtension extension) {
+        return extension
+                .getMinifySchemas()
+                .flatMap(
+                        enabled ->
+                                enabled
+                                        ? extension.getMinifiedSchemaResourceRoot()
+                                        : project.provider(() -> null));
+    }
+
+    private void registerGenerateValidatorsTask(
+            final Project project,
+            final JsonSchemaExtension extension,
+            final TaskProvider<GenerateJsonSchema> generateTask) {
+        final Provider<Directory> schemaRoot =
+                generateTask.flatMap(GenerateJsonSchema::getSchemaResourceRoot);
+        final Provider<Directory> outputDir =
+                project.getLayout().getBuildDirectory().dir(DEFAULT_VALIDATORS_SOURCE_DIR);
+
+        final TaskProvider<GenerateJsonSchemaValidators> taskProvider =
+                project.getTasks()
+                        .register(
+                                GENERATE_VALIDATORS_TASK_NAME,
+                                GenerateJsonSchemaValidators.class,
+                                task -> {
+                                    task.setGroup(GROUP_NAME);
+                                    task.dependsOn(generateTask);
+                                    task.getSchemaResourceRoot().set(schemaRoot);
+                                    task.getOutputDirectory().set(outputDir);
+                                });
+
+        project.afterEvaluate(
+                proj -> {
+                    if (extension.getGenerateValidators().get()) {
+                        registerValidatorsSourceSet(proj, taskProvider);
+                    }
+                });
+    }
+
+    /**
+     * Expose the schemas as their own variant, with its own capability, so that consumers needing
+     * only the schemas resolve a single small archive, rather than the jar and its dependencies.
+     *
+     * <p>The variant is only added to the published {@code java} component if enabled.
+     */
+    private static void registerSchemaVariant(
+            final Project project,
+            final JsonSchemaExtension extension,
+            final TaskProvider<GenerateJsonSchema> generateTask) {
+        final TaskProvider<Zip> zipTask =
+                project.getTasks()
+                        .register(
+                                SCHEMA_ZIP_TASK_NAME,
+                                Zip.class,
+                                zip -> {
+                                    zip.setGroup(GROUP_NAME);
+                                    zip.setDescription("Assembles a JSON schema archive");
+                                    zip.getArchiveClassifier().set(SCHEMA_ARCHIVE_CLASSIFIER);
+                                    zip.getDestinationDirectory()
+                                            .set(
+                                                    project.getExtensions()
+                                                            .getByType(BasePluginExtension.class)
+                                                            .getLibsDirectory());
+                                    zip.from(
+                                            generateTask.flatMap(
+                                                    GenerateJsonSchema::getSchemaResourceRoot));
+                                    zip.exclude(NATIVE_IMAGE_METADATA_DIR + "**");
+                                });
+
+        final ObjectFactory objects = project.getObjects();
+        final Configuration elements =
+                project.getConfigurations().create(SCHEMA_ELEMENTS_CONFIGURATION_NAME);
+        elements.setCanBeConsumed(true);
+        elements.setCanBeResolved(false);
+        elements.setDescription("JSON schemas generated from the main source set");
+        elements.attributes(attributes -> schemaAttributes(objects, attributes));
+        elements.getOutgoing().artifact(zipTask);
+
+        final Provider<String> capability =
+                project.provider(
+                        () ->
+                                project.getGroup()
+                                        + ":"
+                                        + project.getName()
+                                        + SCHEMA_CAPABILITY_SUFFIX
+                                        + ":"
+                                        + project.getVersion());
+        if (GradleVersion.current().compareTo(LAZY_CAPABILITY_VERSION) >= 0) {
+            elements.getOutgoing().capability(capability);
+        } else {
+            // Older Gradle versions don't accept a provider of a capability:
+            project.afterEvaluate(proj -> elements.getOutgoing().capability(capability.get()));
+        }
+
+        final SoftwareComponent java = project.getComponents().getByName(JAVA_COMPONENT_NAME);
+        if (java instanceof AdhocComponentWithVariants) {
+            ((AdhocComponentWithVariants) java)
+                    .addVariantsFromConfiguration(
+                            elements,
+                            details -> {
+                                if (extension.getPublishSchemaVariant().get()) {
+                                    details.mapToOptional();
+                                } else {
+                                    details.skip();
+                                }
+                            });
+        }
+    }
+
+    /**
+     * Resolve the schema variants of the project's direct runtime dependencies, so that generated
+     * schemas can reference, rather than duplicate, upstream schemas.
+     *
+     * <p>The upstream configuration is resolved consistently with the runtime class path, so that
+     * dependencies versioned by platforms or constraints resolve to the same version. Its files are
+     * read through a lenient view, so that dependencies without a schema variant are ignored,
+     * rather than each being probed with a separate resolution.
+     */
+    private static void registerUpstreamSchemas(
+            final Project project,
+            final JsonSchemaExtension extension,
+            final TaskProvider<GenerateJsonSchema> generateTask) {
+        final ObjectFactory objects = project.getObjects();
+        final ConfigurationContainer configurations = project.getConfigurations();
+        final Configuration runtime =
+                configurations.getByName(JavaPlugin.RUNTIME_CLASSPATH_CONFIGURATION_NAME);
+        final Configuration upstream = configurations.create(UPSTREAM_SCHEMA_CONFIGURATION_NAME);
+        upstream.shouldResolveConsistentlyWith(runtime);
+        upstream.setCanBeConsumed(false);
+        upstream.setCanBeResolved(true);
+        upstream.setTransitive(false);
+        upstream.setDescription("JSON schemas of upstream projects");
+        upstream.attributes(attributes -> schemaAttributes(objects, attributes));
+        upstream.withDependencies(
+                deps -> {
+                    if (!extension.getReferenceUpstreamSchemas().get()) {
+                        return;
+                    }
+
+                    runtime.getAllDependencies()
+                            .withType(ModuleDependency.class)
+                            .stream()
+                            .map(JsonSchemaPlugin::schemaDependency)
+                            .flatMap(Optional::stream)
+                            .forEach(deps::add);
+                });
+
+        final FileCollection schemas =
+                upstream.getIncoming().artifactView(view -> view.lenient(true)).getFiles();
+        generateTask.configure(task -> task.getUpstreamSchemas().from(schemas));
+    }
+
+    /**
+     * Build a dependency on the schema variant of a dependency.
+     *
+     * <p>Project dependencies target the upstream project's {@value
+     * #SCHEMA_ELEMENTS_CONFIGURATION_NAME} configuration directly, as the schema variant's
+     * capability is derived from the upstream project's group, which a project must not read
+     * from another project. Module dependencies require the capability, derived from their
+     * declared coordinates.
+     */
+    private static Optional<ModuleDependency> schemaDependency(final ModuleDependency dependency) {
+        final ModuleDependency copy = dependency.copy();
+        if (dependency instanceof ProjectDependency) {
+            copy.setTargetConfiguration(SCHEMA_ELEMENTS_CONFIGURATION_NAME);
+            return Optional.of(copy);
+        }
+
+        if (dependency.getGroup() == null) {
+            return Optional.empty();
+        }
+
+        copy.capabilities(
+                capabilities ->
+                        capabilities.requireCapability(
+                                dependency.getGroup()
+                                        + ":"
+                                        + dependency.getName()
+                                        + SCHEMA_CAPABILITY_SUFFIX));
+        return Optional.of(copy);
+    }
+
+    private static void schemaAttributes(
+            final ObjectFactory objects, final AttributeContainer attributes) {
+        attributes.attribute(Usage.USAGE_ATTRIBUTE, objects.named(Usage.class, SCHEMA_USAGE));
+        attributes.attribute(
+                Category.CATEGORY_ATTRIBUTE, objects.named(Category.class, Category.LIBRARY));
+    }
+
+    /**
+     * Generate schemas for the types in third-party model jars using an artifact transform, so
+     * that each jar version is processed once, and the result cached, rather than the jar being
+     * rescanned by every run of the generate task.
+     *
+     * <p>The transform, sync task and source set output are only wired in if the {@value
+     * #MODEL_CONFIGURATION_NAME} configuration has dependencies, leaving other projects, and the
+     * resolution of their jar dependencies, untouched.
+     */
+    private static void registerModelSchemas(
+            final Project project, final TaskProvider<GenerateJsonSchema> generateTask) {
+        final ObjectFactory objects = project.getObjects();
+        final Configuration models = project.getConfigurations().create(MODEL_CONFIGURATION_NAME);
+        models.setCanBeConsumed(false);
+        models.setCanBeResolved(true);
+        models.setDescription("Third-party model jars to generate JSON schemas for");
+        models.attributes(
+                attributes -> {
+                    attributes.attribute(
+                            Usage.USAGE_ATTRIBUTE, objects.named(Usage.class, Usage.JAVA_RUNTIME));
+                    attributes.attribute(
+                            Category.CATEGORY_ATTRIBUTE,
+                            objects.named(Category.class, Category.LIBRARY));
+                    attributes.attribute(
+                            LibraryElements.LIBRARY_ELEMENTS_ATTRIBUTE,
+                            objects.named(LibraryElements.class, LibraryElements.JAR));
+                });
+
+        project.afterEvaluate(
+                proj -> {
+                    if (!models.getDependencies().isEmpty()) {
+                        wireModelSchemas(proj, models, generateTask);
+                    }
+                });
+    }
+
+    private static void wireModelSchemas(
+            final Project project,
+            final Configuration models,
+            final TaskProvider<GenerateJsonSchema> generateTask) {
+        final DependencyHandler dependencies = project.getDependencies();
+        dependencies.getAttributesSchema().attribute(MODEL_SCHEMAS_GENERATED);
+        dependencies
+                .getArtifactTypes()
+                .maybeCreate(ArtifactTypeDefinition.JAR_TYPE)
+                .getAttributes()
+                .attribute(MODEL_SCHEMAS_GENERATED, false);
+        dependencies.registerTransform(
+                GenerateJsonSchemaTransform.class,
+                spec -> {
+                    spec.getFrom()
+                            .attribute(ARTIFACT_TYPE, ArtifactTypeDefinition.JAR_TYPE)
+                            .attribute(MODEL_SCHEMAS_GENERATED, false);
+                    spec.getTo()
+                            .attribute(ARTIFACT_TYPE, MODEL_SCHEMA_ARTIFACT_TYPE)
+                            .attribute(MODEL_SCHEMAS_GENERATED, true);
+                    spec.getParameters()
+                            .getGeneratorClasspath()
+                            .from(generateTask.map(GenerateJsonSchema::getGeneratorDeps));
+                });
+
+        final FileCollection schemas =
+                models.getIncoming()
+                        .artifactView(
+                                view ->
+                                        view.attributes(
+                                                attributes -> {
+                                                    attributes.attribute(
+                                                            ARTIFACT_TYPE,
+                                                            MODEL_SCHEMA_ARTIFACT_TYPE);
+                                                    attributes.attribute(
+                                                            MODEL_SCHEMAS_GENERATED, true);
+                                                }))
+                        .getFiles();
+
+        final TaskProvider<Sync> syncTask =
+                project.getTasks()
+                        .register(
+                                MODEL_SCHEMA_TASK_NAME,
+                                Sync.class,
+                                sync -> {
+                                    sync.setGroup(GROUP_NAME);
+                                    sync.setDescription(
+                                            "Collects the JSON schemas generated for model jars");
+                                    sync.from(schemas);
+                                    sync.into(
+                                            project.getLayout()
+                                                    .getBuildDirectory()
+                                                    .dir(DEFAULT_MODEL_RESOURCE_ROOT));
+                                });
+
+        sourceSets(project)
+                .getByName(SourceSet.MAIN_SOURCE_SET_NAME)
+                .getOutput()
+                .dir(
+                        Map.of("builtBy", syncTask.getName()),
+                        syncTask.map(Sync::getDestinationDir));
+    }
+
+    private void registerCheckCompatibilityTask(
+            final Project project,
+            final JsonSchemaExtension extension,
+            final TaskProvider<GenerateJsonSchema> generateTask) {
+        final Provider<Directory> schemaRoot =
+                generateTask.flatMap(GenerateJsonSchema::getSchemaResourceRoot);
+        final Provider<Directory> resultsDir =
+                project.getLayout().getBuildDirectory().dir(DEFAULT_COMPATIBILITY_RESULTS_DIR);
+        final Provider<RegularFile> reportFile =
+                project.getLayout()
+                        .getBuildDirectory()
+                        .file(DEFAULT_REPORTS_DIR + "/compatibility.txt");
+
+        final TaskProvider<CheckJsonSchemaCompatibility> taskProvider =
+                project.getTasks()
+                        .register(
+                                CHECK_COMPATIBILITY_TASK_NAME,
+                                CheckJsonSchemaCompatibility.class,
+                                task -> {
+                                    task.setGroup(GROUP_NAME);
+                                    task.dependsOn(generateTask);
+                                    task.getSchemaResourceRoot().set(schemaRoot);
+                                    task.getBaseline().from(extension.getCompatibilityBaseline());
+                                    task.getResultsDirectory().set(resultsDir);
+                                    task.getReportFile().set(reportFile);
+                                });
+
+        project.getTasks()
+                .named(LifecycleBasePlugin.CHECK_TASK_NAME)
+                .configure(check -> check.dependsOn(taskProvider));
+    }
+
+    private void registerCheckMetricsTask(
+            final Project project,
+            final JsonSchemaExtension extension,
+            final TaskProvider<GenerateJsonSchema> generateTask) {
+        final Provider<Directory> schemaRoot =
+                generateTask.flatMap(GenerateJsonSchema::getSchemaResourceRoot);
+        final Provider<RegularFile> reportFile =
+                project.getLayout().getBuildDirectory().file(DEFAULT_REPORTS_DIR + "/metrics.txt");
+        final JsonSchemaExtension.MetricsSpec metrics = extension.getMetrics();
+
+        final TaskProvider<CheckJsonSchemaMetrics> taskProvider =
+                project.getTasks()
+                        .register(
+                                CHECK_METRICS_TASK_NAME,
+                                CheckJsonSchemaMetrics.class,
+                                task -> {
+                                    task.setGroup(GROUP_NAME);
+                                    task.dependsOn(generateTask);
+                                    task.getSchemaResourceRoot().set(schemaRoot);
+                                    task.getMaxSize().set(metrics.getMaxSize());
+                                    task.getMaxDepth().set(metrics.getMaxDepth());
+                                    task.getMaxFanOut().set(metrics.getMaxFanOut());
+                                    task.getMaxRefs().set(metrics.getMaxRefs());
+                                    task.getMaxPatterns().set(metrics.getMaxPatterns());
+                                    task.getFailOnBudgetExceeded()
+                                            .set(metrics.getFailOnExceeded());
+                                    task.getReportFile().set(reportFile);
+                                });
+
+        project.getTasks()
+                .named(LifecycleBasePlugin.CHECK_TASK_NAME)
+                .configure(check -> check.dependsOn(taskProvider));
+    }
+
+    private void registerPublishSchemaTask(
+            final Project project,
+            final JsonSchemaExtension extension,
+            final TaskProvider<GenerateJsonSchema> generateTask) {
+        final Provider<Directory> schemaRoot =
+                generateTask.flatMap(GenerateJsonSchema::getSchemaResourceRoot);
+        final JsonSchemaExtension.RegistrySpec registry = extension.getRegistry();
+
+        project.getTasks()
+                .register(
+                        PUBLISH_SCHEMA_TASK_NAME,
+                        PublishJsonSchemas.class,
+                        task -> {
+                            task.setGroup(GROUP_NAME);
+                            task.dependsOn(generateTask);
+                            task.getSchemaResourceRoot().set(schemaRoot);
+                            task.getRegistryUrl().set(registry.getUrl());
+                            task.getUsername().set(registry.getUsername());
+                            task.getPassword().set(registry.getPassword());
+                            task.getMaxConcurrentRequests()
+                                    .set(registry.getMaxConcurrentRequests());
+                            task.getRequestTimeout().set(registry.getRequestTimeout());
+                            task.getLedgerFile().set(registry.getLedgerFile());
+                        });
+    }
+
+    /**
+     * Fail the build if tasks that only support {@code $ref}s local to a schema are to run
+     * against schemas with non-local refs: the relative refs into a shared definitions file, or
+     * the absolute refs to upstream schemas.
+     *
+     * <p>The compatibility check compares refs by value, so is only rejected with shared
+     * definitions, whose refs change as definitions move in and out of the shared file.
+     *
+     * <p>Checked once the task graph is ready, so that definitions shared via the command line
+     * option, and registries set via {@code --registry-url}, are also caught.
+     */
+    private static void rejectNonLocalRefConsumers(
+            final Project project,
+            final JsonSchemaExtension extension,
+            final TaskProvider<GenerateJsonSchema> generateTask) {
+        project.getGradle()
+                .getTaskGraph()
+                .whenReady(
+                        graph -> {
+                            final boolean validators =
+                                    graph.hasTask(
+                                            project.absoluteProjectPath(
+                                                    GENERATE_VALIDATORS_TASK_NAME));
+                            final boolean compatibility =
+                                    graph.hasTask(
+                                                    project.absoluteProjectPath(
+                                                            CHECK_COMPATIBILITY_TASK_NAME))
+                                            && !extension
+                                                    .getCompatibilityBaseline()
+                                                    .getFrom()
+                                                    .isEmpty();
+                            final boolean publish =
+                                    graph.hasTask(
+                                            project.absoluteProjectPath(PUBLISH_SCHEMA_TASK_NAME));
+
+                            if (generateTask.get().getShareDefinitions().getOrElse(false)) {
+                                rejectConsumers(
+                                        project,
+                                        "shareDefinitions",
+                                        consumers(validators, compatibility, publish));
+                            }
+                            if (extension.getReferenceUpstreamSchemas().get()) {
+                                rejectConsumers(
+                                        project,
+                                        "referenceUpstreamSchemas",
+                                        consumers(validators, false, publish));
+                            }
+                        });
+    }
+
+    private static List<String> consumers(
+            final boolean validators, final boolean compatibility, final boolean publish) {
+        final List<String> consumers = new ArrayList<>();
+        if (validators) {
+            consumers.add(GENERATE_VALIDATORS_TASK_NAME);
+        }
+        if (compatibility) {
+            consumers.add(CHECK_COMPATIBILITY_TASK_NAME);
+        }
+        if (publish) {
+            consumers.add(PUBLISH_SCHEMA_TASK_NAME);
+        }
+        return consumers;
+    }
+
+    private static void rejectConsumers(
+            final Project project, final String feature, final List<String> consumers) {
+        if (consumers.isEmpty()) {
+            return;
+        }
+
+        throw new GradleException(
+                feature
+                        + " can not be used with "
+                        + String.join(", ", consumers)
+                        + " in "
+                        + project.getPath()
+                        + ", as they only support schemas whose $refs are local to the schema.");
+    }
+
+    /**
+     * Compile validators in their own source set, as they can not be part of the main source set:
+     * generating schemas requires the main classes to have been compiled.
+     */
+    private static void registerValidatorsSourceSet(
+            final Project project, final TaskProvider<GenerateJsonSchemaValidators> taskProvider) {
+        final SourceSetContainer sourceSets = sourceSets(project);
+        final SourceSet test = sourceSets.getByName(SourceSet.TEST_SOURCE_SET_NAME);
+        final SourceSet validators = sourceSets.create(VALIDATORS_SOURCE_SET_NAME);
+
+        validators
+                .getJava()
+                .srcDir(taskProvider.flatMap(GenerateJsonSchemaValidators::getOutputDirectory));
+
+        test.setCompileClasspath(test.getCompileClasspath().plus(validators.getOutput()));
+        test.setRuntimeClasspath(test.getRuntimeClasspath().plus(validators.getOutput()));
+
+        project.getTasks()
+                .named(JavaPlugin.JAR_TASK_NAME, Jar.class)
+                .configure(jar -> jar.from(validators.getOutput()));
     }
 
-    private void registerGenerateTestSchemaTask(
+    private TaskProvider<GenerateJsonSchema> registerGenerateTestSchemaTask(
             final Project project, final JsonSchemaExtension extension) {
         final TaskProvider<GenerateJsonSchema> taskProvider =
                 project.getTasks()
@@ -147,7 +848,12 @@ public final class JsonSchemaPlugin implements Plugin<Project> {
                                 task -> {
                                     task.getSchemaResourceRoot()
                                             .set(extension.getTestSchemaResourceRoot());
-                                    configure(extension, task);
+                                    task.getSharedDefinitionsPath()
+                                            .set(
+                                                    sharedDefinitionsPath(
+                                                            project,
+                                                            SourceSet.TEST_SOURCE_SET_NAME));
+                                    configure(project, extension, task);
                                 });
 
         configureSourceSetOutput(project, taskProvider, SourceSet.TEST_SOURCE_SET_NAME);
@@ -156,17 +862,58 @@ public final class JsonSchemaPlugin implements Plugin<Project> {
                 proj ->
                         afterEvaluate(
                                 proj,
-                                GENERATE_TEST_SCHEMA_TASK_NAME,
+                                taskProvider,
                                 JavaPlugin.TEST_RUNTIME_CLASSPATH_CONFIGURATION_NAME,
                                 List.of(
                                         JavaPlugin.COMPILE_TEST_JAVA_TASK_NAME,
                                         "compileTestKotlin",
                                         "compileTestGroovy"),
                                 JavaPlugin.PROCESS_TEST_RESOURCES_TASK_NAME));
+        return taskProvider;
+    }
+
+    private void registerValidateFixturesTask(
+            final Project project,
+            final JsonSchemaExtension extension,
+            final TaskProvider<GenerateJsonSchema> generateTask,
+            final TaskProvider<GenerateJsonSchema> generateTestTask) {
+        final Provider<Directory> schemaRoot =
+                generateTask.flatMap(GenerateJsonSchema::getSchemaResourceRoot);
+        final Provider<Directory> testSchemaRoot =
+                generateTestTask.flatMap(GenerateJsonSchema::getSchemaResourceRoot);
+        final Provider<Directory> resultsDir =
+                project.getLayout().getBuildDirectory().dir(DEFAULT_FIXTURE_RESULTS_DIR);
+        final Provider<RegularFile> reportFile =
+                project.getLayout().getBuildDirectory().file(DEFAULT_REPORTS_DIR + "/fixtures.txt");
+        final Provider<FileCollection> upstreamSchemas =
+                generateTask.map(GenerateJsonSchema::getUpstreamSchemas);
+        final int maxWorkers = project.getGradle().getStartParameter().getMaxWorkerCount();
+
+        final TaskProvider<ValidateJsonSchemaFixtures> taskProvider =
+                project.getTasks()
+                        .register(
+                                VALIDATE_FIXTURES_TASK_NAME,
+                                ValidateJsonSchemaFixtures.class,
+                                task -> {
+                                    task.setGroup(GROUP_NAME);
+                                    task.dependsOn(generateTask, generateTestTask);
+                                    task.getFixtureDirectory().set(extension.getFixtureDirectory());
+                                    task.getSchemaResourceRoots().from(schemaRoot, testSchemaRoot);
+                                    task.getUpstreamSchemas().from(upstreamSchemas);
+                                    task.getMaxParallelism().set(maxWorkers);
+                                    task.getResultsDirectory().set(resultsDir);
+                                    task.getReportFile().set(reportFile);
+                                });
+
+        project.getTasks()
+                .named(LifecycleBasePlugin.CHECK_TASK_NAME)
+                .configure(check -> check.dependsOn(taskProvider));
     }
 
     private static void configure(
-            final JsonSchemaExtension extension, final GenerateJsonSchema task) {
+            final Project project,
+            final JsonSchemaExtension extension,
+            final GenerateJsonSchema task) {
         task.setGroup(GROUP_NAME);
         task.getTypeScanningModuleWhiteList().set(extension.getTypeScanning().getModuleWhiteList());
         task.getTypeScanningPackageWhiteList()
@@ -175,84 +922,313 @@ public final class JsonSchemaPlugin implements Plugin<Project> {
                 .set(extension.getSubtypeScanning().getModuleWhiteList());
         task.getSubtypeScanningPackageWhiteList()
                 .set(extension.getSubtypeScanning().getPackageWhiteListed());
+        task.getResolveSubtypesFromMetadata().set(extension.getResolveSubtypesFromMetadata());
         task.getOutputDirectoryName().set(extension.getOutputDirectoryName());
+        task.getSkipWhenNoAnnotatedTypes().set(extension.getSkipWhenNoAnnotatedTypes());
+        task.getIncrementalGeneration().set(extension.getIncrementalGeneration());
+        task.getPrelaunchGenerator().set(extension.getPrelaunchGenerator());
+        task.getBatchGeneration().set(extension.getBatchGeneration());
+        task.getMergeGeneratorClasspath().set(extension.getMergeGeneratorClasspath());
+        task.getShards().set(extension.getShards());
+        task.getMaxParallelGenerators().set(maxParallelGenerators(project));
         task.getExtraArguments().set(extension.getExtraArguments());
+        task.getGenerateReflectionMetadata().set(extension.getGenerateReflectionMetadata());
+        task.getReflectionMetadataDirectory()
+                .set(project.provider(() -> reflectionMetadataDirectory(project)));
+        task.getGenerateManifest().set(extension.getGenerateManifest());
+        task.getGenerateIndex().set(extension.getGenerateIndex());
+        task.getGenerateBinarySchemas().set(extension.getGenerateBinarySchemas());
+        task.getShareDefinitions().set(extension.getShareDefinitions());
+        task.getChangedSchemasFile()
+                .set(
+                        project.getLayout()
+                                .getBuildDirectory()
+                                .file(DEFAULT_CHANGED_SCHEMAS_DIR + "/" + task.getName() + ".txt"));
+        task.getProfileGenerator().set(extension.getProfiling().getEnabled());
+        task.getProfilingReportDirectory()
+                .set(extension.getProfiling().getReportsDirectory().dir(task.getName()));
+        task.getGradleJvmArgs()
+                .set(project.getProviders().gradleProperty("org.gradle.jvmargs"));
+    }
+
+    private static String reflectionMetadataDirectory(final Project project) {
+        final String group = String.valueOf(project.getGroup());
+        return group.isEmpty()
+                ? NATIVE_IMAGE_METADATA_DIR + project.getName()
+                : NATIVE_IMAGE_METADATA_DIR + group + "/" + project.getName();
+    }
+
+    private static Provider<String> sharedDefinitionsPath(
+            final Project project, final String sourceSetName) {
+        return project.provider(
+                () -> {
+                    final String group = String.valueOf(project.getGroup());
+                    final String dir =
+                            group.isEmpty()
+                                    ? SHARED_DEFINITIONS_DIR + project.getName()
+                                    : SHARED_DEFINITIONS_DIR + group + "/" + project.getName();
+                    return dir + "/" + sourceSetName + ".yml";
+                });
     }
 
     private static void configureSourceSetOutput(
             final Project project,
             final TaskProvider<GenerateJsonSchema> taskProvider,
             final String sourceSetName) {
+        final SourceSet sourceSet = sourceSets(project).getByName(sourceSetName);
+        sourceSet
+                .getOutput()
+                .dir(
+                        Map.of("buildBy", taskProvider.getName()),
+                        taskProvider.flatMap(
+                                task ->
+                                        task.getMinifiedSchemaResourceRoot()
+                                                .orElse(task.getSchemaResourceRoot())));
+    }
+
+    private static SourceSetContainer sourceSets(final Project project) {
         final SourceSetContainer sourceSetContainer =
                 project.getExtensions().findByType(SourceSetContainer.class);
         if (sourceSetContainer == null) {
             throw new IllegalStateException("source set container not registered");
         }
-
-        final SourceSet sourceSet = sourceSetContainer.getByName(sourceSetName);
-        sourceSet
-                .getOutput()
-                .dir(
-                        Map.of("buildBy", taskProvider.getName()),
-                        taskProvider.flatMap(GenerateJsonSchema::getSchemaResourceRoot));
+        return sourceSetContainer;
     }
 
-    private void registerJsonSchemaConfiguration(final Project project) {
+    static Configuration registerJsonSchemaConfiguration(
+            final Project project, final Provider<String> generatorVersion) {
         final Configuration cfg = project.getConfigurations().create(GENERATOR_CONFIGURATION_NAME);
         cfg.setTransitive(true);
         cfg.setCanBeConsumed(false);
         cfg.setCanBeResolved(true);
         cfg.setDescription("Dependency for the Creek JSON schema schema generator");
 
-        final String pluginDep =
-                GENERATOR_DEP_GROUP_NAME
-                        + ":"
-                        + GENERATOR_DEP_ARTEFACT_NAME
-                        + ":"
-                        + defaultGeneratorVersion();
         final DependencyHandler projectDeps = project.getDependencies();
-        cfg.defaultDependencies(deps -> deps.add(projectDeps.create(pluginDep)));
+        cfg.defaultDependencies(
+                deps ->
+                        deps.add(
+                                projectDeps.create(
+                                        GENERATOR_DEP_GROUP_NAME
+                                                + ":"
+                                                + GENERATOR_DEP_ARTEFACT_NAME
+                                                + ":"
+                                                + generatorVersion.get())));
+        return cfg;
+    }
+
+    /**
+     * @param cfg the generator configuration.
+     * @return the generator's own jar, identified by its module, rather than its file name.
+     */
+    static FileCollection generatorJar(final Configuration cfg) {
+        return cfg.getIncoming()
+                .artifactView(view -> view.componentFilter(JsonSchemaPlugin::isGenerator))
+                .getFiles();
+    }
+
+    private static boolean isGenerator(final ComponentIdentifier id) {
+        if (!(id instanceof ModuleComponentIdentifier)) {
+            return false;
+        }
+        final ModuleComponentIdentifier module = (ModuleComponentIdentifier) id;
+        return GENERATOR_DEP_GROUP_NAME.equals(module.getGroup())
+                && GENERATOR_DEP_ARTEFACT_NAME.equals(module.getModule());
+    }
+
+    /**
+     * Merge the generator jar and its dependencies into a single jar using an artifact transform,
+     * so that the jars are merged once per generator version, and the result cached.
+     *
+     * @param project the project owning the generator configuration.
+     * @param cfg the generator configuration.
+     * @return the merged class path of the generator.
+     */
+    static FileCollection mergedGeneratorClasspath(
+            final Project project, final Configuration cfg) {
+        final DependencyHandler dependencies = project.getDependencies();
+        dependencies.getAttributesSchema().attribute(GENERATOR_JARS_MERGED);
+        dependencies
+                .getArtifactTypes()
+                .maybeCreate(ArtifactTypeDefinition.JAR_TYPE)
+                .getAttributes()
+                .attribute(GENERATOR_JARS_MERGED, false);
+        dependencies.registerTransform(
+                MergeGeneratorJarTransform.class,
+                spec -> {
+                    spec.getFrom()
+                            .attribute(ARTIFACT_TYPE, ArtifactTypeDefinition.JAR_TYPE)
+                            .attribute(GENERATOR_JARS_MERGED, false);
+                    spec.getTo()
+                            .attribute(ARTIFACT_TYPE, ArtifactTypeDefinition.JAR_TYPE)
+                            .attribute(GENERATOR_JARS_MERGED, true);
+                });
+
+        // Only the generator's own jar is transformed, its dependencies being merged into it:
+        return cfg.getIncoming()
+                .artifactView(
+                        view ->
+                                view.componentFilter(JsonSchemaPlugin::isGenerator)
+                                        .attributes(
+                                                attributes ->
+                                                        attributes.attribute(
+                                                                GENERATOR_JARS_MERGED, true)))
+                .getFiles();
+    }
+
+    private static void useSharedGenerator(final Project project) {
+        final Provider<JsonSchemaGeneratorService> service =
+                project.getGradle()
+                        .getSharedServices()
+                        .registerIfAbsent(
+                                JsonSchemaGeneratorService.NAME,
+                                JsonSchemaGeneratorService.class,
+                                spec -> {});
+        final Provider<FileCollection> generatorClasspath =
+                service.map(JsonSchemaGeneratorService::generatorClasspath);
+        final Provider<FileCollection> generatorJar =
+                service.map(JsonSchemaGeneratorService::generatorJar);
+        final Provider<FileCollection> mergedGeneratorClasspath =
+                service.map(JsonSchemaGeneratorService::mergedGeneratorClasspath);
 
         project.getTasks()
                 .withType(GenerateJsonSchema.class)
-                .configureEach(task -> task.getGeneratorDeps().from(cfg));
+                .configureEach(
+                        task -> {
+                            task.usesService(service);
+                            task.getGeneratorDeps().from(generatorClasspath);
+                            task.getGeneratorJar().from(generatorJar);
+                            task.getMergedGeneratorDeps().from(mergedGeneratorClasspath);
+                        });
+    }
+
+    private static void usePrelaunchService(final Project project) {
+        final Provider<PrelaunchedGeneratorService> service =
+                project.getGradle()
+                        .getSharedServices()
+                        .registerIfAbsent(
+                                PrelaunchedGeneratorService.NAME,
+                                PrelaunchedGeneratorService.class,
+                                spec ->
+                                        spec.getParameters()
+                                                .getMaxGenerators()
+                                                .set(maxParallelGenerators(project)));
+
+        for (final String name : project.getTasks().withType(GenerateJsonSchema.class).getNames()) {
+            registerPrelaunchTask(
+                    project, project.getTasks().named(name, GenerateJsonSchema.class), service);
+        }
+    }
+
+    /**
+     * Register a task launching the generator JVM for a generate task ahead of it executing.
+     *
+     * <p>The prelaunch task does not depend on compilation, and compilation must run after it, so
+     * that the generator JVM starts while the class files it will need are compiled.
+     */
+    private static void registerPrelaunchTask(
+            final Project project,
+            final TaskProvider<GenerateJsonSchema> generateTask,
+            final Provider<PrelaunchedGeneratorService> service) {
+        // A plain provider, rather than a mapped task provider, so as not to depend on the task:
+        final Provider<FileCollection> generatorClassPath =
+                project.provider(() -> generateTask.get().getGeneratorClassPath());
+
+        final TaskProvider<PrelaunchJsonSchemaGenerator> prelaunchTask =
+                project.getTasks()
+                        .register(
+                                generateTask.getName().replace("generate", "prelaunch")
+                                        + "Generator",
+                                PrelaunchJsonSchemaGenerator.class,
+                                task -> {
+                                    task.setGroup(GROUP_NAME);
+                                    task.usesService(service);
+                                    task.getPrelaunchService().set(service);
+                                    task.getGeneratorClassPath().from(generatorClassPath);
+                                    task.getGradleJvmArgs()
+                                            .set(
+                                                    project.getProviders()
+                                                            .gradleProperty("org.gradle.jvmargs"));
+                                });
+
+        generateTask.configure(
+                task -> {
+                    task.dependsOn(prelaunchTask);
+                    task.usesService(service);
+                    task.getPrelaunchService().set(service);
+                });
+
+        project.getTasks()
+                .withType(AbstractCompile.class)
+                .configureEach(compile -> compile.mustRunAfter(prelaunchTask));
+    }
+
+    private static Provider<Integer> maxParallelGenerators(final Project project) {
+        final JsonSchemaSettingsExtension settings = settingsExtension(project);
+        if (settings != null) {
+            return settings.getMaxParallelGenerators();
+        }
+
+        return project.provider(
+                () -> Math.max(1, project.getGradle().getStartParameter().getMaxWorkerCount() / 2));
+    }
+
+    private static void useBatchService(final Project project) {
+        final Provider<BatchGeneratorService> service =
+                project.getGradle()
+                        .getSharedServices()
+                        .registerIfAbsent(
+                                BatchGeneratorService.NAME,
+                                BatchGeneratorService.class,
+                                spec -> spec.getMaxParallelUsages().set(1));
+
+        project.getTasks()
+                .withType(GenerateJsonSchema.class)
+                .configureEach(
+                        task -> {
+                            task.usesService(service);
+                            task.getBatchService().set(service);
+                        });
+    }
+
+    private static JsonSchemaSettingsExtension settingsExtension(final Project project) {
+        return project.getGradle().getExtensions().findByType(JsonSchemaSettingsExtension.class);
     }
 
     private void afterEvaluate(
             final Project project,
-            final String generateTaskName,
+            final TaskProvider<GenerateJsonSchema> generateTask,
             final String compileConfigName,
             final List<String> compileTaskNames,
             final String resourceTaskName) {
-        final GenerateJsonSchema generateTask =
-                (GenerateJsonSchema) project.getTasks().getByName(generateTaskName);
-
         final Configuration compileClassPathConfig =
                 project.getConfigurations().findByName(compileConfigName);
 
-        if (compileClassPathConfig != null) {
-            generateTask.getProjectDeps().from(compileClassPathConfig);
-        }
+        final List<TaskProvider<Task>> compileTasks = namedTasks(project, compileTaskNames);
 
-        final Set<Task> compileTasks = collectTasks(project, compileTaskNames);
+        generateTask.configure(
+                task -> {
+                    if (compileClassPathConfig != null) {
+                        task.getProjectDeps().from(compileClassPathConfig);
+                    }
 
-        compileTasks.forEach(
-                compileTask -> {
-                    generateTask.dependsOn(compileTask);
-                    generateTask.getClassFiles().from(compileTask.getOutputs());
+                    compileTasks.forEach(
+                            compileTask -> {
+                                task.dependsOn(compileTask);
+                                task.getClassFiles().from(compileTask);
+                            });
                 });
 
-        generateTask.onlyIf(t -> compileTasks.stream().anyMatch(Task::getDidWork));
-
-        project.getTasksByName(resourceTaskName, false)
-                .forEach(processTask -> processTask.dependsOn(generateTask));
+        namedTasks(project, List.of(resourceTaskName))
+                .forEach(processTask -> processTask.configure(t -> t.dependsOn(generateTask)));
     }
 
-    private Set<Task> collectTasks(final Project project, final Collection<String> taskNames) {
+    private static List<TaskProvider<Task>> namedTasks(
+            final Project project, final Collection<String> taskNames) {
+        final Set<String> existing = project.getTasks().getNames();
         return taskNames.stream()
-                .map(taskName -> project.getTasksByName(taskName, false))
-                .flatMap(Set::stream)
-                .collect(Collectors.toUnmodifiableSet());
+                .filter(existing::contains)
+                .map(taskName -> project.getTasks().named(taskName))
+                .collect(Collectors.toUnmodifiableList());
     }
 
     private <T extends ExtensionAware> ExtensionAware ensureExtension(
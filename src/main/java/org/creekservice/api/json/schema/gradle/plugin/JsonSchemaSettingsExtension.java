@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.gradle.api.Action;
+import org.gradle.api.provider.Property;
+
+/**
+ * Settings extension for configuring schema generation consistently across all projects in a
+ * build.
+ */
+public abstract class JsonSchemaSettingsExtension {
+
+    private final List<Action<? super JsonSchemaExtension>> defaults = new ArrayList<>();
+
+    /** Constructor */
+    public JsonSchemaSettingsExtension() {}
+
+    /**
+     * The version of the JSON schema generator used by all projects.
+     *
+     * <p>The generator is resolved once, in the root project, using the root project's
+     * repositories. A specific generator can also be set by adding a dependency to the
+     * `jsonSchemaGenerator` configuration of the root project.
+     *
+     * <p>Default: the version of the generator the plugin was built with.
+     *
+     * @return the generator version property.
+     */
+    public abstract Property<String> getGeneratorVersion();
+
+    /**
+     * The maximum number of schema generators that can run in parallel across the build.
+     *
+     * <p>Each generator runs in its own JVM. Limiting how many run at once avoids large builds
+     * exhausting memory when many projects generate schemas at the same time.
+     *
+     * <p>Default: half the maximum worker count, with a minimum of one.
+     *
+     * @return the max parallel generators property.
+     */
+    public abstract Property<Integer> getMaxParallelGenerators();
+
+    /**
+     * Register defaults to apply to the {@code creek.schema.json} extension of every project that
+     * applies the JSON schema plugin.
+     *
+     * <p>Defaults are applied before the project's own build script is evaluated, so projects can
+     * still override them.
+     *
+     * @param action the action to apply to each project's extension.
+     */
+    public void defaults(final Action<? super JsonSchemaExtension> action) {
+        defaults.add(action);
+    }
+
+    void applyDefaults(final JsonSchemaExtension extension) {
+        defaults.forEach(action -> action.execute(extension));
+    }
+}
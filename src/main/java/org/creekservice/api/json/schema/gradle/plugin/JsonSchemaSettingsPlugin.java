@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin;
+
+import static org.creekservice.api.json.schema.gradle.plugin.GeneratorVersion.defaultGeneratorVersion;
+
+import org.creekservice.api.json.schema.gradle.plugin.task.JsonSchemaGeneratorService;
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.artifacts.Configuration;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.initialization.Settings;
+
+/**
+ * Settings plugin for builds with many projects generating JSON schemas.
+ *
+ * <p>The plugin resolves the schema generator once, in the root project, and shares it with every
+ * project that applies the {@link JsonSchemaPlugin}, via the {@link JsonSchemaGeneratorService}.
+ * The service also limits how many generators run in parallel across the build.
+ */
+public final class JsonSchemaSettingsPlugin implements Plugin<Settings> {
+
+    /** Settings extension name. */
+    public static final String SETTINGS_EXTENSION_NAME = "creekJsonSchema";
+
+    @Override
+    public void apply(final Settings settings) {
+        final JsonSchemaSettingsExtension extension = registerExtension(settings);
+        settings.getGradle().rootProject(root -> registerGeneratorService(root, extension));
+    }
+
+    private static JsonSchemaSettingsExtension registerExtension(final Settings settings) {
+        final JsonSchemaSettingsExtension extension =
+                settings.getExtensions()
+                        .create(SETTINGS_EXTENSION_NAME, JsonSchemaSettingsExtension.class);
+
+        extension.getGeneratorVersion().convention(defaultGeneratorVersion());
+        extension
+                .getMaxParallelGenerators()
+                .convention(Math.max(1, settings.getStartParameter().getMaxWorkerCount() / 2));
+
+        // Make available to the project plugin:
+        settings.getGradle()
+                .getExtensions()
+                .add(JsonSchemaSettingsExtension.class, SETTINGS_EXTENSION_NAME, extension);
+        return extension;
+    }
+
+    private static void registerGeneratorService(
+            final Project root, final JsonSchemaSettingsExtension extension) {
+        final Configuration cfg =
+                JsonSchemaPlugin.registerJsonSchemaConfiguration(
+                        root, extension.getGeneratorVersion());
+        final FileCollection merged = JsonSchemaPlugin.mergedGeneratorClasspath(root, cfg);
+
+        root.getGradle()
+                .getSharedServices()
+                .registerIfAbsent(
+                        JsonSchemaGeneratorService.NAME,
+                        JsonSchemaGeneratorService.class,
+                        spec -> {
+                            spec.getMaxParallelUsages().set(extension.getMaxParallelGenerators());
+                            spec.getParameters().getGeneratorClasspath().from(cfg);
+                            spec.getParameters()
+                                    .getGeneratorJar()
+                                    .from(JsonSchemaPlugin.generatorJar(cfg));
+                            spec.getParameters().getMergedGeneratorClasspath().from(merged);
+                        });
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A long-lived generator JVM, running the {@link BatchGeneratorLauncher}, that runs generation
+ * requests one at a time.
+ */
+final class BatchGenerator {
+
+    private final Process process;
+    private final Writer in;
+    private final BufferedReader out;
+
+    private BatchGenerator(final Process process) {
+        this.process = process;
+        this.in = new OutputStreamWriter(process.getOutputStream(), UTF_8);
+        this.out = new BufferedReader(new InputStreamReader(process.getInputStream(), UTF_8));
+    }
+
+    /**
+     * @param command the command to run, which must run the {@link BatchGeneratorLauncher}.
+     * @param generatorClassPath the generator's class path, loaded once and shared by all requests.
+     * @return the started generator.
+     * @throws UncheckedIOException if the process could not be started.
+     */
+    static BatchGenerator start(
+            final List<String> command, final Iterable<File> generatorClassPath) {
+        try {
+            final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            final BatchGenerator generator = new BatchGenerator(process);
+            generator.in.write("generator-classpath=" + join(generatorClassPath) + "\n");
+            generator.in.flush();
+            return generator;
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to launch " + command, e);
+        }
+    }
+
+    /**
+     * @return {@code true} if the JVM is still running, and so can accept requests.
+     */
+    boolean isAlive() {
+        return process.isAlive();
+    }
+
+    /**
+     * Run a generation request and wait for it to complete.
+     *
+     * <p>Should the generator exit the JVM, the JVM's exit code is returned, and this instance can
+     * not be used again.
+     *
+     * @param classPath the project's class path, excluding the generator's.
+     * @param args the generator arguments.
+     * @param output consumer of the generator's output, one line at a time.
+     * @return the exit code of the request.
+     */
+    int run(
+            final Iterable<File> classPath,
+            final List<String> args,
+            final Consumer<String> output) {
+        try {
+            in.write("classpath=" + join(classPath) + "\n");
+            for (final String arg : args) {
+                in.write("arg=" + arg + "\n");
+            }
+            in.write("run\n");
+            in.flush();
+
+            String line;
+            while ((line = out.readLine()) != null) {
+                final int marker = line.indexOf(BatchGeneratorLauncher.DONE_MARKER);
+                if (marker >= 0) {
+                    if (marker > 0) {
+                        output.accept(line.substring(0, marker));
+                    }
+                    return Integer.parseInt(
+                            line.substring(marker + BatchGeneratorLauncher.DONE_MARKER.length())
+                                    .trim());
+                }
+                output.accept(line);
+            }
+
+            return process.waitFor();
+        } catch (final IOException e) {
+            destroy();
+            throw new UncheckedIOException("Failed to communicate with generator", e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            destroy();
+            throw new IllegalStateException("Interrupted waiting for generator", e);
+        }
+    }
+
+    /** Kill the generator. */
+    void destroy() {
+        process.destroyForcibly();
+    }
+
+    private static String join(final Iterable<File> classPath) {
+        final List<String> entries = new ArrayList<>();
+        classPath.forEach(file -> entries.add(file.getAbsolutePath()));
+        return String.join(File.pathSeparator, entries);
+    }
+}
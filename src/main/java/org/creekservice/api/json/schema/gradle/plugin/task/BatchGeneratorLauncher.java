@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Main class of a long-lived generator JVM shared by the {@link GenerateJsonSchema} tasks of all
+ * projects in a build.
+ *
+ * <p>Reads the generator's class path, then generation requests, from standard input. The
+ * generator's class path is a single {@code generator-classpath=} line, with entries separated by
+ * the platform's path separator. It is loaded once, into a class loader shared by all requests.
+ *
+ * <p>Each request is a {@code classpath=} line, containing the project's class path, followed by
+ * zero or more {@code arg=} lines, one per generator argument, and terminated by a {@code run}
+ * line. Each request is run in its own class loader, built from the project's class path, with the
+ * shared generator class loader as its parent, so projects can't see each other's types. Once a
+ * request completes, {@link #DONE_MARKER}, followed by the exit code, is written to standard
+ * output. As the generator's output may not end with a new line, the marker may not start a line.
+ *
+ * <p>This class runs on the generator's class path, not Gradle's, so must only depend on the JDK.
+ */
+public final class BatchGeneratorLauncher {
+
+    /** Prefix of the line written to standard output when a request completes. */
+    public static final String DONE_MARKER = "\u0000creek-json-schema-done ";
+
+    private static final String GENERATOR_CLASSPATH_PREFIX = "generator-classpath=";
+    private static final String CLASSPATH_PREFIX = "classpath=";
+    private static final String ARG_PREFIX = "arg=";
+    private static final String RUN = "run";
+
+    private BatchGeneratorLauncher() {}
+
+    /**
+     * @param args the fully qualified name of the generator's main class.
+     * @throws Exception on failure to read requests.
+     */
+    public static void main(final String[] args) throws Exception {
+        final String mainClass = args[0];
+        final BufferedReader in = new BufferedReader(new InputStreamReader(System.in, UTF_8));
+
+        ClassLoader generatorLoader = ClassLoader.getPlatformClassLoader();
+        List<URL> classPath = new ArrayList<>();
+        List<String> generatorArgs = new ArrayList<>();
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.startsWith(GENERATOR_CLASSPATH_PREFIX)) {
+                generatorLoader =
+                        new URLClassLoader(
+                                urls(line.substring(GENERATOR_CLASSPATH_PREFIX.length()))
+                                        .toArray(new URL[0]),
+                                ClassLoader.getPlatformClassLoader());
+            } else if (line.startsWith(CLASSPATH_PREFIX)) {
+                classPath = urls(line.substring(CLASSPATH_PREFIX.length()));
+                generatorArgs = new ArrayList<>();
+            } else if (line.startsWith(ARG_PREFIX)) {
+                generatorArgs.add(line.substring(ARG_PREFIX.length()));
+            } else if (line.equals(RUN)) {
+                final int exitCode = run(mainClass, generatorLoader, classPath, generatorArgs);
+                System.out.flush();
+                System.err.flush();
+                System.out.println(DONE_MARKER + exitCode);
+                System.out.flush();
+            }
+        }
+    }
+
+    private static int run(
+            final String mainClass,
+            final ClassLoader generatorLoader,
+            final List<URL> classPath,
+            final List<String> args) {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader previous = thread.getContextClassLoader();
+        try (URLClassLoader loader =
+                new URLClassLoader(classPath.toArray(new URL[0]), generatorLoader)) {
+            thread.setContextClassLoader(loader);
+            final Method main = loader.loadClass(mainClass).getMethod("main", String[].class);
+            main.invoke(null, (Object) args.toArray(new String[0]));
+            return 0;
+        } catch (final InvocationTargetException e) {
+            e.getCause().printStackTrace();
+            return 1;
+        } catch (final Exception e) {
+            e.printStackTrace();
+            return 1;
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    private static List<URL> urls(final String classPath) throws Exception {
+        final List<URL> urls = new ArrayList<>();
+        for (final String entry : classPath.split(File.pathSeparator)) {
+            if (!entry.isEmpty()) {
+                urls.add(new File(entry).toURI().toURL());
+            }
+        }
+        return urls;
+    }
+}
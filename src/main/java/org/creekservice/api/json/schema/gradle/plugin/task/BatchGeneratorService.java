@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+/**
+ * Build service running the generation requests of the {@link GenerateJsonSchema} tasks of all
+ * projects in a build in a single, long-lived, generator JVM, rather than forking a JVM per task.
+ *
+ * <p>Each JVM loads the generator's class path once, into a class loader shared by all requests.
+ * Requests are run one at a time, in the order they arrive, each in its own child class loader
+ * built from the project's class path. Tasks with different JVM arguments, or generator class
+ * paths, use different JVMs. All JVMs are stopped when the build completes.
+ */
+public abstract class BatchGeneratorService
+        implements BuildService<BuildServiceParameters.None>, AutoCloseable {
+
+    /** The name the service is registered under. */
+    public static final String NAME = "creekJsonSchemaBatchGenerator";
+
+    private final Map<List<String>, BatchGenerator> generators = new HashMap<>();
+    private Path launcherDir;
+
+    /** Constructor */
+    public BatchGeneratorService() {}
+
+    /**
+     * Run a generation request.
+     *
+     * @param jvmArgs the JVM arguments the generator JVM must have.
+     * @param generatorClassPath the generator's class path.
+     * @param classPath the project's class path, excluding the generator's.
+     * @param mainClass the generator's main class.
+     * @param args the generator arguments.
+     * @param output consumer of the generator's output, one line at a time.
+     * @return the exit code of the request.
+     */
+    synchronized int generate(
+            final List<String> jvmArgs,
+            final Iterable<File> generatorClassPath,
+            final Iterable<File> classPath,
+            final String mainClass,
+            final List<String> args,
+            final Consumer<String> output) {
+        final List<String> command =
+                PrelaunchedGenerator.command(
+                        launcherDir(), jvmArgs, List.of(), BatchGeneratorLauncher.class, mainClass);
+
+        final List<String> key = new ArrayList<>(command);
+        generatorClassPath.forEach(file -> key.add(file.getAbsolutePath()));
+
+        BatchGenerator generator = generators.get(key);
+        if (generator == null || !generator.isAlive()) {
+            generator = BatchGenerator.start(command, generatorClassPath);
+            generators.put(key, generator);
+        }
+
+        return generator.run(classPath, args, output);
+    }
+
+    @Override
+    public synchronized void close() {
+        generators.values().forEach(BatchGenerator::destroy);
+        generators.clear();
+
+        if (launcherDir != null) {
+            Directories.delete(launcherDir);
+            launcherDir = null;
+        }
+    }
+
+    private Path launcherDir() {
+        if (launcherDir == null) {
+            try {
+                launcherDir = Files.createTempDirectory("creek-json-schema-launcher");
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to create launcher directory", e);
+            }
+            PrelaunchedGenerator.writeLaunchers(launcherDir);
+        }
+        return launcherDir;
+    }
+}
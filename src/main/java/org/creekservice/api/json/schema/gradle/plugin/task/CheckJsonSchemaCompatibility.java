@@ -0,0 +1,363 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.inject.Inject;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileSystemOperations;
+import org.gradle.api.file.FileType;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.work.ChangeType;
+import org.gradle.work.FileChange;
+import org.gradle.work.Incremental;
+import org.gradle.work.InputChanges;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+import org.gradle.workers.WorkQueue;
+import org.gradle.workers.WorkerExecutor;
+
+/**
+ * Task for checking the JSON schemas generated by {@link GenerateJsonSchema} are backwards
+ * compatible with a baseline set of schemas, e.g. those of the previous release.
+ *
+ * <p>Schemas are matched to their baseline by type name. Schemas whose canonical fingerprint
+ * matches their baseline are compatible without further checks. Only changed schemas are
+ * evaluated, in parallel, using the Gradle worker API. The result for each schema is kept between
+ * runs, so that, when only some schemas change, only those are re-evaluated.
+ *
+ * <p>See {@link SchemaCompatibility} for what is considered a breaking change. Removing a schema
+ * is also breaking. Adding a schema is not.
+ */
+@CacheableTask
+public abstract class CheckJsonSchemaCompatibility extends DefaultTask {
+
+    private static final String RESULT_SUFFIX = ".txt";
+
+    private final WorkerExecutor workerExecutor;
+    private final FileSystemOperations fileOps;
+
+    /**
+     * Constructor
+     *
+     * @param workerExecutor Gradle worker executor service.
+     * @param fileOps Gradle file system operations service.
+     */
+    @Inject
+    public CheckJsonSchemaCompatibility(
+            final WorkerExecutor workerExecutor, final FileSystemOperations fileOps) {
+        this.workerExecutor = workerExecutor;
+        this.fileOps = fileOps;
+        setDescription("Checks generated JSON schemas are backwards compatible with a baseline");
+    }
+
+    /**
+     * The root directory containing the generated schema files.
+     *
+     * @return the schema resource root property.
+     */
+    @Incremental
+    @InputFiles
+    @IgnoreEmptyDirectories
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract DirectoryProperty getSchemaResourceRoot();
+
+    /**
+     * The baseline schemas: directories of schema files and jar or zip archives containing schema
+     * files.
+     *
+     * <p>The task is skipped if there is no baseline.
+     *
+     * @return the baseline file collection.
+     */
+    @InputFiles
+    @SkipWhenEmpty
+    @IgnoreEmptyDirectories
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getBaseline();
+
+    /**
+     * The directory the result for each schema is stored in, between runs.
+     *
+     * @return the results directory property.
+     */
+    @OutputDirectory
+    public abstract DirectoryProperty getResultsDirectory();
+
+    /**
+     * The file to write the report of breaking changes to.
+     *
+     * @return the report file property.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getReportFile();
+
+    /**
+     * Check compatibility.
+     *
+     * @param inputChanges the changes since the last run.
+     */
+    @TaskAction
+    public void run(final InputChanges inputChanges) {
+        final Path schemaRoot = getSchemaResourceRoot().get().getAsFile().toPath();
+        final Path resultsDir = getResultsDirectory().get().getAsFile().toPath();
+        final Map<String, String> baseline = loadBaseline();
+
+        final Map<String, File> changed = new TreeMap<>();
+        final Set<String> removed = new TreeSet<>();
+
+        if (inputChanges.isIncremental()) {
+            for (final FileChange change : inputChanges.getFileChanges(getSchemaResourceRoot())) {
+                final Path relativePath = Path.of(change.getNormalizedPath());
+                if (change.getFileType() != FileType.FILE
+                        || !SchemaFiles.isSchemaFile(relativePath)) {
+                    continue;
+                }
+
+                final String typeName = SchemaFiles.typeName(relativePath);
+                if (change.getChangeType() == ChangeType.REMOVED) {
+                    removed.add(typeName);
+                } else {
+                    changed.put(typeName, change.getFile());
+                }
+            }
+        } else {
+            fileOps.delete(spec -> spec.delete(resultsDir));
+            for (final Path relativePath : SchemaFiles.list(schemaRoot)) {
+                changed.put(
+                        SchemaFiles.typeName(relativePath),
+                        schemaRoot.resolve(relativePath).toFile());
+            }
+            removed.addAll(baseline.keySet());
+        }
+
+        removed.removeAll(changed.keySet());
+        check(baseline, changed, removed, resultsDir);
+        report(resultsDir);
+    }
+
+    private Map<String, String> loadBaseline() {
+        try {
+            return SchemaBaseline.load(getBaseline());
+        } catch (final IllegalArgumentException e) {
+            throw new GradleException(e.getMessage(), e);
+        }
+    }
+
+    private void check(
+            final Map<String, String> baseline,
+            final Map<String, File> changed,
+            final Set<String> removed,
+            final Path resultsDir) {
+        for (final String typeName : removed) {
+            writeResult(
+                    resultFile(resultsDir, typeName),
+                    baseline.containsKey(typeName) ? List.of("/: schema removed") : null);
+        }
+
+        final WorkQueue queue = workerExecutor.noIsolation();
+        int evaluated = 0;
+        for (final Map.Entry<String, File> e : changed.entrySet()) {
+            final String typeName = e.getKey();
+            final Path resultFile = resultFile(resultsDir, typeName);
+            final String baselineSchema = baseline.get(typeName);
+            if (baselineSchema == null || unchanged(baselineSchema, e.getValue())) {
+                writeResult(resultFile, List.of());
+                continue;
+            }
+
+            evaluated++;
+            queue.submit(
+                    CheckCompatibility.class,
+                    params -> {
+                        params.getTypeName().set(typeName);
+                        params.getBaselineSchema().set(baselineSchema);
+                        params.getSchemaFile().set(e.getValue());
+                        params.getResultFile().set(resultFile.toFile());
+                    });
+        }
+
+        queue.await();
+
+        getLogger()
+                .info(
+                        "Checked {} changed schemas against baseline: {} evaluated, {} removed",
+                        changed.size(),
+                        evaluated,
+                        removed.size());
+    }
+
+    private void report(final Path resultsDir) {
+        final List<String> breaking = readResults(resultsDir);
+        final Path reportFile = getReportFile().get().getAsFile().toPath();
+        writeResult(reportFile, breaking);
+
+        if (!breaking.isEmpty()) {
+            throw new GradleException(
+                    "Found "
+                            + breaking.size()
+                            + " breaking schema changes:"
+                            + System.lineSeparator()
+                            + String.join(System.lineSeparator(), breaking)
+                            + System.lineSeparator()
+                            + "See report: "
+                            + reportFile.toUri());
+        }
+    }
+
+    private static List<String> readResults(final Path resultsDir) {
+        if (!Files.isDirectory(resultsDir)) {
+            return List.of();
+        }
+
+        final List<String> breaking = new ArrayList<>();
+        try (Stream<Path> files = Files.list(resultsDir)) {
+            final List<Path> results =
+                    files.filter(file -> file.getFileName().toString().endsWith(RESULT_SUFFIX))
+                            .sorted()
+                            .collect(Collectors.toList());
+            for (final Path result : results) {
+                final String fileName = result.getFileName().toString();
+                final String typeName =
+                        fileName.substring(0, fileName.length() - RESULT_SUFFIX.length());
+                Files.readAllLines(result, UTF_8).stream()
+                        .filter(line -> !line.isBlank())
+                        .forEach(line -> breaking.add(typeName + " " + line));
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read results from " + resultsDir, e);
+        }
+        return breaking;
+    }
+
+    private static boolean unchanged(final String baselineSchema, final File schemaFile) {
+        try {
+            final String schema = Files.readString(schemaFile.toPath(), UTF_8);
+            return SchemaManifest.fingerprint(schema)
+                    .equals(SchemaManifest.fingerprint(baselineSchema));
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read " + schemaFile, e);
+        }
+    }
+
+    private static Path resultFile(final Path resultsDir, final String typeName) {
+        return resultsDir.resolve(typeName + RESULT_SUFFIX);
+    }
+
+    /**
+     * Write, or delete, a result file.
+     *
+     * @param file the file.
+     * @param lines the lines to write, or {@code null} to delete the file.
+     */
+    private static void writeResult(final Path file, final List<String> lines) {
+        try {
+            if (lines == null) {
+                Files.deleteIfExists(file);
+            } else {
+                Files.createDirectories(file.getParent());
+                Files.write(file, lines, UTF_8);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write " + file, e);
+        }
+    }
+
+    /** Work action checking the compatibility of a single schema. */
+    public abstract static class CheckCompatibility
+            implements WorkAction<CheckCompatibility.Parameters> {
+
+        /** Constructor */
+        public CheckCompatibility() {}
+
+        /** Work parameters. */
+        public interface Parameters extends WorkParameters {
+
+            /**
+             * @return the name of the type the schema describes.
+             */
+            Property<String> getTypeName();
+
+            /**
+             * @return the baseline schema text.
+             */
+            Property<String> getBaselineSchema();
+
+            /**
+             * @return the current schema file.
+             */
+            RegularFileProperty getSchemaFile();
+
+            /**
+             * @return the file to write breaking changes to, one per line.
+             */
+            RegularFileProperty getResultFile();
+        }
+
+        @Override
+        public void execute() {
+            final Parameters params = getParameters();
+            final Path schemaFile = params.getSchemaFile().get().getAsFile().toPath();
+
+            final List<String> breaking;
+            try {
+                breaking =
+                        SchemaCompatibility.breakingChanges(
+                                SchemaYaml.parse(params.getBaselineSchema().get()),
+                                SchemaYaml.parse(Files.readString(schemaFile, UTF_8)));
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to read " + schemaFile, e);
+            } catch (final IllegalArgumentException e) {
+                throw new GradleException(
+                        "Failed to check compatibility of "
+                                + params.getTypeName().get()
+                                + ": "
+                                + e.getMessage(),
+                        e);
+            }
+
+            writeResult(params.getResultFile().get().getAsFile().toPath(), breaking);
+        }
+    }
+}
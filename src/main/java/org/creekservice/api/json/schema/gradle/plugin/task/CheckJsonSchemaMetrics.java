@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.creekservice.api.json.schema.gradle.plugin.task.SchemaMetrics.Metric;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Optional;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
+import org.gradle.api.tasks.TaskAction;
+
+/**
+ * Task for measuring the complexity of the JSON schemas generated by {@link GenerateJsonSchema},
+ * and checking them against budgets.
+ *
+ * <p>The size, depth, {@code oneOf}/{@code anyOf} fan-out, {@code $ref} count and regular
+ * expression count of each schema are written to a tab separated report. See {@link
+ * SchemaMetrics} for details of each metric. Any metric exceeding its budget either fails the
+ * task, or is logged as a warning.
+ */
+@CacheableTask
+public abstract class CheckJsonSchemaMetrics extends DefaultTask {
+
+    private static final String HEADER =
+            "# Creek JSON schema metrics v1\n"
+                    + "# type\tresource\tsize\tdepth\tfanOut\trefs\tpatterns\n";
+
+    /** Constructor */
+    public CheckJsonSchemaMetrics() {
+        setDescription("Measures the complexity of generated JSON schemas against budgets");
+    }
+
+    /**
+     * The root directory containing the generated schema files.
+     *
+     * @return the schema resource root property.
+     */
+    @InputFiles
+    @SkipWhenEmpty
+    @IgnoreEmptyDirectories
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract DirectoryProperty getSchemaResourceRoot();
+
+    /**
+     * @return the maximum size of a schema file, in bytes.
+     */
+    @Input
+    @Optional
+    public abstract Property<Integer> getMaxSize();
+
+    /**
+     * @return the maximum nesting depth of subschemas, with the root schema at depth 1.
+     */
+    @Input
+    @Optional
+    public abstract Property<Integer> getMaxDepth();
+
+    /**
+     * @return the maximum number of alternatives in a single {@code oneOf} or {@code anyOf}.
+     */
+    @Input
+    @Optional
+    public abstract Property<Integer> getMaxFanOut();
+
+    /**
+     * @return the maximum number of {@code $ref}s in a schema.
+     */
+    @Input
+    @Optional
+    public abstract Property<Integer> getMaxRefs();
+
+    /**
+     * @return the maximum number of regular expressions in a schema.
+     */
+    @Input
+    @Optional
+    public abstract Property<Integer> getMaxPatterns();
+
+    /**
+     * Controls whether exceeding a budget fails the task, or is only logged as a warning.
+     *
+     * @return the fail on budget exceeded property.
+     */
+    @Input
+    public abstract Property<Boolean> getFailOnBudgetExceeded();
+
+    /**
+     * The file to write the metrics report to.
+     *
+     * @return the report file property.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getReportFile();
+
+    /** Measure the schemas. */
+    @TaskAction
+    public void run() {
+        final Path schemaRoot = getSchemaResourceRoot().get().getAsFile().toPath();
+        final Map<Metric, Long> budgets = budgets();
+
+        final StringBuilder report = new StringBuilder(HEADER);
+        final List<String> exceeded = new ArrayList<>();
+        final List<Path> schemas = SchemaFiles.list(schemaRoot);
+        for (final Path relativePath : schemas) {
+            final String typeName = SchemaFiles.typeName(relativePath);
+            final SchemaMetrics metrics = measure(typeName, schemaRoot.resolve(relativePath));
+
+            report.append(typeName).append('\t').append(SchemaFiles.resourcePath(relativePath));
+            for (final Metric metric : Metric.values()) {
+                report.append('\t').append(metrics.get(metric));
+            }
+            report.append('\n');
+
+            metrics.exceeded(budgets).forEach(e -> exceeded.add(typeName + " " + e));
+        }
+
+        final Path reportFile = getReportFile().get().getAsFile().toPath();
+        writeReport(reportFile, report);
+        getLogger()
+                .info("Measured {} schemas, {} budgets exceeded", schemas.size(), exceeded.size());
+
+        if (exceeded.isEmpty()) {
+            return;
+        }
+
+        final String message =
+                "Found "
+                        + exceeded.size()
+                        + " JSON schema budgets exceeded:"
+                        + System.lineSeparator()
+                        + String.join(System.lineSeparator(), exceeded)
+                        + System.lineSeparator()
+                        + "See report: "
+                        + reportFile.toUri();
+
+        if (getFailOnBudgetExceeded().getOrElse(true)) {
+            throw new GradleException(message);
+        }
+        getLogger().warn(message);
+    }
+
+    private Map<Metric, Long> budgets() {
+        final Map<Metric, Long> budgets = new EnumMap<>(Metric.class);
+        addBudget(budgets, Metric.SIZE, getMaxSize());
+        addBudget(budgets, Metric.DEPTH, getMaxDepth());
+        addBudget(budgets, Metric.FAN_OUT, getMaxFanOut());
+        addBudget(budgets, Metric.REFS, getMaxRefs());
+        addBudget(budgets, Metric.PATTERNS, getMaxPatterns());
+        return budgets;
+    }
+
+    private static void addBudget(
+            final Map<Metric, Long> budgets, final Metric metric, final Property<Integer> budget) {
+        if (budget.isPresent()) {
+            budgets.put(metric, (long) budget.get());
+        }
+    }
+
+    private static SchemaMetrics measure(final String typeName, final Path schemaFile) {
+        try {
+            return SchemaMetrics.measure(Files.readString(schemaFile, UTF_8));
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read " + schemaFile, e);
+        } catch (final IllegalArgumentException e) {
+            throw new GradleException("Failed to measure " + typeName + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static void writeReport(final Path file, final CharSequence report) {
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, report, UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write " + file, e);
+        }
+    }
+}
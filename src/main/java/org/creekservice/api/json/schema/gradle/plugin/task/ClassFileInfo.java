@@ -0,0 +1,577 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Minimal, read-only view of a class file's structure.
+ *
+ * <p>Parses the parts of a class file the plugin needs, e.g. class-level annotations and the
+ * {@code PermittedSubclasses} attribute of sealed types, without loading the class.
+ */
+final class ClassFileInfo {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int ACC_STATIC = 0x0008;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_ABSTRACT = 0x0400;
+    private static final Pattern TYPE_DESCRIPTOR = Pattern.compile("L([^;<>:.\\[]+)[;<]");
+
+    private final String name;
+    private final int accessFlags;
+    private final Map<String, Annotation> annotations;
+    private final List<String> permittedSubclasses;
+    private final Set<String> referencedTypes;
+    private final Set<String> superTypes;
+    private final Set<String> memberTypes;
+    private final String contentHash;
+
+    private ClassFileInfo(
+            final String name,
+            final int accessFlags,
+            final Map<String, Annotation> annotations,
+            final List<String> permittedSubclasses,
+            final Set<String> referencedTypes,
+            final Set<String> superTypes,
+            final Set<String> memberTypes,
+            final String contentHash) {
+        this.name = name;
+        this.accessFlags = accessFlags;
+        this.annotations = Map.copyOf(annotations);
+        this.permittedSubclasses = List.copyOf(permittedSubclasses);
+        this.referencedTypes = Set.copyOf(referencedTypes);
+        this.superTypes = Set.copyOf(superTypes);
+        this.memberTypes = Set.copyOf(memberTypes);
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * Read all class files.
+     *
+     * @param files class files, directories of class files, or jars.
+     * @return the parsed class files.
+     */
+    static List<ClassFileInfo> readAll(final Iterable<File> files) {
+        final List<ClassFileInfo> result = new ArrayList<>();
+        forEachClassFile(files, bytes -> parse(bytes).ifPresent(result::add));
+        return result;
+    }
+
+    /**
+     * Visit the bytes of all class files.
+     *
+     * @param files class files, directories of class files, or jars.
+     * @param visitor the visitor to invoke with the bytes of each class file.
+     */
+    static void forEachClassFile(final Iterable<File> files, final Consumer<byte[]> visitor) {
+        files.forEach(file -> read(file, visitor));
+    }
+
+    /**
+     * Parse a class file.
+     *
+     * @param classFile the bytes of the class file.
+     * @return the parsed info, or empty if the bytes are not a class file.
+     */
+    static Optional<ClassFileInfo> parse(final byte[] classFile) {
+        if (classFile.length < 10 || new Reader(classFile, 0).u4() != MAGIC) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new Parser(classFile).parse());
+        } catch (final IndexOutOfBoundsException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return the binary name of the type, e.g. {@code acme.Outer$Inner}.
+     */
+    String className() {
+        return name.replace('/', '.');
+    }
+
+    /**
+     * @return the SHA-256 hash of the class file's bytes.
+     */
+    String contentHash() {
+        return contentHash;
+    }
+
+    /**
+     * @return the package name of the type, or empty string for the default package.
+     */
+    String packageName() {
+        return packageOf(name);
+    }
+
+    boolean isFinal() {
+        return (accessFlags & ACC_FINAL) != 0;
+    }
+
+    boolean isInterface() {
+        return (accessFlags & ACC_INTERFACE) != 0;
+    }
+
+    boolean isAbstract() {
+        return (accessFlags & ACC_ABSTRACT) != 0;
+    }
+
+    boolean isSealed() {
+        return !permittedSubclasses.isEmpty();
+    }
+
+    /**
+     * @return the binary names of permitted subclasses, if the type is sealed.
+     */
+    List<String> permittedSubclasses() {
+        return permittedSubclasses.stream().map(n -> n.replace('/', '.')).toList();
+    }
+
+    /**
+     * The types this type references, e.g. in its super types, fields, method signatures, or code.
+     *
+     * @return the binary names of the referenced types, excluding this type.
+     */
+    Set<String> referencedTypes() {
+        return referencedTypes;
+    }
+
+    /**
+     * @return the binary names of the type's direct super class and interfaces.
+     */
+    Set<String> superTypes() {
+        return superTypes;
+    }
+
+    /**
+     * The types used in the signatures of the type's instance fields, constructors and instance
+     * methods, including generic type arguments, i.e. the types Jackson may see as properties.
+     *
+     * @return the binary names of the member types, excluding this type.
+     */
+    Set<String> memberTypes() {
+        return memberTypes;
+    }
+
+    /**
+     * @param annotationType the fully qualified name of the annotation type.
+     * @return the annotation, if present.
+     */
+    Optional<Annotation> annotation(final String annotationType) {
+        return Optional.ofNullable(annotations.get(annotationType));
+    }
+
+    boolean hasAnnotation(final String annotationType) {
+        return annotations.containsKey(annotationType);
+    }
+
+    /**
+     * @param className a binary or internal class name.
+     * @return the package name.
+     */
+    static String packageOf(final String className) {
+        final String dotted = className.replace('/', '.');
+        final int idx = dotted.lastIndexOf('.');
+        return idx < 0 ? "" : dotted.substring(0, idx);
+    }
+
+    @Override
+    public String toString() {
+        return className();
+    }
+
+    /** An annotation instance. */
+    static final class Annotation {
+
+        private final String type;
+        private final Map<String, Object> values;
+
+        Annotation(final String type, final Map<String, Object> values) {
+            this.type = type;
+            this.values = Map.copyOf(values);
+        }
+
+        /**
+         * @return the fully qualified name of the annotation type.
+         */
+        String type() {
+            return type;
+        }
+
+        /**
+         * Get an element value.
+         *
+         * <p>Class values are returned as binary class names, nested annotations as {@link
+         * Annotation}, arrays as {@link List}, enum values as the constant name and other constant
+         * values as their Java type, where supported.
+         *
+         * @param element the element name.
+         * @return the value, if explicitly set.
+         */
+        Optional<Object> value(final String element) {
+            return Optional.ofNullable(values.get(element));
+        }
+    }
+
+    private static void read(final File file, final Consumer<byte[]> visitor) {
+        try {
+            if (file.isDirectory()) {
+                try (var paths = Files.walk(file.toPath())) {
+                    paths.filter(p -> p.toString().endsWith(".class"))
+                            .forEach(p -> read(p.toFile(), visitor));
+                }
+            } else if (file.getName().endsWith(".class")) {
+                visitor.accept(Files.readAllBytes(file.toPath()));
+            } else if (file.getName().endsWith(".jar")) {
+                readJar(file, visitor);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read " + file, e);
+        }
+    }
+
+    /**
+     * Walk the constant pool of a class file, recording where each entry starts.
+     *
+     * <p>The single constant pool walker shared by everything that inspects class files.
+     *
+     * @param classFile the bytes of the class file.
+     * @return the offset of each entry's tag byte, indexed by constant pool index, with an extra
+     *     final element holding the offset of the first byte after the constant pool. Unusable
+     *     indexes, i.e. zero and the slot following a long or double, hold zero.
+     * @throws IndexOutOfBoundsException if the class file is truncated or contains an unknown
+     *     constant pool tag.
+     */
+    static int[] constantPoolOffsets(final byte[] classFile) {
+        final Reader reader = new Reader(classFile, 8);
+        final int count = reader.u2();
+        final int[] offsets = new int[count + 1];
+        for (int idx = 1; idx < count; idx++) {
+            offsets[idx] = reader.pos;
+            final int tag = reader.u1();
+            switch (tag) {
+                case 1: // Utf8
+                    reader.skip(reader.u2());
+                    break;
+                case 3: // Integer
+                case 4: // Float
+                case 9: // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    reader.skip(4);
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    reader.skip(8);
+                    idx++;
+                    break;
+                case 7: // Class
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    reader.skip(2);
+                    break;
+                case 15: // MethodHandle
+                    reader.skip(3);
+                    break;
+                default:
+                    throw new IndexOutOfBoundsException("Unknown constant pool tag: " + tag);
+            }
+        }
+        offsets[count] = reader.pos;
+        return offsets;
+    }
+
+    private static void readJar(final File file, final Consumer<byte[]> visitor)
+            throws IOException {
+        try (JarFile jar = new JarFile(file, false)) {
+            final Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                final JarEntry entry = entries.nextElement();
+                if (!entry.getName().endsWith(".class")) {
+                    continue;
+                }
+
+                try (InputStream in = jar.getInputStream(entry)) {
+                    visitor.accept(in.readAllBytes());
+                }
+            }
+        }
+    }
+
+    private static final class Parser {
+
+        private final byte[] bytes;
+        private int[] offsets;
+
+        Parser(final byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        ClassFileInfo parse() {
+            offsets = constantPoolOffsets(bytes);
+            final Reader reader = new Reader(bytes, offsets[offsets.length - 1]);
+
+            final int accessFlags = reader.u2();
+            final String name = classAt(reader.u2());
+
+            final Set<String> superTypes = new HashSet<>();
+            final int superClass = reader.u2();
+            if (superClass != 0) {
+                superTypes.add(classAt(superClass).replace('/', '.'));
+            }
+            final int interfaces = reader.u2();
+            for (int i = 0; i < interfaces; i++) {
+                superTypes.add(classAt(reader.u2()).replace('/', '.'));
+            }
+
+            final Set<String> memberTypes = new HashSet<>();
+            readMembers(reader, memberTypes); // fields
+            readMembers(reader, memberTypes); // methods
+            memberTypes.remove(name);
+
+            final Map<String, Annotation> annotations = new HashMap<>();
+            final List<String> permitted = new ArrayList<>();
+
+            final int attributeCount = reader.u2();
+            for (int i = 0; i < attributeCount; i++) {
+                final String attribute = utf8At(reader.u2());
+                final int length = reader.u4();
+                final int end = reader.pos + length;
+                switch (attribute) {
+                    case "RuntimeVisibleAnnotations":
+                    case "RuntimeInvisibleAnnotations":
+                        final int count = reader.u2();
+                        for (int a = 0; a < count; a++) {
+                            final Annotation annotation = readAnnotation(reader);
+                            annotations.put(annotation.type(), annotation);
+                        }
+                        break;
+                    case "PermittedSubclasses":
+                        final int classes = reader.u2();
+                        for (int c = 0; c < classes; c++) {
+                            permitted.add(classAt(reader.u2()));
+                        }
+                        break;
+                    default:
+                        break;
+                }
+                reader.pos = end;
+            }
+
+            return new ClassFileInfo(
+                    name,
+                    accessFlags,
+                    annotations,
+                    permitted,
+                    referencedTypes(name),
+                    superTypes,
+                    dotted(memberTypes),
+                    Fingerprints.sha256(bytes));
+        }
+
+        private Set<String> referencedTypes(final String self) {
+            final Set<String> types = new HashSet<>();
+            for (int idx = 1; idx < offsets.length - 1; idx++) {
+                final int tag = offsets[idx] == 0 ? 0 : bytes[offsets[idx]] & 0xFF;
+                if (tag == 7) {
+                    final String type = classAt(idx);
+                    if (type.startsWith("[")) {
+                        addDescriptorTypes(type, types);
+                    } else {
+                        types.add(type);
+                    }
+                } else if (tag == 1) {
+                    addDescriptorTypes(utf8At(idx), types);
+                }
+            }
+            types.remove(self);
+            return dotted(types);
+        }
+
+        private static Set<String> dotted(final Set<String> types) {
+            final Set<String> names = new HashSet<>(types.size());
+            types.forEach(type -> names.add(type.replace('/', '.')));
+            return names;
+        }
+
+        private static void addDescriptorTypes(final String text, final Set<String> types) {
+            if (text.indexOf('L') < 0 || text.indexOf(';') < 0) {
+                return;
+            }
+
+            final Matcher matcher = TYPE_DESCRIPTOR.matcher(text);
+            while (matcher.find()) {
+                types.add(matcher.group(1));
+            }
+        }
+
+        private void readMembers(final Reader reader, final Set<String> types) {
+            final int count = reader.u2();
+            for (int i = 0; i < count; i++) {
+                final boolean instance = (reader.u2() & ACC_STATIC) == 0;
+                reader.skip(2); // name_index
+                final String descriptor = utf8At(reader.u2());
+                if (instance) {
+                    addDescriptorTypes(descriptor, types);
+                }
+
+                final int attributes = reader.u2();
+                for (int a = 0; a < attributes; a++) {
+                    final String attribute = utf8At(reader.u2());
+                    final int length = reader.u4();
+                    final int end = reader.pos + length;
+                    if (instance && attribute.equals("Signature")) {
+                        addDescriptorTypes(utf8At(reader.u2()), types);
+                    }
+                    reader.pos = end;
+                }
+            }
+        }
+
+        private Annotation readAnnotation(final Reader reader) {
+            final String type = descriptorToClassName(utf8At(reader.u2()));
+            final Map<String, Object> values = new HashMap<>();
+            final int pairs = reader.u2();
+            for (int p = 0; p < pairs; p++) {
+                final String element = utf8At(reader.u2());
+                final Object value = readElementValue(reader);
+                if (value != null) {
+                    values.put(element, value);
+                }
+            }
+            return new Annotation(type, values);
+        }
+
+        private Object readElementValue(final Reader reader) {
+            final char tag = (char) reader.u1();
+            switch (tag) {
+                case 's':
+                    return utf8At(reader.u2());
+                case 'Z':
+                    return intAt(reader.u2()) != 0;
+                case 'B':
+                case 'C':
+                case 'I':
+                case 'S':
+                    return intAt(reader.u2());
+                case 'D':
+                case 'F':
+                case 'J':
+                    reader.skip(2);
+                    return null;
+                case 'e':
+                    reader.skip(2); // type_name_index
+                    return utf8At(reader.u2());
+                case 'c':
+                    return descriptorToClassName(utf8At(reader.u2()));
+                case '@':
+                    return readAnnotation(reader);
+                case '[':
+                    final int count = reader.u2();
+                    final List<Object> values = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        final Object value = readElementValue(reader);
+                        if (value != null) {
+                            values.add(value);
+                        }
+                    }
+                    return values;
+                default:
+                    throw new IndexOutOfBoundsException("Unknown element value tag: " + tag);
+            }
+        }
+
+        private String utf8At(final int index) {
+            final Reader reader = new Reader(bytes, offsets[index] + 1);
+            final int length = reader.u2();
+            return new String(bytes, reader.pos, length, UTF_8);
+        }
+
+        private String classAt(final int index) {
+            return utf8At(new Reader(bytes, offsets[index] + 1).u2());
+        }
+
+        private int intAt(final int index) {
+            return new Reader(bytes, offsets[index] + 1).u4();
+        }
+
+        private static String descriptorToClassName(final String descriptor) {
+            if (descriptor.startsWith("L") && descriptor.endsWith(";")) {
+                return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+            }
+            return descriptor;
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] bytes;
+        private int pos;
+
+        Reader(final byte[] bytes, final int pos) {
+            this.bytes = bytes;
+            this.pos = pos;
+        }
+
+        int u1() {
+            return bytes[pos++] & 0xFF;
+        }
+
+        int u2() {
+            return (u1() << 8) | u1();
+        }
+
+        int u4() {
+            return (u2() << 16) | u2();
+        }
+
+        void skip(final int count) {
+            if (count < 0 || pos + count > bytes.length) {
+                throw new IndexOutOfBoundsException("Truncated class file");
+            }
+            pos += count;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import org.gradle.api.specs.Spec;
+
+/**
+ * Cheap, in-process check for class files that reference a given annotation type.
+ *
+ * <p>Class files are never loaded. Instead, the constant pool of each class file is walked looking
+ * for the annotation's type descriptor, which the compiler must add to the constant pool of any
+ * class carrying the annotation.
+ *
+ * <p>Files that look like class files, but can not be parsed, are conservatively treated as
+ * matching, leaving the final decision to the generator.
+ */
+final class ClassFileScanner implements Spec<File>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The fully qualified name of the {@code @GeneratesSchema} annotation type. */
+    static final String GENERATES_SCHEMA_TYPE =
+            "org.creekservice.api.base.annotation.schema.GeneratesSchema";
+
+    /** Scanner for types annotated with {@code @GeneratesSchema}. */
+    static final ClassFileScanner GENERATES_SCHEMA = new ClassFileScanner(GENERATES_SCHEMA_TYPE);
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private final byte[] descriptor;
+
+    /**
+     * @param annotationType the fully qualified name of the annotation type to look for.
+     */
+    ClassFileScanner(final String annotationType) {
+        this.descriptor = ("L" + annotationType.replace('.', '/') + ";").getBytes(UTF_8);
+    }
+
+    /**
+     * @param file a class file, or a jar of class files.
+     * @return {@code true} if the file, or any class file within the jar, references the
+     *     annotation.
+     */
+    @Override
+    public boolean isSatisfiedBy(final File file) {
+        final String name = file.getName();
+        try {
+            if (name.endsWith(".class")) {
+                return references(Files.readAllBytes(file.toPath()));
+            }
+
+            if (name.endsWith(".jar")) {
+                return jarReferences(file);
+            }
+
+            return false;
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read " + file, e);
+        }
+    }
+
+    /**
+     * @param classFile the bytes of the class file.
+     * @return {@code true} if the constant pool contains the annotation's descriptor.
+     */
+    boolean references(final byte[] classFile) {
+        if (classFile.length < 10 || readInt(classFile, 0) != MAGIC) {
+            return false;
+        }
+
+        try {
+            final int[] offsets = ClassFileInfo.constantPoolOffsets(classFile);
+            for (int idx = 1; idx < offsets.length - 1; idx++) {
+                final int pos = offsets[idx];
+                if (pos != 0
+                        && classFile[pos] == 1 // Utf8
+                        && matches(classFile, pos + 3, readUnsignedShort(classFile, pos + 1))) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (final IndexOutOfBoundsException e) {
+            return true;
+        }
+    }
+
+    private boolean jarReferences(final File file) throws IOException {
+        try (JarFile jar = new JarFile(file, false)) {
+            final Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                final JarEntry entry = entries.nextElement();
+                if (!entry.getName().endsWith(".class")) {
+                    continue;
+                }
+
+                try (InputStream in = jar.getInputStream(entry)) {
+                    if (references(in.readAllBytes())) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    private boolean matches(final byte[] classFile, final int offset, final int length) {
+        return length == descriptor.length
+                && Arrays.equals(
+                        classFile, offset, offset + length, descriptor, 0, descriptor.length);
+    }
+
+    private static int readUnsignedShort(final byte[] bytes, final int pos) {
+        return ((bytes[pos] & 0xFF) << 8) | (bytes[pos + 1] & 0xFF);
+    }
+
+    private static int readInt(final byte[] bytes, final int pos) {
+        return (readUnsignedShort(bytes, pos) << 16) | readUnsignedShort(bytes, pos + 2);
+    }
+}
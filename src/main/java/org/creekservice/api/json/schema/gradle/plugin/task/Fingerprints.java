@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/** Util for computing content fingerprints. */
+final class Fingerprints {
+
+    private Fingerprints() {}
+
+    /**
+     * @param bytes the content.
+     * @return the hex encoded SHA-256 of the content.
+     */
+    static String sha256(final byte[] bytes) {
+        return HexFormat.of().formatHex(digest().digest(bytes));
+    }
+
+    /**
+     * Incrementally build a fingerprint from multiple values.
+     *
+     * @return the builder.
+     */
+    static Builder builder() {
+        return new Builder();
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+
+    /** Fingerprint builder. */
+    static final class Builder {
+
+        private final MessageDigest digest = digest();
+
+        private Builder() {}
+
+        /**
+         * @param value a value to include.
+         * @return self.
+         */
+        Builder add(final Object value) {
+            digest.update(String.valueOf(value).getBytes(UTF_8));
+            digest.update((byte) 0);
+            return this;
+        }
+
+        /**
+         * Include the files, by path, size and modification time, rather than content.
+         *
+         * @param files the files to include.
+         * @return self.
+         */
+        Builder addFileMetadata(final Iterable<File> files) {
+            for (final File file : files) {
+                add(file.getAbsolutePath()).add(file.length()).add(file.lastModified());
+            }
+            return this;
+        }
+
+        /**
+         * @return the hex encoded fingerprint.
+         */
+        String build() {
+            return HexFormat.of().formatHex(digest.digest());
+        }
+    }
+}
@@ -16,50 +16,84 @@
 
 package org.creekservice.api.json.schema.gradle.plugin.task;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.creekservice.api.json.schema.gradle.plugin.JsonSchemaPlugin.GENERATOR_DEP_ARTEFACT_NAME;
 import static org.creekservice.api.json.schema.gradle.plugin.JsonSchemaPlugin.GENERATOR_DEP_GROUP_NAME;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import org.creekservice.api.json.schema.gradle.plugin.JsonSchemaPlugin;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.GradleException;
-import org.gradle.api.artifacts.Configuration;
-import org.gradle.api.artifacts.Dependency;
+import org.gradle.api.InvalidUserDataException;
 import org.gradle.api.file.ConfigurableFileCollection;
 import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.file.RegularFileProperty;
 import org.gradle.api.provider.ListProperty;
 import org.gradle.api.provider.Property;
 import org.gradle.api.tasks.Classpath;
 import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
 import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.TaskAction;
 import org.gradle.api.tasks.UntrackedTask;
 import org.gradle.api.tasks.options.Option;
 import org.gradle.process.ExecOperations;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+import org.gradle.workers.WorkQueue;
+import org.gradle.workers.WorkerExecutor;
 
 /** Task for generating JSON schemas from code */
 @UntrackedTask(because = "Runs an external schema generator process whose output is always written")
 public abstract class GenerateJsonSchema extends DefaultTask {
 
+    /** The main class of the generator. */
+    static final String GENERATOR_MAIN_CLASS =
+            "org.creekservice.api.json.schema.generator.JsonSchemaGenerator";
+
     private final ExecOperations execOps;
+    private final WorkerExecutor workerExecutor;
     final ConfigurableFileCollection classPath = getProject().getObjects().fileCollection();
+    private final ConfigurableFileCollection generatorFiles =
+            getProject().getObjects().fileCollection();
+
+    // Parsed once per execution, on first use, as several features need them:
+    private transient List<ClassFileInfo> parsedClassFiles;
+    private transient List<String> resolvedSubtypePackages;
 
     /**
      * Constructor
      *
      * @param execOps Gradle exec operations service for executing JVM processes.
+     * @param workerExecutor Gradle worker executor service, for running generator shards.
      */
     @Inject
-    public GenerateJsonSchema(final ExecOperations execOps) {
+    public GenerateJsonSchema(final ExecOperations execOps, final WorkerExecutor workerExecutor) {
         this.execOps = execOps;
+        this.workerExecutor = workerExecutor;
         classPath.from((Callable<Object>) this::getClassFiles);
-        classPath.from((Callable<Object>) this::getGeneratorDeps);
+        generatorFiles.from((Callable<Object>) this::generatorClassPath);
+        classPath.from(generatorFiles);
         classPath.from((Callable<Object>) this::getProjectDeps);
 
         setDescription("Generators JSON schemas");
@@ -185,6 +219,43 @@ public abstract class GenerateJsonSchema extends DefaultTask {
         getSubtypeScanningPackageWhiteList().set(args);
     }
 
+    /**
+     * Controls whether subtypes of polymorphic types should be resolved from type metadata, rather
+     * than by scanning the class and module path.
+     *
+     * <p>When enabled, and no {@link #getSubtypeScanningPackageWhiteList() subtype package white
+     * list} is set, the {@link #getClassFiles() class files} are inspected for polymorphic types,
+     * i.e. types annotated with {@code @JsonTypeInfo}. If all such types are either annotated with
+     * {@code @JsonSubTypes}, or are {@code sealed} with only {@code final} or {@code sealed}
+     * permitted subclasses, then subtype scanning is restricted to only the packages containing
+     * those subtypes. If any polymorphic type has an open set of subtypes, full subtype scanning is
+     * used.
+     *
+     * <p>Only polymorphic types within the {@link #getClassFiles() class files} are inspected. Do
+     * not enable this if schemas reference open polymorphic types from dependencies.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return resolve subtypes from metadata property.
+     */
+    @Input
+    public abstract Property<Boolean> getResolveSubtypesFromMetadata();
+
+    /**
+     * Method to allow enabling subtype resolution from type metadata from the command line.
+     *
+     * @param enabled whether to enable.
+     */
+    @SuppressWarnings("unused") // Invoked by Gradle
+    @Option(
+            option = "resolve-subtypes-from-metadata",
+            description =
+                    "Resolves subtypes of sealed and @JsonSubTypes annotated types from their "
+                            + "metadata, limiting subtype scanning")
+    public void setResolveSubtypesFromMetadataFromOption(final boolean enabled) {
+        getResolveSubtypesFromMetadata().set(enabled);
+    }
+
     /**
      * The resource root where generated schemas should be stored
      *
@@ -195,6 +266,42 @@ public abstract class GenerateJsonSchema extends DefaultTask {
     @OutputDirectory
     public abstract DirectoryProperty getSchemaResourceRoot();
 
+    /**
+     * Optionally, a resource root to write minified copies of the generated schemas to.
+     *
+     * <p>When set, each schema under the {@link #getSchemaResourceRoot() resource root} is written
+     * to the same resource path under this root, with annotations such as {@code title} and
+     * {@code description} removed, duplicate definitions merged, and as JSON without
+     * insignificant whitespace. Any index or manifest is also written for the minified schemas.
+     *
+     * <p>Default: not set, meaning no minified schemas are written.
+     *
+     * @return the minified resource root property
+     */
+    @OutputDirectory
+    @org.gradle.api.tasks.Optional
+    public abstract DirectoryProperty getMinifiedSchemaResourceRoot();
+
+    /**
+     * Optionally, a file to write the list of schemas added, changed or removed since the task's
+     * previous run to.
+     *
+     * <p>Schemas are compared by content hash. Each line holds the kind of change, i.e. {@code
+     * added}, {@code changed} or {@code removed}, the schema's type name and its resource path,
+     * separated by tabs. Lines starting with {@code #} are comments. On the first run, all schemas
+     * are listed as added. The file is also rewritten when the generator is not run, because
+     * nothing changed since the task's previous run or there are no annotated types, in which case
+     * it lists no changes.
+     *
+     * <p>Default: {@code $buildDir/jsonSchema/changes/<task-name>.txt}. If not set, no list is
+     * written.
+     *
+     * @return the changed schemas file property
+     */
+    @OutputFile
+    @org.gradle.api.tasks.Optional
+    public abstract RegularFileProperty getChangedSchemasFile();
+
     /**
      * Optionally, provide a specific directory to generate schemas into.
      *
@@ -244,38 +351,562 @@ public abstract class GenerateJsonSchema extends DefaultTask {
     @Classpath
     public abstract ConfigurableFileCollection getClassFiles();
 
+    /**
+     * Controls whether the task should do no work if none of the {@link #getClassFiles() class
+     * files} contain {@code @GeneratesSchema} annotated types.
+     *
+     * <p>The check is performed within the Gradle process, without loading any classes, avoiding
+     * the cost of starting the generator when there is nothing for it to do. If no annotated types
+     * are found, the generator is not run and the task is reported as up-to-date.
+     *
+     * <p>Disable this if schemas should be generated for annotated types found only in
+     * dependencies. The task then runs even if there are no class files.
+     *
+     * <p>Default: {@code true}.
+     *
+     * @return the skip when no annotated types property.
+     */
+    @Input
+    public abstract Property<Boolean> getSkipWhenNoAnnotatedTypes();
+
+    /**
+     * @return the subset of the {@link #getClassFiles() class files} that may contain {@code
+     *     GeneratesSchema} annotated types, or all class files if {@link
+     *     #getSkipWhenNoAnnotatedTypes()} is disabled.
+     */
+    @Internal
+    public FileCollection getAnnotatedClassFiles() {
+        final FileCollection classFiles = getClassFiles().getAsFileTree();
+        return getSkipWhenNoAnnotatedTypes().getOrElse(true)
+                ? classFiles.filter(ClassFileScanner.GENERATES_SCHEMA)
+                : classFiles;
+    }
+
     /**
      * @return dependencies of the system test runner.
      */
     @Internal
     public abstract ConfigurableFileCollection getGeneratorDeps();
 
+    /**
+     * @return the generator's own jar, from within the {@link #getGeneratorDeps() dependencies}.
+     */
+    @Internal
+    public abstract ConfigurableFileCollection getGeneratorJar();
+
+    /**
+     * @return the generator's dependencies, merged into a single jar.
+     */
+    @Internal
+    public abstract ConfigurableFileCollection getMergedGeneratorDeps();
+
     /**
      * @return dependencies the project needs to compile.
      */
     @Internal
     public abstract ConfigurableFileCollection getProjectDeps();
 
+    /**
+     * The schemas of upstream projects, as directories of schema files or schema archives.
+     *
+     * <p>Definitions in the generated schemas that are equivalent to an upstream schema are
+     * replaced with an absolute {@code $ref} to the upstream schema, i.e. its {@code $id} or a
+     * {@code classpath:} reference to its resource path, rather than duplicating the upstream
+     * schema.
+     *
+     * <p>Default: empty, meaning generated schemas are left as generated.
+     *
+     * @return the upstream schemas.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.NAME_ONLY)
+    public abstract ConfigurableFileCollection getUpstreamSchemas();
+
+    /**
+     * The JVM arguments of the Gradle daemon, i.e. the {@code org.gradle.jvmargs} property, which
+     * are passed on to the generator.
+     *
+     * @return the Gradle JVM args property.
+     */
+    @Internal
+    public abstract Property<String> getGradleJvmArgs();
+
+    /**
+     * Controls whether the generator is profiled.
+     *
+     * <p>When enabled, the generator JVM is started with a Java Flight Recorder recording and GC
+     * logging, written to the {@link #getProfilingReportDirectory() profiling report directory},
+     * and a summary of the hottest methods, allocation rate and class loading time is logged.
+     * Profiling always runs the generator, and always regenerates all schemas.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return the profile generator property.
+     */
+    @Input
+    public abstract Property<Boolean> getProfileGenerator();
+
+    /**
+     * Method to allow enabling profiling from the command line.
+     *
+     * @param enabled whether to enable.
+     */
+    @SuppressWarnings("unused") // Invoked by Gradle
+    @Option(
+            option = "profile-generator",
+            description = "Profile the generator using Java Flight Recorder and GC logging")
+    public void setProfileGeneratorFromOption(final boolean enabled) {
+        getProfileGenerator().set(enabled);
+    }
+
+    /**
+     * @return the directory profiling reports are written to.
+     */
+    @Internal
+    public abstract DirectoryProperty getProfilingReportDirectory();
+
+    /**
+     * The number of generator processes to split schema generation across.
+     *
+     * <p>When greater than one, the packages containing {@code @GeneratesSchema} annotated types
+     * are split into up to this many shards, of similar numbers of types, and a generator process
+     * is run for each shard, in parallel, via Gradle's worker API. Each shard writes to its own
+     * directory, and the results are merged into the {@link #getSchemaResourceRoot() resource
+     * root}, failing if two shards write different content for the same schema. This can reduce
+     * the wall-clock time and per-process heap needed for modules with very many types.
+     *
+     * <p>The number of shards is capped at {@link #getMaxParallelGenerators() the maximum number
+     * of parallel generators}.
+     *
+     * <p>Not used when profiling, when a {@link #getTypeScanningPackageWhiteList() type scanning
+     * package white list} is set, or when annotated types are in the default package.
+     *
+     * <p>Default: {@code 1}.
+     *
+     * @return the shards property.
+     */
+    @Internal
+    public abstract Property<Integer> getShards();
+
+    /**
+     * The maximum number of generator processes that can run in parallel across the build.
+     *
+     * <p>Caps the number of {@link #getShards() shards}, as shard processes are forked via the
+     * worker API, outside the build service that limits how many generators run at once.
+     *
+     * @return the max parallel generators property.
+     */
+    @Internal
+    public abstract Property<Integer> getMaxParallelGenerators();
+
+    /**
+     * Method to allow setting the number of shards from the command line.
+     *
+     * @param shards the number of shards.
+     */
+    @SuppressWarnings("unused") // Invoked by Gradle
+    @Option(option = "shards", description = "Number of generator processes to run in parallel")
+    public void setShardsFromOption(final String shards) {
+        try {
+            getShards().set(Integer.parseInt(shards));
+        } catch (final NumberFormatException e) {
+            throw new InvalidUserDataException("shards must be a number, but was " + shards, e);
+        }
+    }
+
+    /**
+     * Controls whether the generator runs in a JVM shared with the generate tasks of other
+     * projects.
+     *
+     * <p>When enabled, rather than forking a JVM, the task hands its class path and arguments to a
+     * build-wide service. The service runs the requests of all enabled tasks one at a time, in a
+     * single long-lived generator JVM, each in its own class loader built from the task's class
+     * path. This avoids the cost of starting a JVM and loading the generator per project, at the
+     * cost of generating the schemas of different projects sequentially.
+     *
+     * <p>Not used when running the generator from the module path, or when profiling. Takes
+     * precedence over {@link #getPrelaunchGenerator() prelaunching}.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return batch generation property.
+     */
+    @Internal
+    public abstract Property<Boolean> getBatchGeneration();
+
+    /**
+     * Controls whether the generator runs with its dependencies merged into a single jar.
+     *
+     * <p>When enabled, the generator jar and its dependencies are merged into a single jar, once
+     * per generator version, by a cached artifact transform. The generator's class path then holds
+     * one jar, rather than one per dependency, reducing the number of jars the generator JVM opens
+     * and indexes at startup.
+     *
+     * <p>Not used when running the generator from the module path, as the merged jar is not a
+     * module.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return merge generator class path property.
+     */
+    @Internal
+    public abstract Property<Boolean> getMergeGeneratorClasspath();
+
+    /**
+     * Method to allow enabling merging the generator class path from the command line.
+     *
+     * @param enabled whether to enable.
+     */
+    @SuppressWarnings("unused") // Invoked by Gradle
+    @Option(
+            option = "merge-generator-classpath",
+            description = "Run the generator with its dependencies merged into a single jar")
+    public void setMergeGeneratorClasspathFromOption(final boolean enabled) {
+        getMergeGeneratorClasspath().set(enabled);
+    }
+
+    /**
+     * @return the service running batched generation requests.
+     */
+    @Internal
+    public abstract Property<BatchGeneratorService> getBatchService();
+
+    /**
+     * Controls whether the task uses a generator JVM launched before it executes.
+     *
+     * <p>When enabled, a {@link PrelaunchJsonSchemaGenerator} task, which does not depend on
+     * compilation, launches a generator JVM with only the {@link #getGeneratorClassPath()
+     * generator's class path}, while the project's class files are still being compiled. The JVM
+     * loads the generator and opens its jars, then waits. When this task executes it hands over
+     * the project's class path and the generator's arguments, taking JVM startup off the build's
+     * critical path. At most the build's max parallel generators are prelaunched at once.
+     *
+     * <p>Not used when running the generator from the module path, or when profiling. The task
+     * falls back to launching the generator as normal if no JVM with matching JVM arguments and
+     * generator class path was prelaunched.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return prelaunch generator property.
+     */
+    @Internal
+    public abstract Property<Boolean> getPrelaunchGenerator();
+
+    /**
+     * @return the service holding prelaunched generators.
+     */
+    @Internal
+    public abstract Property<PrelaunchedGeneratorService> getPrelaunchService();
+
+    /**
+     * The class path the generator runs from, excluding the project's class files and
+     * dependencies.
+     *
+     * @return the generator class path.
+     */
+    @Internal
+    public FileCollection getGeneratorClassPath() {
+        return generatorFiles;
+    }
+
+    /**
+     * Controls whether only schemas affected by changes since the last run are regenerated.
+     *
+     * <p>When enabled, the task records the class files used in each successful run. On the next
+     * run, only packages containing {@code @GeneratesSchema} annotated types whose class files, or
+     * the class files of types they reference, have changed are regenerated. Schemas of removed
+     * annotated types are deleted. If no annotated types are affected, the generator is not run at
+     * all.
+     *
+     * <p>A full regeneration is performed if there is no previous run, the task's configuration or
+     * dependencies have changed, a changed type has a polymorphic supertype, a type has been
+     * removed, or a {@link #getTypeScanningPackageWhiteList() type scanning package white list} is
+     * set.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return incremental generation property.
+     */
+    @Input
+    public abstract Property<Boolean> getIncrementalGeneration();
+
+    /**
+     * Method to allow enabling incremental generation from the command line.
+     *
+     * @param enabled whether to enable.
+     */
+    @SuppressWarnings("unused") // Invoked by Gradle
+    @Option(
+            option = "incremental-generation",
+            description = "Only regenerate schemas affected by changes since the last run")
+    public void setIncrementalGenerationFromOption(final boolean enabled) {
+        getIncrementalGeneration().set(enabled);
+    }
+
+    /**
+     * Controls whether GraalVM native-image reflection metadata is generated for the types schemas
+     * are generated for.
+     *
+     * <p>When enabled, a {@code reflect-config.json} file is written to the {@link
+     * #getReflectionMetadataDirectory() reflection metadata directory} under the {@link
+     * #getSchemaResourceRoot() resource root}. It registers the {@code @GeneratesSchema} annotated
+     * types within the {@link #getClassFiles() class files}, along with the types of their
+     * properties, their super types and the subtypes of polymorphic types, for reflection.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return the generate reflection metadata property.
+     */
+    @Input
+    public abstract Property<Boolean> getGenerateReflectionMetadata();
+
+    /**
+     * Method to allow enabling reflection metadata generation from the command line.
+     *
+     * @param enabled whether to enable.
+     */
+    @SuppressWarnings("unused") // Invoked by Gradle
+    @Option(
+            option = "generate-reflection-metadata",
+            description = "Generate GraalVM native-image reflection metadata for schema types")
+    public void setGenerateReflectionMetadataFromOption(final boolean enabled) {
+        getGenerateReflectionMetadata().set(enabled);
+    }
+
+    /**
+     * The directory, relative to the {@link #getSchemaResourceRoot() resource root}, to write
+     * reflection metadata to.
+     *
+     * <p>Default: {@code META-INF/native-image/<project-group>/<project-name>}.
+     *
+     * @return the reflection metadata directory property.
+     */
+    @Input
+    public abstract Property<String> getReflectionMetadataDirectory();
+
+    /**
+     * Controls whether a manifest of the generated schemas is written.
+     *
+     * <p>When enabled, a {@code META-INF/creek/json-schemas.manifest} file is written under the
+     * {@link #getSchemaResourceRoot() resource root}. It lists the type name, resource path, size,
+     * content SHA-256 and canonical fingerprint of each schema, allowing runtime code to detect
+     * changed schemas without reading and hashing each one.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return the generate manifest property.
+     */
+    @Input
+    public abstract Property<Boolean> getGenerateManifest();
+
+    /**
+     * Method to allow enabling manifest generation from the command line.
+     *
+     * @param enabled whether to enable.
+     */
+    @SuppressWarnings("unused") // Invoked by Gradle
+    @Option(
+            option = "generate-manifest",
+            description = "Write a manifest of schema content hashes and fingerprints")
+    public void setGenerateManifestFromOption(final boolean enabled) {
+        getGenerateManifest().set(enabled);
+    }
+
+    /**
+     * Controls whether an index of the generated schemas is written.
+     *
+     * <p>When enabled, a {@code META-INF/creek/json-schemas.idx} file is written under the {@link
+     * #getSchemaResourceRoot() resource root}, listing the resource path of each schema. As the
+     * index has the same path in every jar, consumers can find all schemas on the class path with
+     * a single {@code ClassLoader.getResources} call.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return the generate index property.
+     */
+    @Input
+    public abstract Property<Boolean> getGenerateIndex();
+
+    /**
+     * Method to allow enabling index generation from the command line.
+     *
+     * @param enabled whether to enable.
+     */
+    @SuppressWarnings("unused") // Invoked by Gradle
+    @Option(
+            option = "generate-index",
+            description = "Write an index of schema resource paths for class path discovery")
+    public void setGenerateIndexFromOption(final boolean enabled) {
+        getGenerateIndex().set(enabled);
+    }
+
+    /**
+     * Controls whether definitions repeated across schemas are moved to a shared definitions file.
+     *
+     * <p>When enabled, definitions that are identical in two or more of the generated schemas are
+     * written once, to the {@link #getSharedDefinitionsPath() shared definitions path}, and the
+     * schemas reference them there, rather than each inlining a copy.
+     *
+     * <p>Enabling this disables {@link #getIncrementalGeneration() incremental generation}, as all
+     * schemas are needed to determine the shared definitions.
+     *
+     * <p>The plugin fails the build if tasks only supporting local {@code $ref}s, e.g. publishing
+     * to a registry, are to run against schemas with shared definitions.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return the share definitions property.
+     */
+    @Input
+    public abstract Property<Boolean> getShareDefinitions();
+
+    /**
+     * Method to allow enabling shared definitions from the command line.
+     *
+     * @param enabled whether to enable.
+     */
+    @SuppressWarnings("unused") // Invoked by Gradle
+    @Option(
+            option = "share-definitions",
+            description = "Move definitions repeated across schemas to a shared definitions file")
+    public void setShareDefinitionsFromOption(final boolean enabled) {
+        getShareDefinitions().set(enabled);
+    }
+
+    /**
+     * The resource path, under the {@link #getSchemaResourceRoot() resource root}, of the shared
+     * definitions file.
+     *
+     * <p>The path should be unique to the project, as schemas from multiple jars may be loaded
+     * from the same class path.
+     *
+     * @return the shared definitions path property.
+     */
+    @Input
+    public abstract Property<String> getSharedDefinitionsPath();
+
+    /**
+     * Controls whether binary, CBOR encoded, copies of the generated schemas are written.
+     *
+     * <p>When enabled, each schema is also written next to its YAML file, with a {@code .cbor}
+     * extension. Runtime code can load these with any CBOR parser, which is faster, and allocates
+     * less, than parsing YAML.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return the generate binary schemas property.
+     */
+    @Input
+    public abstract Property<Boolean> getGenerateBinarySchemas();
+
+    /**
+     * Method to allow enabling binary schema generation from the command line.
+     *
+     * @param enabled whether to enable.
+     */
+    @SuppressWarnings("unused") // Invoked by Gradle
+    @Option(
+            option = "generate-binary-schemas",
+            description = "Write CBOR encoded copies of the schemas for faster runtime loading")
+    public void setGenerateBinarySchemasFromOption(final boolean enabled) {
+        getGenerateBinarySchemas().set(enabled);
+    }
+
     /** The task action. */
     @TaskAction
     public void run() {
+        if (!hasAnnotatedTypes() || !classFilesChanged()) {
+            // Rewritten, rather than left in place, so it does not list the previous run's changes:
+            writeChangedSchemas();
+            setDidWork(false);
+            return;
+        }
+
         checkDependenciesIncludesRunner();
 
         final boolean useModulePath = useModulePath();
-        final List<String> arguments = arguments();
         final List<String> jvmArgs = jvmArgs();
+        final Optional<IncrementalGeneration> incremental =
+                incrementalGeneration(arguments(List.of()), jvmArgs);
+
+        final Optional<Set<String>> affected =
+                incremental.flatMap(IncrementalGeneration::affectedPackages);
+        incremental.ifPresent(inc -> inc.removedTypes().forEach(this::deleteSchema));
+
+        if (affected.isPresent() && affected.get().isEmpty()) {
+            getLogger().info("No schemas affected by changes since the last run");
+            writeMetadata();
+            writeMinifiedSchemas();
+            writeChangedSchemas();
+            incremental.get().commit();
+            recordRunFingerprint();
+            setDidWork(false);
+            return;
+        }
+
+        affected.ifPresent(
+                packages -> getLogger().info("Regenerating schemas in packages: {}", packages));
+        final List<String> arguments = arguments(affected.orElse(Set.of()));
+
+        final Optional<GeneratorProfile> profile = generatorProfile();
+        final List<String> profileJvmArgs =
+                profile.map(GeneratorProfile::prepare).orElse(List.of());
 
         getLogger().info("Executing JSON schema generator with:");
         getLogger().info("useModulePath: {}", useModulePath);
         getLogger().info("arguments: {}", arguments);
         getLogger().info("jvmArgs: {}", jvmArgs);
+        getLogger().info("profileJvmArgs: {}", profileJvmArgs);
         getLogger().info("classpath:");
         classPath.forEach(f -> getLogger().info(f.getAbsolutePath()));
 
+        final List<Set<String>> shards = profile.isPresent() ? List.of() : shards(affected);
+        final boolean batch = useBatchGenerator();
+        final Optional<PrelaunchedGenerator> prelaunched =
+                profile.isPresent() || shards.size() > 1 || batch
+                        ? Optional.empty()
+                        : claimPrelaunchedGenerator();
+
+        try {
+            if (shards.size() > 1) {
+                runSharded(shards, useModulePath, jvmArgs);
+            } else if (batch) {
+                runBatched(arguments, jvmArgs);
+            } else if (prelaunched.isPresent()) {
+                runPrelaunched(prelaunched.get(), arguments);
+            } else {
+                runGenerator(
+                        execOps,
+                        classPath,
+                        useModulePath,
+                        arguments,
+                        concat(jvmArgs, profileJvmArgs));
+            }
+        } catch (final RuntimeException e) {
+            incremental.ifPresent(inc -> IncrementalGeneration.invalidate(incrementalStateFile()));
+            throw e;
+        } finally {
+            profile.ifPresent(this::logProfileSummary);
+        }
+
+        referenceUpstreamSchemas();
+        shareDefinitions();
+        writeMetadata();
+        writeMinifiedSchemas();
+        writeChangedSchemas();
+        incremental.ifPresent(IncrementalGeneration::commit);
+        recordRunFingerprint();
+    }
+
+    private static void runGenerator(
+            final ExecOperations execOps,
+            final FileCollection classPath,
+            final boolean useModulePath,
+            final List<String> arguments,
+            final List<String> jvmArgs) {
         execOps.javaexec(
                 spec -> {
-                    spec.getMainClass()
-                            .set("org.creekservice.api.json.schema.generator.JsonSchemaGenerator");
+                    spec.getMainClass().set(GENERATOR_MAIN_CLASS);
                     spec.getMainModule().set("creek.json.schema.generator");
                     spec.getModularity().getInferModulePath().set(useModulePath);
                     spec.setClasspath(classPath);
@@ -284,6 +915,284 @@ public abstract class GenerateJsonSchema extends DefaultTask {
                 });
     }
 
+    private static List<String> concat(final List<String> a, final List<String> b) {
+        final List<String> result = new ArrayList<>(a);
+        result.addAll(b);
+        return result;
+    }
+
+    private List<Set<String>> shards(final Optional<Set<String>> affected) {
+        final int requested = getShards().getOrElse(1);
+        if (requested < 1) {
+            throw new InvalidUserDataException("shards must be at least 1, but was " + requested);
+        }
+
+        final int count = Math.min(requested, getMaxParallelGenerators().getOrElse(requested));
+        if (count < requested) {
+            getLogger()
+                    .info(
+                            "Shards capped at {}, the maximum number of parallel generators",
+                            count);
+        }
+
+        if (count == 1) {
+            return List.of();
+        }
+
+        if (!getTypeScanningPackageWhiteList().get().isEmpty()) {
+            getLogger().info("Sharding disabled: type scanning package white list set");
+            return List.of();
+        }
+
+        final Map<String, Integer> typesPerPackage = new TreeMap<>();
+        parsedClassFiles().stream()
+                .filter(type -> type.hasAnnotation(ClassFileScanner.GENERATES_SCHEMA_TYPE))
+                .map(ClassFileInfo::packageName)
+                .filter(pkg -> affected.map(packages -> packages.contains(pkg)).orElse(true))
+                .forEach(pkg -> typesPerPackage.merge(pkg, 1, Integer::sum));
+
+        if (typesPerPackage.containsKey("")) {
+            getLogger().info("Sharding disabled: annotated types in the default package");
+            return List.of();
+        }
+
+        return GeneratorShards.partition(typesPerPackage, count);
+    }
+
+    private void runSharded(
+            final List<Set<String>> shards,
+            final boolean useModulePath,
+            final List<String> jvmArgs) {
+        final Path shardsDir = getTemporaryDir().toPath().resolve("shards");
+        Directories.delete(shardsDir);
+
+        final WorkQueue queue = workerExecutor.noIsolation();
+        final List<Path> shardRoots = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) {
+            final Path shardRoot = shardsDir.resolve(String.valueOf(i));
+            final List<String> arguments = arguments(shardRoot, shards.get(i));
+            shardRoots.add(shardRoot);
+
+            getLogger().info("Generator shard {}: packages: {}", i, shards.get(i));
+            queue.submit(
+                    GenerateShard.class,
+                    params -> {
+                        params.getClassPath().from(classPath);
+                        params.getUseModulePath().set(useModulePath);
+                        params.getArguments().set(arguments);
+                        params.getJvmArgs().set(jvmArgs);
+                    });
+        }
+        queue.await();
+
+        final Path outputRoot = getSchemaResourceRoot().get().getAsFile().toPath();
+        final int count = GeneratorShards.merge(shardRoots, outputRoot);
+        getLogger().info("Merged {} schemas from {} generator shards", count, shards.size());
+    }
+
+    private Optional<PrelaunchedGenerator> claimPrelaunchedGenerator() {
+        if (!getPrelaunchService().isPresent() || useModulePath()) {
+            return Optional.empty();
+        }
+
+        return getPrelaunchService().get().claim(jvmArgs(), generatorFiles);
+    }
+
+    private void runPrelaunched(
+            final PrelaunchedGenerator generator, final List<String> arguments) {
+        getLogger().info("Using prelaunched JSON schema generator");
+        checkExitCode(
+                generator.run(
+                        getClassFiles().plus(getProjectDeps()),
+                        arguments,
+                        line -> getLogger().quiet(line)));
+    }
+
+    private boolean useBatchGenerator() {
+        return getBatchGeneration().getOrElse(false)
+                && getBatchService().isPresent()
+                && !getProfileGenerator().getOrElse(false)
+                && !useModulePath();
+    }
+
+    private void runBatched(final List<String> arguments, final List<String> jvmArgs) {
+        getLogger().info("Using batch JSON schema generator");
+        checkExitCode(
+                getBatchService()
+                        .get()
+                        .generate(
+                                jvmArgs,
+                                generatorClassPath(),
+                                getClassFiles().plus(getProjectDeps()),
+                                GENERATOR_MAIN_CLASS,
+                                arguments,
+                                line -> getLogger().quiet(line)));
+    }
+
+    private static void checkExitCode(final int exitCode) {
+        if (exitCode != 0) {
+            throw new GradleException(
+                    "JSON schema generator finished with non-zero exit value " + exitCode);
+        }
+    }
+
+    private void referenceUpstreamSchemas() {
+        final Map<String, String> upstream =
+                SchemaBaseline.loadByResourcePath(getUpstreamSchemas());
+        if (upstream.isEmpty()) {
+            return;
+        }
+
+        final Path root = getSchemaResourceRoot().get().getAsFile().toPath();
+        final int removed = new UpstreamSchemaReferences(upstream).apply(root);
+        getLogger()
+                .info(
+                        "Removed {} definitions duplicating {} upstream schemas",
+                        removed,
+                        upstream.size());
+    }
+
+    private void shareDefinitions() {
+        if (!getShareDefinitions().getOrElse(false)) {
+            return;
+        }
+
+        final Path root = getSchemaResourceRoot().get().getAsFile().toPath();
+        final String path = getSharedDefinitionsPath().get();
+        final int count = SharedDefinitions.write(root, path);
+        getLogger().info("Moved {} shared definitions to {}", count, root.resolve(path));
+    }
+
+    private void writeMetadata() {
+        if (getGenerateReflectionMetadata().getOrElse(false)) {
+            writeReflectionMetadata();
+        }
+        if (getGenerateManifest().getOrElse(false)) {
+            writeManifest();
+        }
+        if (getGenerateIndex().getOrElse(false)) {
+            writeIndex();
+        }
+        if (getGenerateBinarySchemas().getOrElse(false)) {
+            writeBinarySchemas(getSchemaResourceRoot().get().getAsFile().toPath());
+        }
+    }
+
+    private void writeChangedSchemas() {
+        if (!getChangedSchemasFile().isPresent()) {
+            return;
+        }
+
+        final Path changesFile = getChangedSchemasFile().get().getAsFile().toPath();
+        final int count =
+                SchemaChanges.write(
+                        getSchemaResourceRoot().get().getAsFile().toPath(),
+                        getTemporaryDir().toPath().resolve("schema-hashes.properties"),
+                        changesFile);
+        getLogger().info("{} schemas changed since the last run, see {}", count, changesFile);
+    }
+
+    private void writeMinifiedSchemas() {
+        if (!getMinifiedSchemaResourceRoot().isPresent()) {
+            return;
+        }
+
+        final Path root = getSchemaResourceRoot().get().getAsFile().toPath();
+        final Path minifiedRoot = getMinifiedSchemaResourceRoot().get().getAsFile().toPath();
+        final int count = SchemaMinifier.write(root, minifiedRoot);
+        if (getGenerateManifest().getOrElse(false)) {
+            SchemaManifest.write(minifiedRoot);
+        }
+        getLogger().info("Wrote {} minified schemas to {}", count, minifiedRoot);
+        if (getGenerateBinarySchemas().getOrElse(false)) {
+            writeBinarySchemas(minifiedRoot);
+        }
+    }
+
+    private void writeBinarySchemas(final Path root) {
+        final int count = SchemaCbor.write(root);
+        getLogger().info("Wrote {} binary schemas to {}", count, root);
+    }
+
+    private void writeIndex() {
+        final Path root = getSchemaResourceRoot().get().getAsFile().toPath();
+        final int count = SchemaIndex.write(root);
+        getLogger()
+                .info(
+                        "Wrote index of {} schemas to {}",
+                        count,
+                        root.resolve(SchemaIndex.RESOURCE_PATH));
+    }
+
+    private void writeManifest() {
+        final Path root = getSchemaResourceRoot().get().getAsFile().toPath();
+        final int count = SchemaManifest.write(root);
+        getLogger()
+                .info(
+                        "Wrote manifest of {} schemas to {}",
+                        count,
+                        root.resolve(SchemaManifest.RESOURCE_PATH));
+    }
+
+    private void writeReflectionMetadata() {
+
+        final Set<String> types =
+                new ReflectionMetadata(parsedClassFiles())
+                        .reflectedTypes(ClassFileScanner.GENERATES_SCHEMA_TYPE);
+
+        final Path file =
+                getSchemaResourceRoot()
+                        .get()
+                        .getAsFile()
+                        .toPath()
+                        .resolve(getReflectionMetadataDirectory().get())
+                        .resolve(ReflectionMetadata.FILE_NAME);
+
+        ReflectionMetadata.write(file, types);
+        getLogger().info("Wrote reflection metadata for {} types to {}", types.size(), file);
+    }
+
+    private Optional<GeneratorProfile> generatorProfile() {
+        if (!getProfileGenerator().getOrElse(false)) {
+            return Optional.empty();
+        }
+
+        final Path reportDir = getProfilingReportDirectory().get().getAsFile().toPath();
+        return Optional.of(new GeneratorProfile(reportDir));
+    }
+
+    private void logProfileSummary(final GeneratorProfile profile) {
+        if (!Files.exists(profile.recordingFile())) {
+            getLogger().warn("No generator profile recorded at {}", profile.recordingFile());
+            return;
+        }
+
+        try {
+            getLogger()
+                    .lifecycle(
+                            "JSON schema generator profile: {}{}{}",
+                            profile.recordingFile(),
+                            System.lineSeparator(),
+                            profile.summarise().format());
+        } catch (final RuntimeException e) {
+            getLogger().warn("Failed to summarise {}", profile.recordingFile(), e);
+        }
+    }
+
+    private FileCollection generatorClassPath() {
+        if (!getMergeGeneratorClasspath().getOrElse(false) || useModulePath()) {
+            return getGeneratorDeps();
+        }
+
+        final Set<String> merged = MergedGeneratorJar.mergedJarNames(getMergedGeneratorDeps());
+        if (merged.isEmpty()) {
+            return getGeneratorDeps();
+        }
+
+        return getMergedGeneratorDeps()
+                .plus(getGeneratorDeps().filter(file -> !merged.contains(file.getName())));
+    }
+
     private boolean useModulePath() {
         // If module white lists are provided, run from module-path,
         // Otherwise, from class-path, as some languages, e.g. Groovy, don't play well with
@@ -293,29 +1202,158 @@ public abstract class GenerateJsonSchema extends DefaultTask {
     }
 
     private void checkDependenciesIncludesRunner() {
-        final Configuration configuration =
-                getProject()
-                        .getConfigurations()
-                        .getByName(JsonSchemaPlugin.GENERATOR_CONFIGURATION_NAME);
-        configuration.resolve();
-
-        final Optional<Dependency> executorDep =
-                configuration.getDependencies().stream()
-                        .filter(dep -> GENERATOR_DEP_GROUP_NAME.equals(dep.getGroup()))
-                        .filter(dep -> GENERATOR_DEP_ARTEFACT_NAME.equals(dep.getName()))
-                        .findFirst();
-
-        if (executorDep.isEmpty()) {
+        final Optional<File> generatorJar = getGeneratorJar().getFiles().stream().findFirst();
+
+        if (generatorJar.isEmpty()) {
             throw new MissingExecutorDependencyException();
         }
 
-        getLogger().debug("Using system test executor version: " + executorDep.get().getVersion());
+        getLogger().debug("Using JSON schema generator: " + generatorJar.get().getName());
+    }
+
+    private boolean hasAnnotatedTypes() {
+        if (!getSkipWhenNoAnnotatedTypes().getOrElse(true)
+                || !getAnnotatedClassFiles().isEmpty()) {
+            return true;
+        }
+
+        getLogger().info("No @GeneratesSchema annotated types in class files");
+        return false;
+    }
+
+    private boolean classFilesChanged() {
+        if (getProfileGenerator().getOrElse(false)
+                || !getSchemaResourceRoot().get().getAsFile().exists()) {
+            return true;
+        }
+
+        final Path fingerprintFile = runFingerprintFile();
+        try {
+            if (!Files.exists(fingerprintFile)
+                    || !Files.readString(fingerprintFile, UTF_8).equals(runFingerprint())) {
+                return true;
+            }
+        } catch (final IOException e) {
+            return true;
+        }
+
+        getLogger().info("Nothing changed since the last run");
+        return false;
     }
 
-    private List<String> arguments() {
+    private void recordRunFingerprint() {
+        final Path fingerprintFile = runFingerprintFile();
+        try {
+            Files.createDirectories(fingerprintFile.getParent());
+            Files.writeString(fingerprintFile, runFingerprint(), UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write " + fingerprintFile, e);
+        }
+    }
+
+    private String runFingerprint() {
+        return Fingerprints.builder()
+                .add(arguments(List.of()))
+                .add(jvmArgs())
+                .add(useModulePath())
+                .add(getGenerateReflectionMetadata().getOrElse(false))
+                .add(getReflectionMetadataDirectory().getOrElse(""))
+                .add(getGenerateManifest().getOrElse(false))
+                .add(getGenerateIndex().getOrElse(false))
+                .add(getGenerateBinarySchemas().getOrElse(false))
+                .add(getShareDefinitions().getOrElse(false))
+                .add(getSharedDefinitionsPath().getOrElse(""))
+                .add(
+                        getChangedSchemasFile()
+                                .map(file -> file.getAsFile().getAbsolutePath())
+                                .getOrElse(""))
+                .add(
+                        getMinifiedSchemaResourceRoot()
+                                .map(dir -> dir.getAsFile().getAbsolutePath())
+                                .getOrElse(""))
+                .addFileMetadata(getClassFiles().getAsFileTree())
+                .addFileMetadata(getGeneratorDeps())
+                .addFileMetadata(getProjectDeps())
+                .addFileMetadata(getUpstreamSchemas())
+                .build();
+    }
+
+    private Path runFingerprintFile() {
+        return getTemporaryDir().toPath().resolve("class-files.fingerprint");
+    }
+
+    private Optional<IncrementalGeneration> incrementalGeneration(
+            final List<String> arguments, final List<String> jvmArgs) {
+        if (!getIncrementalGeneration().getOrElse(false)
+                || getProfileGenerator().getOrElse(false)) {
+            return Optional.empty();
+        }
+
+        if (!getTypeScanningPackageWhiteList().get().isEmpty()) {
+            getLogger()
+                    .info("Incremental generation disabled: type scanning package white list set");
+            IncrementalGeneration.invalidate(incrementalStateFile());
+            return Optional.empty();
+        }
+
+        if (getShareDefinitions().getOrElse(false)) {
+            getLogger().info("Incremental generation disabled: shared definitions enabled");
+            IncrementalGeneration.invalidate(incrementalStateFile());
+            return Optional.empty();
+        }
+
+        final String configFingerprint =
+                Fingerprints.builder()
+                        .add(arguments)
+                        .add(jvmArgs)
+                        .add(useModulePath())
+                        .addFileMetadata(getGeneratorDeps())
+                        .addFileMetadata(getProjectDeps())
+                        .addFileMetadata(getUpstreamSchemas())
+                        .build();
+
+        return Optional.of(
+                new IncrementalGeneration(
+                        incrementalStateFile(),
+                        configFingerprint,
+                        ClassFileScanner.GENERATES_SCHEMA_TYPE,
+                        parsedClassFiles()));
+    }
+
+    private Path incrementalStateFile() {
+        return getTemporaryDir().toPath().resolve("incremental-generation.properties");
+    }
+
+    private void deleteSchema(final String typeName) {
+        if (typeName.contains("$")) {
+            return;
+        }
+
+        final Path outputRoot = getSchemaResourceRoot().getAsFile().get().toPath();
+        final String outputDir = getOutputDirectoryName().getOrNull();
+        final Path schema =
+                outputDir == null
+                        ? outputRoot.resolve(typeName.replace('.', '/') + ".yml")
+                        : outputRoot.resolve(outputDir).resolve(typeName + ".yml");
+
+        try {
+            if (Files.deleteIfExists(schema)) {
+                getLogger().info("Deleted schema of removed type {}: {}", typeName, schema);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to delete " + schema, e);
+        }
+    }
+
+    private List<String> arguments(final Collection<String> typeScanningPackages) {
+        return arguments(getSchemaResourceRoot().getAsFile().get().toPath(), typeScanningPackages);
+    }
+
+    private List<String> arguments(
+            final Path schemaRoot, final Collection<String> typeScanningPackages) {
         final List<String> arguments = new ArrayList<>();
 
-        final Path outputRoot = getSchemaResourceRoot().getAsFile().get().toPath().toAbsolutePath();
+        final Path outputRoot = schemaRoot.toAbsolutePath();
 
         final String outputDir = getOutputDirectoryName().getOrNull();
         if (outputDir == null) {
@@ -331,30 +1369,129 @@ public abstract class GenerateJsonSchema extends DefaultTask {
         getTypeScanningPackageWhiteList()
                 .get()
                 .forEach(name -> arguments.add("--type-scanning-allowed-package=" + name));
+        typeScanningPackages.forEach(
+                name -> arguments.add("--type-scanning-allowed-package=" + name));
         getSubtypeScanningModuleWhiteList()
                 .get()
                 .forEach(name -> arguments.add("--subtype-scanning-allowed-module=" + name));
-        getSubtypeScanningPackageWhiteList()
-                .get()
+        subtypeScanningPackageWhiteList()
                 .forEach(name -> arguments.add("--subtype-scanning-allowed-package=" + name));
 
         arguments.addAll(getExtraArguments().get());
         return arguments;
     }
 
+    private List<ClassFileInfo> parsedClassFiles() {
+        if (parsedClassFiles == null) {
+            parsedClassFiles = ClassFileInfo.readAll(getClassFiles());
+        }
+        return parsedClassFiles;
+    }
+
+    private List<String> subtypeScanningPackageWhiteList() {
+        if (resolvedSubtypePackages == null) {
+            resolvedSubtypePackages = resolveSubtypeScanningPackageWhiteList();
+        }
+        return resolvedSubtypePackages;
+    }
+
+    private List<String> resolveSubtypeScanningPackageWhiteList() {
+        final List<String> configured = getSubtypeScanningPackageWhiteList().get();
+        if (!configured.isEmpty() || !getResolveSubtypesFromMetadata().getOrElse(false)) {
+            return configured;
+        }
+
+        final SubtypeResolver resolver = new SubtypeResolver(parsedClassFiles());
+        final Optional<Set<String>> packages = resolver.subtypePackages();
+        if (packages.isEmpty() || packages.get().contains("")) {
+            final Set<String> openTypes = resolver.openTypes();
+            if (!openTypes.isEmpty()) {
+                getLogger()
+                        .info(
+                                "Unable to resolve subtypes from metadata."
+                                        + " Open polymorphic types: {}",
+                                openTypes);
+            }
+            return configured;
+        }
+
+        getLogger().info("Subtypes resolved from metadata, in packages: {}", packages.get());
+        return List.copyOf(packages.get());
+    }
+
     private List<String> jvmArgs() {
         final List<String> args = new ArrayList<>();
         if (useModulePath()) {
             args.add("--add-modules=ALL-MODULE-PATH");
         }
 
-        final Object jvmArgs = getProject().findProperty("org.gradle.jvmargs");
-        if ((!(jvmArgs instanceof String))) {
-            return args;
+        args.addAll(jvmArgs(getGradleJvmArgs().getOrNull()));
+        return args;
+    }
+
+    /**
+     * @param gradleJvmArgs the JVM arguments of the Gradle daemon, or {@code null} if not set.
+     * @return the JVM arguments the generator is launched with.
+     */
+    static List<String> jvmArgs(final String gradleJvmArgs) {
+        if (gradleJvmArgs == null) {
+            return List.of();
         }
 
-        args.addAll(List.of(((String) jvmArgs).split("\\s+")));
-        return args;
+        return Arrays.stream(gradleJvmArgs.trim().split("\\s+"))
+                .filter(arg -> !arg.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /** Work action running one shard of the generator. */
+    public abstract static class GenerateShard implements WorkAction<GenerateShard.Parameters> {
+
+        private final ExecOperations execOps;
+
+        /**
+         * Constructor
+         *
+         * @param execOps Gradle exec operations service for executing JVM processes.
+         */
+        @Inject
+        public GenerateShard(final ExecOperations execOps) {
+            this.execOps = execOps;
+        }
+
+        /** Work parameters. */
+        public interface Parameters extends WorkParameters {
+
+            /**
+             * @return the generator class path.
+             */
+            ConfigurableFileCollection getClassPath();
+
+            /**
+             * @return whether to run the generator from the module path.
+             */
+            Property<Boolean> getUseModulePath();
+
+            /**
+             * @return the generator arguments.
+             */
+            ListProperty<String> getArguments();
+
+            /**
+             * @return the JVM arguments.
+             */
+            ListProperty<String> getJvmArgs();
+        }
+
+        @Override
+        public void execute() {
+            final Parameters params = getParameters();
+            runGenerator(
+                    execOps,
+                    params.getClassPath(),
+                    params.getUseModulePath().get(),
+                    params.getArguments().get(),
+                    params.getJvmArgs().get());
+        }
     }
 
     private static final class MissingExecutorDependencyException extends GradleException {
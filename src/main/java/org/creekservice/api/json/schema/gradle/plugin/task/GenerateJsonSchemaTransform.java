@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import java.io.File;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.inject.Inject;
+import org.gradle.api.artifacts.transform.CacheableTransform;
+import org.gradle.api.artifacts.transform.InputArtifact;
+import org.gradle.api.artifacts.transform.InputArtifactDependencies;
+import org.gradle.api.artifacts.transform.TransformAction;
+import org.gradle.api.artifacts.transform.TransformOutputs;
+import org.gradle.api.artifacts.transform.TransformParameters;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.file.FileSystemLocation;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.tasks.Classpath;
+import org.gradle.process.ExecOperations;
+
+/**
+ * Artifact transform generating the JSON schemas of {@code @GeneratesSchema} annotated types in a
+ * jar.
+ *
+ * <p>Used to generate schemas for model jars that weren't built with this plugin. As a transform,
+ * the schemas are generated once per jar, keyed by the jar's content, and the result is reused from
+ * Gradle's transform cache, and the build cache, by every later build.
+ *
+ * <p>The generator runs with the jar and its dependencies on the class path, scanning only the
+ * packages of the jar's annotated types. Jars without annotated types produce an empty directory,
+ * without running the generator.
+ */
+@CacheableTransform
+public abstract class GenerateJsonSchemaTransform
+        implements TransformAction<GenerateJsonSchemaTransform.Parameters> {
+
+    private final ExecOperations execOps;
+
+    /**
+     * Constructor
+     *
+     * @param execOps Gradle exec operations service for executing JVM processes.
+     */
+    @Inject
+    public GenerateJsonSchemaTransform(final ExecOperations execOps) {
+        this.execOps = execOps;
+    }
+
+    /** Transform parameters. */
+    public interface Parameters extends TransformParameters {
+
+        /**
+         * @return the class path of the generator.
+         */
+        @Classpath
+        ConfigurableFileCollection getGeneratorClasspath();
+    }
+
+    /**
+     * @return the jar to generate schemas for.
+     */
+    @InputArtifact
+    @Classpath
+    public abstract Provider<FileSystemLocation> getInputArtifact();
+
+    /**
+     * @return the jar's dependencies.
+     */
+    @InputArtifactDependencies
+    @Classpath
+    public abstract FileCollection getInputArtifactDependencies();
+
+    @Override
+    public void transform(final TransformOutputs outputs) {
+        final File jar = getInputArtifact().get().getAsFile();
+        final File outputDir = outputs.dir(baseName(jar) + "-json-schemas");
+
+        final Set<String> packages =
+                annotatedPackages(jar, ClassFileScanner.GENERATES_SCHEMA_TYPE);
+        if (packages.isEmpty()) {
+            return;
+        }
+
+        execOps.javaexec(
+                spec -> {
+                    spec.getMainClass().set(GenerateJsonSchema.GENERATOR_MAIN_CLASS);
+                    spec.classpath(
+                            jar,
+                            getInputArtifactDependencies(),
+                            getParameters().getGeneratorClasspath());
+                    spec.args("--output-directory=" + outputDir.getAbsolutePath());
+                    if (!packages.contains("")) {
+                        packages.forEach(
+                                name -> spec.args("--type-scanning-allowed-package=" + name));
+                    }
+                });
+    }
+
+    /**
+     * @param jar the jar to scan.
+     * @param annotationType the annotation type to look for.
+     * @return the packages of the types in the jar annotated with the annotation type.
+     */
+    static Set<String> annotatedPackages(final File jar, final String annotationType) {
+        final Set<String> packages = new TreeSet<>();
+        ClassFileInfo.forEachClassFile(
+                List.of(jar),
+                bytes ->
+                        ClassFileInfo.parse(bytes)
+                                .filter(info -> info.hasAnnotation(annotationType))
+                                .ifPresent(info -> packages.add(info.packageName())));
+        return packages;
+    }
+
+    private static String baseName(final File jar) {
+        final String name = jar.getName();
+        return name.endsWith(".jar") ? name.substring(0, name.length() - 4) : name;
+    }
+}
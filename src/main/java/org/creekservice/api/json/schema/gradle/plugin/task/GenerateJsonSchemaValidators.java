@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.inject.Inject;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileSystemOperations;
+import org.gradle.api.file.FileTree;
+import org.gradle.api.file.FileVisitDetails;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
+import org.gradle.api.tasks.TaskAction;
+
+/**
+ * Task for generating Java validators from the JSON schemas generated by {@link
+ * GenerateJsonSchema}.
+ *
+ * <p>A validator class, named after the schema's type with a {@code Validator} suffix, is generated
+ * in the type's package for each schema file. Validators check instances in the generic JSON data
+ * model, i.e. maps, lists, strings, numbers, booleans and nulls, without parsing or interpreting
+ * the schema at runtime.
+ */
+@CacheableTask
+public abstract class GenerateJsonSchemaValidators extends DefaultTask {
+
+    private static final String VALIDATOR_SUFFIX = "Validator";
+
+    private final FileSystemOperations fileOps;
+
+    /**
+     * Constructor
+     *
+     * @param fileOps Gradle file system operations service.
+     */
+    @Inject
+    public GenerateJsonSchemaValidators(final FileSystemOperations fileOps) {
+        this.fileOps = fileOps;
+        setDescription("Generates Java validators from JSON schemas");
+    }
+
+    /**
+     * The root directory containing the generated schema files.
+     *
+     * @return the schema resource root property.
+     */
+    @Internal
+    public abstract DirectoryProperty getSchemaResourceRoot();
+
+    /**
+     * @return the schema files to generate validators for.
+     */
+    @InputFiles
+    @SkipWhenEmpty
+    @IgnoreEmptyDirectories
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public FileTree getSchemaFiles() {
+        return getSchemaResourceRoot()
+                .getAsFileTree()
+                .matching(pattern -> pattern.include("**/*.yml", "**/*.yaml"));
+    }
+
+    /**
+     * The directory to write generated validator source to.
+     *
+     * @return the output directory property.
+     */
+    @OutputDirectory
+    public abstract DirectoryProperty getOutputDirectory();
+
+    /** Generate the validators. */
+    @TaskAction
+    public void run() {
+        final Path outputDir = getOutputDirectory().get().getAsFile().toPath();
+        fileOps.delete(spec -> spec.delete(outputDir));
+
+        final List<FileVisitDetails> schemas = new ArrayList<>();
+        getSchemaFiles()
+                .visit(
+                        details -> {
+                            if (!details.isDirectory()) {
+                                schemas.add(details);
+                            }
+                        });
+
+        for (final FileVisitDetails schema : schemas) {
+            generate(schema, outputDir);
+        }
+    }
+
+    private static void generate(final FileVisitDetails schemaFile, final Path outputDir) {
+        final String relativePath = schemaFile.getRelativePath().getPathString();
+        final String typeName = typeName(relativePath);
+        final String packageName = ClassFileInfo.packageOf(typeName);
+        final String className =
+                typeName.substring(typeName.lastIndexOf('.') + 1) + VALIDATOR_SUFFIX;
+
+        final String source;
+        try {
+            final String yaml = Files.readString(schemaFile.getFile().toPath(), UTF_8);
+            source =
+                    ValidatorSourceGenerator.generate(
+                            packageName, className, SchemaYaml.parse(yaml), relativePath);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read " + schemaFile.getFile(), e);
+        } catch (final IllegalArgumentException e) {
+            throw new GradleException(
+                    "Failed to generate validator for " + relativePath + ": " + e.getMessage(), e);
+        }
+
+        final Path packageDir =
+                packageName.isEmpty()
+                        ? outputDir
+                        : outputDir.resolve(packageName.replace('.', '/'));
+        final Path sourceFile = packageDir.resolve(className + ".java");
+        try {
+            Files.createDirectories(packageDir);
+            Files.writeString(sourceFile, source, UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write " + sourceFile, e);
+        }
+    }
+
+    /**
+     * @param relativePath the path of the schema file, relative to the resource root.
+     * @return the fully qualified name of the schema's type, with each part a valid identifier.
+     */
+    private static String typeName(final String relativePath) {
+        return Arrays.stream(SchemaFiles.typeName(Path.of(relativePath)).split("\\."))
+                .map(GenerateJsonSchemaValidators::identifier)
+                .collect(Collectors.joining("."));
+    }
+
+    private static String identifier(final String text) {
+        final StringBuilder sb = new StringBuilder(text.length() + 1);
+        text.codePoints()
+                .forEach(cp -> sb.appendCodePoint(Character.isJavaIdentifierPart(cp) ? cp : '_'));
+        if (sb.length() == 0 || !Character.isJavaIdentifierStart(sb.codePointAt(0))) {
+            sb.insert(0, '_');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * Main class of a generator JVM launched ahead of the {@link GenerateJsonSchema} task executing.
+ *
+ * <p>The JVM is launched with only the generator's class path, which, unlike the project's class
+ * files, exists before compilation. The launcher loads the generator's main class and opens every
+ * jar on the class path, then blocks reading from standard input.
+ *
+ * <p>The first line read is the project's class path, i.e. its class files and dependencies, with
+ * entries separated by the platform's path separator. The remaining lines are the generator's
+ * arguments, one per line. Once standard input is closed, the project's class path is added to a
+ * child class loader, set as the thread's context class loader, and to the {@code
+ * java.class.path} system property, and the generator's main method is invoked with the
+ * arguments. If standard input is closed without any input, the launcher exits without running
+ * the generator.
+ *
+ * <p>This class runs on the generator's class path, not Gradle's, so must only depend on the JDK.
+ */
+public final class GeneratorLauncher {
+
+    private GeneratorLauncher() {}
+
+    /**
+     * @param args the fully qualified name of the generator's main class.
+     * @throws Exception on failure to load the main class.
+     */
+    public static void main(final String[] args) throws Exception {
+        final ClassLoader generatorLoader = GeneratorLauncher.class.getClassLoader();
+        final Class<?> mainClass = Class.forName(args[0], false, generatorLoader);
+        final Method main = mainClass.getMethod("main", String[].class);
+        openJars(generatorLoader);
+
+        final List<String> input = readInput();
+        if (input.isEmpty()) {
+            return;
+        }
+
+        final String classPath = input.get(0);
+        final List<String> generatorArgs = input.subList(1, input.size());
+        System.setProperty(
+                "java.class.path",
+                System.getProperty("java.class.path") + File.pathSeparator + classPath);
+
+        try (URLClassLoader loader = new URLClassLoader(urls(classPath), generatorLoader)) {
+            Thread.currentThread().setContextClassLoader(loader);
+            main.invoke(null, (Object) generatorArgs.toArray(new String[0]));
+        } catch (final InvocationTargetException e) {
+            e.getCause().printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /** Have the class loader open, and index, every jar on its class path. */
+    private static void openJars(final ClassLoader loader) throws IOException {
+        final Enumeration<URL> manifests = loader.getResources("META-INF/MANIFEST.MF");
+        while (manifests.hasMoreElements()) {
+            manifests.nextElement();
+        }
+    }
+
+    private static List<String> readInput() throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, UTF_8));
+        final List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    private static URL[] urls(final String classPath) throws IOException {
+        final List<URL> urls = new ArrayList<>();
+        for (final String entry : classPath.split(File.pathSeparator)) {
+            if (!entry.isEmpty()) {
+                urls.add(new File(entry).toURI().toURL());
+            }
+        }
+        return urls.toArray(new URL[0]);
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Profiling of a generator run, using a Java Flight Recorder recording and GC logging.
+ *
+ * <p>The recording uses the {@code generator-profile.jfc} settings, which enable only the events
+ * needed for the {@link Summary}.
+ */
+final class GeneratorProfile {
+
+    static final String RECORDING_FILE_NAME = "generator.jfr";
+    static final String GC_LOG_FILE_NAME = "gc.log";
+
+    private static final String SETTINGS_FILE_NAME = "generator-profile.jfc";
+    private static final int HOT_METHOD_COUNT = 5;
+
+    private final Path reportDir;
+
+    /**
+     * @param reportDir the directory to write the recording and GC log to.
+     */
+    GeneratorProfile(final Path reportDir) {
+        this.reportDir = reportDir;
+    }
+
+    /**
+     * Prepare the report directory, removing any previous recording.
+     *
+     * @return the JVM args needed to profile the generator.
+     */
+    List<String> prepare() {
+        final Path settings = reportDir.resolve(SETTINGS_FILE_NAME);
+        try (InputStream in = GeneratorProfile.class.getResourceAsStream(SETTINGS_FILE_NAME)) {
+            if (in == null) {
+                throw new IllegalStateException("Jar does not contain " + SETTINGS_FILE_NAME);
+            }
+
+            Files.createDirectories(reportDir);
+            Files.deleteIfExists(recordingFile());
+            Files.deleteIfExists(gcLogFile());
+            Files.copy(in, settings, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to prepare " + reportDir, e);
+        }
+
+        return List.of(
+                "-XX:StartFlightRecording=dumponexit=true,filename="
+                        + recordingFile()
+                        + ",settings="
+                        + settings,
+                "-Xlog:gc*:file=\"" + gcLogFile() + "\"");
+    }
+
+    Path recordingFile() {
+        return reportDir.resolve(RECORDING_FILE_NAME);
+    }
+
+    Path gcLogFile() {
+        return reportDir.resolve(GC_LOG_FILE_NAME);
+    }
+
+    /**
+     * @return summary of the recording.
+     */
+    Summary summarise() {
+        return Summary.read(recordingFile());
+    }
+
+    /** Summary of a generator recording. */
+    static final class Summary {
+
+        private final Map<String, Long> methodSamples = new HashMap<>();
+        private Instant start = Instant.MAX;
+        private Instant end = Instant.MIN;
+        private long executionSamples;
+        private long allocatedBytes;
+        private long classesLoaded;
+        private Duration classLoadTime = Duration.ZERO;
+        private long gcCount;
+        private Duration gcPauseTime = Duration.ZERO;
+
+        private Summary() {}
+
+        /**
+         * @param recording the JFR recording to read.
+         * @return the summary.
+         */
+        static Summary read(final Path recording) {
+            final Summary summary = new Summary();
+            try (RecordingFile file = new RecordingFile(recording)) {
+                while (file.hasMoreEvents()) {
+                    summary.add(file.readEvent());
+                }
+                return summary;
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to read " + recording, e);
+            }
+        }
+
+        Duration duration() {
+            return start.isAfter(end) ? Duration.ZERO : Duration.between(start, end);
+        }
+
+        long executionSamples() {
+            return executionSamples;
+        }
+
+        long allocatedBytes() {
+            return allocatedBytes;
+        }
+
+        long classesLoaded() {
+            return classesLoaded;
+        }
+
+        Duration classLoadTime() {
+            return classLoadTime;
+        }
+
+        long gcCount() {
+            return gcCount;
+        }
+
+        Duration gcPauseTime() {
+            return gcPauseTime;
+        }
+
+        /**
+         * @return methods, most sampled first, with their sample counts.
+         */
+        List<Map.Entry<String, Long>> hottestMethods() {
+            return methodSamples.entrySet().stream()
+                    .sorted(
+                            Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                                    .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(HOT_METHOD_COUNT)
+                    .toList();
+        }
+
+        /**
+         * @return allocation rate, in bytes per second, estimated from allocation samples.
+         */
+        double allocationRate() {
+            final long millis = duration().toMillis();
+            return millis == 0 ? 0 : allocatedBytes * 1000.0 / millis;
+        }
+
+        String format() {
+            final StringBuilder sb = new StringBuilder();
+            sb.append(String.format(Locale.ROOT, "  Duration: %,d ms%n", duration().toMillis()));
+            sb.append(
+                    String.format(
+                            Locale.ROOT,
+                            "  Class loading: %,d classes, %,d ms%n",
+                            classesLoaded,
+                            classLoadTime.toMillis()));
+            sb.append(
+                    String.format(
+                            Locale.ROOT,
+                            "  Allocation rate: %.1f MB/s%n",
+                            allocationRate() / (1024 * 1024)));
+            sb.append(
+                    String.format(
+                            Locale.ROOT,
+                            "  GC: %,d collections, %,d ms paused%n",
+                            gcCount,
+                            gcPauseTime.toMillis()));
+            sb.append(
+                    String.format(
+                            Locale.ROOT,
+                            "  Hottest methods (of %,d samples):",
+                            executionSamples));
+            hottestMethods()
+                    .forEach(
+                            e ->
+                                    sb.append(
+                                            String.format(
+                                                    Locale.ROOT,
+                                                    "%n    %5.1f%% %s",
+                                                    e.getValue() * 100.0 / executionSamples,
+                                                    e.getKey())));
+            return sb.toString();
+        }
+
+        private void add(final RecordedEvent event) {
+            if (event.getStartTime().isBefore(start)) {
+                start = event.getStartTime();
+            }
+            if (event.getEndTime().isAfter(end)) {
+                end = event.getEndTime();
+            }
+
+            switch (event.getEventType().getName()) {
+                case "jdk.ExecutionSample":
+                    executionSamples++;
+                    topMethod(event.getStackTrace())
+                            .ifPresent(name -> methodSamples.merge(name, 1L, Long::sum));
+                    break;
+                case "jdk.ObjectAllocationSample":
+                    allocatedBytes += event.getLong("weight");
+                    break;
+                case "jdk.ClassLoad":
+                    classesLoaded++;
+                    classLoadTime = classLoadTime.plus(event.getDuration());
+                    break;
+                case "jdk.GarbageCollection":
+                    gcCount++;
+                    gcPauseTime = gcPauseTime.plus(event.getDuration("sumOfPauses"));
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private static Optional<String> topMethod(final RecordedStackTrace stackTrace) {
+            if (stackTrace == null) {
+                return Optional.empty();
+            }
+
+            return stackTrace.getFrames().stream()
+                    .filter(RecordedFrame::isJavaFrame)
+                    .findFirst()
+                    .map(RecordedFrame::getMethod)
+                    .map(Summary::methodName);
+        }
+
+        private static String methodName(final RecordedMethod method) {
+            return method.getType().getName() + "." + method.getName();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Splits schema generation across multiple generator processes, and merges their output.
+ *
+ * <p>The generator can only restrict the types it generates schemas for by package, so types are
+ * sharded by package. Packages are assigned, largest first, to the shard with the fewest types, so
+ * that shards are of similar size. Assignment is deterministic, so the same class files always
+ * produce the same shards.
+ */
+final class GeneratorShards {
+
+    private GeneratorShards() {}
+
+    /**
+     * Partition packages into shards.
+     *
+     * @param typesPerPackage map of package name to the number of annotated types in the package.
+     * @param shards the maximum number of shards.
+     * @return the packages of each shard. Shards are never empty, so there may be fewer shards
+     *     than requested.
+     */
+    static List<Set<String>> partition(
+            final Map<String, Integer> typesPerPackage, final int shards) {
+        final List<Map.Entry<String, Integer>> packages =
+                typesPerPackage.entrySet().stream()
+                        .sorted(
+                                Map.Entry.<String, Integer>comparingByValue()
+                                        .reversed()
+                                        .thenComparing(Map.Entry.comparingByKey()))
+                        .collect(Collectors.toList());
+
+        final int count = Math.min(shards, packages.size());
+        final List<Set<String>> result = new ArrayList<>(count);
+        final int[] sizes = new int[count];
+        for (int i = 0; i < count; i++) {
+            result.add(new TreeSet<>());
+        }
+
+        for (final Map.Entry<String, Integer> pkg : packages) {
+            int smallest = 0;
+            for (int i = 1; i < count; i++) {
+                if (sizes[i] < sizes[smallest]) {
+                    smallest = i;
+                }
+            }
+            result.get(smallest).add(pkg.getKey());
+            sizes[smallest] += pkg.getValue();
+        }
+        return result;
+    }
+
+    /**
+     * Merge the output of each shard into the output directory.
+     *
+     * <p>As shards do not overlap, each schema should be written by only one shard. Should a schema
+     * be written by multiple shards, e.g. if the generator includes sub-packages, the content must
+     * match, otherwise the output would differ from that of a single generator run.
+     *
+     * @param shardRoots the output directory of each shard.
+     * @param outputRoot the directory to merge into.
+     * @return the number of schemas merged.
+     * @throws IllegalStateException if shards wrote different content for the same schema.
+     */
+    static int merge(final List<Path> shardRoots, final Path outputRoot) {
+        final Map<Path, Path> sources = new HashMap<>();
+        try {
+            for (final Path shardRoot : shardRoots) {
+                for (final Path relative : files(shardRoot)) {
+                    final Path file = shardRoot.resolve(relative);
+                    final Path previous = sources.putIfAbsent(relative, file);
+                    if (previous != null && !sameContent(previous, file)) {
+                        throw new IllegalStateException(
+                                "Generator shards wrote different schemas to "
+                                        + relative
+                                        + ": "
+                                        + previous
+                                        + " and "
+                                        + file);
+                    }
+                }
+            }
+
+            for (final Map.Entry<Path, Path> e : sources.entrySet()) {
+                final Path target = outputRoot.resolve(e.getKey());
+                Files.createDirectories(target.getParent());
+                Files.copy(e.getValue(), target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return sources.size();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(
+                    "Failed to merge generator shards into " + outputRoot, e);
+        }
+    }
+
+    private static List<Path> files(final Path root) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile)
+                    .map(root::relativize)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static boolean sameContent(final Path a, final Path b) throws IOException {
+        return Arrays.equals(Files.readAllBytes(a), Files.readAllBytes(b));
+    }
+}
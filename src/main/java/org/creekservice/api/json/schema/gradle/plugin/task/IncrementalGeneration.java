@@ -0,0 +1,234 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Tracks the class files used in the previous generator run, to work out which schemas are
+ * affected by a change.
+ *
+ * <p>An annotated type is affected if its class file, or the class file of any type it
+ * transitively references, has been added or changed since the last successful run. Only the
+ * packages containing affected types need to be regenerated.
+ *
+ * <p>A base type does not reference its subtypes, so a change to a subtype can not be traced back
+ * to the schemas of the polymorphic types that include it. A full regeneration is therefore
+ * required if any changed type has a polymorphic supertype, i.e. one annotated with {@code
+ * @JsonTypeInfo} or {@code @JsonSubTypes}, or if any type has been removed, as the supertypes of a
+ * removed type are no longer known.
+ *
+ * <p>A full regeneration is also required if there is no previous state, the generator's
+ * configuration or dependencies have changed, or if any affected type is in the default package.
+ */
+final class IncrementalGeneration {
+
+    private static final String CONFIG_KEY = "config";
+    private static final String CLASS_PREFIX = "class.";
+    private static final String ANNOTATED_PREFIX = "annotated.";
+
+    private final Path stateFile;
+    private final String configFingerprint;
+    private final String annotationType;
+    private final Map<String, ClassFileInfo> types = new HashMap<>();
+    private final Map<String, String> hashes = new HashMap<>();
+
+    /**
+     * @param stateFile the file to persist state to between runs.
+     * @param configFingerprint fingerprint of everything, other than class files, that affects the
+     *     generated schemas.
+     * @param annotationType the annotation marking types that have a schema generated.
+     * @param classFiles the parsed class files to generate schemas from.
+     */
+    IncrementalGeneration(
+            final Path stateFile,
+            final String configFingerprint,
+            final String annotationType,
+            final Collection<ClassFileInfo> classFiles) {
+        this.stateFile = stateFile;
+        this.configFingerprint = configFingerprint;
+        this.annotationType = annotationType;
+
+        for (final ClassFileInfo info : classFiles) {
+            types.put(info.className(), info);
+            hashes.put(info.className(), info.contentHash());
+        }
+    }
+
+    /**
+     * Determine the packages containing annotated types affected by changes since the last run.
+     *
+     * @return the affected packages, which may be empty if nothing relevant changed, or {@link
+     *     Optional#empty()} if a full regeneration is required.
+     */
+    Optional<Set<String>> affectedPackages() {
+        final Properties previous = load();
+        if (!configFingerprint.equals(previous.getProperty(CONFIG_KEY))) {
+            return Optional.empty();
+        }
+
+        final Set<String> changed =
+                hashes.entrySet().stream()
+                        .filter(e -> !e.getValue().equals(previous.get(CLASS_PREFIX + e.getKey())))
+                        .map(Map.Entry::getKey)
+                        .collect(Collectors.toSet());
+
+        if (changed.stream().anyMatch(this::hasPolymorphicSupertype) || anyRemoved(previous)) {
+            return Optional.empty();
+        }
+
+        final Set<String> packages = new TreeSet<>();
+        for (final ClassFileInfo type : types.values()) {
+            if (type.hasAnnotation(annotationType) && reaches(type, changed)) {
+                if (type.packageName().isEmpty()) {
+                    return Optional.empty();
+                }
+                packages.add(type.packageName());
+            }
+        }
+        return Optional.of(packages);
+    }
+
+    /**
+     * @return the names of annotated types present in the last run, but no longer present.
+     */
+    Set<String> removedTypes() {
+        final Set<String> current =
+                types.values().stream()
+                        .filter(type -> type.hasAnnotation(annotationType))
+                        .map(ClassFileInfo::className)
+                        .collect(Collectors.toSet());
+
+        return load().stringPropertyNames().stream()
+                .filter(key -> key.startsWith(ANNOTATED_PREFIX))
+                .map(key -> key.substring(ANNOTATED_PREFIX.length()))
+                .filter(name -> !current.contains(name))
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /** Persist the current state, following a successful run. */
+    void commit() {
+        final Properties state = new Properties();
+        state.setProperty(CONFIG_KEY, configFingerprint);
+        hashes.forEach((name, hash) -> state.setProperty(CLASS_PREFIX + name, hash));
+        types.values().stream()
+                .filter(type -> type.hasAnnotation(annotationType))
+                .forEach(type -> state.setProperty(ANNOTATED_PREFIX + type.className(), ""));
+
+        try {
+            Files.createDirectories(stateFile.getParent());
+            try (OutputStream out = Files.newOutputStream(stateFile)) {
+                state.store(out, null);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write " + stateFile, e);
+        }
+    }
+
+    /**
+     * Discard any state, forcing the next run to be a full regeneration.
+     *
+     * @param stateFile the state file.
+     */
+    static void invalidate(final Path stateFile) {
+        try {
+            Files.deleteIfExists(stateFile);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to delete " + stateFile, e);
+        }
+    }
+
+    private boolean reaches(final ClassFileInfo root, final Set<String> changed) {
+        final Set<String> visited = new HashSet<>();
+        final Deque<String> pending = new ArrayDeque<>();
+        pending.push(root.className());
+
+        while (!pending.isEmpty()) {
+            final String name = pending.pop();
+            if (!visited.add(name)) {
+                continue;
+            }
+
+            if (changed.contains(name)) {
+                return true;
+            }
+
+            final ClassFileInfo type = types.get(name);
+            if (type != null) {
+                pending.addAll(type.referencedTypes());
+            }
+        }
+        return false;
+    }
+
+    private boolean hasPolymorphicSupertype(final String name) {
+        final Set<String> visited = new HashSet<>();
+        final Deque<String> pending = new ArrayDeque<>();
+        Optional.ofNullable(types.get(name)).ifPresent(type -> pending.addAll(type.superTypes()));
+
+        while (!pending.isEmpty()) {
+            final ClassFileInfo type = types.get(pending.pop());
+            if (type == null || !visited.add(type.className())) {
+                continue;
+            }
+
+            if (type.hasAnnotation(SubtypeResolver.JSON_TYPE_INFO)
+                    || type.hasAnnotation(SubtypeResolver.JSON_SUB_TYPES)) {
+                return true;
+            }
+
+            pending.addAll(type.superTypes());
+        }
+        return false;
+    }
+
+    private boolean anyRemoved(final Properties previous) {
+        return previous.stringPropertyNames().stream()
+                .filter(key -> key.startsWith(CLASS_PREFIX))
+                .anyMatch(key -> !hashes.containsKey(key.substring(CLASS_PREFIX.length())));
+    }
+
+    private Properties load() {
+        final Properties state = new Properties();
+        if (!Files.exists(stateFile)) {
+            return state;
+        }
+
+        try (InputStream in = Files.newInputStream(stateFile)) {
+            state.load(in);
+            return state;
+        } catch (final IOException e) {
+            return new Properties();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+/**
+ * Build service shared by all {@link GenerateJsonSchema} tasks in a build.
+ *
+ * <p>Provides the generator class path, resolved once for the whole build, and limits the number
+ * of generators running in parallel, via the service's max parallel usages.
+ *
+ * <p>The service does not own the generator processes: each task still launches, and waits for,
+ * its own generator JVM. See {@link PrelaunchedGeneratorService} and {@link BatchGeneratorService}
+ * for the opt-in alternatives.
+ */
+public abstract class JsonSchemaGeneratorService
+        implements BuildService<JsonSchemaGeneratorService.Params> {
+
+    /** The name the service is registered under. */
+    public static final String NAME = "creekJsonSchemaGenerator";
+
+    /** Constructor */
+    public JsonSchemaGeneratorService() {}
+
+    /** Service parameters. */
+    public interface Params extends BuildServiceParameters {
+
+        /**
+         * @return the class path of the generator.
+         */
+        ConfigurableFileCollection getGeneratorClasspath();
+
+        /**
+         * @return the generator's own jar.
+         */
+        ConfigurableFileCollection getGeneratorJar();
+
+        /**
+         * @return the class path of the generator, merged into a single jar.
+         */
+        ConfigurableFileCollection getMergedGeneratorClasspath();
+    }
+
+    /**
+     * @return the class path of the generator.
+     */
+    public FileCollection generatorClasspath() {
+        return getParameters().getGeneratorClasspath();
+    }
+
+    /**
+     * @return the generator's own jar.
+     */
+    public FileCollection generatorJar() {
+        return getParameters().getGeneratorJar();
+    }
+
+    /**
+     * @return the class path of the generator, merged into a single jar.
+     */
+    public FileCollection mergedGeneratorClasspath() {
+        return getParameters().getMergedGeneratorClasspath();
+    }
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Minimal JSON reader and writer for the generic data model produced by {@link SchemaYaml}.
+ *
+ * <p>Output has no insignificant whitespace. Integral numbers are written without a fraction, so
+ * that {@code 1} and {@code 1.0} produce the same text.
+ */
+final class JsonText {
+
+    private JsonText() {}
+
+    /**
+     * Write the value as JSON, with object keys in their original order.
+     *
+     * @param value the value to write.
+     * @return the JSON text.
+     */
+    static String write(final Object value) {
+        final StringBuilder sb = new StringBuilder();
+        write(value, false, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Write the value as canonical JSON, with object keys sorted.
+     *
+     * <p>Two schemas that differ only in formatting, key order or number representation have the
+     * same canonical form.
+     *
+     * @param value the value to write.
+     * @return the canonical JSON text.
+     */
+    static String canonical(final Object value) {
+        final StringBuilder sb = new StringBuilder();
+        write(value, true, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Parse JSON text.
+     *
+     * <p>Objects are parsed to {@link Map}, arrays to {@link List}, and other values to {@link
+     * String}, {@link Boolean}, {@link Long}, {@link BigInteger}, {@link Double} or {@code null},
+     * i.e. the same data model as {@link SchemaYaml#parse}.
+     *
+     * @param text the text to parse.
+     * @return the parsed value.
+     * @throws IllegalArgumentException on invalid JSON.
+     */
+    static Object parse(final String text) {
+        final Parser parser = new Parser(text);
+        final Object result = parser.value();
+        parser.skipWhitespace();
+        if (parser.pos != text.length()) {
+            throw parser.error("Unexpected content");
+        }
+        return result;
+    }
+
+    private static void write(final Object value, final boolean sortKeys, final StringBuilder sb) {
+        if (value == null) {
+            sb.append("null");
+        } else if (value instanceof String) {
+            string((String) value, sb);
+        } else if (value instanceof Boolean) {
+            sb.append(value);
+        } else if (value instanceof Number) {
+            number((Number) value, sb);
+        } else if (value instanceof Map) {
+            final Map<?, ?> map =
+                    sortKeys ? new TreeMap<>((Map<?, ?>) value) : (Map<?, ?>) value;
+            sb.append('{');
+            String separator = "";
+            for (final Map.Entry<?, ?> e : map.entrySet()) {
+                sb.append(separator);
+                string(String.valueOf(e.getKey()), sb);
+                sb.append(':');
+                write(e.getValue(), sortKeys, sb);
+                separator = ",";
+            }
+            sb.append('}');
+        } else if (value instanceof List) {
+            sb.append('[');
+            String separator = "";
+            for (final Object element : (List<?>) value) {
+                sb.append(separator);
+                write(element, sortKeys, sb);
+                separator = ",";
+            }
+            sb.append(']');
+        } else {
+            throw new IllegalArgumentException("Unsupported JSON value: " + value.getClass());
+        }
+    }
+
+    private static void number(final Number value, final StringBuilder sb) {
+        if (value instanceof Long || value instanceof Integer || value instanceof BigInteger) {
+            sb.append(value);
+            return;
+        }
+
+        final double d = value.doubleValue();
+        if (Double.isNaN(d) || Double.isInfinite(d)) {
+            throw new IllegalArgumentException("Non-finite number: " + value);
+        }
+        if (d == Math.rint(d) && Math.abs(d) < 1e15) {
+            sb.append((long) d);
+        } else {
+            sb.append(d);
+        }
+    }
+
+    private static void string(final String text, final StringBuilder sb) {
+        sb.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                case '\b':
+                    sb.append("\\b");
+                    break;
+                case '\f':
+                    sb.append("\\f");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+
+    private static final class Parser {
+
+        private final String text;
+        private int pos;
+
+        Parser(final String text) {
+            this.text = text;
+        }
+
+        Object value() {
+            skipWhitespace();
+            if (pos == text.length()) {
+                throw error("Unexpected end of input");
+            }
+
+            final char c = text.charAt(pos);
+            switch (c) {
+                case '{':
+                    return object();
+                case '[':
+                    return array();
+                case '"':
+                    return string();
+                case 't':
+                    return literal("true", Boolean.TRUE);
+                case 'f':
+                    return literal("false", Boolean.FALSE);
+                case 'n':
+                    return literal("null", null);
+                default:
+                    if (c == '-' || (c >= '0' && c <= '9')) {
+                        return number();
+                    }
+                    throw error("Unexpected character '" + c + "'");
+            }
+        }
+
+        private Map<String, Object> object() {
+            final Map<String, Object> map = new LinkedHashMap<>();
+            pos++;
+            skipWhitespace();
+            if (consume('}')) {
+                return map;
+            }
+
+            do {
+                skipWhitespace();
+                if (pos == text.length() || text.charAt(pos) != '"') {
+                    throw error("Expected object key");
+                }
+                final String key = string();
+                skipWhitespace();
+                expect(':');
+                if (map.put(key, value()) != null) {
+                    throw error("Duplicate key '" + key + "'");
+                }
+                skipWhitespace();
+            } while (consume(','));
+
+            expect('}');
+            return map;
+        }
+
+        private List<Object> array() {
+            final List<Object> list = new ArrayList<>();
+            pos++;
+            skipWhitespace();
+            if (consume(']')) {
+                return list;
+            }
+
+            do {
+                list.add(value());
+                skipWhitespace();
+            } while (consume(','));
+
+            expect(']');
+            return list;
+        }
+
+        private String string() {
+            final StringBuilder sb = new StringBuilder();
+            pos++;
+            while (pos < text.length()) {
+                final char c = text.charAt(pos++);
+                if (c == '"') {
+                    return sb.toString();
+                }
+                if (c < 0x20) {
+                    throw error("Unescaped control character in string");
+                }
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                if (pos == text.length()) {
+                    break;
+                }
+
+                final char escaped = text.charAt(pos++);
+                switch (escaped) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                        sb.append(escaped);
+                        break;
+                    case 'b':
+                        sb.append('\b');
+                        break;
+                    case 'f':
+                        sb.append('\f');
+                        break;
+                    case 'n':
+                        sb.append('\n');
+                        break;
+                    case 'r':
+                        sb.append('\r');
+                        break;
+                    case 't':
+                        sb.append('\t');
+                        break;
+                    case 'u':
+                        if (pos + 4 > text.length()) {
+                            throw error("Invalid unicode escape");
+                        }
+                        try {
+                            sb.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                        } catch (final NumberFormatException e) {
+                            throw error("Invalid unicode escape");
+                        }
+                        pos += 4;
+                        break;
+                    default:
+                        throw error("Invalid escape '\\" + escaped + "'");
+                }
+            }
+            throw error("Unterminated string");
+        }
+
+        private Object number() {
+            final int start = pos;
+            consume('-');
+            while (pos < text.length() && "0123456789.eE+-".indexOf(text.charAt(pos)) >= 0) {
+                pos++;
+            }
+
+            final String number = text.substring(start, pos);
+            try {
+                if (number.matches("-?(0|[1-9][0-9]*)")) {
+                    final BigInteger value = new BigInteger(number);
+                    return value.bitLength() < 64 ? (Object) value.longValue() : value;
+                }
+                if (number.matches("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][-+]?[0-9]+)?")) {
+                    return Double.parseDouble(number);
+                }
+            } catch (final NumberFormatException e) {
+                // Fall through:
+            }
+            pos = start;
+            throw error("Invalid number '" + number + "'");
+        }
+
+        private Object literal(final String word, final Object value) {
+            if (!text.startsWith(word, pos)) {
+                throw error("Unexpected content");
+            }
+            pos += word.length();
+            return value;
+        }
+
+        private void expect(final char c) {
+            if (!consume(c)) {
+                throw error("Expected '" + c + "'");
+            }
+        }
+
+        private boolean consume(final char c) {
+            if (pos < text.length() && text.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        void skipWhitespace() {
+            while (pos < text.length() && " \t\r\n".indexOf(text.charAt(pos)) >= 0) {
+                pos++;
+            }
+        }
+
+        IllegalArgumentException error(final String msg) {
+            int line = 1;
+            int column = 1;
+            for (int i = 0; i < pos && i < text.length(); i++) {
+                if (text.charAt(i) == '\n') {
+                    line++;
+                    column = 1;
+                } else {
+                    column++;
+                }
+            }
+            return new IllegalArgumentException(msg + " at line " + line + ", column " + column);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.gradle.api.artifacts.transform.CacheableTransform;
+import org.gradle.api.artifacts.transform.InputArtifact;
+import org.gradle.api.artifacts.transform.InputArtifactDependencies;
+import org.gradle.api.artifacts.transform.TransformAction;
+import org.gradle.api.artifacts.transform.TransformOutputs;
+import org.gradle.api.artifacts.transform.TransformParameters;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.file.FileSystemLocation;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.tasks.Classpath;
+
+/**
+ * Artifact transform merging the generator jar and its dependencies into a single jar.
+ *
+ * <p>As a transform, the jars are merged once per generator version, and the result is reused from
+ * Gradle's transform cache, and the build cache, by every later build.
+ *
+ * <p>Only the generator jar, selected by its module identifier, is transformed into the merged jar.
+ * Its dependencies are either included in the merged jar, or are added back by {@link
+ * GenerateJsonSchema}, which uses the list of merged jars recorded in the merged jar's manifest.
+ */
+@CacheableTransform
+public abstract class MergeGeneratorJarTransform
+        implements TransformAction<TransformParameters.None> {
+
+    /** Constructor */
+    public MergeGeneratorJarTransform() {}
+
+    /**
+     * @return the jar to transform.
+     */
+    @InputArtifact
+    @Classpath
+    public abstract Provider<FileSystemLocation> getInputArtifact();
+
+    /**
+     * @return the jar's dependencies.
+     */
+    @InputArtifactDependencies
+    @Classpath
+    public abstract FileCollection getInputArtifactDependencies();
+
+    @Override
+    public void transform(final TransformOutputs outputs) {
+        final File jar = getInputArtifact().get().getAsFile();
+        final List<File> jars = new ArrayList<>();
+        jars.add(jar);
+        jars.addAll(getInputArtifactDependencies().getFiles());
+
+        final String name = jar.getName().replaceFirst("\\.jar$", "") + "-merged.jar";
+        MergedGeneratorJar.merge(jars, outputs.file(name).toPath());
+    }
+}
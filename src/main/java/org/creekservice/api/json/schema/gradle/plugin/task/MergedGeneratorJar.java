@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.GregorianCalendar;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Merges the jars on the generator's class path into a single jar.
+ *
+ * <p>The JVM opens and reads the central directory of every jar on the class path. Merging the
+ * generator's own dependencies, which only change with the generator version, reduces this to a
+ * single jar.
+ *
+ * <p>Where more than one jar contains the same entry, the first wins, except for service provider
+ * files under {@code META-INF/services}, which are concatenated. Signature files and module
+ * descriptors are dropped, as they are not valid for the merged jar, so the merged jar can only be
+ * used on the class path. The names of the merged jars are recorded in the merged jar's manifest.
+ */
+final class MergedGeneratorJar {
+
+    private static final Attributes.Name MERGED_JARS = new Attributes.Name("Creek-Merged-Jars");
+    private static final String SERVICES_PREFIX = "META-INF/services/";
+    private static final Pattern EXCLUDED =
+            Pattern.compile(
+                    "(META-INF/MANIFEST\\.MF|META-INF/INDEX\\.LIST"
+                            + "|META-INF/[^/]+\\.(SF|DSA|RSA|EC)|META-INF/SIG-[^/]+"
+                            + "|(META-INF/versions/\\d+/)?module-info\\.class)",
+                    Pattern.CASE_INSENSITIVE);
+
+    // Fixed time, so the merged jar only changes if its content changes:
+    private static final long ENTRY_TIME =
+            new GregorianCalendar(1980, 1, 1, 0, 0, 0).getTimeInMillis();
+
+    private MergedGeneratorJar() {}
+
+    /**
+     * Merge jars.
+     *
+     * @param jars the jars to merge, in class path order. Entries that are not jars are ignored.
+     * @param target the merged jar to write.
+     * @return the number of jars merged.
+     */
+    static int merge(final List<File> jars, final Path target) {
+        final List<JarFile> opened = new ArrayList<>();
+        try {
+            for (final File jar : jars) {
+                if (jar.isFile() && jar.getName().endsWith(".jar")) {
+                    opened.add(new JarFile(jar, false));
+                }
+            }
+
+            Files.createDirectories(target.getParent());
+            try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(target))) {
+                write(opened, out);
+            }
+            return opened.size();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to merge generator jars into " + target, e);
+        } finally {
+            opened.forEach(MergedGeneratorJar::close);
+        }
+    }
+
+    /**
+     * Determine the names of the jars merged into any merged jars.
+     *
+     * @param files the files to inspect, which may include jars that are not merged jars.
+     * @return the file names of the merged jars.
+     */
+    static Set<String> mergedJarNames(final Iterable<File> files) {
+        final Set<String> names = new TreeSet<>();
+        for (final File file : files) {
+            if (!file.isFile()) {
+                continue;
+            }
+
+            try (JarFile jar = new JarFile(file, false)) {
+                final String merged = mainAttribute(jar, MERGED_JARS);
+                if (merged != null && !merged.isBlank()) {
+                    names.addAll(Arrays.asList(merged.trim().split(" ")));
+                }
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to read " + file, e);
+            }
+        }
+        return names;
+    }
+
+    private static void write(final List<JarFile> jars, final ZipOutputStream out)
+            throws IOException {
+        writeEntry(out, JarFile.MANIFEST_NAME, manifest(jars));
+
+        final Set<String> written = new HashSet<>();
+        written.add(JarFile.MANIFEST_NAME);
+        final Map<String, ByteArrayOutputStream> services = new LinkedHashMap<>();
+
+        for (final JarFile jar : jars) {
+            final Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                final JarEntry entry = entries.nextElement();
+                final String name = entry.getName();
+                if (EXCLUDED.matcher(name).matches()) {
+                    continue;
+                }
+
+                if (name.startsWith(SERVICES_PREFIX) && !entry.isDirectory()) {
+                    final ByteArrayOutputStream service =
+                            services.computeIfAbsent(name, k -> new ByteArrayOutputStream());
+                    copy(jar, entry, service);
+                    service.write('\n');
+                    continue;
+                }
+
+                if (written.add(name)) {
+                    out.putNextEntry(newEntry(name));
+                    if (!entry.isDirectory()) {
+                        copy(jar, entry, out);
+                    }
+                    out.closeEntry();
+                }
+            }
+        }
+
+        for (final Map.Entry<String, ByteArrayOutputStream> e : services.entrySet()) {
+            writeEntry(out, e.getKey(), e.getValue().toByteArray());
+        }
+    }
+
+    private static byte[] manifest(final List<JarFile> jars) throws IOException {
+        final Manifest manifest = new Manifest();
+        final Attributes attributes = manifest.getMainAttributes();
+        attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+
+        final List<String> names = new ArrayList<>();
+        boolean multiRelease = false;
+        for (final JarFile jar : jars) {
+            names.add(new File(jar.getName()).getName());
+            multiRelease |=
+                    "true".equalsIgnoreCase(mainAttribute(jar, Attributes.Name.MULTI_RELEASE));
+        }
+
+        if (multiRelease) {
+            attributes.put(Attributes.Name.MULTI_RELEASE, "true");
+        }
+        attributes.put(MERGED_JARS, String.join(" ", names));
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        manifest.write(bytes);
+        return bytes.toByteArray();
+    }
+
+    private static String mainAttribute(final JarFile jar, final Attributes.Name name)
+            throws IOException {
+        final Manifest manifest = jar.getManifest();
+        return manifest == null ? null : manifest.getMainAttributes().getValue(name);
+    }
+
+    private static void writeEntry(final ZipOutputStream out, final String name, final byte[] data)
+            throws IOException {
+        out.putNextEntry(newEntry(name));
+        out.write(data);
+        out.closeEntry();
+    }
+
+    private static ZipEntry newEntry(final String name) {
+        final ZipEntry entry = new ZipEntry(name);
+        entry.setTime(ENTRY_TIME);
+        return entry;
+    }
+
+    private static void copy(final JarFile jar, final JarEntry entry, final OutputStream out)
+            throws IOException {
+        try (InputStream in = jar.getInputStream(entry)) {
+            in.transferTo(out);
+        }
+    }
+
+    private static void close(final JarFile jar) {
+        try {
+            jar.close();
+        } catch (final IOException e) {
+            // Ignore: nothing more to read.
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.UntrackedTask;
+
+/**
+ * Task launching a generator JVM ahead of a {@link GenerateJsonSchema} task executing.
+ *
+ * <p>The task has no dependency on compilation, so the JVM starts, and loads the generator, while
+ * the project's class files are still being compiled. The generator JVM is held by the {@link
+ * PrelaunchedGeneratorService}, from which a generate task can claim it, handing over only the
+ * project's class path and the generator's arguments.
+ */
+@UntrackedTask(because = "Launches a process held for the duration of the build")
+public abstract class PrelaunchJsonSchemaGenerator extends DefaultTask {
+
+    /** Constructor */
+    public PrelaunchJsonSchemaGenerator() {
+        setDescription("Launches the JSON schema generator ahead of schema generation");
+    }
+
+    /**
+     * The class path of the generator, excluding the project's class files and dependencies.
+     *
+     * @return the generator class path.
+     */
+    @Internal
+    public abstract ConfigurableFileCollection getGeneratorClassPath();
+
+    /**
+     * The JVM arguments of the Gradle daemon, i.e. the {@code org.gradle.jvmargs} property, which
+     * the generator JVM is launched with.
+     *
+     * @return the Gradle JVM args property.
+     */
+    @Internal
+    public abstract Property<String> getGradleJvmArgs();
+
+    /**
+     * @return the service holding prelaunched generators.
+     */
+    @Internal
+    public abstract Property<PrelaunchedGeneratorService> getPrelaunchService();
+
+    /** Launch the generator, unless the service already holds its maximum. */
+    @TaskAction
+    public void run() {
+        final boolean launched =
+                getPrelaunchService()
+                        .get()
+                        .launch(
+                                GenerateJsonSchema.jvmArgs(getGradleJvmArgs().getOrNull()),
+                                getGeneratorClassPath());
+        if (launched) {
+            getLogger().info("Prelaunched JSON schema generator");
+        } else {
+            getLogger().info("Not prelaunching JSON schema generator: limit reached");
+        }
+    }
+}
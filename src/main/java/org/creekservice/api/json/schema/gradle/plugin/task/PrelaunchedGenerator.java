@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A generator JVM launched ahead of time, running the {@link GeneratorLauncher}, waiting for the
+ * project's class path and the generator's arguments.
+ */
+final class PrelaunchedGenerator {
+
+    private final List<String> command;
+    private final Process process;
+
+    private PrelaunchedGenerator(final List<String> command, final Process process) {
+        this.command = List.copyOf(command);
+        this.process = process;
+    }
+
+    /**
+     * Build the command to launch a generator.
+     *
+     * @param launcherDir the directory the launcher classes have been {@link #writeLaunchers
+     *     written} to.
+     * @param jvmArgs the JVM arguments.
+     * @param classPath the generator's class path.
+     * @param launcher the launcher main class.
+     * @param mainClass the generator's main class.
+     * @return the command.
+     */
+    static List<String> command(
+            final Path launcherDir,
+            final List<String> jvmArgs,
+            final Iterable<File> classPath,
+            final Class<?> launcher,
+            final String mainClass) {
+        final List<String> cp = new ArrayList<>();
+        cp.add(launcherDir.toAbsolutePath().toString());
+        classPath.forEach(file -> cp.add(file.getAbsolutePath()));
+
+        final List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(String.join(File.pathSeparator, cp));
+        command.add(launcher.getName());
+        command.add(mainClass);
+        return command;
+    }
+
+    /**
+     * Write the launcher class files, so that they can be put on the generator's class path
+     * without the rest of the plugin.
+     *
+     * @param launcherDir the directory to write to.
+     */
+    static void writeLaunchers(final Path launcherDir) {
+        writeClass(launcherDir, GeneratorLauncher.class);
+        writeClass(launcherDir, BatchGeneratorLauncher.class);
+    }
+
+    private static void writeClass(final Path launcherDir, final Class<?> type) {
+        final String resource = type.getSimpleName() + ".class";
+        final Path file =
+                launcherDir.resolve(type.getPackageName().replace('.', '/')).resolve(resource);
+        try (InputStream in = type.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Launcher class not found: " + resource);
+            }
+            Files.createDirectories(file.getParent());
+            Files.write(file, in.readAllBytes());
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write " + file, e);
+        }
+    }
+
+    /**
+     * @param command the command to run.
+     * @return the started generator.
+     * @throws UncheckedIOException if the process could not be started.
+     */
+    static PrelaunchedGenerator start(final List<String> command) {
+        try {
+            final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            return new PrelaunchedGenerator(command, process);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to launch " + command, e);
+        }
+    }
+
+    /**
+     * @param expected the command the caller would have run.
+     * @return {@code true} if this generator was launched with the expected command and is still
+     *     waiting for its arguments.
+     */
+    boolean usable(final List<String> expected) {
+        return command.equals(expected) && process.isAlive();
+    }
+
+    /**
+     * Hand the generator the project's class path and its arguments and wait for it to complete.
+     *
+     * @param classPath the project's class path, i.e. its class files and dependencies.
+     * @param args the generator arguments.
+     * @param output consumer of the generator's output, one line at a time.
+     * @return the exit code of the generator.
+     */
+    int run(
+            final Iterable<File> classPath,
+            final List<String> args,
+            final Consumer<String> output) {
+        try {
+            try (Writer in = new OutputStreamWriter(process.getOutputStream(), UTF_8)) {
+                final List<String> entries = new ArrayList<>();
+                classPath.forEach(file -> entries.add(file.getAbsolutePath()));
+                in.write(String.join(File.pathSeparator, entries));
+                in.write('\n');
+                for (final String arg : args) {
+                    in.write(arg);
+                    in.write('\n');
+                }
+            }
+
+            try (BufferedReader out =
+                    new BufferedReader(new InputStreamReader(process.getInputStream(), UTF_8))) {
+                out.lines().forEach(output);
+            }
+
+            return process.waitFor();
+        } catch (final IOException e) {
+            destroy();
+            throw new UncheckedIOException("Failed to communicate with generator", e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            destroy();
+            throw new IllegalStateException("Interrupted waiting for generator", e);
+        }
+    }
+
+    /** Kill the generator. */
+    void destroy() {
+        process.destroyForcibly();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.gradle.api.provider.Property;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+/**
+ * Build service holding generator JVMs launched ahead of the {@link GenerateJsonSchema} tasks that
+ * use them.
+ *
+ * <p>Generators are launched with only the generator's class path, so are not specific to a
+ * project: any task whose generator JVM arguments and class path match can claim one. At most
+ * {@link Params#getMaxGenerators()} generators are held at once. Tasks that can not claim a
+ * generator launch one as normal. Any generator not claimed, e.g. because its task was skipped,
+ * is killed when the build completes.
+ */
+public abstract class PrelaunchedGeneratorService
+        implements BuildService<PrelaunchedGeneratorService.Params>, AutoCloseable {
+
+    /** The name the service is registered under. */
+    public static final String NAME = "creekJsonSchemaPrelaunchedGenerators";
+
+    private final Map<List<String>, Deque<PrelaunchedGenerator>> generators = new HashMap<>();
+    private int held;
+    private Path launcherDir;
+
+    /** Constructor */
+    public PrelaunchedGeneratorService() {}
+
+    /** Service parameters. */
+    public interface Params extends BuildServiceParameters {
+
+        /**
+         * @return the maximum number of generators prelaunched at once.
+         */
+        Property<Integer> getMaxGenerators();
+    }
+
+    /**
+     * Launch a generator, unless the maximum number of generators are already held.
+     *
+     * @param jvmArgs the JVM arguments of the generator.
+     * @param classPath the generator's class path.
+     * @return {@code true} if the generator was launched.
+     */
+    synchronized boolean launch(final List<String> jvmArgs, final Iterable<File> classPath) {
+        if (held >= getParameters().getMaxGenerators().get()) {
+            return false;
+        }
+
+        final List<String> command = command(jvmArgs, classPath);
+        generators
+                .computeIfAbsent(command, k -> new ArrayDeque<>())
+                .add(PrelaunchedGenerator.start(command));
+        held++;
+        return true;
+    }
+
+    /**
+     * Claim a generator launched with matching JVM arguments and class path.
+     *
+     * @param jvmArgs the JVM arguments the caller would launch the generator with.
+     * @param classPath the generator class path the caller would launch the generator with.
+     * @return the generator, if one was launched with the same command and is still usable.
+     */
+    synchronized Optional<PrelaunchedGenerator> claim(
+            final List<String> jvmArgs, final Iterable<File> classPath) {
+        final List<String> command = command(jvmArgs, classPath);
+        final Deque<PrelaunchedGenerator> available = generators.get(command);
+        while (available != null && !available.isEmpty()) {
+            final PrelaunchedGenerator generator = available.poll();
+            held--;
+            if (generator.usable(command)) {
+                return Optional.of(generator);
+            }
+            generator.destroy();
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public synchronized void close() {
+        generators.values().forEach(queue -> queue.forEach(PrelaunchedGenerator::destroy));
+        generators.clear();
+        held = 0;
+
+        if (launcherDir != null) {
+            Directories.delete(launcherDir);
+            launcherDir = null;
+        }
+    }
+
+    private List<String> command(final List<String> jvmArgs, final Iterable<File> classPath) {
+        return PrelaunchedGenerator.command(
+                launcherDir(),
+                jvmArgs,
+                classPath,
+                GeneratorLauncher.class,
+                GenerateJsonSchema.GENERATOR_MAIN_CLASS);
+    }
+
+    private Path launcherDir() {
+        if (launcherDir == null) {
+            try {
+                launcherDir = Files.createTempDirectory("creek-json-schema-launcher");
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to create launcher directory", e);
+            }
+            PrelaunchedGenerator.writeLaunchers(launcherDir);
+        }
+        return launcherDir;
+    }
+}
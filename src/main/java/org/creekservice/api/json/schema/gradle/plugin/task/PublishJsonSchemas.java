@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.UntrackedTask;
+import org.gradle.api.tasks.options.Option;
+
+/**
+ * Task for publishing generated JSON schemas to a Confluent compatible schema registry.
+ *
+ * <p>Each schema is registered under a subject matching the fully qualified name of its type. The
+ * canonical fingerprint of each published schema is recorded in a {@link #getLedgerFile() ledger},
+ * and only new or changed schemas are published on subsequent runs.
+ *
+ * <p>Schemas missing from the ledger are looked up in the registry before being registered, so a
+ * missing ledger, e.g. in a fresh CI workspace, costs one lookup per schema, rather than
+ * registering every schema again.
+ */
+@UntrackedTask(because = "Publishes to an external schema registry")
+public abstract class PublishJsonSchemas extends DefaultTask {
+
+    /** Constructor */
+    public PublishJsonSchemas() {
+        setDescription("Publishes new or changed JSON schemas to a schema registry");
+    }
+
+    /**
+     * The resource root containing the generated schemas.
+     *
+     * @return the resource root property.
+     */
+    @Internal
+    public abstract DirectoryProperty getSchemaResourceRoot();
+
+    /**
+     * The base URL of the schema registry, e.g. {@code https://registry.acme.io/}.
+     *
+     * @return the registry URL property.
+     */
+    @Input
+    public abstract Property<String> getRegistryUrl();
+
+    /**
+     * Method to allow setting the registry URL from the command line.
+     *
+     * @param url the registry URL.
+     */
+    @SuppressWarnings("unused") // Invoked by Gradle
+    @Option(option = "registry-url", description = "The base URL of the schema registry")
+    public void setRegistryUrlFromOption(final String url) {
+        getRegistryUrl().set(url);
+    }
+
+    /**
+     * Optional user name, for basic authentication with the registry.
+     *
+     * @return the user name property.
+     */
+    @Internal
+    public abstract Property<String> getUsername();
+
+    /**
+     * Optional password, for basic authentication with the registry.
+     *
+     * @return the password property.
+     */
+    @Internal
+    public abstract Property<String> getPassword();
+
+    /**
+     * The maximum number of requests to the registry in flight at once.
+     *
+     * <p>Default: 4.
+     *
+     * @return the max concurrent requests property.
+     */
+    @Input
+    public abstract Property<Integer> getMaxConcurrentRequests();
+
+    /**
+     * The timeout of each request to the registry.
+     *
+     * <p>Default: 30 seconds.
+     *
+     * @return the request timeout property.
+     */
+    @Input
+    public abstract Property<Duration> getRequestTimeout();
+
+    /**
+     * The file recording the fingerprints of published schemas.
+     *
+     * <p>Without the ledger, every schema is looked up in the registry, and only those the registry
+     * does not already hold are registered. Preserve this file between builds, e.g. by caching it
+     * in CI, to avoid even the lookups.
+     *
+     * @return the ledger file property.
+     */
+    @Internal
+    public abstract RegularFileProperty getLedgerFile();
+
+    /** The task action. */
+    @TaskAction
+    public void run() {
+        if (!getRegistryUrl().isPresent()) {
+            throw new GradleException(
+                    "No schema registry URL set. Set creek.schema.json.registry.url, "
+                            + "or pass --registry-url");
+        }
+
+        final String registryUrl = getRegistryUrl().get();
+        final Path root = getSchemaResourceRoot().get().getAsFile().toPath();
+        final PublishLedger ledger =
+                PublishLedger.load(getLedgerFile().get().getAsFile().toPath(), registryUrl);
+
+        final List<SchemaPublisher.Schema> changed = new ArrayList<>();
+        int unchanged = 0;
+        for (final Path relativePath : SchemaFiles.list(root)) {
+            final SchemaPublisher.Schema schema = schema(root, relativePath);
+            if (ledger.isPublished(schema.subject(), schema.fingerprint())) {
+                unchanged++;
+            } else {
+                changed.add(schema);
+            }
+        }
+
+        if (changed.isEmpty()) {
+            getLogger().lifecycle("All {} schemas already published to {}", unchanged, registryUrl);
+            setDidWork(false);
+            return;
+        }
+
+        final SchemaPublisher.Result result =
+                new SchemaPublisher(
+                                URI.create(registryUrl),
+                                authorization(),
+                                getMaxConcurrentRequests().get(),
+                                getRequestTimeout().get())
+                        .publish(changed);
+
+        result.published()
+                .forEach((schema, id) -> ledger.record(schema.subject(), schema.fingerprint(), id));
+        ledger.save();
+
+        final int existing = result.existing().size();
+        getLogger()
+                .lifecycle(
+                        "Published {} schemas to {}, {} already registered, {} unchanged",
+                        result.published().size() - existing,
+                        registryUrl,
+                        existing,
+                        unchanged);
+
+        final Map<String, String> failures = result.failures();
+        if (!failures.isEmpty()) {
+            final StringBuilder msg =
+                    new StringBuilder("Failed to publish " + failures.size() + " schemas:");
+            failures.forEach(
+                    (subject, reason) ->
+                            msg.append(System.lineSeparator())
+                                    .append(subject)
+                                    .append(": ")
+                                    .append(reason));
+            throw new GradleException(msg.toString());
+        }
+    }
+
+    private static SchemaPublisher.Schema schema(final Path root, final Path relativePath) {
+        final String yaml;
+        try {
+            yaml = Files.readString(root.resolve(relativePath), UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read " + root.resolve(relativePath), e);
+        }
+
+        final Object parsed = SchemaYaml.parse(yaml);
+        return new SchemaPublisher.Schema(
+                SchemaFiles.typeName(relativePath),
+                Fingerprints.sha256(JsonText.canonical(parsed).getBytes(UTF_8)),
+                JsonText.write(parsed));
+    }
+
+    private Optional<String> authorization() {
+        if (!getUsername().isPresent()) {
+            return Optional.empty();
+        }
+
+        final String credentials = getUsername().get() + ":" + getPassword().getOrElse("");
+        return Optional.of(
+                "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(UTF_8)));
+    }
+}
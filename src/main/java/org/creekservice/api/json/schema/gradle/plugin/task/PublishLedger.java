@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Records the fingerprint of each schema successfully published to a schema registry, so that
+ * unchanged schemas are not published again.
+ *
+ * <p>The ledger is tied to a single registry: if the registry changes, all previous entries are
+ * discarded.
+ */
+final class PublishLedger {
+
+    private static final String REGISTRY_KEY = "registry";
+    private static final String SUBJECT_PREFIX = "subject.";
+
+    private final Path file;
+    private final Properties entries;
+
+    private PublishLedger(final Path file, final Properties entries) {
+        this.file = file;
+        this.entries = entries;
+    }
+
+    /**
+     * Load the ledger, if it exists.
+     *
+     * @param file the ledger file.
+     * @param registry the registry being published to.
+     * @return the ledger.
+     */
+    static PublishLedger load(final Path file, final String registry) {
+        final Properties entries = new Properties();
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                entries.load(in);
+            } catch (final IOException e) {
+                entries.clear();
+            }
+        }
+
+        if (!registry.equals(entries.getProperty(REGISTRY_KEY))) {
+            entries.clear();
+            entries.setProperty(REGISTRY_KEY, registry);
+        }
+        return new PublishLedger(file, entries);
+    }
+
+    /**
+     * @param subject the registry subject.
+     * @param fingerprint the schema's fingerprint.
+     * @return {@code true} if the schema has already been published under the subject.
+     */
+    boolean isPublished(final String subject, final String fingerprint) {
+        final String entry = entries.getProperty(SUBJECT_PREFIX + subject);
+        return entry != null && entry.startsWith(fingerprint + " ");
+    }
+
+    /**
+     * Record a successful publication.
+     *
+     * @param subject the registry subject.
+     * @param fingerprint the schema's fingerprint.
+     * @param id the id the registry assigned the schema.
+     */
+    void record(final String subject, final String fingerprint, final long id) {
+        entries.setProperty(SUBJECT_PREFIX + subject, fingerprint + " " + id);
+    }
+
+    /** Persist the ledger. */
+    void save() {
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = Files.newOutputStream(file)) {
+                entries.store(out, null);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write " + file, e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Builds GraalVM native-image reflection metadata for the types schemas are generated for.
+ *
+ * <p>Starting from the types annotated with the supplied annotation, the metadata includes every
+ * type, within the supplied class files, reachable via:
+ *
+ * <ul>
+ *   <li>the types used in instance field, constructor and instance method signatures, i.e. the
+ *       types Jackson may serialize as properties,
+ *   <li>super types, as Jackson introspects inherited members,
+ *   <li>subtypes of polymorphic types, i.e. those annotated with {@code @JsonTypeInfo}, whether
+ *       declared via {@code @JsonSubTypes}, permitted by a sealed type, or simply extending the
+ *       polymorphic type.
+ * </ul>
+ *
+ * <p>Subtypes declared via {@code @JsonSubTypes} are included even if they are not within the
+ * class files. Other types outside the class files, e.g. JDK types, are not included.
+ */
+final class ReflectionMetadata {
+
+    /** The name of the reflection metadata file. */
+    static final String FILE_NAME = "reflect-config.json";
+
+    private final Map<String, ClassFileInfo> types = new HashMap<>();
+    private final Map<String, Set<String>> directSubtypes = new HashMap<>();
+    private final SubtypeResolver subtypeResolver;
+
+    /**
+     * @param types the types compiled in the source set.
+     */
+    ReflectionMetadata(final Collection<ClassFileInfo> types) {
+        for (final ClassFileInfo type : types) {
+            this.types.putIfAbsent(type.className(), type);
+            for (final String superType : type.superTypes()) {
+                directSubtypes
+                        .computeIfAbsent(superType, k -> new HashSet<>())
+                        .add(type.className());
+            }
+        }
+        this.subtypeResolver = new SubtypeResolver(this.types.values());
+    }
+
+    /**
+     * @param annotationType the annotation marking types that have a schema generated.
+     * @return the names of the types requiring reflection metadata, in sorted order.
+     */
+    Set<String> reflectedTypes(final String annotationType) {
+        final Set<String> result = new TreeSet<>();
+        final Set<String> polymorphic = new HashSet<>();
+        final Deque<String> pending = new ArrayDeque<>();
+        types.values().stream()
+                .filter(type -> type.hasAnnotation(annotationType))
+                .map(ClassFileInfo::className)
+                .forEach(pending::add);
+
+        while (!pending.isEmpty()) {
+            final String name = pending.pop();
+            if (!result.add(name)) {
+                continue;
+            }
+
+            final ClassFileInfo type = types.get(name);
+            if (type == null) {
+                continue;
+            }
+
+            type.memberTypes().stream().filter(types::containsKey).forEach(pending::add);
+            type.superTypes().stream().filter(types::containsKey).forEach(pending::add);
+
+            if (type.hasAnnotation(SubtypeResolver.JSON_TYPE_INFO) || polymorphic.contains(name)) {
+                final Set<String> subtypes = new HashSet<>();
+                subtypeResolver.subtypes(type).ifPresent(subtypes::addAll);
+                subtypes.addAll(directSubtypes.getOrDefault(name, Set.of()));
+                polymorphic.addAll(subtypes);
+                pending.addAll(subtypes);
+            } else if (type.isSealed()) {
+                pending.addAll(type.permittedSubclasses());
+            }
+        }
+
+        result.removeIf(ReflectionMetadata::isNotModelType);
+        return result;
+    }
+
+    /**
+     * Write the reflection metadata file.
+     *
+     * @param file the file to write.
+     * @param typeNames the names of types requiring reflection metadata.
+     */
+    static void write(final Path file, final Collection<String> typeNames) {
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, toJson(typeNames), UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write " + file, e);
+        }
+    }
+
+    /**
+     * @param typeNames the names of types requiring reflection metadata.
+     * @return the {@code reflect-config.json} content.
+     */
+    static String toJson(final Collection<String> typeNames) {
+        final StringBuilder json = new StringBuilder("[");
+        String separator = "\n";
+        for (final String typeName : typeNames) {
+            json.append(separator)
+                    .append("  {\n")
+                    .append("    \"name\": \"")
+                    .append(typeName.replace("\\", "\\\\").replace("\"", "\\\""))
+                    .append("\",\n")
+                    .append("    \"allDeclaredConstructors\": true,\n")
+                    .append("    \"allPublicConstructors\": true,\n")
+                    .append("    \"allDeclaredMethods\": true,\n")
+                    .append("    \"allPublicMethods\": true,\n")
+                    .append("    \"allDeclaredFields\": true,\n")
+                    .append("    \"allPublicFields\": true\n")
+                    .append("  }");
+            separator = ",\n";
+        }
+        return json.append("\n]\n").toString();
+    }
+
+    private static boolean isNotModelType(final String name) {
+        return name.equals("module-info") || name.endsWith("package-info");
+    }
+}
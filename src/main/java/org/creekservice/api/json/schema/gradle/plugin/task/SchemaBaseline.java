@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Loads a set of previously generated schemas, e.g. a baseline of a previous release's schemas to
+ * check compatibility against, or the schemas of upstream projects.
+ *
+ * <p>Schemas can be loaded from directories of schema files, laid out as under a schema resource
+ * root, or jar or zip archives containing schema files, e.g. a previously published artifact. As
+ * archives may contain other YAML resources, archive entries without a {@code $schema} keyword are
+ * ignored.
+ */
+final class SchemaBaseline {
+
+    private static final String SCHEMA_KEYWORD = "$schema";
+
+    private SchemaBaseline() {}
+
+    /**
+     * @param files the directories and archives.
+     * @return map of fully qualified type name to schema text.
+     * @throws IllegalArgumentException if the files contain multiple schemas for one type.
+     */
+    static Map<String, String> load(final Iterable<File> files) {
+        return load(files, SchemaFiles::typeName);
+    }
+
+    /**
+     * @param files the directories and archives.
+     * @return map of resource path, e.g. {@code acme/models/Thing.yml}, to schema text.
+     * @throws IllegalArgumentException if the files contain multiple schemas at one path.
+     */
+    static Map<String, String> loadByResourcePath(final Iterable<File> files) {
+        return load(files, SchemaFiles::resourcePath);
+    }
+
+    private static Map<String, String> load(
+            final Iterable<File> files, final Function<Path, String> keyFn) {
+        final Map<String, String> schemas = new TreeMap<>();
+        for (final File file : files) {
+            if (file.isDirectory()) {
+                loadDirectory(file.toPath(), keyFn, schemas);
+            } else if (file.isFile()) {
+                loadArchive(file, keyFn, schemas);
+            }
+        }
+        return schemas;
+    }
+
+    private static void loadDirectory(
+            final Path root,
+            final Function<Path, String> keyFn,
+            final Map<String, String> schemas) {
+        for (final Path relativePath : SchemaFiles.list(root)) {
+            final Path file = root.resolve(relativePath);
+            try {
+                add(keyFn.apply(relativePath), Files.readString(file, UTF_8), file, schemas);
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to read " + file, e);
+            }
+        }
+    }
+
+    private static void loadArchive(
+            final File archive,
+            final Function<Path, String> keyFn,
+            final Map<String, String> schemas) {
+        try (ZipFile zip = new ZipFile(archive)) {
+            final Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                final ZipEntry entry = entries.nextElement();
+                final Path relativePath = Path.of(entry.getName());
+                if (entry.isDirectory() || !SchemaFiles.isSchemaFile(relativePath)) {
+                    continue;
+                }
+
+                try (InputStream in = zip.getInputStream(entry)) {
+                    final String yaml = new String(in.readAllBytes(), UTF_8);
+                    if (!yaml.contains(SCHEMA_KEYWORD)) {
+                        continue;
+                    }
+                    add(keyFn.apply(relativePath), yaml, archive + "!/" + entry.getName(), schemas);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read schema archive " + archive, e);
+        }
+    }
+
+    private static void add(
+            final String key,
+            final String yaml,
+            final Object source,
+            final Map<String, String> schemas) {
+        if (schemas.putIfAbsent(key, yaml) != null) {
+            throw new IllegalArgumentException(
+                    "Found multiple schemas for " + key + ", including " + source);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes binary, CBOR encoded, copies of the schemas under a resource root.
+ *
+ * <p>Each schema is written next to its YAML file, with the same base name and a {@code .cbor}
+ * extension, e.g. {@code acme/Thing.yml} is written to {@code acme/Thing.cbor}. Runtime code can
+ * load the binary form with any CBOR parser, e.g. Jackson's {@code CBORFactory}, which is faster,
+ * and allocates less, than parsing YAML.
+ *
+ * <p>The encoding follows <a href="https://www.rfc-editor.org/rfc/rfc8949">RFC 8949</a>, using
+ * definite length items and the shortest form of each integer. Object keys keep their original
+ * order. As with {@link JsonText}, integral numbers are written as integers.
+ */
+final class SchemaCbor {
+
+    /** The file extension of binary schemas. */
+    static final String EXTENSION = ".cbor";
+
+    private static final int UNSIGNED = 0;
+    private static final int NEGATIVE = 1;
+    private static final int TEXT = 3;
+    private static final int ARRAY = 4;
+    private static final int MAP = 5;
+    private static final int TAG = 6;
+    private static final int POSITIVE_BIGNUM = 2;
+    private static final int NEGATIVE_BIGNUM = 3;
+    private static final int BYTES = 2;
+
+    private SchemaCbor() {}
+
+    /**
+     * Write a binary copy of each schema under the resource root.
+     *
+     * <p>Any binary schema without a corresponding YAML schema, e.g. because the type was removed,
+     * is deleted.
+     *
+     * @param root the resource root.
+     * @return the number of schemas written.
+     */
+    static int write(final Path root) {
+        final List<Path> schemas = SchemaFiles.list(root);
+        final Set<Path> written = new HashSet<>();
+        try {
+            for (final Path schema : schemas) {
+                final Path file = root.resolve(schema);
+                final Path target = binaryPath(file);
+                final Object value = SchemaYaml.parse(Files.readString(file, UTF_8));
+                Files.write(target, encode(value));
+                written.add(target);
+            }
+
+            for (final Path stale : binaryFiles(root)) {
+                if (!written.contains(stale)) {
+                    Files.delete(stale);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write binary schemas under " + root, e);
+        }
+        return schemas.size();
+    }
+
+    /**
+     * Encode a value as CBOR.
+     *
+     * @param value the value, in the data model produced by {@link SchemaYaml}.
+     * @return the encoded value.
+     */
+    static byte[] encode(final Object value) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encode(value, out);
+        return out.toByteArray();
+    }
+
+    private static void encode(final Object value, final ByteArrayOutputStream out) {
+        if (value == null) {
+            out.write(0xf6);
+        } else if (value instanceof Boolean) {
+            out.write((Boolean) value ? 0xf5 : 0xf4);
+        } else if (value instanceof String) {
+            final byte[] bytes = ((String) value).getBytes(UTF_8);
+            head(TEXT, bytes.length, out);
+            out.writeBytes(bytes);
+        } else if (value instanceof BigInteger) {
+            bigInteger((BigInteger) value, out);
+        } else if (value instanceof Long || value instanceof Integer) {
+            integer(((Number) value).longValue(), out);
+        } else if (value instanceof Number) {
+            floatingPoint(((Number) value).doubleValue(), out);
+        } else if (value instanceof Map) {
+            final Map<?, ?> map = (Map<?, ?>) value;
+            head(MAP, map.size(), out);
+            map.forEach(
+                    (k, v) -> {
+                        encode(String.valueOf(k), out);
+                        encode(v, out);
+                    });
+        } else if (value instanceof List) {
+            final List<?> list = (List<?>) value;
+            head(ARRAY, list.size(), out);
+            list.forEach(element -> encode(element, out));
+        } else {
+            throw new IllegalArgumentException("Unsupported CBOR value: " + value.getClass());
+        }
+    }
+
+    private static void integer(final long value, final ByteArrayOutputStream out) {
+        if (value >= 0) {
+            head(UNSIGNED, value, out);
+        } else {
+            head(NEGATIVE, -1 - value, out);
+        }
+    }
+
+    private static void bigInteger(final BigInteger value, final ByteArrayOutputStream out) {
+        if (value.bitLength() < Long.SIZE) {
+            integer(value.longValue(), out);
+            return;
+        }
+
+        final boolean negative = value.signum() < 0;
+        final BigInteger magnitude = negative ? value.negate().subtract(BigInteger.ONE) : value;
+        if (magnitude.bitLength() <= Long.SIZE) {
+            head(negative ? NEGATIVE : UNSIGNED, magnitude.longValue(), out);
+            return;
+        }
+
+        byte[] bytes = magnitude.toByteArray();
+        if (bytes[0] == 0) {
+            final byte[] trimmed = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, trimmed, 0, trimmed.length);
+            bytes = trimmed;
+        }
+        head(TAG, negative ? NEGATIVE_BIGNUM : POSITIVE_BIGNUM, out);
+        head(BYTES, bytes.length, out);
+        out.writeBytes(bytes);
+    }
+
+    private static void floatingPoint(final double value, final ByteArrayOutputStream out) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Non-finite number: " + value);
+        }
+
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            integer((long) value, out);
+        } else if ((float) value == value) {
+            out.write(0xfa);
+            final int bits = Float.floatToIntBits((float) value);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                out.write(bits >>> shift);
+            }
+        } else {
+            out.write(0xfb);
+            writeLong(Double.doubleToLongBits(value), out);
+        }
+    }
+
+    /** Write the head of a data item, treating the argument as unsigned. */
+    private static void head(
+            final int majorType, final long argument, final ByteArrayOutputStream out) {
+        final int type = majorType << 5;
+        if (argument >= 0 && argument < 24) {
+            out.write(type | (int) argument);
+        } else if (argument >= 0 && argument <= 0xff) {
+            out.write(type | 24);
+            out.write((int) argument);
+        } else if (argument >= 0 && argument <= 0xffff) {
+            out.write(type | 25);
+            out.write((int) (argument >>> 8));
+            out.write((int) argument);
+        } else if (argument >= 0 && argument <= 0xffffffffL) {
+            out.write(type | 26);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                out.write((int) (argument >>> shift));
+            }
+        } else {
+            out.write(type | 27);
+            writeLong(argument, out);
+        }
+    }
+
+    private static void writeLong(final long value, final ByteArrayOutputStream out) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    private static Path binaryPath(final Path schemaFile) {
+        final String name = schemaFile.getFileName().toString();
+        return schemaFile.resolveSibling(name.substring(0, name.lastIndexOf('.')) + EXTENSION);
+    }
+
+    private static List<Path> binaryFiles(final Path root) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> file.getFileName().toString().endsWith(EXTENSION))
+                    .collect(Collectors.toList());
+        }
+    }
+}
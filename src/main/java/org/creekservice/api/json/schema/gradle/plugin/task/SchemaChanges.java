@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Works out which schemas were added, changed or removed since the previous run, by comparing
+ * the content hash of each schema file with those recorded by the previous run.
+ *
+ * <p>Changes are written one per line, tab separated: the kind of change, i.e. {@code added},
+ * {@code changed} or {@code removed}, the schema's type name, and its resource path. Lines are
+ * ordered by resource path.
+ */
+final class SchemaChanges {
+
+    private static final String HEADER =
+            "# Creek JSON schema changes v1\n# change\ttype\tresource\n";
+
+    private SchemaChanges() {}
+
+    /**
+     * Write the changes to the schemas under a resource root since the previous run.
+     *
+     * <p>If there is no previous state, all schemas are reported as added.
+     *
+     * @param root the schema resource root.
+     * @param stateFile the file recording the content hashes of the schemas between runs.
+     * @param changesFile the file to write the changes to.
+     * @return the number of changed schemas.
+     */
+    static int write(final Path root, final Path stateFile, final Path changesFile) {
+        final Map<String, String> current = hashes(root);
+        final List<String> changes = diff(load(stateFile), current);
+
+        final StringBuilder sb = new StringBuilder(HEADER);
+        changes.forEach(line -> sb.append(line).append('\n'));
+        writeString(changesFile, sb.toString());
+        store(stateFile, current);
+        return changes.size();
+    }
+
+    /**
+     * @param root the schema resource root.
+     * @return the content hash of each schema, keyed by resource path.
+     */
+    static Map<String, String> hashes(final Path root) {
+        final Map<String, String> hashes = new TreeMap<>();
+        for (final Path relativePath : SchemaFiles.list(root)) {
+            final Path file = root.resolve(relativePath);
+            try {
+                hashes.put(
+                        SchemaFiles.resourcePath(relativePath),
+                        Fingerprints.sha256(Files.readAllBytes(file)));
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to read " + file, e);
+            }
+        }
+        return hashes;
+    }
+
+    /**
+     * @param previous the content hashes of the previous run, keyed by resource path.
+     * @param current the content hashes of this run, keyed by resource path.
+     * @return the changes, one line per changed schema.
+     */
+    static List<String> diff(
+            final Map<String, String> previous, final Map<String, String> current) {
+        final Set<String> resources = new TreeSet<>(previous.keySet());
+        resources.addAll(current.keySet());
+
+        final List<String> changes = new ArrayList<>();
+        for (final String resource : resources) {
+            final String before = previous.get(resource);
+            final String after = current.get(resource);
+            if (before == null) {
+                changes.add(line("added", resource));
+            } else if (after == null) {
+                changes.add(line("removed", resource));
+            } else if (!before.equals(after)) {
+                changes.add(line("changed", resource));
+            }
+        }
+        return changes;
+    }
+
+    private static String line(final String change, final String resource) {
+        return change + "\t" + SchemaFiles.typeName(Path.of(resource)) + "\t" + resource;
+    }
+
+    private static Map<String, String> load(final Path stateFile) {
+        final Map<String, String> hashes = new TreeMap<>();
+        if (!Files.exists(stateFile)) {
+            return hashes;
+        }
+
+        final Properties state = new Properties();
+        try (InputStream in = Files.newInputStream(stateFile)) {
+            state.load(in);
+        } catch (final IOException e) {
+            return hashes;
+        }
+
+        state.stringPropertyNames().forEach(name -> hashes.put(name, state.getProperty(name)));
+        return hashes;
+    }
+
+    private static void store(final Path stateFile, final Map<String, String> hashes) {
+        final Properties state = new Properties();
+        state.putAll(hashes);
+        try {
+            Files.createDirectories(stateFile.getParent());
+            try (OutputStream out = Files.newOutputStream(stateFile)) {
+                state.store(out, null);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write " + stateFile, e);
+        }
+    }
+
+    private static void writeString(final Path file, final String content) {
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, content, UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write " + file, e);
+        }
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Checks a JSON schema is backwards compatible with a baseline version of the schema.
+ *
+ * <p>A change is breaking if an instance valid against the baseline may be invalid against the
+ * new schema, i.e. if the new schema is in any way more restrictive.
+ *
+ * <p>The check works on the structure of the two schemas and is conservative: changes to
+ * annotations, e.g. {@code title} or {@code description}, are ignored, and changes to keywords the
+ * check understands are compared semantically, e.g. widening a {@code type} or adding an {@code
+ * enum} value is compatible. Removing any other keyword is compatible, while adding or changing
+ * one is reported as breaking. Alternatives in {@code oneOf} are treated as in {@code anyOf}, i.e.
+ * their exclusivity is not checked. {@code $ref}s are compared by value, with the definitions they
+ * refer to compared by name.
+ */
+final class SchemaCompatibility {
+
+    private static final Set<String> LOWER_BOUNDS =
+            Set.of("minimum", "exclusiveMinimum", "minLength", "minItems", "minProperties");
+
+    private static final Set<String> UPPER_BOUNDS =
+            Set.of("maximum", "exclusiveMaximum", "maxLength", "maxItems", "maxProperties");
+
+    private static final Set<String> HANDLED =
+            Set.of(
+                    "$ref",
+                    "type",
+                    "enum",
+                    "const",
+                    "required",
+                    "properties",
+                    "additionalProperties",
+                    "items",
+                    "uniqueItems",
+                    "anyOf",
+                    "oneOf");
+
+    private final List<String> breakingChanges = new ArrayList<>();
+
+    private SchemaCompatibility() {}
+
+    /**
+     * @param baseline the baseline schema, in the generic data model produced by {@link
+     *     SchemaYaml}.
+     * @param current the new version of the schema.
+     * @return description of each breaking change, prefixed with the JSON pointer to the changed
+     *     subschema, or empty if the new schema is backwards compatible.
+     */
+    static List<String> breakingChanges(final Object baseline, final Object current) {
+        final SchemaCompatibility check = new SchemaCompatibility();
+        check.check("", baseline, current);
+        return List.copyOf(check.breakingChanges);
+    }
+
+    private void check(final String at, final Object baseline, final Object current) {
+        if (Boolean.FALSE.equals(baseline) || equal(baseline, current)) {
+            return;
+        }
+
+        if (Boolean.FALSE.equals(current)) {
+            breaking(at, "schema no longer accepts any value");
+            return;
+        }
+
+        final Map<?, ?> before = schema(baseline);
+        final Map<?, ?> after = schema(current);
+
+        checkRef(at, before, after);
+        checkType(at, before, after);
+        checkEnum(at, before, after);
+        checkConst(at, before, after);
+        checkProperties(at, before, after);
+        checkBounds(at, before, after);
+        checkAlternatives(at, "anyOf", before, after);
+        checkAlternatives(at, "oneOf", before, after);
+
+        if (after.containsKey("items")) {
+            check(at + "/items", orTrue(before, "items"), after.get("items"));
+        }
+
+        if (Boolean.TRUE.equals(after.get("uniqueItems"))
+                && !Boolean.TRUE.equals(before.get("uniqueItems"))) {
+            breaking(at, "items must now be unique");
+        }
+
+        checkDefinitions(at, "definitions", before, after);
+        checkDefinitions(at, "$defs", before, after);
+
+        final Set<String> keywords = new TreeSet<>();
+        before.keySet().forEach(keyword -> keywords.add(String.valueOf(keyword)));
+        after.keySet().forEach(keyword -> keywords.add(String.valueOf(keyword)));
+        for (final String keyword : keywords) {
+            if (isUnhandled(keyword)
+                    && after.containsKey(keyword)
+                    && !equal(before.get(keyword), after.get(keyword))) {
+                breaking(at, "'" + keyword + "' changed");
+            }
+        }
+    }
+
+    private void checkRef(final String at, final Map<?, ?> before, final Map<?, ?> after) {
+        if (after.containsKey("$ref") && !equal(before.get("$ref"), after.get("$ref"))) {
+            breaking(
+                    at,
+                    "reference changed from " + before.get("$ref") + " to " + after.get("$ref"));
+        }
+    }
+
+    private void checkType(final String at, final Map<?, ?> before, final Map<?, ?> after) {
+        if (!after.containsKey("type")) {
+            return;
+        }
+
+        final Set<String> oldTypes = types(before.get("type"));
+        final Set<String> newTypes = types(after.get("type"));
+        final boolean widened =
+                !oldTypes.isEmpty()
+                        && oldTypes.stream()
+                                .allMatch(
+                                        type ->
+                                                newTypes.contains(type)
+                                                        || (type.equals("integer")
+                                                                && newTypes.contains("number")));
+        if (!widened) {
+            breaking(at, "type narrowed from " + describe(oldTypes) + " to " + newTypes);
+        }
+    }
+
+    private void checkEnum(final String at, final Map<?, ?> before, final Map<?, ?> after) {
+        if (!after.containsKey("enum")) {
+            return;
+        }
+
+        if (!before.containsKey("enum")) {
+            breaking(at, "values restricted to enum " + JsonText.write(after.get("enum")));
+            return;
+        }
+
+        final Set<String> allowed = canonical(list(after.get("enum")));
+        final List<String> removed =
+                list(before.get("enum")).stream()
+                        .filter(value -> !allowed.contains(JsonText.canonical(value)))
+                        .map(JsonText::write)
+                        .collect(Collectors.toList());
+        if (!removed.isEmpty()) {
+            breaking(at, "enum values removed: " + removed);
+        }
+    }
+
+    private void checkConst(final String at, final Map<?, ?> before, final Map<?, ?> after) {
+        if (!after.containsKey("const")) {
+            return;
+        }
+
+        final boolean sameConst =
+                before.containsKey("const") && equal(before.get("const"), after.get("const"));
+        final boolean enumOfConst =
+                before.containsKey("enum")
+                        && canonical(list(before.get("enum")))
+                                .equals(Set.of(JsonText.canonical(after.get("const"))));
+        if (!sameConst && !enumOfConst) {
+            breaking(at, "value restricted to " + JsonText.write(after.get("const")));
+        }
+    }
+
+    private void checkProperties(final String at, final Map<?, ?> before, final Map<?, ?> after) {
+        final Set<String> newlyRequired = new TreeSet<>(strings(after.get("required")));
+        newlyRequired.removeAll(strings(before.get("required")));
+        if (!newlyRequired.isEmpty()) {
+            breaking(at, "properties now required: " + newlyRequired);
+        }
+
+        final Map<?, ?> oldProps = map(before.get("properties"));
+        final Map<?, ?> newProps = map(after.get("properties"));
+        final Object oldAdditional = orTrue(before, "additionalProperties");
+        final Object newAdditional = orTrue(after, "additionalProperties");
+
+        final Set<String> names = new TreeSet<>();
+        oldProps.keySet().forEach(name -> names.add(String.valueOf(name)));
+        newProps.keySet().forEach(name -> names.add(String.valueOf(name)));
+
+        for (final String name : names) {
+            final String propAt = at + "/properties/" + pointerEscape(name);
+            final Object oldProp = oldProps.containsKey(name) ? oldProps.get(name) : oldAdditional;
+            final Object newProp = newProps.containsKey(name) ? newProps.get(name) : newAdditional;
+            if (!newProps.containsKey(name) && Boolean.FALSE.equals(newAdditional)) {
+                breaking(propAt, "property removed");
+            } else {
+                check(propAt, oldProp, newProp);
+            }
+        }
+
+        if (!Boolean.FALSE.equals(newAdditional) || Boolean.FALSE.equals(oldAdditional)) {
+            check(at + "/additionalProperties", oldAdditional, newAdditional);
+        } else {
+            breaking(at, "additional properties no longer allowed");
+        }
+    }
+
+    private void checkBounds(final String at, final Map<?, ?> before, final Map<?, ?> after) {
+        for (final String keyword : LOWER_BOUNDS) {
+            if (after.containsKey(keyword)
+                    && (!before.containsKey(keyword)
+                            || compare(after.get(keyword), before.get(keyword)) > 0)) {
+                breaking(at, boundChange(keyword, before, after));
+            }
+        }
+
+        for (final String keyword : UPPER_BOUNDS) {
+            if (after.containsKey(keyword)
+                    && (!before.containsKey(keyword)
+                            || compare(after.get(keyword), before.get(keyword)) < 0)) {
+                breaking(at, boundChange(keyword, before, after));
+            }
+        }
+    }
+
+    private void checkAlternatives(
+            final String at, final String keyword, final Map<?, ?> before, final Map<?, ?> after) {
+        if (!after.containsKey(keyword)) {
+            return;
+        }
+
+        final List<?> newAlternatives = list(after.get(keyword));
+        final List<?> oldAlternatives =
+                before.containsKey(keyword) ? list(before.get(keyword)) : List.of(before);
+
+        for (int i = 0; i < oldAlternatives.size(); i++) {
+            final Object oldAlternative = oldAlternatives.get(i);
+            final boolean accepted =
+                    newAlternatives.stream()
+                            .anyMatch(alt -> breakingChanges(oldAlternative, alt).isEmpty());
+            if (!accepted) {
+                breaking(
+                        at + "/" + keyword,
+                        before.containsKey(keyword)
+                                ? "alternative " + i + " no longer accepted"
+                                : "values restricted to alternatives");
+            }
+        }
+    }
+
+    private void checkDefinitions(
+            final String at, final String keyword, final Map<?, ?> before, final Map<?, ?> after) {
+        final Map<?, ?> oldDefs = map(before.get(keyword));
+        final Map<?, ?> newDefs = map(after.get(keyword));
+        for (final Map.Entry<?, ?> e : new TreeMap<>(newDefs).entrySet()) {
+            if (oldDefs.containsKey(e.getKey())) {
+                check(
+                        at + "/" + keyword + "/" + pointerEscape(String.valueOf(e.getKey())),
+                        oldDefs.get(e.getKey()),
+                        e.getValue());
+            }
+        }
+    }
+
+    private void breaking(final String at, final String description) {
+        breakingChanges.add((at.isEmpty() ? "/" : at) + ": " + description);
+    }
+
+    private static boolean isUnhandled(final String keyword) {
+        return !HANDLED.contains(keyword)
+                && !LOWER_BOUNDS.contains(keyword)
+                && !UPPER_BOUNDS.contains(keyword)
+                && !ValidatorSourceGenerator.ANNOTATIONS.contains(keyword);
+    }
+
+    private static String boundChange(
+            final String keyword, final Map<?, ?> before, final Map<?, ?> after) {
+        return "'"
+                + keyword
+                + "' tightened from "
+                + (before.containsKey(keyword) ? JsonText.write(before.get(keyword)) : "none")
+                + " to "
+                + JsonText.write(after.get(keyword));
+    }
+
+    private static int compare(final Object a, final Object b) {
+        return decimal(a).compareTo(decimal(b));
+    }
+
+    private static BigDecimal decimal(final Object value) {
+        try {
+            return new BigDecimal(String.valueOf(value));
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Not a number: " + value, e);
+        }
+    }
+
+    private static Set<String> types(final Object type) {
+        if (type == null) {
+            return Set.of();
+        }
+        return type instanceof List
+                ? new LinkedHashSet<>(strings(type))
+                : new LinkedHashSet<>(List.of(String.valueOf(type)));
+    }
+
+    private static String describe(final Set<String> types) {
+        return types.isEmpty() ? "any" : types.toString();
+    }
+
+    private static boolean equal(final Object a, final Object b) {
+        return JsonText.canonical(a).equals(JsonText.canonical(b));
+    }
+
+    private static Set<String> canonical(final Collection<?> values) {
+        return values.stream().map(JsonText::canonical).collect(Collectors.toSet());
+    }
+
+    private static Map<?, ?> schema(final Object schema) {
+        if (schema == null || Boolean.TRUE.equals(schema)) {
+            return Map.of();
+        }
+        if (schema instanceof Map) {
+            return (Map<?, ?>) schema;
+        }
+        throw new IllegalArgumentException("Not a schema: " + JsonText.write(schema));
+    }
+
+    private static Object orTrue(final Map<?, ?> schema, final String keyword) {
+        return schema.containsKey(keyword) ? schema.get(keyword) : Boolean.TRUE;
+    }
+
+    private static Map<?, ?> map(final Object value) {
+        return value instanceof Map ? (Map<?, ?>) value : Map.of();
+    }
+
+    private static List<?> list(final Object value) {
+        return value instanceof List ? (List<?>) value : List.of();
+    }
+
+    private static List<String> strings(final Object value) {
+        return list(value).stream().map(String::valueOf).collect(Collectors.toList());
+    }
+
+    private static String pointerEscape(final String name) {
+        return name.replace("~", "~0").replace("/", "~1");
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/** Util for working with generated schema files. */
+final class SchemaFiles {
+
+    private SchemaFiles() {}
+
+    /**
+     * List the schema files under a resource root.
+     *
+     * <p>Files under {@code META-INF}, e.g. metadata written alongside the schemas, are excluded.
+     *
+     * @param root the resource root.
+     * @return the schema files, relative to the root, in sorted order.
+     */
+    static List<Path> list(final Path root) {
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile)
+                    .map(root::relativize)
+                    .filter(SchemaFiles::isSchemaFile)
+                    .sorted()
+                    .collect(Collectors.toUnmodifiableList());
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to list schemas under " + root, e);
+        }
+    }
+
+    /**
+     * Determine the name of the type a schema file was generated from.
+     *
+     * <p>Schemas are either written in a directory structure matching the type's package, e.g.
+     * {@code acme/models/Thing.yml}, or, where an output directory name is set, with the fully
+     * qualified type name as the file name, e.g. {@code schemas/acme.models.Thing.yml}.
+     *
+     * @param relativePath the path of the schema file, relative to the resource root.
+     * @return the fully qualified type name.
+     */
+    static String typeName(final Path relativePath) {
+        final String fileName = relativePath.getFileName().toString();
+        final String baseName = fileName.substring(0, fileName.lastIndexOf('.'));
+        if (baseName.contains(".") || relativePath.getParent() == null) {
+            return baseName;
+        }
+
+        return resourcePath(relativePath.getParent()).replace('/', '.') + "." + baseName;
+    }
+
+    /**
+     * @param relativePath a path relative to the resource root.
+     * @return the path as a resource path, i.e. with {@code /} separators.
+     */
+    static String resourcePath(final Path relativePath) {
+        final StringBuilder sb = new StringBuilder();
+        for (final Path part : relativePath) {
+            if (sb.length() > 0) {
+                sb.append('/');
+            }
+            sb.append(part);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Build a relative reference from one resource to another.
+     *
+     * @param from the resource path of the referencing resource.
+     * @param to the resource path of the referenced resource.
+     * @return the path of {@code to}, relative to the directory containing {@code from}.
+     */
+    static String relativize(final String from, final String to) {
+        final Path parent = Path.of(from).getParent();
+        final Path target = Path.of(to);
+        return resourcePath(parent == null ? target : parent.relativize(target));
+    }
+
+    /**
+     * @param relativePath a path relative to the resource root.
+     * @return {@code true} if the path is a schema file, rather than other metadata.
+     */
+    static boolean isSchemaFile(final Path relativePath) {
+        final String name = relativePath.getFileName().toString();
+        return !relativePath.startsWith("META-INF")
+                && (name.endsWith(".yml") || name.endsWith(".yaml"));
+    }
+}
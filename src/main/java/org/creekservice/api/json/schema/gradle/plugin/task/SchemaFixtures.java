@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.creekservice.api.json.schema.gradle.plugin.JsonSchemaPlugin.SHARED_DEFINITIONS_DIR;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Maps test fixtures, i.e. example JSON or YAML instances, to the schemas they should be valid
+ * against, and validates them.
+ *
+ * <p>By convention, fixtures for a type are stored in a directory matching the type's fully
+ * qualified name, with one directory per package, e.g. fixtures for {@code acme.models.Thing} are
+ * stored as {@code acme/models/Thing/<any-name>.json}. Fixtures may be {@code .json}, {@code .yml}
+ * or {@code .yaml} files. Fixtures whose file name starts with {@code invalid} are expected to
+ * fail validation.
+ */
+final class SchemaFixtures {
+
+    private static final String INVALID_PREFIX = "invalid";
+
+    private final SchemaValidator validator;
+    private final Map<String, String> resourcePaths;
+
+    /**
+     * @param schemaRoots the schema resource roots containing the schemas to validate against.
+     * @param upstreamSchemas directories and archives of upstream schemas, which the schemas under
+     *     the resource roots may reference.
+     */
+    SchemaFixtures(final Iterable<File> schemaRoots, final Iterable<File> upstreamSchemas) {
+        final Map<String, String> texts =
+                new TreeMap<>(SchemaBaseline.loadByResourcePath(upstreamSchemas));
+        texts.putAll(SchemaBaseline.loadByResourcePath(schemaRoots));
+
+        this.resourcePaths = new HashMap<>();
+        for (final File root : schemaRoots) {
+            for (final Path relativePath : SchemaFiles.list(root.toPath())) {
+                resourcePaths.put(
+                        SchemaFiles.typeName(relativePath), SchemaFiles.resourcePath(relativePath));
+            }
+            texts.putAll(sharedDefinitions(root.toPath()));
+        }
+
+        final Map<String, Object> schemas = new HashMap<>();
+        texts.forEach(
+                (resourcePath, text) -> {
+                    try {
+                        schemas.put(resourcePath, SchemaYaml.parse(text));
+                    } catch (final IllegalArgumentException e) {
+                        throw new IllegalArgumentException(
+                                "Failed to parse schema " + resourcePath + ": " + e.getMessage(),
+                                e);
+                    }
+                });
+        this.validator = new SchemaValidator(schemas);
+    }
+
+    /**
+     * List the fixtures under a directory.
+     *
+     * @param root the fixture directory.
+     * @return the fixture files, relative to the root, in sorted order.
+     */
+    static List<Path> list(final Path root) {
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile)
+                    .map(root::relativize)
+                    .filter(SchemaFixtures::isFixture)
+                    .sorted()
+                    .collect(Collectors.toUnmodifiableList());
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to list fixtures under " + root, e);
+        }
+    }
+
+    /**
+     * @param relativePath the path of a file, relative to the fixture directory.
+     * @return {@code true} if the file is a fixture.
+     */
+    static boolean isFixture(final Path relativePath) {
+        final String name = relativePath.getFileName().toString();
+        return name.endsWith(".json") || name.endsWith(".yml") || name.endsWith(".yaml");
+    }
+
+    /**
+     * @param relativePath the path of a file, relative to a schema resource root.
+     * @return {@code true} if the file is a shared definitions file, which any schema may
+     *     reference.
+     */
+    static boolean isSharedDefinitions(final Path relativePath) {
+        final String name = relativePath.getFileName().toString();
+        return SchemaFiles.resourcePath(relativePath).startsWith(SHARED_DEFINITIONS_DIR)
+                && (name.endsWith(".yml") || name.endsWith(".yaml"));
+    }
+
+    /**
+     * @param relativePath the path of a fixture, relative to the fixture directory.
+     * @return the name of the type the fixture is an instance of, if the fixture is in a type
+     *     directory.
+     */
+    static Optional<String> typeName(final Path relativePath) {
+        final Path parent = relativePath.getParent();
+        return parent == null
+                ? Optional.empty()
+                : Optional.of(SchemaFiles.resourcePath(parent).replace('/', '.'));
+    }
+
+    /**
+     * Validate a fixture.
+     *
+     * @param root the fixture directory.
+     * @param relativePath the path of the fixture, relative to the fixture directory.
+     * @return a description of each failure, which is empty if the fixture passed.
+     */
+    List<String> validate(final Path root, final Path relativePath) {
+        final Optional<String> typeName = typeName(relativePath);
+        if (typeName.isEmpty()) {
+            return List.of("not in a type directory, e.g. acme/Model/" + relativePath);
+        }
+
+        final String resourcePath = resourcePaths.get(typeName.get());
+        if (resourcePath == null) {
+            return List.of("no schema found for type " + typeName.get());
+        }
+
+        final List<String> errors;
+        try {
+            errors = validator.validate(resourcePath, parse(root.resolve(relativePath)));
+        } catch (final IllegalArgumentException e) {
+            return List.of(e.getMessage());
+        }
+
+        final boolean expectInvalid =
+                relativePath.getFileName().toString().startsWith(INVALID_PREFIX);
+        if (expectInvalid) {
+            return errors.isEmpty() ? List.of("expected to be invalid, but is valid") : List.of();
+        }
+        return errors;
+    }
+
+    private static Object parse(final Path file) {
+        final String text;
+        try {
+            text = Files.readString(file, UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read " + file, e);
+        }
+
+        try {
+            return file.getFileName().toString().endsWith(".json")
+                    ? JsonText.parse(text)
+                    : SchemaYaml.parse(text);
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException("Failed to parse fixture: " + e.getMessage(), e);
+        }
+    }
+
+    private static Map<String, String> sharedDefinitions(final Path root) {
+        final Path dir = root.resolve(SHARED_DEFINITIONS_DIR);
+        if (!Files.isDirectory(dir)) {
+            return Map.of();
+        }
+
+        final Map<String, String> texts = new TreeMap<>();
+        final List<Path> files = new ArrayList<>();
+        try (Stream<Path> walk = Files.walk(dir)) {
+            walk.filter(Files::isRegularFile)
+                    .filter(file -> isSharedDefinitions(root.relativize(file)))
+                    .forEach(files::add);
+            for (final Path file : files) {
+                texts.put(
+                        SchemaFiles.resourcePath(root.relativize(file)),
+                        Files.readString(file, UTF_8));
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read shared definitions under " + dir, e);
+        }
+        return texts;
+    }
+}
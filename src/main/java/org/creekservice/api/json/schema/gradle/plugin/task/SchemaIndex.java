@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Builds an index of the schemas under a resource root.
+ *
+ * <p>The index is a UTF-8 text file with a well-known resource path, listing the resource path of
+ * each schema, one per line, in sorted order. Lines starting with {@code #} are comments.
+ *
+ * <p>As every jar built with the plugin has an index at the same path, consumers can discover all
+ * schemas on the class path by reading each resource returned by {@code
+ * ClassLoader.getResources(RESOURCE_PATH)}, rather than walking the class path.
+ */
+final class SchemaIndex {
+
+    /** The resource path of the index. */
+    static final String RESOURCE_PATH = "META-INF/creek/json-schemas.idx";
+
+    private static final String HEADER = "# Creek JSON schema index v1\n";
+
+    private SchemaIndex() {}
+
+    /**
+     * Write the index for the schemas under the resource root.
+     *
+     * @param root the resource root.
+     * @return the number of schemas in the index.
+     */
+    static int write(final Path root) {
+        final List<Path> schemas = SchemaFiles.list(root);
+
+        final StringBuilder index = new StringBuilder(HEADER);
+        schemas.forEach(schema -> index.append(SchemaFiles.resourcePath(schema)).append('\n'));
+
+        final Path file = root.resolve(RESOURCE_PATH);
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, index, UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write " + file, e);
+        }
+        return schemas.size();
+    }
+}
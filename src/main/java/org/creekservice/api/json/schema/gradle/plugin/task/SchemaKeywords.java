@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import java.util.Set;
+
+/** The JSON schema keywords that tasks walking schemas need to treat specially. */
+final class SchemaKeywords {
+
+    /** Keywords whose value is a map of names to sub-schemas, rather than a schema itself. */
+    static final Set<String> NAMED_SCHEMA_KEYS =
+            Set.of(
+                    "properties",
+                    "patternProperties",
+                    "definitions",
+                    "$defs",
+                    "dependentSchemas",
+                    "dependencies");
+
+    /** Keywords whose value is instance data, or names, rather than schemas. */
+    static final Set<String> VALUE_KEYS =
+            Set.of("enum", "const", "default", "required", "examples");
+
+    private SchemaKeywords() {}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Builds a manifest of the schemas under a resource root.
+ *
+ * <p>The manifest is a UTF-8 text file, with one line per schema, sorted by resource path. Lines
+ * starting with {@code #} are comments. Each schema line has the following tab separated fields:
+ *
+ * <ol>
+ *   <li>the fully qualified name of the type the schema was generated from,
+ *   <li>the resource path of the schema,
+ *   <li>the size of the schema file in bytes,
+ *   <li>the hex encoded SHA-256 of the schema file's content,
+ *   <li>the hex encoded SHA-256 of the schema's canonical JSON form, i.e. with keys sorted and no
+ *       insignificant whitespace, which is unaffected by formatting or key order changes.
+ * </ol>
+ *
+ * <p>This allows runtime code to detect schema changes, or look up registry ids, without reading
+ * and hashing each schema.
+ */
+final class SchemaManifest {
+
+    /** The resource path of the manifest. */
+    static final String RESOURCE_PATH = "META-INF/creek/json-schemas.manifest";
+
+    private static final String HEADER =
+            "# Creek JSON schema manifest v1\n"
+                    + "# type\tresource\tsize\tsha256\tfingerprint\n";
+
+    private SchemaManifest() {}
+
+    /**
+     * Write the manifest for the schemas under the resource root.
+     *
+     * @param root the resource root.
+     * @return the number of schemas in the manifest.
+     */
+    static int write(final Path root) {
+        final StringBuilder manifest = new StringBuilder(HEADER);
+        int count = 0;
+        for (final Path schema : SchemaFiles.list(root)) {
+            manifest.append(line(root, schema)).append('\n');
+            count++;
+        }
+
+        final Path file = root.resolve(RESOURCE_PATH);
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, manifest, UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write " + file, e);
+        }
+        return count;
+    }
+
+    /**
+     * @param root the resource root.
+     * @param schema the schema file, relative to the root.
+     * @return the manifest line for the schema, without a trailing line break.
+     */
+    static String line(final Path root, final Path schema) {
+        final byte[] content;
+        try {
+            content = Files.readAllBytes(root.resolve(schema));
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read " + root.resolve(schema), e);
+        }
+
+        return String.join(
+                "\t",
+                SchemaFiles.typeName(schema),
+                SchemaFiles.resourcePath(schema),
+                String.valueOf(content.length),
+                Fingerprints.sha256(content),
+                fingerprint(new String(content, UTF_8)));
+    }
+
+    /**
+     * @param yaml the schema text.
+     * @return the hex encoded SHA-256 of the schema's canonical JSON form.
+     */
+    static String fingerprint(final String yaml) {
+        return Fingerprints.sha256(JsonText.canonical(SchemaYaml.parse(yaml)).getBytes(UTF_8));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.creekservice.api.json.schema.gradle.plugin.task.SchemaKeywords.NAMED_SCHEMA_KEYS;
+import static org.creekservice.api.json.schema.gradle.plugin.task.SchemaKeywords.VALUE_KEYS;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Metrics of a schema that drive the cost of validating against it at runtime.
+ *
+ * <p>Local {@code $ref}s are not followed, so each definition contributes once, no matter how
+ * often it is referenced.
+ */
+final class SchemaMetrics {
+
+    /** The metrics measured. */
+    enum Metric {
+        /** The size of the schema file, in bytes. */
+        SIZE("size"),
+        /** The deepest nesting of subschemas, with the root schema at depth 1. */
+        DEPTH("depth"),
+        /** The largest number of alternatives in a single {@code oneOf} or {@code anyOf}. */
+        FAN_OUT("fanOut"),
+        /** The number of {@code $ref}s. */
+        REFS("refs"),
+        /** The number of regular expressions, in {@code pattern} and {@code patternProperties}. */
+        PATTERNS("patterns");
+
+        private final String text;
+
+        Metric(final String text) {
+            this.text = text;
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
+    private static final Set<String> ALTERNATIVE_KEYS = Set.of("oneOf", "anyOf");
+
+    private final Map<Metric, Long> values = new EnumMap<>(Metric.class);
+
+    private SchemaMetrics() {
+        for (final Metric metric : Metric.values()) {
+            values.put(metric, 0L);
+        }
+    }
+
+    /**
+     * Measure a schema.
+     *
+     * @param text the schema text.
+     * @return the schema's metrics.
+     * @throws IllegalArgumentException on invalid or unsupported YAML.
+     */
+    static SchemaMetrics measure(final String text) {
+        final SchemaMetrics metrics = new SchemaMetrics();
+        metrics.values.put(Metric.SIZE, (long) text.getBytes(UTF_8).length);
+        metrics.schema(SchemaYaml.parse(text), 1);
+        return metrics;
+    }
+
+    /**
+     * @param metric the metric.
+     * @return the value of the metric.
+     */
+    long get(final Metric metric) {
+        return values.get(metric);
+    }
+
+    /**
+     * Compare the metrics to budgets.
+     *
+     * @param budgets the maximum allowed value of each metric with a budget.
+     * @return a description of each budget exceeded.
+     */
+    List<String> exceeded(final Map<Metric, Long> budgets) {
+        final List<String> exceeded = new ArrayList<>();
+        budgets.forEach(
+                (metric, budget) -> {
+                    if (get(metric) > budget) {
+                        exceeded.add(metric + " " + get(metric) + " exceeds budget of " + budget);
+                    }
+                });
+        return exceeded;
+    }
+
+    private void schema(final Object node, final int depth) {
+        if (node instanceof List) {
+            ((List<?>) node).forEach(item -> schema(item, depth));
+            return;
+        }
+
+        if (!(node instanceof Map)) {
+            return;
+        }
+
+        max(Metric.DEPTH, depth);
+        for (final Map.Entry<?, ?> e : ((Map<?, ?>) node).entrySet()) {
+            final String key = String.valueOf(e.getKey());
+            final Object value = e.getValue();
+            if (VALUE_KEYS.contains(key)) {
+                continue;
+            }
+
+            if ("$ref".equals(key)) {
+                add(Metric.REFS, 1);
+            } else if ("pattern".equals(key) && value instanceof String) {
+                add(Metric.PATTERNS, 1);
+            } else if (NAMED_SCHEMA_KEYS.contains(key) && value instanceof Map) {
+                if ("patternProperties".equals(key)) {
+                    add(Metric.PATTERNS, ((Map<?, ?>) value).size());
+                }
+                ((Map<?, ?>) value).values().forEach(sub -> schema(sub, depth + 1));
+            } else {
+                if (ALTERNATIVE_KEYS.contains(key) && value instanceof List) {
+                    max(Metric.FAN_OUT, ((List<?>) value).size());
+                }
+                schema(value, depth + 1);
+            }
+        }
+    }
+
+    private void add(final Metric metric, final long amount) {
+        values.merge(metric, amount, Long::sum);
+    }
+
+    private void max(final Metric metric, final long value) {
+        values.merge(metric, value, Math::max);
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.creekservice.api.json.schema.gradle.plugin.task.SchemaKeywords.NAMED_SCHEMA_KEYS;
+import static org.creekservice.api.json.schema.gradle.plugin.task.SchemaKeywords.VALUE_KEYS;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes minified copies of generated schemas, for use at runtime.
+ *
+ * <p>Minified schemas have annotation keywords that don't affect validation, i.e. {@code title},
+ * {@code description}, {@code examples} and {@code $comment}, removed. Definitions that are
+ * identical once annotations are removed are merged, with references to the duplicates updated.
+ * The result is written as JSON with no insignificant whitespace. As JSON is valid YAML, the
+ * minified schemas keep the resource path of the original, and can be read by the same code.
+ */
+final class SchemaMinifier {
+
+    private static final List<String> DEFINITION_KEYS = List.of("definitions", "$defs");
+    private static final Set<String> ANNOTATION_KEYS =
+            Set.of("title", "description", "examples", "$comment");
+    private static final String REF = "$ref";
+
+    private SchemaMinifier() {}
+
+    /**
+     * Write minified copies of the schemas under a resource root to another root.
+     *
+     * <p>Any existing content of the target root is removed. Other YAML files under the source
+     * root, e.g. shared definitions, have annotations removed, but their definitions are not
+     * merged, as other schemas may reference them. Other files, e.g. metadata under {@code
+     * META-INF}, are copied as-is.
+     *
+     * @param sourceRoot the resource root containing the schemas.
+     * @param targetRoot the resource root to write the minified schemas to.
+     * @return the number of schemas minified.
+     */
+    static int write(final Path sourceRoot, final Path targetRoot) {
+        Directories.delete(targetRoot);
+        if (!Files.isDirectory(sourceRoot)) {
+            return 0;
+        }
+
+        final List<Path> schemas = SchemaFiles.list(sourceRoot);
+        try (Stream<Path> files = Files.walk(sourceRoot)) {
+            for (final Path file :
+                    files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                final Path relative = sourceRoot.relativize(file);
+                final Path target = targetRoot.resolve(relative.toString());
+                Files.createDirectories(target.getParent());
+                if (schemas.contains(relative)) {
+                    final Object schema = SchemaYaml.parse(Files.readString(file, UTF_8));
+                    Files.writeString(target, JsonText.write(minify(schema)) + "\n", UTF_8);
+                } else if (isYaml(relative)) {
+                    final Object content = SchemaYaml.parse(Files.readString(file, UTF_8));
+                    Files.writeString(target, JsonText.write(strip(content)) + "\n", UTF_8);
+                } else {
+                    Files.copy(file, target);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to minify schemas under " + sourceRoot, e);
+        }
+        return schemas.size();
+    }
+
+    /**
+     * Minify a single schema.
+     *
+     * @param schema the parsed schema.
+     * @return the minified schema.
+     */
+    static Object minify(final Object schema) {
+        final Object stripped = strip(schema);
+        if (stripped instanceof Map) {
+            @SuppressWarnings("unchecked")
+            final Map<String, Object> root = (Map<String, Object>) stripped;
+            mergeDuplicateDefinitions(root);
+        }
+        return stripped;
+    }
+
+    private static boolean isYaml(final Path relativePath) {
+        final String name = relativePath.getFileName().toString();
+        return name.endsWith(".yml") || name.endsWith(".yaml");
+    }
+
+    private static Object strip(final Object schema) {
+        if (schema instanceof List) {
+            final List<Object> result = new ArrayList<>();
+            ((List<?>) schema).forEach(item -> result.add(strip(item)));
+            return result;
+        }
+
+        if (!(schema instanceof Map)) {
+            return schema;
+        }
+
+        final Map<String, Object> result = new LinkedHashMap<>();
+        for (final Map.Entry<?, ?> e : ((Map<?, ?>) schema).entrySet()) {
+            final String key = String.valueOf(e.getKey());
+            if (ANNOTATION_KEYS.contains(key)) {
+                continue;
+            }
+
+            if (VALUE_KEYS.contains(key)) {
+                result.put(key, e.getValue());
+            } else if (NAMED_SCHEMA_KEYS.contains(key) && e.getValue() instanceof Map) {
+                final Map<String, Object> named = new LinkedHashMap<>();
+                ((Map<?, ?>) e.getValue())
+                        .forEach((name, sub) -> named.put(String.valueOf(name), strip(sub)));
+                result.put(key, named);
+            } else {
+                result.put(key, strip(e.getValue()));
+            }
+        }
+        return result;
+    }
+
+    private static void mergeDuplicateDefinitions(final Map<String, Object> root) {
+        boolean merged = true;
+        while (merged) {
+            merged = false;
+            for (final String key : DEFINITION_KEYS) {
+                final Object defs = root.get(key);
+                if (!(defs instanceof Map)) {
+                    continue;
+                }
+
+                final Map<String, String> replacements = new HashMap<>();
+                final Map<String, String> firstByContent = new HashMap<>();
+                ((Map<?, ?>) defs)
+                        .forEach(
+                                (name, def) -> {
+                                    final String content = JsonText.canonical(def);
+                                    final String first =
+                                            firstByContent.putIfAbsent(
+                                                    content, String.valueOf(name));
+                                    if (first != null) {
+                                        replacements.put(
+                                                "#/" + key + "/" + name,
+                                                "#/" + key + "/" + first);
+                                    }
+                                });
+
+                if (replacements.isEmpty()) {
+                    continue;
+                }
+
+                replacements.keySet().stream()
+                        .map(ref -> ref.substring(key.length() + 3))
+                        .forEach(((Map<?, ?>) defs)::remove);
+                replaceRefs(root, replacements);
+                merged = true;
+            }
+        }
+    }
+
+    private static void replaceRefs(final Object node, final Map<String, String> replacements) {
+        if (node instanceof List) {
+            ((List<?>) node).forEach(item -> replaceRefs(item, replacements));
+            return;
+        }
+
+        if (!(node instanceof Map)) {
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> map = (Map<String, Object>) node;
+        final Object ref = map.get(REF);
+        if (ref instanceof String) {
+            final String replacement = replacement((String) ref, replacements);
+            if (replacement != null) {
+                map.put(REF, replacement);
+            }
+        }
+
+        map.forEach(
+                (key, value) -> {
+                    if (!VALUE_KEYS.contains(key)) {
+                        replaceRefs(value, replacements);
+                    }
+                });
+    }
+
+    private static String replacement(final String ref, final Map<String, String> replacements) {
+        for (final Map.Entry<String, String> e : replacements.entrySet()) {
+            if (ref.equals(e.getKey())) {
+                return e.getValue();
+            }
+            if (ref.startsWith(e.getKey() + "/")) {
+                return e.getValue() + ref.substring(e.getKey().length());
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Publishes schemas to a Confluent compatible schema registry.
+ *
+ * <p>Each schema is first looked up under its subject, via {@code POST /subjects/{subject}}. Only
+ * schemas the registry does not already hold are registered, so a build without a {@link
+ * PublishLedger ledger}, e.g. a fresh CI checkout, does not register every schema again.
+ *
+ * <p>Requests are sent asynchronously, over HTTP/2 where the registry supports it, with at most a
+ * configured number in flight at once. Requests rejected with {@code 429 Too Many Requests} or
+ * {@code 503 Service Unavailable} are retried, honouring any {@code Retry-After} header.
+ */
+final class SchemaPublisher {
+
+    /** The content type of registry requests. */
+    static final String CONTENT_TYPE = "application/vnd.schemaregistry.v1+json";
+
+    private static final int MAX_ATTEMPTS = 4;
+    private static final long MAX_RETRY_DELAY_MS = 30_000;
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private final URI registry;
+    private final Optional<String> authorization;
+    private final int maxConcurrentRequests;
+    private final Duration timeout;
+    private final HttpClient client;
+
+    /**
+     * @param registry the base URL of the registry.
+     * @param authorization optional value for the {@code Authorization} header.
+     * @param maxConcurrentRequests the maximum number of requests in flight at once.
+     * @param timeout the timeout of each request.
+     */
+    SchemaPublisher(
+            final URI registry,
+            final Optional<String> authorization,
+            final int maxConcurrentRequests,
+            final Duration timeout) {
+        this.registry =
+                registry.toString().endsWith("/") ? registry : URI.create(registry + "/");
+        this.authorization = authorization;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.timeout = timeout;
+        this.client =
+                HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_2)
+                        .connectTimeout(timeout)
+                        .build();
+
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException(
+                    "maxConcurrentRequests must be positive: " + maxConcurrentRequests);
+        }
+    }
+
+    /**
+     * Publish the schemas.
+     *
+     * <p>Failure to publish one schema does not stop others being published.
+     *
+     * @param schemas the schemas to publish.
+     * @return the result.
+     */
+    Result publish(final Collection<Schema> schemas) {
+        final Semaphore permits = new Semaphore(maxConcurrentRequests);
+        final List<CompletableFuture<Void>> pending = new ArrayList<>(schemas.size());
+        final Result result = new Result();
+
+        for (final Schema schema : schemas) {
+            acquire(permits);
+            pending.add(
+                    send(schema)
+                            .handle(
+                                    (registration, e) -> {
+                                        permits.release();
+                                        result.add(schema, registration, e);
+                                        return null;
+                                    }));
+        }
+
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        return result;
+    }
+
+    private CompletableFuture<Registration> send(final Schema schema) {
+        return request(subjectUri(schema.subject()), schema, 1)
+                .thenCompose(
+                        lookup -> {
+                            if (lookup.statusCode() != 404) {
+                                return registration(lookup, true);
+                            }
+
+                            return request(subjectVersionsUri(schema.subject()), schema, 1)
+                                    .thenCompose(response -> registration(response, false));
+                        });
+    }
+
+    private CompletableFuture<HttpResponse<String>> request(
+            final URI uri, final Schema schema, final int attempt) {
+        final HttpRequest.Builder request =
+                HttpRequest.newBuilder(uri)
+                        .timeout(timeout)
+                        .header("Content-Type", CONTENT_TYPE)
+                        .header("Accept", CONTENT_TYPE)
+                        .POST(HttpRequest.BodyPublishers.ofString(requestBody(schema), UTF_8));
+        authorization.ifPresent(auth -> request.header("Authorization", auth));
+
+        return client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString(UTF_8))
+                .thenCompose(
+                        response -> {
+                            final int status = response.statusCode();
+                            if ((status == 429 || status == 503) && attempt < MAX_ATTEMPTS) {
+                                final long delayMs = retryDelayMs(response, attempt);
+                                return CompletableFuture.supplyAsync(
+                                                () -> null,
+                                                CompletableFuture.delayedExecutor(
+                                                        delayMs, TimeUnit.MILLISECONDS))
+                                        .thenCompose(ignored -> request(uri, schema, attempt + 1));
+                            }
+                            return CompletableFuture.completedFuture(response);
+                        });
+    }
+
+    private static CompletableFuture<Registration> registration(
+            final HttpResponse<String> response, final boolean existing) {
+        final int status = response.statusCode();
+        if (status / 100 != 2) {
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("HTTP " + status + ": " + response.body()));
+        }
+
+        final Matcher matcher = ID.matcher(response.body());
+        if (!matcher.find()) {
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("No schema id in response: " + response.body()));
+        }
+        return CompletableFuture.completedFuture(
+                new Registration(Long.parseLong(matcher.group(1)), existing));
+    }
+
+    private URI subjectUri(final String subject) {
+        return registry.resolve("subjects/" + encode(subject));
+    }
+
+    private URI subjectVersionsUri(final String subject) {
+        return registry.resolve("subjects/" + encode(subject) + "/versions");
+    }
+
+    private static String encode(final String subject) {
+        return URLEncoder.encode(subject, UTF_8).replace("+", "%20");
+    }
+
+    private static long retryDelayMs(final HttpResponse<?> response, final int attempt) {
+        return response.headers()
+                .firstValue("Retry-After")
+                .flatMap(SchemaPublisher::parseSeconds)
+                .map(seconds -> Math.min(seconds * 1000, MAX_RETRY_DELAY_MS))
+                .orElse(Math.min(200L << attempt, MAX_RETRY_DELAY_MS));
+    }
+
+    private static Optional<Long> parseSeconds(final String value) {
+        try {
+            return Optional.of(Math.max(0, Long.parseLong(value.trim())));
+        } catch (final NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @param schema the schema.
+     * @return the body of the registration request.
+     */
+    static String requestBody(final Schema schema) {
+        final Map<String, Object> body = new LinkedHashMap<>();
+        body.put("schemaType", "JSON");
+        body.put("schema", schema.json());
+        return JsonText.write(body);
+    }
+
+    private static void acquire(final Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted publishing schemas", e);
+        }
+    }
+
+    /** A schema to publish. */
+    static final class Schema {
+
+        private final String subject;
+        private final String fingerprint;
+        private final String json;
+
+        /**
+         * @param subject the registry subject to publish under.
+         * @param fingerprint the schema's fingerprint.
+         * @param json the schema, as JSON text.
+         */
+        Schema(final String subject, final String fingerprint, final String json) {
+            this.subject = subject;
+            this.fingerprint = fingerprint;
+            this.json = json;
+        }
+
+        String subject() {
+            return subject;
+        }
+
+        String fingerprint() {
+            return fingerprint;
+        }
+
+        String json() {
+            return json;
+        }
+    }
+
+    private static final class Registration {
+
+        private final long id;
+        private final boolean existing;
+
+        Registration(final long id, final boolean existing) {
+            this.id = id;
+            this.existing = existing;
+        }
+    }
+
+    /** The result of publishing schemas. */
+    static final class Result {
+
+        private final Map<Schema, Long> published = new LinkedHashMap<>();
+        private final Set<String> existing = new TreeSet<>();
+        private final Map<String, String> failures = new TreeMap<>();
+
+        private synchronized void add(
+                final Schema schema, final Registration registration, final Throwable e) {
+            if (e == null) {
+                published.put(schema, registration.id);
+                if (registration.existing) {
+                    existing.add(schema.subject());
+                }
+            } else {
+                final Throwable cause = e.getCause() == null ? e : e.getCause();
+                failures.put(schema.subject(), String.valueOf(cause.getMessage()));
+            }
+        }
+
+        /**
+         * @return the schemas now held by the registry, whether newly registered or already
+         *     present, and the ids the registry assigned them.
+         */
+        synchronized Map<Schema, Long> published() {
+            return Map.copyOf(published);
+        }
+
+        /**
+         * @return the subjects of published schemas the registry already held.
+         */
+        synchronized Set<String> existing() {
+            return new TreeSet<>(existing);
+        }
+
+        /**
+         * @return the subjects that failed to publish, and the reason.
+         */
+        synchronized Map<String, String> failures() {
+            return new TreeMap<>(failures);
+        }
+    }
+}
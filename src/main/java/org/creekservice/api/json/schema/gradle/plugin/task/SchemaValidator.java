@@ -0,0 +1,575 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Validates instances against JSON schemas by interpreting the schemas.
+ *
+ * <p>Supports the same keywords, with the same semantics, as the validators generated by {@link
+ * ValidatorSourceGenerator}, except that {@code enum} and {@code const} values may be objects or
+ * arrays, and {@code $ref}s may reference other schemas by relative resource path, e.g. shared
+ * definitions, or upstream schemas by {@code classpath:} URI or absolute {@code $id}, as written
+ * by {@link UpstreamSchemaReferences}. Annotation keywords are ignored. Unsupported keywords and
+ * unresolvable {@code $ref}s cause an {@link IllegalArgumentException}, rather than silently
+ * accepting instances.
+ *
+ * <p>Instances must be in the generic JSON data model, as produced by {@link JsonText#parse} and
+ * {@link SchemaYaml#parse}. Instances of different schemas can be validated by the same validator,
+ * but it is not thread-safe.
+ */
+final class SchemaValidator {
+
+    private final Map<String, Object> schemas;
+    private final Map<String, String> resourcePathsById = new HashMap<>();
+    private final Map<String, Pattern> patterns = new HashMap<>();
+
+    /**
+     * @param schemas the parsed schemas, keyed by resource path.
+     */
+    SchemaValidator(final Map<String, Object> schemas) {
+        this.schemas = Map.copyOf(schemas);
+        schemas.forEach(
+                (resourcePath, schema) -> {
+                    final Object id =
+                            schema instanceof Map ? ((Map<?, ?>) schema).get("$id") : null;
+                    if (id instanceof String && UpstreamSchemaReferences.isAbsolute((String) id)) {
+                        resourcePathsById.put((String) id, resourcePath);
+                    }
+                });
+    }
+
+    /**
+     * Validate an instance.
+     *
+     * @param resourcePath the resource path of the schema to validate against.
+     * @param instance the instance to validate.
+     * @return a description of each validation failure, which is empty if the instance is valid.
+     * @throws IllegalArgumentException if the schema is unknown, invalid or uses unsupported
+     *     features.
+     */
+    List<String> validate(final String resourcePath, final Object instance) {
+        final List<String> errors = new ArrayList<>();
+        validate(new Location(resourcePath, "#"), schema(resourcePath), instance, "", errors);
+        return errors;
+    }
+
+    private void validate(
+            final Location location,
+            final Object schema,
+            final Object v,
+            final String at,
+            final List<String> errors) {
+        if (Boolean.TRUE.equals(schema)) {
+            return;
+        }
+        if (Boolean.FALSE.equals(schema)) {
+            errors.add(error(at, "not allowed by false schema at " + location));
+            return;
+        }
+
+        final Map<?, ?> s = map(schema, location);
+        for (final Object keyword : s.keySet()) {
+            if (!ValidatorSourceGenerator.ANNOTATIONS.contains(String.valueOf(keyword))
+                    && !ValidatorSourceGenerator.SUPPORTED.contains(String.valueOf(keyword))) {
+                throw location.error("unsupported keyword '" + keyword + "'");
+            }
+        }
+
+        if (s.containsKey("$ref")) {
+            final Location target =
+                    location.ref(String.valueOf(s.get("$ref")), resourcePathsById);
+            validate(target, resolve(target), v, at, errors);
+        }
+
+        if (s.containsKey("type")) {
+            final Object type = s.get("type");
+            final List<?> types = type instanceof List ? (List<?>) type : List.of(type);
+            if (types.stream().noneMatch(t -> isType(v, String.valueOf(t), location))) {
+                errors.add(error(at, "expected type " + type + ", got " + typeOf(v)));
+            }
+        }
+
+        if (s.containsKey("enum")) {
+            final List<?> values = list(s.get("enum"), location.child("enum"));
+            if (values.stream().noneMatch(value -> jsonEquals(value, v))) {
+                errors.add(error(at, "value not in enum " + JsonText.write(values)));
+            }
+        }
+
+        if (s.containsKey("const") && !jsonEquals(s.get("const"), v)) {
+            errors.add(error(at, "expected const " + JsonText.write(s.get("const"))));
+        }
+
+        if (v instanceof Map) {
+            objectChecks(location, s, (Map<?, ?>) v, at, errors);
+        } else if (v instanceof List) {
+            arrayChecks(location, s, (List<?>) v, at, errors);
+        } else if (v instanceof String) {
+            stringChecks(location, s, (String) v, at, errors);
+        } else if (v instanceof Number) {
+            numberChecks(location, s, ((Number) v).doubleValue(), at, errors);
+        }
+
+        combinatorChecks(location, s, v, at, errors);
+    }
+
+    private void objectChecks(
+            final Location location,
+            final Map<?, ?> s,
+            final Map<?, ?> m,
+            final String at,
+            final List<String> errors) {
+        final Map<?, ?> properties =
+                s.containsKey("properties")
+                        ? map(s.get("properties"), location.child("properties"))
+                        : Map.of();
+
+        for (final Object name : list(s, "required", location)) {
+            if (!m.containsKey(name)) {
+                errors.add(error(at, "missing required property '" + name + "'"));
+            }
+        }
+
+        if (s.containsKey("dependentRequired")) {
+            final Location dependent = location.child("dependentRequired");
+            for (final Map.Entry<?, ?> e : map(s.get("dependentRequired"), dependent).entrySet()) {
+                if (!m.containsKey(e.getKey())) {
+                    continue;
+                }
+                for (final Object name : list(e.getValue(), dependent)) {
+                    if (!m.containsKey(name)) {
+                        errors.add(
+                                error(
+                                        at,
+                                        "missing property '"
+                                                + name
+                                                + "', required by '"
+                                                + e.getKey()
+                                                + "'"));
+                    }
+                }
+            }
+        }
+
+        final Object additional = s.get("additionalProperties");
+        if (additional != null && !(additional instanceof Boolean || additional instanceof Map)) {
+            throw location.error("additionalProperties must be a boolean or schema");
+        }
+
+        for (final Map.Entry<?, ?> e : m.entrySet()) {
+            final String name = String.valueOf(e.getKey());
+            final String child = at + "/" + escapePointer(name);
+            if (properties.containsKey(name)) {
+                validate(
+                        location.child("properties/" + escapePointer(name)),
+                        properties.get(name),
+                        e.getValue(),
+                        child,
+                        errors);
+            } else if (Boolean.FALSE.equals(additional)) {
+                errors.add(error(child, "additional property not allowed"));
+            } else if (additional instanceof Map) {
+                validate(
+                        location.child("additionalProperties"),
+                        additional,
+                        e.getValue(),
+                        child,
+                        errors);
+            }
+        }
+
+        if (s.containsKey("minProperties")
+                && m.size() < integer(s.get("minProperties"), location)) {
+            errors.add(error(at, "expected at least " + s.get("minProperties") + " properties"));
+        }
+        if (s.containsKey("maxProperties")
+                && m.size() > integer(s.get("maxProperties"), location)) {
+            errors.add(error(at, "expected at most " + s.get("maxProperties") + " properties"));
+        }
+    }
+
+    private void arrayChecks(
+            final Location location,
+            final Map<?, ?> s,
+            final List<?> l,
+            final String at,
+            final List<String> errors) {
+        if (s.containsKey("minItems") && l.size() < integer(s.get("minItems"), location)) {
+            errors.add(error(at, "expected at least " + s.get("minItems") + " items"));
+        }
+        if (s.containsKey("maxItems") && l.size() > integer(s.get("maxItems"), location)) {
+            errors.add(error(at, "expected at most " + s.get("maxItems") + " items"));
+        }
+
+        final List<?> prefixItems = list(s, "prefixItems", location);
+        for (int i = 0; i < prefixItems.size() && i < l.size(); i++) {
+            validate(
+                    location.child("prefixItems/" + i),
+                    prefixItems.get(i),
+                    l.get(i),
+                    at + "/" + i,
+                    errors);
+        }
+
+        final Object items = s.get("items");
+        if (items instanceof List) {
+            throw location.error("array form of items is not supported, use prefixItems");
+        }
+        if (items != null) {
+            for (int i = prefixItems.size(); i < l.size(); i++) {
+                validate(location.child("items"), items, l.get(i), at + "/" + i, errors);
+            }
+        }
+
+        if (Boolean.TRUE.equals(s.get("uniqueItems"))) {
+            for (int i = 0; i < l.size(); i++) {
+                for (int j = i + 1; j < l.size(); j++) {
+                    if (jsonEquals(l.get(i), l.get(j))) {
+                        errors.add(error(at, "items " + i + " and " + j + " are not unique"));
+                    }
+                }
+            }
+        }
+    }
+
+    private void stringChecks(
+            final Location location,
+            final Map<?, ?> s,
+            final String str,
+            final String at,
+            final List<String> errors) {
+        final int len = str.codePointCount(0, str.length());
+        if (s.containsKey("minLength") && len < integer(s.get("minLength"), location)) {
+            errors.add(error(at, "expected at least " + s.get("minLength") + " characters"));
+        }
+        if (s.containsKey("maxLength") && len > integer(s.get("maxLength"), location)) {
+            errors.add(error(at, "expected at most " + s.get("maxLength") + " characters"));
+        }
+        if (s.containsKey("pattern")) {
+            final String pattern = String.valueOf(s.get("pattern"));
+            if (!patterns.computeIfAbsent(pattern, Pattern::compile).matcher(str).find()) {
+                errors.add(error(at, "does not match pattern '" + pattern + "'"));
+            }
+        }
+    }
+
+    private void numberChecks(
+            final Location location,
+            final Map<?, ?> s,
+            final double d,
+            final String at,
+            final List<String> errors) {
+        if (s.containsKey("minimum") && d < number(s.get("minimum"), location)) {
+            errors.add(error(at, "less than minimum " + s.get("minimum")));
+        }
+        if (s.containsKey("maximum") && d > number(s.get("maximum"), location)) {
+            errors.add(error(at, "greater than maximum " + s.get("maximum")));
+        }
+        if (s.containsKey("exclusiveMinimum")
+                && d <= number(s.get("exclusiveMinimum"), location)) {
+            errors.add(error(at, "not greater than " + s.get("exclusiveMinimum")));
+        }
+        if (s.containsKey("exclusiveMaximum")
+                && d >= number(s.get("exclusiveMaximum"), location)) {
+            errors.add(error(at, "not less than " + s.get("exclusiveMaximum")));
+        }
+        if (s.containsKey("multipleOf")) {
+            final double q = d / number(s.get("multipleOf"), location);
+            if (Math.abs(q - Math.rint(q)) >= 1e-9) {
+                errors.add(error(at, "not a multiple of " + s.get("multipleOf")));
+            }
+        }
+    }
+
+    private void combinatorChecks(
+            final Location location,
+            final Map<?, ?> s,
+            final Object v,
+            final String at,
+            final List<String> errors) {
+        final List<?> allOf = list(s, "allOf", location);
+        for (int i = 0; i < allOf.size(); i++) {
+            validate(location.child("allOf/" + i), allOf.get(i), v, at, errors);
+        }
+
+        final List<?> anyOf = list(s, "anyOf", location);
+        if (!anyOf.isEmpty() && countValid(location.child("anyOf"), anyOf, v) == 0) {
+            errors.add(error(at, "not valid against any schema in anyOf"));
+        }
+
+        final List<?> oneOf = list(s, "oneOf", location);
+        if (!oneOf.isEmpty()) {
+            final int valid = countValid(location.child("oneOf"), oneOf, v);
+            if (valid != 1) {
+                errors.add(error(at, "valid against " + valid + " schemas in oneOf, expected 1"));
+            }
+        }
+
+        if (s.containsKey("not") && isValid(location.child("not"), s.get("not"), v)) {
+            errors.add(error(at, "valid against schema in not"));
+        }
+
+        if (s.containsKey("if")) {
+            final boolean condition = isValid(location.child("if"), s.get("if"), v);
+            final String branch = condition ? "then" : "else";
+            if (s.containsKey(branch)) {
+                validate(location.child(branch), s.get(branch), v, at, errors);
+            }
+        }
+    }
+
+    private int countValid(final Location location, final List<?> schemas, final Object v) {
+        int valid = 0;
+        for (int i = 0; i < schemas.size(); i++) {
+            if (isValid(location.child(String.valueOf(i)), schemas.get(i), v)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    private boolean isValid(final Location location, final Object schema, final Object v) {
+        final List<String> errors = new ArrayList<>();
+        validate(location, schema, v, "", errors);
+        return errors.isEmpty();
+    }
+
+    private Object schema(final String resourcePath) {
+        final Object schema = schemas.get(resourcePath);
+        if (schema == null) {
+            throw new IllegalArgumentException("Unknown schema: " + resourcePath);
+        }
+        return schema;
+    }
+
+    private Object resolve(final Location location) {
+        if (!schemas.containsKey(location.resource)) {
+            throw location.error("unresolvable $ref");
+        }
+
+        Object node = schemas.get(location.resource);
+        final String pointer =
+                URLDecoder.decode(location.pointer.substring(1), StandardCharsets.UTF_8);
+        if (pointer.isEmpty()) {
+            return node;
+        }
+        if (!pointer.startsWith("/")) {
+            throw location.error("only JSON pointer $refs are supported");
+        }
+
+        for (final String token : pointer.substring(1).split("/", -1)) {
+            final String name = token.replace("~1", "/").replace("~0", "~");
+            if (node instanceof Map && ((Map<?, ?>) node).containsKey(name)) {
+                node = ((Map<?, ?>) node).get(name);
+            } else if (node instanceof List && name.matches("[0-9]+")) {
+                node = ((List<?>) node).get(Integer.parseInt(name));
+            } else {
+                throw location.error("unresolvable $ref");
+            }
+        }
+        return node;
+    }
+
+    private static boolean isType(final Object v, final String type, final Location location) {
+        switch (type) {
+            case "object":
+                return v instanceof Map;
+            case "array":
+                return v instanceof List;
+            case "string":
+                return v instanceof String;
+            case "integer":
+                return isInteger(v);
+            case "number":
+                return v instanceof Number;
+            case "boolean":
+                return v instanceof Boolean;
+            case "null":
+                return v == null;
+            default:
+                throw location.error("unknown type '" + type + "'");
+        }
+    }
+
+    private static String typeOf(final Object v) {
+        if (v == null) {
+            return "null";
+        }
+        if (v instanceof Map) {
+            return "object";
+        }
+        if (v instanceof List) {
+            return "array";
+        }
+        if (v instanceof String) {
+            return "string";
+        }
+        if (v instanceof Boolean) {
+            return "boolean";
+        }
+        return isInteger(v) ? "integer" : "number";
+    }
+
+    private static boolean isInteger(final Object v) {
+        if (v instanceof Integer
+                || v instanceof Long
+                || v instanceof Short
+                || v instanceof Byte
+                || v instanceof BigInteger) {
+            return true;
+        }
+        if (v instanceof BigDecimal) {
+            return ((BigDecimal) v).stripTrailingZeros().scale() <= 0;
+        }
+        if (v instanceof Double || v instanceof Float) {
+            final double d = ((Number) v).doubleValue();
+            return !Double.isInfinite(d) && d == Math.rint(d);
+        }
+        return false;
+    }
+
+    private static boolean jsonEquals(final Object a, final Object b) {
+        if (a instanceof Number && b instanceof Number) {
+            return ((Number) a).doubleValue() == ((Number) b).doubleValue();
+        }
+        if (a instanceof Map && b instanceof Map) {
+            final Map<?, ?> ma = (Map<?, ?>) a;
+            final Map<?, ?> mb = (Map<?, ?>) b;
+            return ma.size() == mb.size()
+                    && ma.entrySet().stream()
+                            .allMatch(
+                                    e ->
+                                            mb.containsKey(e.getKey())
+                                                    && jsonEquals(
+                                                            e.getValue(), mb.get(e.getKey())));
+        }
+        if (a instanceof List && b instanceof List) {
+            final List<?> la = (List<?>) a;
+            final List<?> lb = (List<?>) b;
+            if (la.size() != lb.size()) {
+                return false;
+            }
+            for (int i = 0; i < la.size(); i++) {
+                if (!jsonEquals(la.get(i), lb.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return a == null ? b == null : a.equals(b);
+    }
+
+    private static Map<?, ?> map(final Object value, final Location location) {
+        if (!(value instanceof Map)) {
+            throw location.error("expected object");
+        }
+        return (Map<?, ?>) value;
+    }
+
+    private static List<?> list(final Map<?, ?> s, final String keyword, final Location location) {
+        return s.containsKey(keyword) ? list(s.get(keyword), location.child(keyword)) : List.of();
+    }
+
+    private static List<?> list(final Object value, final Location location) {
+        if (!(value instanceof List)) {
+            throw location.error("expected array");
+        }
+        return (List<?>) value;
+    }
+
+    private static long integer(final Object value, final Location location) {
+        if (!(value instanceof Long)) {
+            throw location.error("expected integer, got " + value);
+        }
+        return (Long) value;
+    }
+
+    private static double number(final Object value, final Location location) {
+        if (!(value instanceof Number)) {
+            throw location.error("expected number, got " + value);
+        }
+        return ((Number) value).doubleValue();
+    }
+
+    private static String error(final String at, final String msg) {
+        return "#" + at + ": " + msg;
+    }
+
+    private static String escapePointer(final String name) {
+        return name.replace("~", "~0").replace("/", "~1");
+    }
+
+    /** A location within a schema: the schema's resource path and a JSON pointer fragment. */
+    private static final class Location {
+
+        final String resource;
+        final String pointer;
+
+        Location(final String resource, final String pointer) {
+            this.resource = resource;
+            this.pointer = pointer;
+        }
+
+        Location child(final String path) {
+            return new Location(resource, pointer + "/" + path);
+        }
+
+        Location ref(final String ref, final Map<String, String> resourcePathsById) {
+            final int hash = ref.indexOf('#');
+            final String file = hash < 0 ? ref : ref.substring(0, hash);
+            final String fragment = hash < 0 ? "#" : ref.substring(hash);
+            if (file.isEmpty()) {
+                return new Location(resource, fragment);
+            }
+            if (file.startsWith(UpstreamSchemaReferences.CLASSPATH_SCHEME)) {
+                final String path =
+                        file.substring(UpstreamSchemaReferences.CLASSPATH_SCHEME.length());
+                return new Location(path.replaceFirst("^/+", ""), fragment);
+            }
+            if (file.contains(":")) {
+                final String resourcePath = resourcePathsById.get(file);
+                if (resourcePath == null) {
+                    throw error("unresolvable $ref, no schema with $id " + file);
+                }
+                return new Location(resourcePath, fragment);
+            }
+
+            final Path parent = Path.of(resource).getParent();
+            final Path target = parent == null ? Path.of(file) : parent.resolve(file);
+            return new Location(SchemaFiles.resourcePath(target.normalize()), fragment);
+        }
+
+        IllegalArgumentException error(final String msg) {
+            return new IllegalArgumentException(this + ": " + msg);
+        }
+
+        @Override
+        public String toString() {
+            return resource + pointer;
+        }
+    }
+}
@@ -0,0 +1,816 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Minimal YAML parser for the schema files written by the generator.
+ *
+ * <p>Supports block mappings and sequences, including compact sequences under mapping keys,
+ * plain, single-quoted and double-quoted scalars, which may span multiple lines, literal and
+ * folded block scalars, and single-line flow collections. Anchors, aliases, tags and multiple
+ * documents are not supported.
+ *
+ * <p>Mappings are parsed to {@link Map}, sequences to {@link List}, and scalars to {@link String},
+ * {@link Boolean}, {@link Long}, {@link BigInteger}, {@link Double} or {@code null}.
+ */
+final class SchemaYaml {
+
+    private static final Pattern INTEGER = Pattern.compile("[-+]?[0-9]+");
+    private static final Pattern FLOAT =
+            Pattern.compile("[-+]?(\\.[0-9]+|[0-9]+(\\.[0-9]*)?)([eE][-+]?[0-9]+)?");
+
+    private final List<String> lines;
+    private int pos;
+
+    private SchemaYaml(final String text) {
+        this.lines = new ArrayList<>(List.of(text.split("\\r?\\n", -1)));
+    }
+
+    /**
+     * Parse YAML text.
+     *
+     * @param text the text to parse.
+     * @return the parsed value.
+     * @throws IllegalArgumentException on invalid or unsupported YAML.
+     */
+    static Object parse(final String text) {
+        final SchemaYaml parser = new SchemaYaml(text);
+        parser.skipIgnorable();
+        if (parser.atEnd()) {
+            return null;
+        }
+
+        final Object result = parser.parseNode(parser.indent());
+        parser.skipIgnorable();
+        if (!parser.atEnd()) {
+            throw parser.error("Unexpected content");
+        }
+        return result;
+    }
+
+    /**
+     * Write a value as a YAML document, in block style.
+     *
+     * <p>Strings are only quoted where required for them to be read back as strings. The output can
+     * be read back by {@link #parse}.
+     *
+     * @param value the value to write, in the data model produced by {@link #parse}.
+     * @return the YAML text.
+     */
+    static String write(final Object value) {
+        final StringBuilder sb = new StringBuilder("---\n");
+        if (value instanceof Map && !((Map<?, ?>) value).isEmpty()) {
+            writeEntries((Map<?, ?>) value, 0, sb);
+        } else if (value instanceof List && !((List<?>) value).isEmpty()) {
+            writeItems((List<?>) value, 0, sb);
+        } else {
+            sb.append(scalar(value)).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private Object parseNode(final int indent) {
+        final String content = content();
+        if (isSequenceItem(content)) {
+            return parseSequence(indent);
+        }
+
+        if (mappingColon(content) >= 0) {
+            return parseMapping(indent);
+        }
+
+        pos++;
+        return parseValue(content, indent - 1);
+    }
+
+    private Map<String, Object> parseMapping(final int indent) {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        while (true) {
+            skipIgnorable();
+            if (atEnd() || indent() < indent) {
+                return map;
+            }
+
+            final String content = content();
+            if (indent() > indent) {
+                throw error("Unexpected indentation");
+            }
+            if (isSequenceItem(content)) {
+                return map;
+            }
+
+            final int colon = mappingColon(content);
+            if (colon < 0) {
+                throw error("Expected mapping entry");
+            }
+
+            final String key = key(content.substring(0, colon).strip());
+            final String rest = content.substring(colon + 1).strip();
+            pos++;
+            map.put(key, parseValue(rest, indent));
+        }
+    }
+
+    private List<Object> parseSequence(final int indent) {
+        final List<Object> list = new ArrayList<>();
+        while (true) {
+            skipIgnorable();
+            if (atEnd() || indent() != indent || !isSequenceItem(content())) {
+                return list;
+            }
+
+            final String rest = content().substring(1);
+            final String item = rest.strip();
+            if (item.isEmpty()) {
+                pos++;
+                skipIgnorable();
+                list.add(!atEnd() && indent() > indent ? parseNode(indent()) : null);
+            } else if (isSequenceItem(item) || mappingColon(item) >= 0) {
+                // Block node starting on the same line as the dash:
+                final int offset = indent + 1 + (rest.length() - rest.stripLeading().length());
+                lines.set(pos, " ".repeat(offset) + item);
+                list.add(parseNode(offset));
+            } else {
+                pos++;
+                list.add(parseValue(item, indent));
+            }
+        }
+    }
+
+    /**
+     * Parse a value that starts with {@code text}, where the current line has already been
+     * consumed.
+     *
+     * @param text the text of the value on the current line.
+     * @param indent the indent of the owning mapping key or sequence item.
+     */
+    private Object parseValue(final String text, final int indent) {
+        if (text.isEmpty() || text.startsWith("#")) {
+            skipIgnorable();
+            if (atEnd()) {
+                return null;
+            }
+            if (indent() > indent) {
+                return parseNode(indent());
+            }
+            if (indent() == indent && isSequenceItem(content())) {
+                return parseSequence(indent);
+            }
+            return null;
+        }
+
+        switch (text.charAt(0)) {
+            case '|':
+            case '>':
+                return parseBlockScalar(text, indent);
+            case '"':
+                return parseDoubleQuoted(text);
+            case '\'':
+                return parseSingleQuoted(text);
+            case '[':
+            case '{':
+                return parseFlow(text);
+            case '&':
+            case '*':
+            case '!':
+                throw error("Anchors, aliases and tags are not supported");
+            default:
+                return parsePlain(text, indent);
+        }
+    }
+
+    private Object parsePlain(final String text, final int indent) {
+        final StringBuilder sb = new StringBuilder(stripComment(text));
+        boolean multiLine = false;
+        int blanks = 0;
+        for (int next = pos; next < lines.size(); next++) {
+            final String line = lines.get(next);
+            if (line.isBlank()) {
+                blanks++;
+                continue;
+            }
+            if (indentOf(line) <= indent || line.strip().startsWith("#")) {
+                break;
+            }
+
+            sb.append(blanks == 0 ? " " : "\n".repeat(blanks)).append(stripComment(line.strip()));
+            multiLine = true;
+            blanks = 0;
+            pos = next + 1;
+        }
+
+        return multiLine ? sb.toString() : resolvePlain(sb.toString());
+    }
+
+    private String parseDoubleQuoted(final String text) {
+        final StringBuilder raw = new StringBuilder(text.substring(1));
+        while (closingDoubleQuote(raw) < 0) {
+            if (atEnd()) {
+                throw error("Unterminated double-quoted scalar");
+            }
+            raw.append('\n').append(lines.get(pos++));
+        }
+        return decodeDoubleQuoted(raw, closingDoubleQuote(raw));
+    }
+
+    private String parseSingleQuoted(final String text) {
+        final StringBuilder raw = new StringBuilder(text.substring(1));
+        while (closingSingleQuote(raw) < 0) {
+            if (atEnd()) {
+                throw error("Unterminated single-quoted scalar");
+            }
+            raw.append('\n').append(lines.get(pos++));
+        }
+
+        final String body = raw.substring(0, closingSingleQuote(raw)).replace("''", "'");
+        return fold(body);
+    }
+
+    private String parseBlockScalar(final String header, final int indent) {
+        final boolean literal = header.charAt(0) == '|';
+        final String indicators = stripComment(header.substring(1)).strip();
+        final boolean strip = indicators.contains("-");
+        final boolean keep = indicators.contains("+");
+        final String explicit = indicators.replaceAll("[-+]", "");
+
+        int blockIndent = explicit.isEmpty() ? -1 : indent + Integer.parseInt(explicit);
+        final List<String> content = new ArrayList<>();
+        while (!atEnd()) {
+            final String line = lines.get(pos);
+            if (line.isBlank()) {
+                content.add("");
+                pos++;
+                continue;
+            }
+
+            if (blockIndent < 0) {
+                blockIndent = indentOf(line);
+            }
+            if (indentOf(line) < blockIndent || indentOf(line) <= indent) {
+                break;
+            }
+            content.add(line.substring(blockIndent));
+            pos++;
+        }
+
+        int trailing = 0;
+        while (!content.isEmpty() && content.get(content.size() - 1).isEmpty()) {
+            content.remove(content.size() - 1);
+            trailing++;
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < content.size(); i++) {
+            final String line = content.get(i);
+            final String previous = i == 0 ? null : content.get(i - 1);
+            if (previous == null) {
+                sb.append(line);
+            } else if (literal) {
+                sb.append('\n').append(line);
+            } else if (line.isEmpty()) {
+                // Folded: the line break before empty lines is dropped.
+                sb.append('\n');
+            } else if (previous.isEmpty()) {
+                sb.append(line);
+            } else if (line.startsWith(" ") || previous.startsWith(" ")) {
+                sb.append('\n').append(line);
+            } else {
+                sb.append(' ').append(line);
+            }
+        }
+
+        if (content.isEmpty() || strip) {
+            return sb.toString();
+        }
+        return sb.append(keep ? "\n".repeat(trailing + 1) : "\n").toString();
+    }
+
+    private Object parseFlow(final String text) {
+        final StringBuilder raw = new StringBuilder(text);
+        while (!balanced(raw)) {
+            if (atEnd()) {
+                throw error("Unterminated flow collection");
+            }
+            raw.append(' ').append(lines.get(pos++).strip());
+        }
+
+        final FlowParser flow = new FlowParser(raw.toString());
+        final Object result = flow.value();
+        flow.skipWhitespace();
+        if (flow.idx < flow.text.length() && flow.text.charAt(flow.idx) != '#') {
+            throw error("Unexpected content after flow collection");
+        }
+        return result;
+    }
+
+    private void skipIgnorable() {
+        while (!atEnd()) {
+            final String line = lines.get(pos);
+            final String stripped = line.strip();
+            if (stripped.startsWith("--- ")) {
+                lines.set(pos, stripped.substring(4));
+                continue;
+            }
+            if (stripped.isEmpty()
+                    || stripped.startsWith("#")
+                    || stripped.startsWith("%")
+                    || stripped.equals("---")
+                    || stripped.equals("...")) {
+                pos++;
+                continue;
+            }
+            return;
+        }
+    }
+
+    private boolean atEnd() {
+        return pos >= lines.size();
+    }
+
+    private int indent() {
+        return indentOf(lines.get(pos));
+    }
+
+    private String content() {
+        return lines.get(pos).substring(indent()).stripTrailing();
+    }
+
+    private IllegalArgumentException error(final String msg) {
+        final String line = atEnd() ? "<end of file>" : lines.get(pos);
+        return new IllegalArgumentException(msg + " at line " + (pos + 1) + ": " + line);
+    }
+
+    private String key(final String text) {
+        if (text.startsWith("\"")) {
+            final StringBuilder raw = new StringBuilder(text.substring(1));
+            return decodeDoubleQuoted(raw, closingDoubleQuote(raw));
+        }
+        if (text.startsWith("'")) {
+            return text.substring(1, text.length() - 1).replace("''", "'");
+        }
+        return text;
+    }
+
+    private static boolean isSequenceItem(final String content) {
+        return content.equals("-") || content.startsWith("- ");
+    }
+
+    /**
+     * @return the index of the colon separating a mapping key from its value, or -1.
+     */
+    private static int mappingColon(final String content) {
+        if (content.isEmpty() || "[{|>#".indexOf(content.charAt(0)) >= 0) {
+            return -1;
+        }
+
+        int start = 0;
+        if (content.charAt(0) == '"') {
+            final int close = closingDoubleQuote(new StringBuilder(content.substring(1)));
+            if (close < 0) {
+                return -1;
+            }
+            start = close + 2;
+        } else if (content.charAt(0) == '\'') {
+            final int close = closingSingleQuote(new StringBuilder(content.substring(1)));
+            if (close < 0) {
+                return -1;
+            }
+            start = close + 2;
+        }
+
+        for (int i = start; i < content.length(); i++) {
+            if (content.charAt(i) == ':'
+                    && (i + 1 == content.length() || content.charAt(i + 1) == ' ')) {
+                return i;
+            }
+            if (start > 0 && content.charAt(i) != ' ') {
+                return -1;
+            }
+            if (content.charAt(i) == '#' && i > 0 && content.charAt(i - 1) == ' ') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int indentOf(final String line) {
+        int i = 0;
+        while (i < line.length() && line.charAt(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static String stripComment(final String text) {
+        final int idx = text.indexOf(" #");
+        return (idx < 0 ? text : text.substring(0, idx)).strip();
+    }
+
+    private static int closingDoubleQuote(final CharSequence raw) {
+        for (int i = 0; i < raw.length(); i++) {
+            final char c = raw.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '"') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int closingSingleQuote(final CharSequence raw) {
+        for (int i = 0; i < raw.length(); i++) {
+            if (raw.charAt(i) == '\'') {
+                if (i + 1 < raw.length() && raw.charAt(i + 1) == '\'') {
+                    i++;
+                } else {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static String decodeDoubleQuoted(final CharSequence raw, final int end) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < end; i++) {
+            final char c = raw.charAt(i);
+            if (c == '\n') {
+                i = foldLineBreak(raw, i, end, sb) - 1;
+                continue;
+            }
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+
+            final char e = raw.charAt(++i);
+            switch (e) {
+                case '\n':
+                    // Escaped line break: join without a space
+                    while (i + 1 < end && (raw.charAt(i + 1) == ' ' || raw.charAt(i + 1) == '\t')) {
+                        i++;
+                    }
+                    break;
+                case '0':
+                    sb.append('\0');
+                    break;
+                case 'a':
+                    sb.append('\u0007');
+                    break;
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 't':
+                case '\t':
+                    sb.append('\t');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'v':
+                    sb.append('\u000B');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 'e':
+                    sb.append('\u001B');
+                    break;
+                case 'N':
+                    sb.append('\u0085');
+                    break;
+                case '_':
+                    sb.append('\u00A0');
+                    break;
+                case 'L':
+                    sb.append('\u2028');
+                    break;
+                case 'P':
+                    sb.append('\u2029');
+                    break;
+                case 'x':
+                    sb.appendCodePoint(hex(raw, i + 1, 2));
+                    i += 2;
+                    break;
+                case 'u':
+                    sb.appendCodePoint(hex(raw, i + 1, 4));
+                    i += 4;
+                    break;
+                case 'U':
+                    sb.appendCodePoint(hex(raw, i + 1, 8));
+                    i += 8;
+                    break;
+                default:
+                    // Includes '"', '\\', '/' and ' ':
+                    sb.append(e);
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static int hex(final CharSequence raw, final int start, final int digits) {
+        return Integer.parseInt(raw.subSequence(start, start + digits).toString(), 16);
+    }
+
+    private static String fold(final CharSequence raw) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < raw.length(); ) {
+            if (raw.charAt(i) == '\n') {
+                i = foldLineBreak(raw, i, raw.length(), sb);
+            } else {
+                sb.append(raw.charAt(i++));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Fold the line break at {@code idx}: trailing and leading white space is removed, a single
+     * line break becomes a space, and each empty line becomes a line feed.
+     *
+     * @return the index of the first character after the fold.
+     */
+    private static int foldLineBreak(
+            final CharSequence raw, final int idx, final int end, final StringBuilder sb) {
+        while (sb.length() > 0
+                && (sb.charAt(sb.length() - 1) == ' ' || sb.charAt(sb.length() - 1) == '\t')) {
+            sb.setLength(sb.length() - 1);
+        }
+
+        int i = idx + 1;
+        int emptyLines = 0;
+        while (true) {
+            while (i < end && (raw.charAt(i) == ' ' || raw.charAt(i) == '\t')) {
+                i++;
+            }
+            if (i < end && raw.charAt(i) == '\n') {
+                emptyLines++;
+                i++;
+            } else {
+                break;
+            }
+        }
+
+        sb.append(emptyLines == 0 ? " " : "\n".repeat(emptyLines));
+        return i;
+    }
+
+    private static boolean balanced(final CharSequence raw) {
+        int depth = 0;
+        char quote = 0;
+        for (int i = 0; i < raw.length(); i++) {
+            final char c = raw.charAt(i);
+            if (quote != 0) {
+                if (c == '\\' && quote == '"') {
+                    i++;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '[' || c == '{') {
+                depth++;
+            } else if (c == ']' || c == '}') {
+                depth--;
+            }
+        }
+        return depth <= 0 && quote == 0;
+    }
+
+    private static Object resolvePlain(final String text) {
+        switch (text) {
+            case "":
+            case "~":
+            case "null":
+            case "Null":
+            case "NULL":
+                return null;
+            case "true":
+            case "True":
+            case "TRUE":
+                return true;
+            case "false":
+            case "False":
+            case "FALSE":
+                return false;
+            case ".inf":
+            case "+.inf":
+                return Double.POSITIVE_INFINITY;
+            case "-.inf":
+                return Double.NEGATIVE_INFINITY;
+            case ".nan":
+                return Double.NaN;
+            default:
+                break;
+        }
+
+        if (INTEGER.matcher(text).matches()) {
+            final BigInteger value = new BigInteger(text);
+            return value.bitLength() < 64 ? (Object) value.longValue() : value;
+        }
+        if (FLOAT.matcher(text).matches()) {
+            return Double.parseDouble(text);
+        }
+        return text;
+    }
+
+    private static void writeEntries(
+            final Map<?, ?> map, final int indent, final StringBuilder sb) {
+        for (final Map.Entry<?, ?> e : map.entrySet()) {
+            sb.append(" ".repeat(indent)).append(string(String.valueOf(e.getKey()))).append(':');
+            final Object value = e.getValue();
+            if (value instanceof Map && !((Map<?, ?>) value).isEmpty()) {
+                sb.append('\n');
+                writeEntries((Map<?, ?>) value, indent + 2, sb);
+            } else if (value instanceof List && !((List<?>) value).isEmpty()) {
+                sb.append('\n');
+                writeItems((List<?>) value, indent, sb);
+            } else {
+                sb.append(' ').append(scalar(value)).append('\n');
+            }
+        }
+    }
+
+    private static void writeItems(final List<?> list, final int indent, final StringBuilder sb) {
+        for (final Object item : list) {
+            sb.append(" ".repeat(indent)).append('-');
+            if (item instanceof Map && !((Map<?, ?>) item).isEmpty()) {
+                // Compact form: first entry on the same line as the dash:
+                final StringBuilder entries = new StringBuilder();
+                writeEntries((Map<?, ?>) item, indent + 2, entries);
+                sb.append(' ').append(entries, indent + 2, entries.length());
+            } else if (item instanceof List && !((List<?>) item).isEmpty()) {
+                sb.append('\n');
+                writeItems((List<?>) item, indent + 2, sb);
+            } else {
+                sb.append(' ').append(scalar(item)).append('\n');
+            }
+        }
+    }
+
+    private static String scalar(final Object value) {
+        if (value instanceof String) {
+            return string((String) value);
+        }
+        if (value instanceof Map) {
+            return "{}";
+        }
+        if (value instanceof List) {
+            return "[]";
+        }
+        if (value instanceof Double) {
+            final double d = (Double) value;
+            if (Double.isNaN(d)) {
+                return ".nan";
+            }
+            if (Double.isInfinite(d)) {
+                return d > 0 ? ".inf" : "-.inf";
+            }
+        }
+        return String.valueOf(value);
+    }
+
+    private static String string(final String text) {
+        if (isPlainSafe(text)) {
+            return text;
+        }
+
+        final boolean printable = text.codePoints().noneMatch(Character::isISOControl);
+        if (printable) {
+            return "'" + text.replace("'", "''") + "'";
+        }
+
+        final StringBuilder sb = new StringBuilder("\"");
+        for (final char c : text.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c == '\n') {
+                sb.append("\\n");
+            } else if (Character.isISOControl(c)) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private static boolean isPlainSafe(final String text) {
+        return !text.isEmpty()
+                && text.equals(text.strip())
+                && "-?:,[]{}#&*!|>'\"%@`".indexOf(text.charAt(0)) < 0
+                && !text.endsWith(":")
+                && !text.contains(": ")
+                && !text.contains(" #")
+                && text.codePoints().noneMatch(Character::isISOControl)
+                && text.equals(resolvePlain(text));
+    }
+
+    private static final class FlowParser {
+
+        private final String text;
+        private int idx;
+
+        FlowParser(final String text) {
+            this.text = text;
+        }
+
+        Object value() {
+            skipWhitespace();
+            if (idx >= text.length()) {
+                throw new IllegalArgumentException("Unexpected end of flow: " + text);
+            }
+
+            final char c = text.charAt(idx);
+            if (c == '[') {
+                idx++;
+                final List<Object> list = new ArrayList<>();
+                while (!consume(']')) {
+                    list.add(value());
+                    consume(',');
+                }
+                return list;
+            }
+            if (c == '{') {
+                idx++;
+                final Map<String, Object> map = new LinkedHashMap<>();
+                while (!consume('}')) {
+                    final Object key = scalar(":,}");
+                    skipWhitespace();
+                    final Object value = consume(':') ? value() : null;
+                    map.put(String.valueOf(key), value);
+                    consume(',');
+                }
+                return map;
+            }
+            return scalar(",]}");
+        }
+
+        private Object scalar(final String terminators) {
+            skipWhitespace();
+            final char c = text.charAt(idx);
+            if (c == '"') {
+                final String rest = text.substring(idx + 1);
+                final int close = closingDoubleQuote(rest);
+                idx += close + 2;
+                return decodeDoubleQuoted(rest, close);
+            }
+            if (c == '\'') {
+                final String rest = text.substring(idx + 1);
+                final int close = closingSingleQuote(rest);
+                idx += close + 2;
+                return rest.substring(0, close).replace("''", "'");
+            }
+
+            final int start = idx;
+            while (idx < text.length() && terminators.indexOf(text.charAt(idx)) < 0) {
+                idx++;
+            }
+            return resolvePlain(text.substring(start, idx).strip());
+        }
+
+        private boolean consume(final char c) {
+            skipWhitespace();
+            if (idx >= text.length()) {
+                throw new IllegalArgumentException("Unterminated flow collection: " + text);
+            }
+            if (text.charAt(idx) == c) {
+                idx++;
+                return true;
+            }
+            return false;
+        }
+
+        void skipWhitespace() {
+            while (idx < text.length() && text.charAt(idx) == ' ') {
+                idx++;
+            }
+        }
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Moves definitions repeated across the schemas of a module into a single shared definitions file,
+ * which the schemas then reference.
+ *
+ * <p>The generator inlines a definition of every type a schema references, so common value types,
+ * e.g. money or ids, are repeated in every schema using them. A definition is shared if two or
+ * more schemas contain a definition with the same name and identical content. Definitions
+ * referencing other definitions are only shared if the definitions they reference are also
+ * shared.
+ *
+ * <p>References to shared definitions are replaced with relative references into the shared file,
+ * e.g. {@code #/$defs/Money} becomes {@code ../shared.yml#/$defs/Money}, and the inlined copies are
+ * removed.
+ */
+final class SharedDefinitions {
+
+    private static final List<String> DEFINITION_KEYS = List.of("definitions", "$defs");
+    private static final String REF = "$ref";
+    private static final String NOT_SHAREABLE = "#";
+    private static final int MIN_USAGES = 2;
+
+    private SharedDefinitions() {}
+
+    /**
+     * Share the definitions repeated across the schemas under a resource root.
+     *
+     * <p>If no definitions are shared, any existing shared definitions file is deleted.
+     *
+     * @param root the schema resource root.
+     * @param resourcePath the resource path to write the shared definitions to.
+     * @return the number of shared definitions.
+     */
+    static int write(final Path root, final String resourcePath) {
+        final Path sharedFile = root.resolve(resourcePath);
+        try {
+            final Map<String, Map<String, Object>> schemas = new LinkedHashMap<>();
+            for (final Path relative : SchemaFiles.list(root)) {
+                if (SchemaFiles.resourcePath(relative).equals(resourcePath)) {
+                    continue;
+                }
+
+                final Object schema =
+                        SchemaYaml.parse(Files.readString(root.resolve(relative), UTF_8));
+                if (schema instanceof Map) {
+                    @SuppressWarnings("unchecked")
+                    final Map<String, Object> map = (Map<String, Object>) schema;
+                    schemas.put(SchemaFiles.resourcePath(relative), map);
+                }
+            }
+
+            final Optional<Map<String, Object>> shared = share(schemas, resourcePath);
+            if (shared.isEmpty()) {
+                Files.deleteIfExists(sharedFile);
+                return 0;
+            }
+
+            for (final Map.Entry<String, Map<String, Object>> e : schemas.entrySet()) {
+                Files.writeString(root.resolve(e.getKey()), SchemaYaml.write(e.getValue()), UTF_8);
+            }
+            Files.createDirectories(sharedFile.getParent());
+            Files.writeString(sharedFile, SchemaYaml.write(shared.get()), UTF_8);
+            return definitionCount(shared.get());
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write shared definitions " + sharedFile, e);
+        }
+    }
+
+    /**
+     * Share the definitions repeated across schemas.
+     *
+     * <p>Schemas using shared definitions are updated in place.
+     *
+     * @param schemas map of schema resource path to parsed schema.
+     * @param resourcePath the resource path of the shared definitions file.
+     * @return the content of the shared definitions file, or empty if no definitions are shared.
+     */
+    static Optional<Map<String, Object>> share(
+            final Map<String, Map<String, Object>> schemas, final String resourcePath) {
+        final Map<String, Map<String, String>> contents = new LinkedHashMap<>();
+        schemas.forEach((path, schema) -> contents.put(path, canonicalDefinitions(schema)));
+
+        Map<String, String> candidates = initialCandidates(contents.values());
+        Map<String, Set<String>> sharedBySchema;
+        while (true) {
+            sharedBySchema = new LinkedHashMap<>();
+            final Map<String, Integer> usages = new HashMap<>();
+            for (final Map.Entry<String, Map<String, Object>> e : schemas.entrySet()) {
+                final Set<String> shared =
+                        shareable(e.getValue(), contents.get(e.getKey()), candidates);
+                shared.forEach(pointer -> usages.merge(pointer, 1, Integer::sum));
+                sharedBySchema.put(e.getKey(), shared);
+            }
+
+            final Map<String, String> remaining = new LinkedHashMap<>();
+            candidates.forEach(
+                    (pointer, content) -> {
+                        if (usages.getOrDefault(pointer, 0) >= MIN_USAGES) {
+                            remaining.put(pointer, content);
+                        }
+                    });
+
+            if (remaining.size() == candidates.size()) {
+                break;
+            }
+            candidates = remaining;
+        }
+
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final Map<String, Object> definitions = new LinkedHashMap<>();
+        Object dialect = null;
+        for (final Map.Entry<String, Map<String, Object>> e : schemas.entrySet()) {
+            final Map<String, Object> schema = e.getValue();
+            final Set<String> shared = sharedBySchema.get(e.getKey());
+            if (shared.isEmpty()) {
+                continue;
+            }
+
+            if (dialect == null) {
+                dialect = schema.get("$schema");
+            }
+            moveDefinitions(schema, shared, definitions);
+            replaceRefs(schema, shared, SchemaFiles.relativize(e.getKey(), resourcePath));
+        }
+
+        final Map<String, Object> result = new LinkedHashMap<>();
+        if (dialect != null) {
+            result.put("$schema", dialect);
+        }
+        result.putAll(definitions);
+        return Optional.of(result);
+    }
+
+    private static Map<String, String> canonicalDefinitions(final Map<String, Object> schema) {
+        final Map<String, String> result = new LinkedHashMap<>();
+        for (final String key : DEFINITION_KEYS) {
+            final Object defs = schema.get(key);
+            if (defs instanceof Map) {
+                ((Map<?, ?>) defs)
+                        .forEach(
+                                (name, def) ->
+                                        result.put(pointer(key, name), JsonText.canonical(def)));
+            }
+        }
+        return result;
+    }
+
+    /** For each definition, the content shared by the most schemas, if used by enough. */
+    private static Map<String, String> initialCandidates(
+            final Iterable<Map<String, String>> contents) {
+        final Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+        contents.forEach(
+                defs ->
+                        defs.forEach(
+                                (pointer, content) ->
+                                        counts.computeIfAbsent(pointer, k -> new LinkedHashMap<>())
+                                                .merge(content, 1, Integer::sum)));
+
+        final Map<String, String> candidates = new LinkedHashMap<>();
+        counts.forEach(
+                (pointer, byContent) -> {
+                    String best = null;
+                    int bestCount = 0;
+                    for (final Map.Entry<String, Integer> e : byContent.entrySet()) {
+                        if (e.getValue() > bestCount) {
+                            best = e.getKey();
+                            bestCount = e.getValue();
+                        }
+                    }
+                    if (bestCount >= MIN_USAGES) {
+                        candidates.put(pointer, best);
+                    }
+                });
+        return candidates;
+    }
+
+    /**
+     * Determine which of a schema's definitions can be shared.
+     *
+     * <p>A definition can be shared if its content matches the candidate, and all local
+     * definitions it references can also be shared.
+     */
+    private static Set<String> shareable(
+            final Map<String, Object> schema,
+            final Map<String, String> contents,
+            final Map<String, String> candidates) {
+        final Set<String> shared = new HashSet<>();
+        contents.forEach(
+                (pointer, content) -> {
+                    if (content.equals(candidates.get(pointer))) {
+                        shared.add(pointer);
+                    }
+                });
+
+        final Map<String, Set<String>> refs = new HashMap<>();
+        shared.forEach(pointer -> refs.put(pointer, localRefs(definition(schema, pointer))));
+
+        boolean removed = true;
+        while (removed) {
+            removed = shared.removeIf(pointer -> !shared.containsAll(refs.get(pointer)));
+        }
+        return shared;
+    }
+
+    private static Set<String> localRefs(final Object node) {
+        final Set<String> refs = new HashSet<>();
+        collectLocalRefs(node, refs);
+        return refs;
+    }
+
+    private static void collectLocalRefs(final Object node, final Set<String> refs) {
+        if (node instanceof Map) {
+            ((Map<?, ?>) node)
+                    .forEach(
+                            (k, v) -> {
+                                if (REF.equals(k) && v instanceof String) {
+                                    definitionPointer((String) v).ifPresent(refs::add);
+                                } else {
+                                    collectLocalRefs(v, refs);
+                                }
+                            });
+        } else if (node instanceof List) {
+            ((List<?>) node).forEach(item -> collectLocalRefs(item, refs));
+        }
+    }
+
+    /**
+     * @return the pointer of the definition a local ref points into, {@link #NOT_SHAREABLE} for
+     *     other local refs, or empty for non-local refs.
+     */
+    private static Optional<String> definitionPointer(final String ref) {
+        if (!ref.startsWith("#")) {
+            return Optional.empty();
+        }
+
+        for (final String key : DEFINITION_KEYS) {
+            final String prefix = "#/" + key + "/";
+            if (ref.startsWith(prefix)) {
+                final int end = ref.indexOf('/', prefix.length());
+                return Optional.of(end < 0 ? ref : ref.substring(0, end));
+            }
+        }
+        return Optional.of(NOT_SHAREABLE);
+    }
+
+    private static void moveDefinitions(
+            final Map<String, Object> schema,
+            final Set<String> shared,
+            final Map<String, Object> result) {
+        for (final String key : DEFINITION_KEYS) {
+            final Object defs = schema.get(key);
+            if (!(defs instanceof Map)) {
+                continue;
+            }
+
+            @SuppressWarnings("unchecked")
+            final Map<String, Object> definitions = (Map<String, Object>) defs;
+            final List<String> names = new ArrayList<>(definitions.keySet());
+            for (final String name : names) {
+                if (shared.contains(pointer(key, name))) {
+                    @SuppressWarnings("unchecked")
+                    final Map<String, Object> target =
+                            (Map<String, Object>)
+                                    result.computeIfAbsent(key, k -> new LinkedHashMap<>());
+                    target.putIfAbsent(name, definitions.remove(name));
+                }
+            }
+
+            if (definitions.isEmpty()) {
+                schema.remove(key);
+            }
+        }
+    }
+
+    private static void replaceRefs(
+            final Object node, final Set<String> shared, final String target) {
+        if (node instanceof List) {
+            ((List<?>) node).forEach(item -> replaceRefs(item, shared, target));
+            return;
+        }
+
+        if (!(node instanceof Map)) {
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> map = (Map<String, Object>) node;
+        final Object ref = map.get(REF);
+        if (ref instanceof String) {
+            definitionPointer((String) ref)
+                    .filter(shared::contains)
+                    .ifPresent(pointer -> map.put(REF, target + ref));
+        }
+
+        map.forEach(
+                (key, value) -> {
+                    if (!REF.equals(key)) {
+                        replaceRefs(value, shared, target);
+                    }
+                });
+    }
+
+    private static Object definition(final Map<String, Object> schema, final String pointer) {
+        for (final String key : DEFINITION_KEYS) {
+            final String prefix = "#/" + key + "/";
+            if (pointer.startsWith(prefix) && schema.get(key) instanceof Map) {
+                return ((Map<?, ?>) schema.get(key)).get(pointer.substring(prefix.length()));
+            }
+        }
+        return null;
+    }
+
+    private static String pointer(final String key, final Object name) {
+        return "#/" + key + "/" + name;
+    }
+
+    private static int definitionCount(final Map<String, Object> shared) {
+        int count = 0;
+        for (final String key : DEFINITION_KEYS) {
+            final Object defs = shared.get(key);
+            if (defs instanceof Map) {
+                count += ((Map<?, ?>) defs).size();
+            }
+        }
+        return count;
+    }
+}
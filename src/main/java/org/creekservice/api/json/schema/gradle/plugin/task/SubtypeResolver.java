@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the subtypes of polymorphic types from class metadata, rather than by scanning.
+ *
+ * <p>A polymorphic type, i.e. one annotated with {@code @JsonTypeInfo}, has a closed set of
+ * subtypes if it is annotated with {@code @JsonSubTypes}, or if it is {@code sealed} and all of its
+ * permitted subclasses are themselves either {@code final} or {@code sealed}.
+ */
+final class SubtypeResolver {
+
+    static final String JSON_TYPE_INFO = "com.fasterxml.jackson.annotation.JsonTypeInfo";
+    static final String JSON_SUB_TYPES = "com.fasterxml.jackson.annotation.JsonSubTypes";
+
+    private final Map<String, ClassFileInfo> types;
+
+    /**
+     * @param types the types to resolve within.
+     */
+    SubtypeResolver(final Collection<ClassFileInfo> types) {
+        this.types =
+                types.stream()
+                        .collect(
+                                Collectors.toMap(
+                                        ClassFileInfo::className,
+                                        Function.identity(),
+                                        (a, b) -> a));
+    }
+
+    /**
+     * Resolve the packages containing all subtypes of all polymorphic types.
+     *
+     * @return the packages containing subtypes, or empty if any polymorphic type has an open set
+     *     of subtypes, or if there are no polymorphic types.
+     */
+    Optional<Set<String>> subtypePackages() {
+        final Set<String> packages = new TreeSet<>();
+        boolean found = false;
+
+        for (final ClassFileInfo type : types.values()) {
+            if (!type.hasAnnotation(JSON_TYPE_INFO)) {
+                continue;
+            }
+
+            found = true;
+            final Optional<Set<String>> subtypes = subtypes(type);
+            if (subtypes.isEmpty()) {
+                return Optional.empty();
+            }
+
+            subtypes.get().forEach(name -> packages.add(ClassFileInfo.packageOf(name)));
+        }
+
+        return found ? Optional.of(packages) : Optional.empty();
+    }
+
+    /**
+     * @return the names of polymorphic types with an open set of subtypes.
+     */
+    Set<String> openTypes() {
+        return types.values().stream()
+                .filter(type -> type.hasAnnotation(JSON_TYPE_INFO))
+                .filter(type -> subtypes(type).isEmpty())
+                .map(ClassFileInfo::className)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * @param type the type to resolve subtypes of.
+     * @return the subtypes of the type, if it declares them with {@code @JsonSubTypes} or is
+     *     sealed with a closed set of subtypes, otherwise empty.
+     */
+    Optional<Set<String>> subtypes(final ClassFileInfo type) {
+        final Optional<Set<String>> declared = declaredSubtypes(type);
+        if (declared.isPresent()) {
+            return declared;
+        }
+
+        if (!type.isSealed()) {
+            return Optional.empty();
+        }
+
+        final Set<String> subtypes = new HashSet<>();
+        final Deque<String> pending = new ArrayDeque<>(type.permittedSubclasses());
+        while (!pending.isEmpty()) {
+            final String name = pending.pop();
+            if (!subtypes.add(name)) {
+                continue;
+            }
+
+            final ClassFileInfo subtype = types.get(name);
+            if (subtype == null) {
+                // Permitted subclasses must be in the same module, or package, so should be known:
+                return Optional.empty();
+            }
+
+            if (subtype.isSealed()) {
+                pending.addAll(subtype.permittedSubclasses());
+            } else if (!subtype.isFinal()) {
+                // non-sealed:
+                return Optional.empty();
+            }
+        }
+        return Optional.of(subtypes);
+    }
+
+    private static Optional<Set<String>> declaredSubtypes(final ClassFileInfo type) {
+        final Optional<Object> value =
+                type.annotation(JSON_SUB_TYPES).flatMap(subTypes -> subTypes.value("value"));
+        if (value.isEmpty() || !(value.get() instanceof List)) {
+            return Optional.empty();
+        }
+
+        final Set<String> subtypes = new HashSet<>();
+        for (final Object entry : (List<?>) value.get()) {
+            if (entry instanceof ClassFileInfo.Annotation) {
+                ((ClassFileInfo.Annotation) entry)
+                        .value("value")
+                        .map(String::valueOf)
+                        .ifPresent(subtypes::add);
+            }
+        }
+        return Optional.of(subtypes);
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Replaces definitions in generated schemas that duplicate the schemas of upstream projects with
+ * references to the upstream schema.
+ *
+ * <p>The generator inlines a definition of every type a schema references, including types whose
+ * schemas are already published by an upstream project. Where a definition is structurally
+ * equivalent to an upstream schema, i.e. equal ignoring {@code $schema}, {@code $id}, {@code title}
+ * and the ordering of keys, with local references resolved, references to the definition are
+ * replaced with an absolute reference to the upstream schema. Any definitions no longer reachable
+ * are then removed.
+ *
+ * <p>The reference is the upstream schema's {@code $id}, if it has an absolute one. Otherwise, it
+ * is a {@code classpath:} URI of the upstream schema's resource path, e.g. {@code
+ * classpath:acme/model/Address.yml}. A relative reference would be resolved against the location
+ * of the referencing schema, i.e. inside this project's jar, rather than the upstream jar.
+ *
+ * <p>Only definitions named after an upstream schema's simple type name or title are candidates.
+ */
+final class UpstreamSchemaReferences {
+
+    private static final List<String> DEFINITION_KEYS = List.of("definitions", "$defs");
+    private static final Set<String> IGNORED_KEYS =
+            Set.of("$schema", "$id", "title", "definitions", "$defs");
+    private static final String REF = "$ref";
+    private static final String ID = "$id";
+
+    /** The scheme of references to upstream schemas without an absolute {@code $id}. */
+    static final String CLASSPATH_SCHEME = "classpath:";
+
+    private final Map<String, Map<?, ?>> upstream = new LinkedHashMap<>();
+
+    /**
+     * @param upstream map of upstream schema resource path to schema text.
+     */
+    UpstreamSchemaReferences(final Map<String, String> upstream) {
+        upstream.forEach(
+                (path, yaml) -> {
+                    final Object schema = SchemaYaml.parse(yaml);
+                    if (schema instanceof Map) {
+                        this.upstream.put(path, (Map<?, ?>) schema);
+                    }
+                });
+    }
+
+    /**
+     * Rewrite the schemas under a resource root.
+     *
+     * @param root the schema resource root.
+     * @return the number of definitions removed, either replaced or no longer reachable.
+     */
+    int apply(final Path root) {
+        if (upstream.isEmpty()) {
+            return 0;
+        }
+
+        int removed = 0;
+        for (final Path relative : SchemaFiles.list(root)) {
+            final Path file = root.resolve(relative);
+            try {
+                final Object schema = SchemaYaml.parse(Files.readString(file, UTF_8));
+                final Optional<Object> rewritten = rewrite(schema);
+                if (rewritten.isPresent()) {
+                    removed += definitionCount(schema) - definitionCount(rewritten.get());
+                    Files.writeString(file, SchemaYaml.write(rewritten.get()), UTF_8);
+                }
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to rewrite " + file, e);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Rewrite a single schema.
+     *
+     * @param schema the parsed schema.
+     * @return the rewritten schema, or empty if no definitions match an upstream schema.
+     */
+    Optional<Object> rewrite(final Object schema) {
+        if (!(schema instanceof Map)) {
+            return Optional.empty();
+        }
+
+        final Map<?, ?> root = (Map<?, ?>) schema;
+        final Map<String, String> replacements = new LinkedHashMap<>();
+        for (final String key : DEFINITION_KEYS) {
+            final Object defs = root.get(key);
+            if (!(defs instanceof Map)) {
+                continue;
+            }
+
+            ((Map<?, ?>) defs)
+                    .forEach(
+                            (name, def) ->
+                                    findUpstream(String.valueOf(name), def, root)
+                                            .ifPresent(
+                                                    path ->
+                                                            replacements.put(
+                                                                    "#/" + key + "/" + name,
+                                                                    reference(path))));
+        }
+
+        if (replacements.isEmpty()) {
+            return Optional.empty();
+        }
+
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> result =
+                (Map<String, Object>) replaceRefs(schema, replacements);
+        prune(result);
+        return Optional.of(result);
+    }
+
+    private Optional<String> findUpstream(
+            final String name, final Object definition, final Map<?, ?> root) {
+        for (final Map.Entry<String, Map<?, ?>> e : upstream.entrySet()) {
+            final Map<?, ?> candidate = e.getValue();
+            if (!name.equals(simpleName(e.getKey())) && !name.equals(candidate.get("title"))) {
+                continue;
+            }
+
+            if (new Comparison(root, candidate).equivalent(definition, candidate)) {
+                return Optional.of(e.getKey());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private String reference(final String resourcePath) {
+        final Object id = upstream.get(resourcePath).get(ID);
+        if (id instanceof String && isAbsolute((String) id)) {
+            return (String) id;
+        }
+        return CLASSPATH_SCHEME + resourcePath;
+    }
+
+    /**
+     * @param id a schema {@code $id}.
+     * @return {@code true} if the id is an absolute URI, and so can be used as a reference.
+     */
+    static boolean isAbsolute(final String id) {
+        try {
+            return new URI(id).isAbsolute();
+        } catch (final URISyntaxException e) {
+            return false;
+        }
+    }
+
+    private static String simpleName(final String resourcePath) {
+        final String fileName = resourcePath.substring(resourcePath.lastIndexOf('/') + 1);
+        final String baseName = fileName.substring(0, fileName.lastIndexOf('.'));
+        return baseName.substring(baseName.lastIndexOf('.') + 1);
+    }
+
+    private static Object replaceRefs(final Object node, final Map<String, String> replacements) {
+        if (node instanceof Map) {
+            final Map<String, Object> copy = new LinkedHashMap<>();
+            ((Map<?, ?>) node)
+                    .forEach(
+                            (k, v) -> {
+                                final Object value =
+                                        REF.equals(k) && replacements.containsKey(v)
+                                                ? replacements.get(v)
+                                                : replaceRefs(v, replacements);
+                                copy.put(String.valueOf(k), value);
+                            });
+            return copy;
+        }
+
+        if (node instanceof List) {
+            final List<Object> copy = new ArrayList<>();
+            ((List<?>) node).forEach(item -> copy.add(replaceRefs(item, replacements)));
+            return copy;
+        }
+
+        return node;
+    }
+
+    /** Remove definitions no longer reachable from outside the definitions. */
+    private static void prune(final Map<String, Object> root) {
+        final Map<String, Object> outside = new LinkedHashMap<>(root);
+        DEFINITION_KEYS.forEach(outside::remove);
+
+        final Set<String> reachable = new HashSet<>();
+        final Deque<Object> pending = new ArrayDeque<>();
+        pending.push(outside);
+        while (!pending.isEmpty()) {
+            final Object node = pending.pop();
+            if (node instanceof Map) {
+                ((Map<?, ?>) node)
+                        .forEach(
+                                (k, v) -> {
+                                    if (REF.equals(k) && v instanceof String) {
+                                        final String ref = (String) v;
+                                        if (reachable.add(ref)) {
+                                            resolveLocal(root, ref).ifPresent(pending::push);
+                                        }
+                                    } else if (v != null) {
+                                        pending.push(v);
+                                    }
+                                });
+            } else if (node instanceof List) {
+                ((List<?>) node).forEach(pending::push);
+            }
+        }
+
+        for (final String key : DEFINITION_KEYS) {
+            final Object defs = root.get(key);
+            if (!(defs instanceof Map)) {
+                continue;
+            }
+
+            @SuppressWarnings("unchecked")
+            final Map<String, Object> definitions = (Map<String, Object>) defs;
+            definitions.keySet().removeIf(name -> !reachable.contains("#/" + key + "/" + name));
+            if (definitions.isEmpty()) {
+                root.remove(key);
+            }
+        }
+    }
+
+    private static Optional<Object> resolveLocal(final Map<?, ?> root, final String ref) {
+        for (final String key : DEFINITION_KEYS) {
+            final String prefix = "#/" + key + "/";
+            if (ref.startsWith(prefix) && root.get(key) instanceof Map) {
+                return Optional.ofNullable(
+                        ((Map<?, ?>) root.get(key)).get(ref.substring(prefix.length())));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static int definitionCount(final Object schema) {
+        int count = 0;
+        for (final String key : DEFINITION_KEYS) {
+            final Object defs = ((Map<?, ?>) schema).get(key);
+            if (defs instanceof Map) {
+                count += ((Map<?, ?>) defs).size();
+            }
+        }
+        return count;
+    }
+
+    /** Structural comparison of two schema nodes, each resolving references in its own root. */
+    private static final class Comparison {
+
+        private final Map<?, ?> leftRoot;
+        private final Map<?, ?> rightRoot;
+        private final Set<List<String>> assumed = new HashSet<>();
+
+        Comparison(final Map<?, ?> leftRoot, final Map<?, ?> rightRoot) {
+            this.leftRoot = leftRoot;
+            this.rightRoot = rightRoot;
+        }
+
+        boolean equivalent(final Object left, final Object right) {
+            final Optional<String> leftRef = localRef(left, leftRoot);
+            final Optional<String> rightRef = localRef(right, rightRoot);
+            if (leftRef.isPresent() || rightRef.isPresent()) {
+                final List<String> pair = List.of(leftRef.orElse(""), rightRef.orElse(""));
+                if (!assumed.add(pair)) {
+                    // Already being compared further up: assume equivalent.
+                    return true;
+                }
+
+                return equivalent(
+                        leftRef.flatMap(ref -> resolveLocal(leftRoot, ref)).orElse(left),
+                        rightRef.flatMap(ref -> resolveLocal(rightRoot, ref)).orElse(right));
+            }
+
+            if (left instanceof Map && right instanceof Map) {
+                final Map<?, ?> l = (Map<?, ?>) left;
+                final Map<?, ?> r = (Map<?, ?>) right;
+                final Set<Object> keys = new HashSet<>(l.keySet());
+                keys.addAll(r.keySet());
+                keys.removeAll(IGNORED_KEYS);
+                for (final Object key : keys) {
+                    if (!l.containsKey(key)
+                            || !r.containsKey(key)
+                            || !equivalent(l.get(key), r.get(key))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            if (left instanceof List && right instanceof List) {
+                final List<?> l = (List<?>) left;
+                final List<?> r = (List<?>) right;
+                if (l.size() != r.size()) {
+                    return false;
+                }
+                for (int i = 0; i < l.size(); i++) {
+                    if (!equivalent(l.get(i), r.get(i))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            return Objects.equals(left, right);
+        }
+
+        private static Optional<String> localRef(final Object node, final Map<?, ?> root) {
+            if (!(node instanceof Map)) {
+                return Optional.empty();
+            }
+
+            final Object ref = ((Map<?, ?>) node).get(REF);
+            return ref instanceof String && resolveLocal(root, (String) ref).isPresent()
+                    ? Optional.of((String) ref)
+                    : Optional.empty();
+        }
+    }
+}
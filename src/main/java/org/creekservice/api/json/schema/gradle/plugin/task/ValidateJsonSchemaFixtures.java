@@ -0,0 +1,377 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.inject.Inject;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileSystemOperations;
+import org.gradle.api.file.FileType;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.work.ChangeType;
+import org.gradle.work.FileChange;
+import org.gradle.work.Incremental;
+import org.gradle.work.InputChanges;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+import org.gradle.workers.WorkQueue;
+import org.gradle.workers.WorkerExecutor;
+
+/**
+ * Task for validating test fixtures, i.e. example JSON or YAML instances, against the JSON schemas
+ * generated by {@link GenerateJsonSchema}.
+ *
+ * <p>See {@link SchemaFixtures} for how fixtures are mapped to schemas. Fixtures are validated in
+ * parallel, in chunks, using the Gradle worker API. The result for each fixture is kept between
+ * runs, so that, when only some fixtures or schemas change, only the affected fixtures are
+ * re-validated.
+ */
+@CacheableTask
+public abstract class ValidateJsonSchemaFixtures extends DefaultTask {
+
+    private static final String RESULT_SUFFIX = ".txt";
+
+    private final WorkerExecutor workerExecutor;
+    private final FileSystemOperations fileOps;
+
+    /**
+     * Constructor
+     *
+     * @param workerExecutor Gradle worker executor service.
+     * @param fileOps Gradle file system operations service.
+     */
+    @Inject
+    public ValidateJsonSchemaFixtures(
+            final WorkerExecutor workerExecutor, final FileSystemOperations fileOps) {
+        this.workerExecutor = workerExecutor;
+        this.fileOps = fileOps;
+        setDescription("Validates JSON schema test fixtures against the generated schemas");
+    }
+
+    /**
+     * The directory containing the fixtures to validate.
+     *
+     * <p>The task is skipped if there are no fixtures.
+     *
+     * @return the fixture directory property.
+     */
+    @Incremental
+    @InputFiles
+    @SkipWhenEmpty
+    @IgnoreEmptyDirectories
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract DirectoryProperty getFixtureDirectory();
+
+    /**
+     * The root directories containing the generated schema files.
+     *
+     * @return the schema resource roots.
+     */
+    @Incremental
+    @InputFiles
+    @IgnoreEmptyDirectories
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getSchemaResourceRoots();
+
+    /**
+     * Directories and archives of upstream schemas, which the generated schemas may reference.
+     *
+     * @return the upstream schemas.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.NAME_ONLY)
+    public abstract ConfigurableFileCollection getUpstreamSchemas();
+
+    /**
+     * The maximum number of chunks to split the fixtures into, for parallel validation.
+     *
+     * <p>Defaults to {@code 1}.
+     *
+     * @return the max parallelism property.
+     */
+    @Internal
+    public abstract Property<Integer> getMaxParallelism();
+
+    /**
+     * The directory the result for each fixture is stored in, between runs.
+     *
+     * @return the results directory property.
+     */
+    @OutputDirectory
+    public abstract DirectoryProperty getResultsDirectory();
+
+    /**
+     * The file to write the report of invalid fixtures to.
+     *
+     * @return the report file property.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getReportFile();
+
+    /**
+     * Validate fixtures.
+     *
+     * @param inputChanges the changes since the last run.
+     */
+    @TaskAction
+    public void run(final InputChanges inputChanges) {
+        final Path fixtureRoot = getFixtureDirectory().get().getAsFile().toPath();
+        final Path resultsDir = getResultsDirectory().get().getAsFile().toPath();
+        final List<Path> fixtures = SchemaFixtures.list(fixtureRoot);
+
+        final Set<Path> changed = new TreeSet<>();
+
+        if (inputChanges.isIncremental()) {
+            for (final FileChange change : inputChanges.getFileChanges(getFixtureDirectory())) {
+                final Path relativePath = Path.of(change.getNormalizedPath());
+                if (change.getFileType() != FileType.FILE
+                        || !SchemaFixtures.isFixture(relativePath)) {
+                    continue;
+                }
+
+                if (change.getChangeType() == ChangeType.REMOVED) {
+                    deleteResult(resultFile(resultsDir, relativePath));
+                } else {
+                    changed.add(relativePath);
+                }
+            }
+
+            final Set<String> changedTypes = new TreeSet<>();
+            boolean allAffected = false;
+            for (final FileChange change :
+                    inputChanges.getFileChanges(getSchemaResourceRoots())) {
+                final Path relativePath = Path.of(change.getNormalizedPath());
+                if (change.getFileType() != FileType.FILE) {
+                    continue;
+                }
+
+                if (SchemaFiles.isSchemaFile(relativePath)) {
+                    changedTypes.add(SchemaFiles.typeName(relativePath));
+                } else if (SchemaFixtures.isSharedDefinitions(relativePath)) {
+                    // Shared definitions may be referenced by any schema:
+                    allAffected = true;
+                }
+            }
+
+            for (final Path fixture : fixtures) {
+                final boolean typeChanged =
+                        SchemaFixtures.typeName(fixture).map(changedTypes::contains).orElse(false);
+                if (allAffected || typeChanged) {
+                    changed.add(fixture);
+                }
+            }
+        } else {
+            fileOps.delete(spec -> spec.delete(resultsDir));
+            changed.addAll(fixtures);
+        }
+
+        validate(fixtureRoot, List.copyOf(changed), resultsDir);
+        report(resultsDir);
+    }
+
+    private void validate(final Path fixtureRoot, final List<Path> changed, final Path resultsDir) {
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        final int chunks = Math.max(1, Math.min(getMaxParallelism().getOrElse(1), changed.size()));
+        final WorkQueue queue = workerExecutor.noIsolation();
+        for (int chunk = 0; chunk != chunks; ++chunk) {
+            final List<String> paths = new ArrayList<>();
+            for (int i = chunk; i < changed.size(); i += chunks) {
+                paths.add(changed.get(i).toString());
+            }
+
+            queue.submit(
+                    ValidateFixtures.class,
+                    params -> {
+                        params.getSchemaResourceRoots().from(getSchemaResourceRoots());
+                        params.getUpstreamSchemas().from(getUpstreamSchemas());
+                        params.getFixtureDirectory().set(fixtureRoot.toFile());
+                        params.getFixtures().set(paths);
+                        params.getResultsDirectory().set(resultsDir.toFile());
+                    });
+        }
+
+        queue.await();
+
+        getLogger().info("Validated {} fixtures in {} chunks", changed.size(), chunks);
+    }
+
+    private void report(final Path resultsDir) {
+        final List<String> invalid = readResults(resultsDir);
+        final Path reportFile = getReportFile().get().getAsFile().toPath();
+        writeResult(reportFile, invalid);
+
+        if (!invalid.isEmpty()) {
+            throw new GradleException(
+                    "Found "
+                            + invalid.size()
+                            + " invalid JSON schema fixtures:"
+                            + System.lineSeparator()
+                            + String.join(System.lineSeparator(), invalid)
+                            + System.lineSeparator()
+                            + "See report: "
+                            + reportFile.toUri());
+        }
+    }
+
+    private static List<String> readResults(final Path resultsDir) {
+        if (!Files.isDirectory(resultsDir)) {
+            return List.of();
+        }
+
+        final List<String> invalid = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(resultsDir)) {
+            final List<Path> results =
+                    files.filter(Files::isRegularFile)
+                            .map(resultsDir::relativize)
+                            .filter(file -> file.toString().endsWith(RESULT_SUFFIX))
+                            .sorted()
+                            .collect(Collectors.toList());
+            for (final Path result : results) {
+                final String path = SchemaFiles.resourcePath(result);
+                final String fixture = path.substring(0, path.length() - RESULT_SUFFIX.length());
+                Files.readAllLines(resultsDir.resolve(result), UTF_8).stream()
+                        .filter(line -> !line.isBlank())
+                        .forEach(line -> invalid.add(fixture + " " + line));
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read results from " + resultsDir, e);
+        }
+        return invalid;
+    }
+
+    private static Path resultFile(final Path resultsDir, final Path relativePath) {
+        return resultsDir.resolve(relativePath + RESULT_SUFFIX);
+    }
+
+    private static void deleteResult(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to delete " + file, e);
+        }
+    }
+
+    private static void writeResult(final Path file, final List<String> lines) {
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, lines, UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write " + file, e);
+        }
+    }
+
+    /** Work action validating a chunk of fixtures. */
+    public abstract static class ValidateFixtures
+            implements WorkAction<ValidateFixtures.Parameters> {
+
+        /** Constructor */
+        public ValidateFixtures() {}
+
+        /** Work parameters. */
+        public interface Parameters extends WorkParameters {
+
+            /**
+             * @return the root directories containing the generated schema files.
+             */
+            ConfigurableFileCollection getSchemaResourceRoots();
+
+            /**
+             * @return directories and archives of upstream schemas.
+             */
+            ConfigurableFileCollection getUpstreamSchemas();
+
+            /**
+             * @return the fixture directory.
+             */
+            DirectoryProperty getFixtureDirectory();
+
+            /**
+             * @return the paths of the fixtures to validate, relative to the fixture directory.
+             */
+            ListProperty<String> getFixtures();
+
+            /**
+             * @return the directory to write the failures of each fixture to, one per line.
+             */
+            DirectoryProperty getResultsDirectory();
+        }
+
+        @Override
+        public void execute() {
+            final Parameters params = getParameters();
+            final Path fixtureRoot = params.getFixtureDirectory().get().getAsFile().toPath();
+            final Path resultsDir = params.getResultsDirectory().get().getAsFile().toPath();
+
+            final SchemaFixtures fixtures;
+            try {
+                fixtures =
+                        new SchemaFixtures(
+                                existing(params.getSchemaResourceRoots()),
+                                params.getUpstreamSchemas());
+            } catch (final IllegalArgumentException e) {
+                throw new GradleException(e.getMessage(), e);
+            }
+
+            for (final String path : params.getFixtures().get()) {
+                final Path relativePath = Path.of(path);
+                writeResult(
+                        resultFile(resultsDir, relativePath),
+                        fixtures.validate(fixtureRoot, relativePath));
+            }
+        }
+
+        private static List<File> existing(final Iterable<File> roots) {
+            final List<File> existing = new ArrayList<>();
+            roots.forEach(
+                    root -> {
+                        if (root.isDirectory()) {
+                            existing.add(root);
+                        }
+                    });
+            return existing;
+        }
+    }
+}
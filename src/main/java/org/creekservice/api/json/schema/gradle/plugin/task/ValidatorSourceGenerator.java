@@ -0,0 +1,800 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import java.math.BigDecimal;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the Java source of a validator for a single JSON schema.
+ *
+ * <p>The generated validator checks instances in the generic JSON data model, i.e. {@link Map}
+ * for objects, {@link List} for arrays, {@link String}, {@link Number}, {@link Boolean} and {@code
+ * null}, as produced by most JSON libraries when parsing to {@code Object}.
+ *
+ * <p>Each sub-schema is compiled to a private static method containing straight-line checks. The
+ * only allocations when validating are those made by {@code pattern} checks, map entry iteration
+ * for {@code additionalProperties} schemas and {@code uniqueItems} checks.
+ *
+ * <p>Annotation keywords, such as {@code title}, {@code description} and {@code format}, are
+ * ignored. Unsupported validation keywords, and non-local {@code $ref}s, cause generation to
+ * fail, rather than producing a validator that silently accepts invalid instances.
+ */
+final class ValidatorSourceGenerator {
+
+    static final Set<String> ANNOTATIONS =
+            Set.of(
+                    "$schema",
+                    "$id",
+                    "$anchor",
+                    "$comment",
+                    "$defs",
+                    "definitions",
+                    "title",
+                    "description",
+                    "examples",
+                    "default",
+                    "deprecated",
+                    "readOnly",
+                    "writeOnly",
+                    "format",
+                    "contentMediaType",
+                    "contentEncoding");
+
+    static final Set<String> SUPPORTED =
+            Set.of(
+                    "$ref",
+                    "type",
+                    "enum",
+                    "const",
+                    "properties",
+                    "required",
+                    "additionalProperties",
+                    "minProperties",
+                    "maxProperties",
+                    "dependentRequired",
+                    "items",
+                    "prefixItems",
+                    "minItems",
+                    "maxItems",
+                    "uniqueItems",
+                    "minLength",
+                    "maxLength",
+                    "pattern",
+                    "minimum",
+                    "maximum",
+                    "exclusiveMinimum",
+                    "exclusiveMaximum",
+                    "multipleOf",
+                    "allOf",
+                    "anyOf",
+                    "oneOf",
+                    "not",
+                    "if",
+                    "then",
+                    "else");
+
+    private static final String IS_INTEGER =
+            """
+                private static boolean isInteger(final Object v) {
+                    if (v instanceof Integer
+                            || v instanceof Long
+                            || v instanceof Short
+                            || v instanceof Byte
+                            || v instanceof java.math.BigInteger) {
+                        return true;
+                    }
+                    if (v instanceof java.math.BigDecimal) {
+                        return ((java.math.BigDecimal) v).stripTrailingZeros().scale() <= 0;
+                    }
+                    if (v instanceof Double || v instanceof Float) {
+                        final double d = ((Number) v).doubleValue();
+                        return !Double.isInfinite(d) && d == Math.rint(d);
+                    }
+                    return false;
+                }
+
+            """;
+
+    private static final String EXACT =
+            """
+                private static java.math.BigDecimal exact(final Number n) {
+                    if (n instanceof java.math.BigDecimal) {
+                        return (java.math.BigDecimal) n;
+                    }
+                    if (n instanceof java.math.BigInteger) {
+                        return new java.math.BigDecimal((java.math.BigInteger) n);
+                    }
+                    if (n instanceof Integer
+                            || n instanceof Long
+                            || n instanceof Short
+                            || n instanceof Byte) {
+                        return java.math.BigDecimal.valueOf(n.longValue());
+                    }
+                    return null;
+                }
+
+            """;
+
+    private static final String COMPARE =
+            """
+                private static int compare(final Number n, final java.math.BigDecimal bound) {
+                    final java.math.BigDecimal exact = exact(n);
+                    if (exact != null) {
+                        return exact.compareTo(bound);
+                    }
+                    final double d = n.doubleValue();
+                    final double b = bound.doubleValue();
+                    return d < b ? -1 : d > b ? 1 : 0;
+                }
+
+            """;
+
+    private static final String NUMBER_EQUALS =
+            """
+                private static boolean numberEquals(final Object v, final java.math.BigDecimal n) {
+                    if (!(v instanceof Number)) {
+                        return false;
+                    }
+                    final java.math.BigDecimal exact = exact((Number) v);
+                    return exact != null
+                            ? exact.compareTo(n) == 0
+                            : ((Number) v).doubleValue() == n.doubleValue();
+                }
+
+            """;
+
+    private static final String IS_MULTIPLE_OF =
+            """
+                private static boolean isMultipleOf(final Number n, final java.math.BigDecimal m) {
+                    final java.math.BigDecimal exact = exact(n);
+                    if (exact != null) {
+                        return exact.remainder(m).signum() == 0;
+                    }
+                    final double q = n.doubleValue() / m.doubleValue();
+                    return Math.abs(q - Math.rint(q)) < 1e-9;
+                }
+
+            """;
+
+    private final Object root;
+    private final String source;
+    private final StringBuilder methods = new StringBuilder();
+    private final List<String> patterns = new ArrayList<>();
+    private final List<String> numbers = new ArrayList<>();
+    private final Map<String, String> refMethods = new HashMap<>();
+    private boolean usesIsInteger;
+    private boolean usesNumberEquals;
+    private boolean usesCompare;
+    private boolean usesMultipleOf;
+    private int methodCount;
+
+    private ValidatorSourceGenerator(final Object root, final String source) {
+        this.root = root;
+        this.source = source;
+    }
+
+    /**
+     * Generate validator source.
+     *
+     * @param packageName the package of the validator, which can be empty.
+     * @param className the simple class name of the validator.
+     * @param schema the parsed schema.
+     * @param source description of the schema's source, used in docs and errors.
+     * @return the Java source.
+     * @throws IllegalArgumentException if the schema uses unsupported features.
+     */
+    static String generate(
+            final String packageName,
+            final String className,
+            final Object schema,
+            final String source) {
+        final ValidatorSourceGenerator generator = new ValidatorSourceGenerator(schema, source);
+        final String rootMethod = generator.ref("#");
+        return generator.classSource(packageName, className, rootMethod);
+    }
+
+    private String classSource(
+            final String packageName, final String className, final String rootMethod) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("// Generated from ").append(source).append(". Do not edit.\n");
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        sb.append("import java.util.List;\n");
+        sb.append("import java.util.Map;\n");
+        if (!patterns.isEmpty()) {
+            sb.append("import java.util.regex.Pattern;\n");
+        }
+        sb.append("\n/**\n");
+        sb.append(" * Validates instances against the {@code ")
+                .append(javadoc(source))
+                .append("} JSON schema.\n");
+        sb.append(" *\n");
+        sb.append(" * <p>Instances must be in the generic JSON data model, i.e. {@link Map} for");
+        sb.append(" objects,\n");
+        sb.append(" * {@link List} for arrays, {@link String}, {@link Number}, {@link Boolean}");
+        sb.append(" and {@code null}.\n");
+        sb.append(" */\n");
+        sb.append("public final class ").append(className).append(" {\n\n");
+
+        for (int i = 0; i < patterns.size(); i++) {
+            sb.append("    private static final Pattern P")
+                    .append(i)
+                    .append(" = Pattern.compile(")
+                    .append(literal(patterns.get(i)))
+                    .append(");\n");
+        }
+        for (int i = 0; i < numbers.size(); i++) {
+            sb.append("    private static final java.math.BigDecimal N")
+                    .append(i)
+                    .append(" = new java.math.BigDecimal(")
+                    .append(literal(numbers.get(i)))
+                    .append(");\n");
+        }
+        if (!patterns.isEmpty() || !numbers.isEmpty()) {
+            sb.append('\n');
+        }
+
+        sb.append("    private ").append(className).append("() {}\n\n");
+        sb.append("    /**\n");
+        sb.append("     * @param instance the instance to validate.\n");
+        sb.append("     * @return {@code true} if the instance is valid.\n");
+        sb.append("     */\n");
+        sb.append("    public static boolean isValid(final Object instance) {\n");
+        sb.append("        return ").append(rootMethod).append("(instance);\n");
+        sb.append("    }\n\n");
+        sb.append("    /**\n");
+        sb.append("     * @param instance the instance to validate.\n");
+        sb.append("     * @throws IllegalArgumentException if the instance is not valid.\n");
+        sb.append("     */\n");
+        sb.append("    public static void validate(final Object instance) {\n");
+        sb.append("        if (!").append(rootMethod).append("(instance)) {\n");
+        sb.append("            throw new IllegalArgumentException(\n");
+        sb.append("                    ")
+                .append(literal("Instance is not valid against " + source))
+                .append(");\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
+        sb.append(methods);
+        helpers(sb);
+        sb.setLength(sb.length() - 1);
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private void helpers(final StringBuilder sb) {
+        if (usesIsInteger) {
+            sb.append(IS_INTEGER);
+        }
+        if (usesNumberEquals || usesCompare || usesMultipleOf) {
+            sb.append(EXACT);
+        }
+        if (usesCompare) {
+            sb.append(COMPARE);
+        }
+        if (usesNumberEquals) {
+            sb.append(NUMBER_EQUALS);
+        }
+        if (usesMultipleOf) {
+            sb.append(IS_MULTIPLE_OF);
+        }
+    }
+
+    /**
+     * @return the name of the method validating the schema at the local {@code $ref}.
+     */
+    private String ref(final String ref) {
+        final String existing = refMethods.get(ref);
+        if (existing != null) {
+            return existing;
+        }
+
+        final String name = "v" + methodCount++;
+        refMethods.put(ref, name);
+        generate(name, resolve(ref), ref);
+        return name;
+    }
+
+    private String method(final Object schema, final String pointer) {
+        final String name = "v" + methodCount++;
+        generate(name, schema, pointer);
+        return name;
+    }
+
+    private void generate(final String name, final Object schema, final String pointer) {
+        final StringBuilder b = new StringBuilder();
+        b.append("    // ").append(pointer.replace("*/", "*\\/")).append('\n');
+        b.append("    private static boolean ").append(name).append("(final Object v) {\n");
+
+        if (schema instanceof Boolean) {
+            b.append("        return ").append(schema).append(";\n");
+        } else if (schema instanceof Map) {
+            body(b, map(schema, pointer), pointer);
+            b.append("        return true;\n");
+        } else {
+            throw error(pointer, "schema must be an object or boolean");
+        }
+
+        b.append("    }\n\n");
+        methods.append(b);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(final Object value, final String pointer) {
+        if (!(value instanceof Map)) {
+            throw new IllegalArgumentException("Expected object at " + pointer);
+        }
+        return (Map<String, Object>) value;
+    }
+
+    private void body(final StringBuilder b, final Map<String, Object> schema, final String at) {
+        for (final String keyword : schema.keySet()) {
+            if (!ANNOTATIONS.contains(keyword) && !SUPPORTED.contains(keyword)) {
+                throw error(at, "unsupported keyword '" + keyword + "'");
+            }
+        }
+
+        if (schema.containsKey("$ref")) {
+            final Object ref = schema.get("$ref");
+            b.append("        if (!").append(ref(String.valueOf(ref))).append("(v)) {\n");
+            b.append("            return false;\n");
+            b.append("        }\n");
+        }
+
+        if (schema.containsKey("type")) {
+            final Object type = schema.get("type");
+            final List<?> types = type instanceof List ? (List<?>) type : List.of(type);
+            final String condition =
+                    types.stream()
+                            .map(t -> typeCondition(String.valueOf(t), at))
+                            .collect(Collectors.joining(" || "));
+            check(b, "!(" + condition + ")");
+        }
+
+        if (schema.containsKey("enum")) {
+            final Object values = schema.get("enum");
+            if (!(values instanceof List) || ((List<?>) values).isEmpty()) {
+                throw error(at, "enum must be a non-empty array");
+            }
+            final String condition =
+                    ((List<?>) values)
+                            .stream()
+                                    .map(value -> constCondition(value, at))
+                                    .collect(Collectors.joining(" || "));
+            check(b, "!(" + condition + ")");
+        }
+
+        if (schema.containsKey("const")) {
+            check(b, "!(" + constCondition(schema.get("const"), at) + ")");
+        }
+
+        objectChecks(b, schema, at);
+        arrayChecks(b, schema, at);
+        stringChecks(b, schema, at);
+        numberChecks(b, schema, at);
+        combinatorChecks(b, schema, at);
+    }
+
+    private void objectChecks(
+            final StringBuilder b, final Map<String, Object> schema, final String at) {
+        final Map<String, Object> properties =
+                schema.containsKey("properties")
+                        ? map(schema.get("properties"), at + "/properties")
+                        : Map.of();
+        final List<?> required = list(schema, "required", at);
+        final Object additional = schema.get("additionalProperties");
+        final Map<String, Object> dependentRequired =
+                schema.containsKey("dependentRequired")
+                        ? map(schema.get("dependentRequired"), at + "/dependentRequired")
+                        : Map.of();
+
+        if (properties.isEmpty()
+                && required.isEmpty()
+                && additional == null
+                && dependentRequired.isEmpty()
+                && !schema.containsKey("minProperties")
+                && !schema.containsKey("maxProperties")) {
+            return;
+        }
+
+        b.append("        if (v instanceof Map) {\n");
+        b.append("            final Map<?, ?> m = (Map<?, ?>) v;\n");
+
+        for (final Object name : required) {
+            nestedCheck(b, "!m.containsKey(" + literal(String.valueOf(name)) + ")");
+        }
+
+        for (final Map.Entry<String, Object> e : dependentRequired.entrySet()) {
+            final String condition =
+                    list(e.getValue(), at).stream()
+                            .map(name -> "!m.containsKey(" + literal(String.valueOf(name)) + ")")
+                            .collect(Collectors.joining(" || "));
+            if (!condition.isEmpty()) {
+                nestedCheck(
+                        b, "m.containsKey(" + literal(e.getKey()) + ") && (" + condition + ")");
+            }
+        }
+
+        for (final Map.Entry<String, Object> e : properties.entrySet()) {
+            final String key = literal(e.getKey());
+            final String method =
+                    method(e.getValue(), at + "/properties/" + escapePointer(e.getKey()));
+            nestedCheck(b, "m.containsKey(" + key + ") && !" + method + "(m.get(" + key + "))");
+        }
+
+        if (Boolean.FALSE.equals(additional)) {
+            final String known =
+                    properties.keySet().stream()
+                            .map(name -> "(m.containsKey(" + literal(name) + ") ? 1 : 0)")
+                            .collect(Collectors.joining("\n                    + "));
+            nestedCheck(b, known.isEmpty() ? "!m.isEmpty()" : "m.size() != " + known);
+        } else if (additional instanceof Map) {
+            final String method = method(additional, at + "/additionalProperties");
+            final String notKnown =
+                    properties.keySet().stream()
+                            .map(name -> "!" + literal(name) + ".equals(e.getKey())")
+                            .collect(Collectors.joining(" && "));
+            b.append("            for (final Map.Entry<?, ?> e : m.entrySet()) {\n");
+            b.append("                if (")
+                    .append(notKnown.isEmpty() ? "" : notKnown + " && ")
+                    .append('!')
+                    .append(method)
+                    .append("(e.getValue())) {\n");
+            b.append("                    return false;\n");
+            b.append("                }\n");
+            b.append("            }\n");
+        } else if (additional != null && !Boolean.TRUE.equals(additional)) {
+            throw error(at, "additionalProperties must be a boolean or schema");
+        }
+
+        if (schema.containsKey("minProperties")) {
+            nestedCheck(b, "m.size() < " + integer(schema.get("minProperties"), at));
+        }
+        if (schema.containsKey("maxProperties")) {
+            nestedCheck(b, "m.size() > " + integer(schema.get("maxProperties"), at));
+        }
+
+        b.append("        }\n");
+    }
+
+    private void arrayChecks(
+            final StringBuilder b, final Map<String, Object> schema, final String at) {
+        final List<?> prefixItems = list(schema, "prefixItems", at);
+        final Object items = schema.get("items");
+        if (prefixItems.isEmpty()
+                && items == null
+                && !schema.containsKey("minItems")
+                && !schema.containsKey("maxItems")
+                && !Boolean.TRUE.equals(schema.get("uniqueItems"))) {
+            return;
+        }
+
+        b.append("        if (v instanceof List) {\n");
+        b.append("            final List<?> l = (List<?>) v;\n");
+
+        if (schema.containsKey("minItems")) {
+            nestedCheck(b, "l.size() < " + integer(schema.get("minItems"), at));
+        }
+        if (schema.containsKey("maxItems")) {
+            nestedCheck(b, "l.size() > " + integer(schema.get("maxItems"), at));
+        }
+
+        for (int i = 0; i < prefixItems.size(); i++) {
+            final String method = method(prefixItems.get(i), at + "/prefixItems/" + i);
+            nestedCheck(b, "l.size() > " + i + " && !" + method + "(l.get(" + i + "))");
+        }
+
+        if (items instanceof List) {
+            throw error(at, "array form of items is not supported, use prefixItems");
+        }
+        if (items != null) {
+            final String method = method(items, at + "/items");
+            b.append("            for (int i = ")
+                    .append(prefixItems.size())
+                    .append(", n = l.size(); i < n; i++) {\n");
+            b.append("                if (!").append(method).append("(l.get(i))) {\n");
+            b.append("                    return false;\n");
+            b.append("                }\n");
+            b.append("            }\n");
+        }
+
+        if (Boolean.TRUE.equals(schema.get("uniqueItems"))) {
+            nestedCheck(b, "new java.util.HashSet<>(l).size() != l.size()");
+        }
+
+        b.append("        }\n");
+    }
+
+    private void stringChecks(
+            final StringBuilder b, final Map<String, Object> schema, final String at) {
+        final boolean minLength = schema.containsKey("minLength");
+        final boolean maxLength = schema.containsKey("maxLength");
+        final boolean pattern = schema.containsKey("pattern");
+        if (!minLength && !maxLength && !pattern) {
+            return;
+        }
+
+        b.append("        if (v instanceof String) {\n");
+        b.append("            final String s = (String) v;\n");
+        if (minLength || maxLength) {
+            b.append("            final int len = s.codePointCount(0, s.length());\n");
+        }
+        if (minLength) {
+            nestedCheck(b, "len < " + integer(schema.get("minLength"), at));
+        }
+        if (maxLength) {
+            nestedCheck(b, "len > " + integer(schema.get("maxLength"), at));
+        }
+        if (pattern) {
+            patterns.add(String.valueOf(schema.get("pattern")));
+            nestedCheck(b, "!P" + (patterns.size() - 1) + ".matcher(s).find()");
+        }
+        b.append("        }\n");
+    }
+
+    private void numberChecks(
+            final StringBuilder b, final Map<String, Object> schema, final String at) {
+        final List<String> checks = new ArrayList<>();
+        if (schema.containsKey("minimum")) {
+            checks.add("compare(n, " + number(schema.get("minimum"), at) + ") < 0");
+        }
+        if (schema.containsKey("maximum")) {
+            checks.add("compare(n, " + number(schema.get("maximum"), at) + ") > 0");
+        }
+        if (schema.containsKey("exclusiveMinimum")) {
+            checks.add("compare(n, " + number(schema.get("exclusiveMinimum"), at) + ") <= 0");
+        }
+        if (schema.containsKey("exclusiveMaximum")) {
+            checks.add("compare(n, " + number(schema.get("exclusiveMaximum"), at) + ") >= 0");
+        }
+        usesCompare |= !checks.isEmpty();
+        if (schema.containsKey("multipleOf")) {
+            usesMultipleOf = true;
+            checks.add("!isMultipleOf(n, " + number(schema.get("multipleOf"), at) + ")");
+        }
+        if (checks.isEmpty()) {
+            return;
+        }
+
+        b.append("        if (v instanceof Number) {\n");
+        b.append("            final Number n = (Number) v;\n");
+        checks.forEach(check -> nestedCheck(b, check));
+        b.append("        }\n");
+    }
+
+    private void combinatorChecks(
+            final StringBuilder b, final Map<String, Object> schema, final String at) {
+        final List<?> allOf = list(schema, "allOf", at);
+        for (int i = 0; i < allOf.size(); i++) {
+            check(b, "!" + method(allOf.get(i), at + "/allOf/" + i) + "(v)");
+        }
+
+        final List<?> anyOf = list(schema, "anyOf", at);
+        if (!anyOf.isEmpty()) {
+            final List<String> calls = new ArrayList<>();
+            for (int i = 0; i < anyOf.size(); i++) {
+                calls.add(method(anyOf.get(i), at + "/anyOf/" + i) + "(v)");
+            }
+            check(b, "!(" + String.join(" || ", calls) + ")");
+        }
+
+        final List<?> oneOf = list(schema, "oneOf", at);
+        if (!oneOf.isEmpty()) {
+            final List<String> calls = new ArrayList<>();
+            for (int i = 0; i < oneOf.size(); i++) {
+                calls.add("(" + method(oneOf.get(i), at + "/oneOf/" + i) + "(v) ? 1 : 0)");
+            }
+            check(b, String.join(" + ", calls) + " != 1");
+        }
+
+        if (schema.containsKey("not")) {
+            check(b, method(schema.get("not"), at + "/not") + "(v)");
+        }
+
+        if (schema.containsKey("if")) {
+            final String condition = method(schema.get("if"), at + "/if");
+            final String then =
+                    schema.containsKey("then") ? method(schema.get("then"), at + "/then") : null;
+            final String otherwise =
+                    schema.containsKey("else") ? method(schema.get("else"), at + "/else") : null;
+            check(
+                    b,
+                    condition
+                            + "(v) ? "
+                            + (then == null ? "false" : "!" + then + "(v)")
+                            + " : "
+                            + (otherwise == null ? "false" : "!" + otherwise + "(v)"));
+        }
+    }
+
+    private String typeCondition(final String type, final String at) {
+        switch (type) {
+            case "object":
+                return "v instanceof Map";
+            case "array":
+                return "v instanceof List";
+            case "string":
+                return "v instanceof String";
+            case "integer":
+                usesIsInteger = true;
+                return "isInteger(v)";
+            case "number":
+                return "v instanceof Number";
+            case "boolean":
+                return "v instanceof Boolean";
+            case "null":
+                return "v == null";
+            default:
+                throw error(at, "unknown type '" + type + "'");
+        }
+    }
+
+    private String constCondition(final Object value, final String at) {
+        if (value == null) {
+            return "v == null";
+        }
+        if (value instanceof Boolean) {
+            return "Boolean." + ((Boolean) value ? "TRUE" : "FALSE") + ".equals(v)";
+        }
+        if (value instanceof String) {
+            return literal((String) value) + ".equals(v)";
+        }
+        if (value instanceof Number) {
+            usesNumberEquals = true;
+            return "numberEquals(v, " + number(value, at) + ")";
+        }
+        throw error(at, "only scalar enum and const values are supported");
+    }
+
+    private Object resolve(final String ref) {
+        if (!ref.startsWith("#")) {
+            throw error(ref, "only local $refs are supported");
+        }
+
+        Object node = root;
+        final String pointer = URLDecoder.decode(ref.substring(1), StandardCharsets.UTF_8);
+        if (pointer.isEmpty()) {
+            return node;
+        }
+        if (!pointer.startsWith("/")) {
+            throw error(ref, "only JSON pointer $refs are supported");
+        }
+
+        for (final String token : pointer.substring(1).split("/", -1)) {
+            final String name = token.replace("~1", "/").replace("~0", "~");
+            if (node instanceof Map && ((Map<?, ?>) node).containsKey(name)) {
+                node = ((Map<?, ?>) node).get(name);
+            } else if (node instanceof List && name.matches("[0-9]+")) {
+                node = ((List<?>) node).get(Integer.parseInt(name));
+            } else {
+                throw error(ref, "unresolvable $ref");
+            }
+        }
+        return node;
+    }
+
+    private static void check(final StringBuilder b, final String failCondition) {
+        b.append("        if (").append(failCondition).append(") {\n");
+        b.append("            return false;\n");
+        b.append("        }\n");
+    }
+
+    private static void nestedCheck(final StringBuilder b, final String failCondition) {
+        b.append("            if (").append(failCondition).append(") {\n");
+        b.append("                return false;\n");
+        b.append("            }\n");
+    }
+
+    private List<?> list(final Map<String, Object> schema, final String keyword, final String at) {
+        return schema.containsKey(keyword)
+                ? list(schema.get(keyword), at + "/" + keyword)
+                : List.of();
+    }
+
+    private List<?> list(final Object value, final String at) {
+        if (!(value instanceof List)) {
+            throw error(at, "expected array");
+        }
+        return (List<?>) value;
+    }
+
+    private long integer(final Object value, final String at) {
+        if (!(value instanceof Long)) {
+            throw error(at, "expected integer, got " + value);
+        }
+        return (Long) value;
+    }
+
+    /**
+     * @return the name of the constant holding the exact value of the schema number.
+     */
+    private String number(final Object value, final String at) {
+        if (!(value instanceof Number)) {
+            throw error(at, "expected number, got " + value);
+        }
+        final double d = ((Number) value).doubleValue();
+        if (Double.isNaN(d) || Double.isInfinite(d)) {
+            throw error(at, "expected finite number, got " + value);
+        }
+
+        final String text =
+                value instanceof Double || value instanceof Float
+                        ? new BigDecimal(Double.toString(d)).toPlainString()
+                        : value.toString();
+        final int existing = numbers.indexOf(text);
+        if (existing >= 0) {
+            return "N" + existing;
+        }
+        numbers.add(text);
+        return "N" + (numbers.size() - 1);
+    }
+
+    private IllegalArgumentException error(final String at, final String msg) {
+        return new IllegalArgumentException(
+                source + " at #" + at.replaceFirst("^#", "") + ": " + msg);
+    }
+
+    private static String escapePointer(final String name) {
+        return name.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static String javadoc(final String text) {
+        return text.replace("*/", "*&#47;").replace("@", "{@literal @}").replace("}", "&#125;");
+    }
+
+    /**
+     * @return the text as a Java string literal.
+     */
+    static String literal(final String text) {
+        final StringBuilder sb = new StringBuilder("\"");
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7E) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
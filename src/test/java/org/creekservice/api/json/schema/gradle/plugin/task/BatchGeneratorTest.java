@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BatchGeneratorTest {
+
+    private static final List<File> CLASS_PATH =
+            Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                    .map(File::new)
+                    .collect(Collectors.toList());
+
+    @TempDir private Path tempDir;
+    private BatchGenerator generator;
+
+    @AfterEach
+    void tearDown() {
+        if (generator != null) {
+            generator.destroy();
+        }
+    }
+
+    @Test
+    void shouldRunMultipleRequestsInSameJvm() {
+        // Given:
+        generator = BatchGenerator.start(command(EchoMain.class), CLASS_PATH);
+        final List<String> output = new ArrayList<>();
+
+        // When:
+        final int first = generator.run(List.of(), List.of("--a=1"), output::add);
+        final int second = generator.run(List.of(), List.of("--b=two words"), output::add);
+
+        // Then:
+        assertThat(first, is(0));
+        assertThat(second, is(0));
+        assertThat(output, is(List.of("--a=1", "--b=two words")));
+        assertThat(generator.isAlive(), is(true));
+    }
+
+    @Test
+    void shouldCompleteRequestIfOutputLacksTrailingNewLine() {
+        // Given:
+        generator = BatchGenerator.start(command(UnterminatedMain.class), CLASS_PATH);
+        final List<String> output = new ArrayList<>();
+
+        // When:
+        final int first = generator.run(List.of(), List.of(), output::add);
+        final int second = generator.run(List.of(), List.of(), output::add);
+
+        // Then:
+        assertThat(first, is(0));
+        assertThat(second, is(0));
+        assertThat(output, is(List.of("partial", "partial")));
+    }
+
+    @Test
+    void shouldIsolateProjectClassPaths() {
+        // Given:
+        generator = BatchGenerator.start(command(CountingMain.class), List.of());
+        final List<String> output = new ArrayList<>();
+
+        // When:
+        generator.run(CLASS_PATH, List.of(), output::add);
+        generator.run(CLASS_PATH, List.of(), output::add);
+
+        // Then:
+        assertThat(output, is(List.of("1", "1")));
+    }
+
+    @Test
+    void shouldLoadGeneratorClassPathOnce() {
+        // Given:
+        generator = BatchGenerator.start(command(CountingMain.class), CLASS_PATH);
+        final List<String> output = new ArrayList<>();
+
+        // When:
+        generator.run(List.of(), List.of(), output::add);
+        generator.run(List.of(), List.of(), output::add);
+
+        // Then:
+        assertThat(output, is(List.of("1", "2")));
+    }
+
+    @Test
+    void shouldReturnNonZeroExitCodeIfMainThrows() {
+        // Given:
+        generator = BatchGenerator.start(command(FailingMain.class), CLASS_PATH);
+
+        // When:
+        final int exitCode = generator.run(List.of(), List.of("--a=1"), line -> {});
+
+        // Then:
+        assertThat(exitCode, is(1));
+        assertThat(generator.isAlive(), is(true));
+    }
+
+    @Test
+    void shouldReturnExitCodeIfMainExitsJvm() {
+        // Given:
+        generator = BatchGenerator.start(command(ExitingMain.class), CLASS_PATH);
+
+        // When:
+        final int exitCode = generator.run(List.of(), List.of(), line -> {});
+
+        // Then:
+        assertThat(exitCode, is(3));
+        assertThat(generator.isAlive(), is(false));
+    }
+
+    private List<String> command(final Class<?> mainClass) {
+        final Path launcherDir = tempDir.resolve("launcher");
+        PrelaunchedGenerator.writeLaunchers(launcherDir);
+
+        return PrelaunchedGenerator.command(
+                launcherDir,
+                List.of(),
+                List.of(),
+                BatchGeneratorLauncher.class,
+                mainClass.getName());
+    }
+
+    public static final class EchoMain {
+        public static void main(final String[] args) {
+            Arrays.stream(args).forEach(System.out::println);
+        }
+    }
+
+    public static final class UnterminatedMain {
+        public static void main(final String[] args) {
+            System.out.print("partial");
+        }
+    }
+
+    public static final class CountingMain {
+        private static int count;
+
+        public static void main(final String[] args) {
+            System.out.println(++count);
+        }
+    }
+
+    public static final class FailingMain {
+        public static void main(final String[] args) {
+            throw new IllegalStateException("Boom");
+        }
+    }
+
+    public static final class ExitingMain {
+        public static void main(final String[] args) {
+            System.exit(3);
+        }
+    }
+}
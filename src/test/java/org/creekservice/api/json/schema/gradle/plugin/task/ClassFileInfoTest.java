@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+class ClassFileInfoTest {
+
+    @Test
+    void shouldParseClassName() {
+        // When:
+        final ClassFileInfo info = parse(Closed.class);
+
+        // Then:
+        assertThat(info.className(), is(Closed.class.getName()));
+        assertThat(info.packageName(), is(Closed.class.getPackageName()));
+    }
+
+    @Test
+    void shouldParseSealedType() {
+        // When:
+        final ClassFileInfo info = parse(Closed.class);
+
+        // Then:
+        assertThat(info.isSealed(), is(true));
+        assertThat(info.isInterface(), is(true));
+        assertThat(
+                info.permittedSubclasses(),
+                containsInAnyOrder(Leaf.class.getName(), Branch.class.getName()));
+    }
+
+    @Test
+    void shouldParseFinalType() {
+        // When:
+        final ClassFileInfo info = parse(Leaf.class);
+
+        // Then:
+        assertThat(info.isFinal(), is(true));
+        assertThat(info.isSealed(), is(false));
+    }
+
+    @Test
+    void shouldParseNonSealedType() {
+        // When:
+        final ClassFileInfo info = parse(Branch.class);
+
+        // Then:
+        assertThat(info.isFinal(), is(false));
+        assertThat(info.isSealed(), is(false));
+        assertThat(info.isAbstract(), is(true));
+    }
+
+    @Test
+    void shouldParseStringAnnotationValue() {
+        // When:
+        final ClassFileInfo info = parse(Leaf.class);
+
+        // Then:
+        assertThat(info.hasAnnotation(Tag.class.getName()), is(true));
+        assertThat(
+                info.annotation(Tag.class.getName()).flatMap(a -> a.value("value")),
+                is(Optional.of("leaf")));
+    }
+
+    @Test
+    void shouldParseClassArrayAnnotationValue() {
+        // When:
+        final ClassFileInfo info = parse(Leaf.class);
+
+        // Then:
+        final List<?> value =
+                info.annotation(ExtendWith.class.getName())
+                        .flatMap(a -> a.value("value"))
+                        .map(v -> (List<?>) v)
+                        .orElseThrow();
+        assertThat(value, contains((Object) MockitoExtension.class.getName()));
+    }
+
+    @Test
+    void shouldParseSuperTypes() {
+        // When:
+        final ClassFileInfo info = parse(Leaf.class);
+
+        // Then:
+        assertThat(
+                info.superTypes(),
+                containsInAnyOrder(Object.class.getName(), Closed.class.getName()));
+    }
+
+    @Test
+    void shouldNotParseNonClassFile() {
+        assertThat(ClassFileInfo.parse("not a class".getBytes(UTF_8)), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldGetPackageOfClassName() {
+        assertThat(ClassFileInfo.packageOf("acme.models.Thing"), is("acme.models"));
+        assertThat(ClassFileInfo.packageOf("acme/models/Thing"), is("acme.models"));
+        assertThat(ClassFileInfo.packageOf("Thing"), is(""));
+    }
+
+    private static ClassFileInfo parse(final Class<?> type) {
+        final String resource = type.getName().substring(type.getPackageName().length() + 1);
+        try (InputStream in = type.getResourceAsStream(resource + ".class")) {
+            return ClassFileInfo.parse(in.readAllBytes()).orElseThrow();
+        } catch (final IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private sealed interface Closed permits Leaf, Branch {}
+
+    @Tag("leaf")
+    @ExtendWith(MockitoExtension.class)
+    private static final class Leaf implements Closed {}
+
+    private abstract static non-sealed class Branch implements Closed {}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ClassFileScannerTest {
+
+    private static final ClassFileScanner TEST_ANNOTATION_SCANNER =
+            new ClassFileScanner(Test.class.getName());
+
+    @TempDir private Path tempDir;
+
+    @Test
+    void shouldFindReferencedAnnotation() throws Exception {
+        assertThat(TEST_ANNOTATION_SCANNER.references(thisClassFile()), is(true));
+    }
+
+    @Test
+    void shouldNotFindUnreferencedAnnotation() throws Exception {
+        assertThat(ClassFileScanner.GENERATES_SCHEMA.references(thisClassFile()), is(false));
+    }
+
+    @Test
+    void shouldIgnoreNonClassFiles() {
+        assertThat(TEST_ANNOTATION_SCANNER.references("not a class".getBytes(UTF_8)), is(false));
+    }
+
+    @Test
+    void shouldTreatTruncatedClassFileAsCandidate() throws Exception {
+        // Given:
+        final byte[] truncated = Arrays.copyOf(thisClassFile(), 20);
+
+        // Then:
+        assertThat(ClassFileScanner.GENERATES_SCHEMA.references(truncated), is(true));
+    }
+
+    @Test
+    void shouldScanClassFile() throws Exception {
+        // Given:
+        final Path classFile = tempDir.resolve("Thing.class");
+        Files.write(classFile, thisClassFile());
+
+        // Then:
+        assertThat(TEST_ANNOTATION_SCANNER.isSatisfiedBy(classFile.toFile()), is(true));
+        assertThat(ClassFileScanner.GENERATES_SCHEMA.isSatisfiedBy(classFile.toFile()), is(false));
+    }
+
+    @Test
+    void shouldScanJar() throws Exception {
+        // Given:
+        final Path jar = tempDir.resolve("thing.jar");
+        try (OutputStream out = Files.newOutputStream(jar);
+                JarOutputStream jarOut = new JarOutputStream(out)) {
+            jarOut.putNextEntry(new JarEntry("acme/Thing.class"));
+            jarOut.write(thisClassFile());
+            jarOut.closeEntry();
+        }
+
+        // Then:
+        assertThat(TEST_ANNOTATION_SCANNER.isSatisfiedBy(jar.toFile()), is(true));
+        assertThat(ClassFileScanner.GENERATES_SCHEMA.isSatisfiedBy(jar.toFile()), is(false));
+    }
+
+    @Test
+    void shouldIgnoreOtherFiles() throws Exception {
+        // Given:
+        final Path other = tempDir.resolve("Thing.java");
+        Files.write(other, thisClassFile());
+
+        // Then:
+        assertThat(TEST_ANNOTATION_SCANNER.isSatisfiedBy(other.toFile()), is(false));
+    }
+
+    private static byte[] thisClassFile() throws IOException {
+        try (InputStream in =
+                ClassFileScannerTest.class.getResourceAsStream(
+                        ClassFileScannerTest.class.getSimpleName() + ".class")) {
+            return in.readAllBytes();
+        }
+    }
+}
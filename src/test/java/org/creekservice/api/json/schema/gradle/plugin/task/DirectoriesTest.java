@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DirectoriesTest {
+
+    @TempDir private Path dir;
+
+    @Test
+    void shouldDeleteDirectoryAndContent() throws Exception {
+        // Given:
+        final Path file = dir.resolve("shards/0/acme/Thing.yml");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "old", UTF_8);
+
+        // When:
+        Directories.delete(dir.resolve("shards"));
+
+        // Then:
+        assertThat(Files.exists(dir.resolve("shards")), is(false));
+    }
+
+    @Test
+    void shouldIgnoreMissingDirectory() {
+        // When:
+        Directories.delete(dir.resolve("missing"));
+
+        // Then:
+        assertThat(Files.exists(dir.resolve("missing")), is(false));
+    }
+}
@@ -21,14 +21,19 @@ import static org.creekservice.api.json.schema.gradle.plugin.GeneratorVersion.de
 import static org.creekservice.api.test.util.coverage.CodeCoverage.codeCoverageCmdLineArg;
 import static org.creekservice.api.test.util.debug.RemoteDebug.remoteDebugArguments;
 import static org.gradle.testkit.runner.TaskOutcome.FAILED;
-import static org.gradle.testkit.runner.TaskOutcome.SKIPPED;
 import static org.gradle.testkit.runner.TaskOutcome.SUCCESS;
+import static org.gradle.testkit.runner.TaskOutcome.UP_TO_DATE;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.matchesPattern;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
@@ -36,14 +41,17 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.ZipFile;
 import org.creekservice.api.test.util.TestPaths;
 import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.BuildTask;
 import org.gradle.testkit.runner.GradleRunner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -66,7 +74,14 @@ class GenerateJsonSchemaTest {
     private static final String GENERATE_TASK_NAME = ":generateJsonSchema";
     private static final String GENERATE_TEST_TASK_NAME = ":generateTestJsonSchema";
     private static final String TEST_TASK_NAME = ":test";
+    private static final String GENERATE_VALIDATORS_TASK_NAME = ":generateJsonSchemaValidators";
+    private static final String PUBLISH_TASK_NAME = ":publishJsonSchemas";
+    private static final String CHECK_COMPATIBILITY_TASK_NAME = ":checkJsonSchemaCompatibility";
+    private static final String CHECK_METRICS_TASK_NAME = ":checkJsonSchemaMetrics";
+    private static final String VALIDATE_FIXTURES_TASK_NAME = ":validateJsonSchemaFixtures";
     private static final String INIT_SCRIPT = "--init-script=" + TEST_DIR.resolve("init.gradle");
+    private static final String INIT_ISOLATED_SCRIPT =
+            "--init-script=" + TEST_DIR.resolve("init-isolated.gradle");
 
     @TempDir private Path projectDir;
 
@@ -87,7 +102,7 @@ class GenerateJsonSchemaTest {
                 executeTask(GENERATE_TASK_NAME, ExpectedOutcome.PASS, gradleVersion);
 
         // Then:
-        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(SKIPPED));
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(UP_TO_DATE));
     }
 
     @CartesianTest
@@ -101,7 +116,38 @@ class GenerateJsonSchemaTest {
                 executeTask(GENERATE_TASK_NAME, ExpectedOutcome.PASS, gradleVersion);
 
         // Then:
-        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(SKIPPED));
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(UP_TO_DATE));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldSkipIfNoAnnotatedTypes(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/no_annotated_types");
+
+        // When:
+        final BuildResult result =
+                executeTask(GENERATE_TASK_NAME, ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(UP_TO_DATE));
+        assertThat(result.getOutput(), not(containsString("JsonSchemaGenerator:")));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldNotSkipIfNoAnnotatedTypesCheckDisabled(
+            final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/skip_check_disabled");
+
+        // When:
+        final BuildResult result =
+                executeTask(GENERATE_TASK_NAME, ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(result.getOutput(), containsString("JsonSchemaGenerator:"));
     }
 
     @CartesianTest
@@ -283,8 +329,7 @@ class GenerateJsonSchemaTest {
     @MethodFactory("flavoursAndVersions")
     void shouldExecuteWithOptions(final String flavour, final String gradleVersion) {
         // Given:
-        givenProject(flavour + "/empty");
-        givenSourceFiles();
+        givenProject(flavour + "/default");
 
         // When:
         final BuildResult result =
@@ -322,6 +367,135 @@ class GenerateJsonSchemaTest {
                                 + " org.test.sub.two]"));
     }
 
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldResolveSealedSubtypesFromMetadata(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/resolves_sealed_subtypes");
+
+        // When:
+        final BuildResult result =
+                executeTask(GENERATE_TASK_NAME, ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                result.getOutput(), containsString("--subtype-scanning-allowed-packages=[acme]"));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldShareGeneratorWhenSettingsPluginApplied(
+            final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/settings_plugin");
+
+        // When:
+        final BuildResult result =
+                executeTask("generateJsonSchema", ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(":a" + GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(result.task(":b" + GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                result.getOutput(),
+                containsString("JsonSchemaGenerator: " + defaultGeneratorVersion()));
+        assertThat(
+                result.getOutput(),
+                matchesPattern(
+                        Pattern.compile(
+                                ".*^--class-path=[^\n\r]*creek-json-schema-generator.*",
+                                Pattern.MULTILINE | Pattern.DOTALL)));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldSupportIsolatedProjects(final String flavour, final String gradleVersion) {
+        assumeTrue(majorVersion(gradleVersion) >= 8);
+
+        // Given:
+        givenProject(flavour + "/settings_plugin");
+
+        // When:
+        final BuildResult result =
+                executeTask(
+                        "generateJsonSchema",
+                        ExpectedOutcome.PASS,
+                        gradleVersion,
+                        INIT_ISOLATED_SCRIPT,
+                        "-Dorg.gradle.unsafe.isolated-projects=true");
+
+        // Then:
+        assertThat(result.task(":a" + GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(result.task(":b" + GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldReuseConfigurationCache(final String flavour, final String gradleVersion) {
+        assumeTrue(majorVersion(gradleVersion) >= 8);
+
+        // Given:
+        givenProject(flavour + "/default");
+        executeTask(
+                GENERATE_TASK_NAME, ExpectedOutcome.PASS, gradleVersion, "--configuration-cache");
+
+        // When:
+        final BuildResult result =
+                executeTask(
+                        GENERATE_TASK_NAME,
+                        ExpectedOutcome.PASS,
+                        gradleVersion,
+                        "--configuration-cache");
+
+        // Then:
+        assertThat(result.getOutput(), containsString("Reusing configuration cache."));
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(UP_TO_DATE));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldProfileGenerator(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/default");
+
+        // When:
+        final BuildResult result =
+                executeTask(
+                        GENERATE_TASK_NAME,
+                        ExpectedOutcome.PASS,
+                        gradleVersion,
+                        "--profile-generator");
+
+        // Then:
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        final Path reportDir = projectDir.resolve("build/reports/jsonSchema/generateJsonSchema");
+        assertThat(Files.exists(reportDir.resolve("generator.jfr")), is(true));
+        assertThat(Files.exists(reportDir.resolve("gc.log")), is(true));
+        assertThat(result.getOutput(), containsString("JSON schema generator profile:"));
+        assertThat(result.getOutput(), containsString("Hottest methods"));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldGenerateValidators(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/generates_validators");
+
+        // When:
+        final BuildResult result = executeTask(TEST_TASK_NAME, ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(GENERATE_VALIDATORS_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(result.task(TEST_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                Files.exists(
+                        projectDir.resolve(
+                                "build/generated/sources/jsonSchemaValidators/java/main"
+                                        + "/acme/ModelValidator.java")),
+                is(true));
+    }
+
     @CartesianTest
     @MethodFactory("flavoursAndVersions")
     void shouldRunGenerateTaskAfterCompileJavaAsPartOfProcessResources(
@@ -391,114 +565,963 @@ class GenerateJsonSchemaTest {
     }
 
     @CartesianTest
-    @MethodFactory("flavoursVersionsAndLanguage")
-    void shouldWriteOutSchemaFilesAsFlatDirectory(
-            final String flavour, final String gradleVersion, final String language) {
-        assumeTrue(supported(gradleVersion, language));
-
+    @MethodFactory("flavoursAndVersions")
+    void shouldGenerateReflectionMetadata(final String flavour, final String gradleVersion)
+            throws Exception {
         // Given:
-        givenProject(flavour + "/generates_flat_schema/" + language);
-        final Path expectedSchemaDir = givenDirectory(projectDir.resolve("expected"));
-        final Path actualSchemaDir =
-                givenDirectory(
-                        projectDir.resolve("build/generated/resources/schema/main/schema/json"));
+        givenProject(flavour + "/generates_schema/java");
+        final Path nativeImageDir =
+                projectDir.resolve("build/generated/resources/schema/main/META-INF/native-image");
 
         // When:
-        final BuildResult result = executeTask(TEST_TASK_NAME, ExpectedOutcome.PASS, gradleVersion);
+        final BuildResult result =
+                executeTask(
+                        GENERATE_TASK_NAME,
+                        ExpectedOutcome.PASS,
+                        gradleVersion,
+                        "--generate-reflection-metadata");
 
         // Then:
         assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
-        assertSchemas(actualSchemaDir, expectedSchemaDir);
-        assertThat(result.task(TEST_TASK_NAME).getOutcome(), is(SUCCESS));
+        final List<Path> metadata;
+        try (Stream<Path> files = Files.walk(nativeImageDir)) {
+            metadata = files.filter(f -> f.endsWith("reflect-config.json")).toList();
+        }
+        assertThat(metadata, hasSize(1));
+        assertThat(
+                Files.readString(metadata.get(0)), containsString("\"name\": \"acme.Model\""));
     }
 
     @CartesianTest
-    @MethodFactory("flavoursVersionsAndLanguage")
-    void shouldWriteOutTestSchemaFiles(
-            final String flavour, final String gradleVersion, final String language) {
-        assumeTrue(supported(gradleVersion, language));
-
+    @MethodFactory("flavoursAndVersions")
+    void shouldGenerateManifest(final String flavour, final String gradleVersion)
+            throws Exception {
         // Given:
-        givenProject(flavour + "/generates_test_schema/" + language);
-        final Path expectedSchemaDir = givenDirectory(projectDir.resolve("expected"));
-        final Path actualSchemaDir =
-                givenDirectory(projectDir.resolve("build/generated/resources/schema/test"));
+        givenProject(flavour + "/generates_schema/java");
+        final Path manifest =
+                projectDir.resolve(
+                        "build/generated/resources/schema/main/"
+                                + "META-INF/creek/json-schemas.manifest");
 
         // When:
-        final BuildResult result = executeTask(TEST_TASK_NAME, ExpectedOutcome.PASS, gradleVersion);
+        final BuildResult result =
+                executeTask(
+                        GENERATE_TASK_NAME,
+                        ExpectedOutcome.PASS,
+                        gradleVersion,
+                        "--generate-manifest");
 
         // Then:
-        assertThat(result.task(GENERATE_TEST_TASK_NAME).getOutcome(), is(SUCCESS));
-        assertSchemas(actualSchemaDir, expectedSchemaDir);
-        assertThat(result.task(TEST_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(Files.readString(manifest), containsString("acme.Model\tacme/Model.yml\t"));
     }
 
-    @Test
-    void shouldNotCheckInWithDebuggingEnabled() {
-        assertThat("Do not check in with debugging enabled", !DEBUG);
-    }
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldGenerateIndex(final String flavour, final String gradleVersion) throws Exception {
+        // Given:
+        givenProject(flavour + "/generates_flat_schema/java");
+        final Path index =
+                projectDir.resolve(
+                        "build/generated/resources/schema/main/META-INF/creek/json-schemas.idx");
 
-    private void givenProject(final String projectPath) {
-        TestPaths.copy(TEST_DIR.resolve(projectPath), projectDir);
-    }
+        // When:
+        final BuildResult result =
+                executeTask(
+                        GENERATE_TASK_NAME,
+                        ExpectedOutcome.PASS,
+                        gradleVersion,
+                        "--generate-index");
 
-    private Path givenDirectory(final Path path) {
-        TestPaths.ensureDirectories(path);
-        return path;
+        // Then:
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                Files.readAllLines(index),
+                is(List.of("# Creek JSON schema index v1", "schema/json/acme.Model.yml")));
     }
 
-    private void givenSourceFiles() {
-        TestPaths.copy(TEST_DIR.resolve("groovy/default/src"), projectDir.resolve("src"));
-    }
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldGenerateBinarySchemas(final String flavour, final String gradleVersion)
+            throws Exception {
+        // Given:
+        givenProject(flavour + "/generates_schema/java");
+        final Path schemaRoot = projectDir.resolve("build/generated/resources/schema/main");
 
-    private enum ExpectedOutcome {
-        PASS,
-        FAIL
+        // When:
+        final BuildResult result =
+                executeTask(
+                        GENERATE_TASK_NAME,
+                        ExpectedOutcome.PASS,
+                        gradleVersion,
+                        "--generate-binary-schemas");
+
+        // Then:
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        final Object schema =
+                SchemaYaml.parse(Files.readString(schemaRoot.resolve("acme/Model.yml")));
+        assertThat(
+                Files.readAllBytes(schemaRoot.resolve("acme/Model.cbor")),
+                is(SchemaCbor.encode(schema)));
     }
 
-    private BuildResult executeTask(
-            final String taskName,
-            final ExpectedOutcome expectedOutcome,
-            final String gradleVersion,
-            final String... additionalArgs) {
-        final List<String> args = new ArrayList<>(List.of(INIT_SCRIPT, "--stacktrace", taskName));
-        args.addAll(List.of(additionalArgs));
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldShareRepeatedDefinitions(final String flavour, final String gradleVersion)
+            throws Exception {
+        // Given:
+        givenProject(flavour + "/shares_definitions");
+        final Path schemaRoot = projectDir.resolve("build/generated/resources/schema/main");
 
-        final GradleRunner runner =
-                GradleRunner.create()
-                        .withProjectDir(projectDir.toFile())
-                        .withArguments(args)
-                        .withPluginClasspath()
-                        .withGradleVersion(gradleVersion);
+        // When:
+        final BuildResult result =
+                executeTask(GENERATE_TASK_NAME, ExpectedOutcome.PASS, gradleVersion, "--info");
 
-        return expectedOutcome == ExpectedOutcome.FAIL ? runner.buildAndFail() : runner.build();
+        // Then:
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(result.getOutput(), containsString("Moved 1 shared definitions to"));
+        final List<Path> shared;
+        try (Stream<Path> files =
+                Files.walk(schemaRoot.resolve("META-INF/creek/json-schema-definitions/acme"))) {
+            shared = files.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        assertThat(shared, hasSize(1));
+        assertThat(shared.get(0).getFileName().toString(), is("main.yml"));
+        assertThat(Files.readString(shared.get(0)), containsString("Money:"));
+        assertThat(
+                Files.readString(schemaRoot.resolve("acme/Order.yml")),
+                containsString("../META-INF/creek/json-schema-definitions/acme/"));
+        assertThat(
+                Files.readString(schemaRoot.resolve("acme/Invoice.yml")),
+                not(containsString("minorUnits")));
     }
 
-    private void writeGradleProperties() {
-        final List<String> options = new ArrayList<>(3);
-        codeCoverageCmdLineArg(BUILD_DIR).ifPresent(options::add);
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldRejectSharedDefinitionsWithValidators(
+            final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/shares_definitions");
 
-        if (DEBUG) {
-            options.addAll(remoteDebugArguments());
-        }
+        // When:
+        final BuildResult result =
+                executeTask(
+                        GENERATE_VALIDATORS_TASK_NAME,
+                        ExpectedOutcome.FAIL,
+                        gradleVersion,
+                        "-PgenerateValidators=true");
 
-        if (!options.isEmpty()) {
-            // Use forward slashes to avoid backslashes being treated as escape chars in
-            // .properties:
-            final String jvmArgs = String.join(" ", options).replace("\\", "/");
-            TestPaths.write(
-                    projectDir.resolve("gradle.properties"), "org.gradle.jvmargs=" + jvmArgs);
-        }
+        // Then:
+        assertThat(
+                result.getOutput(),
+                containsString(
+                        "shareDefinitions can not be used with generateJsonSchemaValidators"));
     }
 
-    private void assertSchemas(final Path actualSchemaDir, final Path expectedSchemaDir) {
-        final List<Path> actualPaths = schemaFiles(actualSchemaDir);
-        final List<Path> expectedPaths = schemaFiles(expectedSchemaDir);
-        assertThat("Sanity check", expectedPaths, is(not(empty())));
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldRejectSharedDefinitionsWithCompatibilityBaseline(
+            final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/shares_definitions");
 
-        for (int idx = 0; idx < expectedPaths.size(); idx++) {
-            final Path expectedPath = expectedPaths.get(idx);
-            if (actualPaths.size() <= idx) {
+        // When:
+        final BuildResult result =
+                executeTask(
+                        CHECK_COMPATIBILITY_TASK_NAME,
+                        ExpectedOutcome.FAIL,
+                        gradleVersion,
+                        "-PcompatibilityBaseline=baseline");
+
+        // Then:
+        assertThat(
+                result.getOutput(),
+                containsString(
+                        "shareDefinitions can not be used with checkJsonSchemaCompatibility"));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldRejectSharedDefinitionsWhenPublishing(
+            final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/shares_definitions");
+
+        // When:
+        final BuildResult result =
+                executeTask(
+                        PUBLISH_TASK_NAME,
+                        ExpectedOutcome.FAIL,
+                        gradleVersion,
+                        "--registry-url=http://localhost:1");
+
+        // Then:
+        assertThat(
+                result.getOutput(),
+                containsString("shareDefinitions can not be used with publishJsonSchemas"));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldNotRejectSharedDefinitionsWithoutCompatibilityBaseline(
+            final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/shares_definitions");
+
+        // When:
+        final BuildResult result =
+                executeTask(CHECK_COMPATIBILITY_TASK_NAME, ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(CHECK_COMPATIBILITY_TASK_NAME).getOutcome(), is(SUCCESS));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldOnlyPublishSchemaVariantIfEnabled(final String flavour, final String gradleVersion)
+            throws Exception {
+        // Given:
+        givenProject(flavour + "/schema_variant");
+        final Path metadata = projectDir.resolve("model/build/publications/maven/module.json");
+        final String task = ":model:generateMetadataFileForMavenPublication";
+
+        // When:
+        executeTask(task, ExpectedOutcome.PASS, gradleVersion);
+        final String defaultMetadata = Files.readString(metadata);
+        executeTask(task, ExpectedOutcome.PASS, gradleVersion, "-PpublishSchemaVariant=true");
+        final String enabledMetadata = Files.readString(metadata);
+
+        // Then:
+        assertThat(defaultMetadata, not(containsString("jsonSchemaElements")));
+        assertThat(enabledMetadata, containsString("jsonSchemaElements"));
+        assertThat(enabledMetadata, containsString("\"name\": \"model-json-schemas\""));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldExposeSchemasAsSeparateVariant(final String flavour, final String gradleVersion)
+            throws Exception {
+        // Given:
+        givenProject(flavour + "/schema_variant");
+
+        // When:
+        final BuildResult result =
+                executeTask(":consumer:printSchemaArtifacts", ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(":model:jsonSchemaZip").getOutcome(), is(SUCCESS));
+        assertThat(result.task(":model:jar"), is(nullValue()));
+        assertThat(
+                result.getOutput(), containsString("Schema artifact: model-1.0-json-schemas.zip"));
+        assertThat(result.getOutput(), not(containsString("guava")));
+
+        final Path archive = projectDir.resolve("model/build/libs/model-1.0-json-schemas.zip");
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            assertThat(zip.getEntry("acme/Model.yml"), is(notNullValue()));
+        }
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldReferenceUpstreamSchemas(final String flavour, final String gradleVersion)
+            throws Exception {
+        // Given:
+        givenProject(flavour + "/references_upstream_schemas");
+
+        // When:
+        final BuildResult result =
+                executeTask(":service:generateJsonSchema", ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(":model:jsonSchemaZip").getOutcome(), is(SUCCESS));
+        final Path schemaRoot = projectDir.resolve("service/build/generated/resources/schema/main");
+        final String schema = Files.readString(schemaRoot.resolve("acme/service/Order.yml"));
+        assertThat(schema, containsString("$ref: classpath:acme/model/Address.yml"));
+        assertThat(schema, not(containsString("definitions")));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldRejectUpstreamSchemaReferencesWhenGeneratingValidators(
+            final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/references_upstream_schemas");
+
+        // When:
+        final BuildResult result =
+                executeTask(
+                        ":service:" + GENERATE_VALIDATORS_TASK_NAME,
+                        ExpectedOutcome.FAIL,
+                        gradleVersion,
+                        "-PgenerateValidators=true");
+
+        // Then:
+        assertThat(
+                result.getOutput(),
+                containsString(
+                        "referenceUpstreamSchemas can not be used with"
+                                + " generateJsonSchemaValidators in :service"));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldRejectUpstreamSchemaReferencesWhenPublishing(
+            final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/references_upstream_schemas");
+
+        // When:
+        final BuildResult result =
+                executeTask(
+                        ":service:" + PUBLISH_TASK_NAME,
+                        ExpectedOutcome.FAIL,
+                        gradleVersion,
+                        "--registry-url=http://localhost:1");
+
+        // Then:
+        assertThat(
+                result.getOutput(),
+                containsString(
+                        "referenceUpstreamSchemas can not be used with publishJsonSchemas"
+                                + " in :service"));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldNotWireModelSchemasWithoutModelDependencies(
+            final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/default");
+
+        // When:
+        final BuildResult result =
+                executeTask("tasks", ExpectedOutcome.PASS, gradleVersion, "--all");
+
+        // Then:
+        assertThat(result.getOutput(), containsString(GENERATE_TASK_NAME));
+        assertThat(result.getOutput(), not(containsString("syncModelJsonSchemas")));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldGenerateSchemasForModelJars(final String flavour, final String gradleVersion)
+            throws Exception {
+        // Given:
+        givenProject(flavour + "/generates_model_schemas");
+
+        // When:
+        final BuildResult result =
+                executeTask(":service:syncModelJsonSchemas", ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(":service:syncModelJsonSchemas").getOutcome(), is(SUCCESS));
+        final Path schemaRoot = projectDir.resolve("service/build/generated/resources/schema");
+        assertThat(Files.exists(schemaRoot.resolve("models/acme/model/Address.yml")), is(true));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldPassCompatibilityCheckAsPartOfCheck(
+            final String flavour, final String gradleVersion) throws Exception {
+        // Given:
+        givenProject(flavour + "/checks_compatibility");
+
+        // When:
+        final BuildResult result = executeTask(":check", ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(CHECK_COMPATIBILITY_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                Files.readString(projectDir.resolve("build/reports/jsonSchema/compatibility.txt")),
+                is(""));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldFailCompatibilityCheckOnBreakingChange(
+            final String flavour, final String gradleVersion) throws Exception {
+        // Given:
+        givenProject(flavour + "/checks_compatibility");
+        Files.writeString(
+                projectDir.resolve("baseline/acme/Model.yml"),
+                "---\n"
+                        + "$schema: https://json-schema.org/draft/2020-12/schema\n"
+                        + "type: object\n"
+                        + "properties:\n"
+                        + "  someProp:\n"
+                        + "    type: string\n"
+                        + "  otherProp:\n"
+                        + "    type: integer\n"
+                        + "title: Model\n"
+                        + "additionalProperties: false\n");
+
+        // When:
+        final BuildResult result =
+                executeTask(CHECK_COMPATIBILITY_TASK_NAME, ExpectedOutcome.FAIL, gradleVersion);
+
+        // Then:
+        assertThat(result.task(CHECK_COMPATIBILITY_TASK_NAME).getOutcome(), is(FAILED));
+        assertThat(result.getOutput(), containsString("Found 1 breaking schema changes:"));
+        assertThat(
+                result.getOutput(),
+                containsString("acme.Model /properties/otherProp: property removed"));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldReportSchemaMetricsAsPartOfCheck(final String flavour, final String gradleVersion)
+            throws Exception {
+        // Given:
+        givenProject(flavour + "/checks_compatibility");
+
+        // When:
+        final BuildResult result = executeTask(":check", ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(CHECK_METRICS_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                Files.readString(projectDir.resolve("build/reports/jsonSchema/metrics.txt")),
+                containsString("acme.Model\tacme/Model.yml\t"));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldFailMetricsCheckWhenBudgetExceeded(
+            final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/checks_metrics");
+
+        // When:
+        final BuildResult result =
+                executeTask(CHECK_METRICS_TASK_NAME, ExpectedOutcome.FAIL, gradleVersion);
+
+        // Then:
+        assertThat(result.task(CHECK_METRICS_TASK_NAME).getOutcome(), is(FAILED));
+        assertThat(result.getOutput(), containsString("Found 1 JSON schema budgets exceeded:"));
+        assertThat(result.getOutput(), containsString("acme.Model depth 2 exceeds budget of 1"));
+        assertThat(
+                Files.exists(projectDir.resolve("build/reports/jsonSchema/metrics.txt")),
+                is(true));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldValidateSchemaFixturesAsPartOfCheck(
+            final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/validates_fixtures");
+
+        // When:
+        final BuildResult result = executeTask(":check", ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(result.task(VALIDATE_FIXTURES_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                Files.exists(projectDir.resolve("build/reports/jsonSchema/fixtures.txt")),
+                is(true));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldFailOnInvalidSchemaFixture(final String flavour, final String gradleVersion)
+            throws Exception {
+        // Given:
+        givenProject(flavour + "/validates_fixtures");
+        Files.writeString(
+                projectDir.resolve("src/test/resources/schema-fixtures/acme/Model/bad.json"),
+                "{\"someProp\": true}");
+
+        // When:
+        final BuildResult result =
+                executeTask(VALIDATE_FIXTURES_TASK_NAME, ExpectedOutcome.FAIL, gradleVersion);
+
+        // Then:
+        assertThat(result.task(VALIDATE_FIXTURES_TASK_NAME).getOutcome(), is(FAILED));
+        assertThat(result.getOutput(), containsString("Found 1 invalid JSON schema fixtures:"));
+        assertThat(
+                result.getOutput(),
+                containsString(
+                        "acme/Model/bad.json #/someProp: expected type string, got boolean"));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldOnlyRevalidateChangedSchemaFixtures(
+            final String flavour, final String gradleVersion) throws Exception {
+        // Given:
+        givenProject(flavour + "/validates_fixtures");
+        executeTask(VALIDATE_FIXTURES_TASK_NAME, ExpectedOutcome.PASS, gradleVersion);
+        Files.writeString(
+                projectDir.resolve("src/test/resources/schema-fixtures/acme/Model/other.json"),
+                "{}");
+
+        // When:
+        final BuildResult result =
+                executeTask(
+                        VALIDATE_FIXTURES_TASK_NAME, ExpectedOutcome.PASS, gradleVersion, "--info");
+
+        // Then:
+        assertThat(result.task(VALIDATE_FIXTURES_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(result.getOutput(), containsString("Validated 1 fixtures in 1 chunks"));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldPublishOnlyChangedSchemas(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/generates_flat_schema/java");
+
+        try (StandInRegistry registry = new StandInRegistry()) {
+            final String registryArg = "--registry-url=" + registry.uri();
+
+            // When:
+            final BuildResult first =
+                    executeTask(
+                            PUBLISH_TASK_NAME, ExpectedOutcome.PASS, gradleVersion, registryArg);
+            final BuildResult second =
+                    executeTask(
+                            PUBLISH_TASK_NAME, ExpectedOutcome.PASS, gradleVersion, registryArg);
+
+            // Then:
+            assertThat(first.task(PUBLISH_TASK_NAME).getOutcome(), is(SUCCESS));
+            assertThat(first.getOutput(), containsString("Published 1 schemas to"));
+            assertThat(second.getOutput(), containsString("All 1 schemas already published to"));
+            assertThat(registry.requests(), hasSize(2));
+            assertThat(registry.requests().get(0).subject, is("acme.Model"));
+        }
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldNotRegisterSchemasAgainWithoutLedger(
+            final String flavour, final String gradleVersion) throws Exception {
+        // Given:
+        givenProject(flavour + "/generates_flat_schema/java");
+
+        try (StandInRegistry registry = new StandInRegistry()) {
+            final String registryArg = "--registry-url=" + registry.uri();
+            executeTask(PUBLISH_TASK_NAME, ExpectedOutcome.PASS, gradleVersion, registryArg);
+            Files.delete(projectDir.resolve("build/jsonSchema/publish-ledger.properties"));
+
+            // When:
+            final BuildResult result =
+                    executeTask(
+                            PUBLISH_TASK_NAME, ExpectedOutcome.PASS, gradleVersion, registryArg);
+
+            // Then:
+            assertThat(
+                    result.getOutput(),
+                    containsString("Published 0 schemas to " + registry.uri() + ", 1 already"));
+            assertThat(
+                    registry.requests().stream().filter(request -> request.register).count(),
+                    is(1L));
+        }
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursVersionsAndLanguage")
+    void shouldWriteOutSchemaFilesAsFlatDirectory(
+            final String flavour, final String gradleVersion, final String language) {
+        assumeTrue(supported(gradleVersion, language));
+
+        // Given:
+        givenProject(flavour + "/generates_flat_schema/" + language);
+        final Path expectedSchemaDir = givenDirectory(projectDir.resolve("expected"));
+        final Path actualSchemaDir =
+                givenDirectory(
+                        projectDir.resolve("build/generated/resources/schema/main/schema/json"));
+
+        // When:
+        final BuildResult result = executeTask(TEST_TASK_NAME, ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertSchemas(actualSchemaDir, expectedSchemaDir);
+        assertThat(result.task(TEST_TASK_NAME).getOutcome(), is(SUCCESS));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldGenerateSchemasWithPrelaunchedGenerator(
+            final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/generates_schema/java");
+        final Path expectedSchemaDir = givenDirectory(projectDir.resolve("expected"));
+        final Path actualSchemaDir =
+                givenDirectory(projectDir.resolve("build/generated/resources/schema/main"));
+
+        // When:
+        final BuildResult result =
+                executeTask(
+                        GENERATE_TASK_NAME,
+                        ExpectedOutcome.PASS,
+                        gradleVersion,
+                        "-PprelaunchGenerator=true",
+                        "--info");
+
+        // Then:
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(result.getOutput(), containsString("Prelaunched JSON schema generator"));
+        assertThat(result.getOutput(), containsString("Using prelaunched JSON schema generator"));
+        assertThat(
+                taskIndex(result, ":prelaunchJsonSchemaGenerator"),
+                is(lessThan(taskIndex(result, ":compileJava"))));
+        assertSchemas(actualSchemaDir, expectedSchemaDir);
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldPrelaunchGeneratorWithConfigurationCacheAndIsolatedProjects(
+            final String flavour, final String gradleVersion) {
+        assumeTrue(majorVersion(gradleVersion) >= 8);
+
+        // Given:
+        givenProject(flavour + "/settings_plugin");
+        final String[] args = {
+            INIT_ISOLATED_SCRIPT,
+            "-Dorg.gradle.unsafe.isolated-projects=true",
+            "--configuration-cache",
+            "-PprelaunchGenerator=true",
+            "--info"
+        };
+        final BuildResult first =
+                executeTask("generateJsonSchema", ExpectedOutcome.PASS, gradleVersion, args);
+        Directories.delete(projectDir.resolve("a/build/generated"));
+        Directories.delete(projectDir.resolve("b/build/generated"));
+
+        // When:
+        final BuildResult result =
+                executeTask("generateJsonSchema", ExpectedOutcome.PASS, gradleVersion, args);
+
+        // Then:
+        assertThat(first.getOutput(), containsString("Using prelaunched JSON schema generator"));
+        assertThat(result.getOutput(), containsString("Reusing configuration cache."));
+        assertThat(result.getOutput(), containsString("Using prelaunched JSON schema generator"));
+        assertThat(result.task(":a" + GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(result.task(":b" + GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldGenerateSchemasWithBatchGenerator(
+            final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/generates_schema/java");
+        final Path expectedSchemaDir = givenDirectory(projectDir.resolve("expected"));
+        final Path actualSchemaDir =
+                givenDirectory(projectDir.resolve("build/generated/resources/schema/main"));
+
+        // When:
+        final BuildResult result =
+                executeTask(
+                        GENERATE_TASK_NAME,
+                        ExpectedOutcome.PASS,
+                        gradleVersion,
+                        "-PbatchGeneration=true",
+                        "--info");
+
+        // Then:
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(result.getOutput(), containsString("Using batch JSON schema generator"));
+        assertSchemas(actualSchemaDir, expectedSchemaDir);
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldGenerateSchemasWithMergedGeneratorClasspath(
+            final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/generates_schema/java");
+        final Path expectedSchemaDir = givenDirectory(projectDir.resolve("expected"));
+        final Path actualSchemaDir =
+                givenDirectory(projectDir.resolve("build/generated/resources/schema/main"));
+
+        // When:
+        final BuildResult result =
+                executeTask(
+                        GENERATE_TASK_NAME,
+                        ExpectedOutcome.PASS,
+                        gradleVersion,
+                        "--merge-generator-classpath",
+                        "--info");
+
+        // Then:
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(result.getOutput(), containsString("creek-json-schema-generator-"));
+        assertThat(result.getOutput(), containsString("-merged.jar"));
+        assertSchemas(actualSchemaDir, expectedSchemaDir);
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldListChangedSchemas(final String flavour, final String gradleVersion)
+            throws Exception {
+        // Given:
+        givenProject(flavour + "/generates_schema/java");
+        final Path changes = projectDir.resolve("build/jsonSchema/changes/generateJsonSchema.txt");
+        final Path model = projectDir.resolve("src/main/java/acme/Model.java");
+        executeTask(GENERATE_TASK_NAME, ExpectedOutcome.PASS, gradleVersion);
+        assertThat(Files.readString(changes), containsString("added\tacme.Model\tacme/Model.yml"));
+
+        Files.writeString(
+                model,
+                Files.readString(model)
+                        .replace("public String getSomeProp()", "public int getSomeProp()")
+                        .replace("return null;", "return 0;"));
+
+        // When:
+        final BuildResult result =
+                executeTask(GENERATE_TASK_NAME, ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                Files.readString(changes), containsString("changed\tacme.Model\tacme/Model.yml"));
+        assertThat(Files.readString(changes), not(containsString("added")));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldOnlyRewriteAffectedSchemasWhenGeneratingIncrementally(
+            final String flavour, final String gradleVersion) throws Exception {
+        // Given:
+        givenProject(flavour + "/generates_incrementally");
+        final Path changes = projectDir.resolve("build/jsonSchema/changes/generateJsonSchema.txt");
+        final Path schemaRoot = projectDir.resolve("build/generated/resources/schema/main");
+        final Path first = projectDir.resolve("src/main/java/acme/first/First.java");
+        executeTask(GENERATE_TASK_NAME, ExpectedOutcome.PASS, gradleVersion);
+        final FileTime secondWritten =
+                Files.getLastModifiedTime(schemaRoot.resolve("acme/second/Second.yml"));
+
+        Files.writeString(
+                first,
+                Files.readString(first)
+                        .replace("public String getSomeProp()", "public int getSomeProp()")
+                        .replace("return null;", "return 0;"));
+
+        // When:
+        final BuildResult result =
+                executeTask(GENERATE_TASK_NAME, ExpectedOutcome.PASS, gradleVersion, "--info");
+
+        // Then:
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                result.getOutput(),
+                containsString("Regenerating schemas in packages: [acme.first]"));
+        assertThat(
+                Files.readString(changes),
+                containsString("changed\tacme.first.First\tacme/first/First.yml"));
+        assertThat(Files.readString(changes), not(containsString("acme.second")));
+        assertThat(
+                Files.getLastModifiedTime(schemaRoot.resolve("acme/second/Second.yml")),
+                is(secondWritten));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldListNoChangedSchemasWhenSkipped(final String flavour, final String gradleVersion)
+            throws Exception {
+        // Given:
+        givenProject(flavour + "/generates_schema/java");
+        final Path changes = projectDir.resolve("build/jsonSchema/changes/generateJsonSchema.txt");
+        executeTask(GENERATE_TASK_NAME, ExpectedOutcome.PASS, gradleVersion);
+        assertThat(Files.readString(changes), containsString("added\tacme.Model\tacme/Model.yml"));
+
+        // When:
+        final BuildResult result =
+                executeTask(GENERATE_TASK_NAME, ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(UP_TO_DATE));
+        assertThat(Files.readString(changes), not(containsString("acme.Model")));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldListNoChangedSchemasWhenNoAnnotatedTypes(
+            final String flavour, final String gradleVersion) throws Exception {
+        // Given:
+        givenProject(flavour + "/generates_schema/java");
+        final Path changes = projectDir.resolve("build/jsonSchema/changes/generateJsonSchema.txt");
+        final Path model = projectDir.resolve("src/main/java/acme/Model.java");
+        executeTask(GENERATE_TASK_NAME, ExpectedOutcome.PASS, gradleVersion);
+        assertThat(Files.readString(changes), containsString("added\tacme.Model\tacme/Model.yml"));
+
+        Files.writeString(model, Files.readString(model).replace("@GeneratesSchema\n", ""));
+
+        // When:
+        final BuildResult result =
+                executeTask(GENERATE_TASK_NAME, ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(UP_TO_DATE));
+        assertThat(Files.readString(changes), not(containsString("acme.Model")));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldGenerateSchemasInShards(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/generates_sharded_schema");
+        final Path schemaRoot = projectDir.resolve("build/generated/resources/schema/main");
+
+        // When:
+        final BuildResult result =
+                executeTask(
+                        GENERATE_TASK_NAME,
+                        ExpectedOutcome.PASS,
+                        gradleVersion,
+                        "--info",
+                        "--max-workers=4");
+
+        // Then:
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(result.getOutput(), containsString("Merged 2 schemas from 2 generator shards"));
+        assertThat(Files.exists(schemaRoot.resolve("acme/first/First.yml")), is(true));
+        assertThat(Files.exists(schemaRoot.resolve("acme/second/Second.yml")), is(true));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldCapShardsAtMaxParallelGenerators(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/generates_sharded_schema");
+        final Path schemaRoot = projectDir.resolve("build/generated/resources/schema/main");
+
+        // When:
+        final BuildResult result =
+                executeTask(
+                        GENERATE_TASK_NAME,
+                        ExpectedOutcome.PASS,
+                        gradleVersion,
+                        "--info",
+                        "--max-workers=2");
+
+        // Then:
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                result.getOutput(),
+                containsString("Shards capped at 1, the maximum number of parallel generators"));
+        assertThat(result.getOutput(), not(containsString("generator shards")));
+        assertThat(Files.exists(schemaRoot.resolve("acme/first/First.yml")), is(true));
+        assertThat(Files.exists(schemaRoot.resolve("acme/second/Second.yml")), is(true));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursAndVersions")
+    void shouldWriteMinifiedSchemas(final String flavour, final String gradleVersion)
+            throws Exception {
+        // Given:
+        givenProject(flavour + "/generates_minified_schema");
+        final Path schemaRoot = projectDir.resolve("build/generated/resources/schema/main");
+        final Path minifiedRoot = projectDir.resolve("build/generated/resources/schema/minified");
+
+        // When:
+        final BuildResult result =
+                executeTask(GENERATE_TASK_NAME, ExpectedOutcome.PASS, gradleVersion, "--info");
+
+        // Then:
+        assertThat(result.task(GENERATE_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(result.getOutput(), containsString("Wrote 1 minified schemas to"));
+        assertThat(
+                Files.readString(schemaRoot.resolve("acme/Model.yml")),
+                containsString("title: Model"));
+        assertThat(
+                Files.readString(minifiedRoot.resolve("acme/Model.yml")),
+                is(
+                        "{\"$schema\":\"https://json-schema.org/draft/2020-12/schema\","
+                                + "\"type\":\"object\","
+                                + "\"properties\":{\"someProp\":{\"type\":\"string\"}},"
+                                + "\"additionalProperties\":false}\n"));
+    }
+
+    @CartesianTest
+    @MethodFactory("flavoursVersionsAndLanguage")
+    void shouldWriteOutTestSchemaFiles(
+            final String flavour, final String gradleVersion, final String language) {
+        assumeTrue(supported(gradleVersion, language));
+
+        // Given:
+        givenProject(flavour + "/generates_test_schema/" + language);
+        final Path expectedSchemaDir = givenDirectory(projectDir.resolve("expected"));
+        final Path actualSchemaDir =
+                givenDirectory(projectDir.resolve("build/generated/resources/schema/test"));
+
+        // When:
+        final BuildResult result = executeTask(TEST_TASK_NAME, ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(GENERATE_TEST_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertSchemas(actualSchemaDir, expectedSchemaDir);
+        assertThat(result.task(TEST_TASK_NAME).getOutcome(), is(SUCCESS));
+    }
+
+    @Test
+    void shouldNotCheckInWithDebuggingEnabled() {
+        assertThat("Do not check in with debugging enabled", !DEBUG);
+    }
+
+    private void givenProject(final String projectPath) {
+        TestPaths.copy(TEST_DIR.resolve(projectPath), projectDir);
+    }
+
+    private Path givenDirectory(final Path path) {
+        TestPaths.ensureDirectories(path);
+        return path;
+    }
+
+    private enum ExpectedOutcome {
+        PASS,
+        FAIL
+    }
+
+    private BuildResult executeTask(
+            final String taskName,
+            final ExpectedOutcome expectedOutcome,
+            final String gradleVersion,
+            final String... additionalArgs) {
+        final List<String> args = new ArrayList<>(List.of("--stacktrace", taskName));
+        args.addAll(List.of(additionalArgs));
+        if (args.stream().noneMatch(arg -> arg.startsWith("--init-script="))) {
+            args.add(0, INIT_SCRIPT);
+        }
+
+        final GradleRunner runner =
+                GradleRunner.create()
+                        .withProjectDir(projectDir.toFile())
+                        .withArguments(args)
+                        .withPluginClasspath()
+                        .withGradleVersion(gradleVersion);
+
+        return expectedOutcome == ExpectedOutcome.FAIL ? runner.buildAndFail() : runner.build();
+    }
+
+    private void writeGradleProperties() {
+        final List<String> options = new ArrayList<>(3);
+        codeCoverageCmdLineArg(BUILD_DIR).ifPresent(options::add);
+
+        if (DEBUG) {
+            options.addAll(remoteDebugArguments());
+        }
+
+        if (!options.isEmpty()) {
+            // Use forward slashes to avoid backslashes being treated as escape chars in
+            // .properties:
+            final String jvmArgs = String.join(" ", options).replace("\\", "/");
+            TestPaths.write(
+                    projectDir.resolve("gradle.properties"), "org.gradle.jvmargs=" + jvmArgs);
+        }
+    }
+
+    private void assertSchemas(final Path actualSchemaDir, final Path expectedSchemaDir) {
+        final List<Path> actualPaths = schemaFiles(actualSchemaDir);
+        final List<Path> expectedPaths = schemaFiles(expectedSchemaDir);
+        assertThat("Sanity check", expectedPaths, is(not(empty())));
+
+        for (int idx = 0; idx < expectedPaths.size(); idx++) {
+            final Path expectedPath = expectedPaths.get(idx);
+            if (actualPaths.size() <= idx) {
                 throw new AssertionError(
                         "Expected schema not output by task: " + expectedPath.toUri());
             }
@@ -558,8 +1581,17 @@ class GenerateJsonSchemaTest {
         }
 
         // Gradle only properly supports modules from 7.0 onwards...
-        final int majorVersion =
-                Integer.parseInt(gradleVersion.substring(0, gradleVersion.indexOf(".")));
-        return majorVersion > 6;
+        return majorVersion(gradleVersion) > 6;
+    }
+
+    private static int taskIndex(final BuildResult result, final String taskPath) {
+        final List<String> paths =
+                result.getTasks().stream().map(BuildTask::getPath).collect(Collectors.toList());
+        assertThat(paths, hasItem(taskPath));
+        return paths.indexOf(taskPath);
+    }
+
+    private static int majorVersion(final String gradleVersion) {
+        return Integer.parseInt(gradleVersion.substring(0, gradleVersion.indexOf(".")));
     }
 }
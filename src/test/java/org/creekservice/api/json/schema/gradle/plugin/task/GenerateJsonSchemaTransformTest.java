@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GenerateJsonSchemaTransformTest {
+
+    @TempDir private Path tempDir;
+
+    @Test
+    void shouldFindPackagesOfAnnotatedTypes() throws Exception {
+        // Given:
+        final Path jar = givenJar(Annotated.class, NotAnnotated.class);
+
+        // When:
+        final Set<String> packages =
+                GenerateJsonSchemaTransform.annotatedPackages(jar.toFile(), Tag.class.getName());
+
+        // Then:
+        assertThat(packages, is(Set.of(Annotated.class.getPackageName())));
+    }
+
+    @Test
+    void shouldFindNoPackagesIfNoAnnotatedTypes() throws Exception {
+        // Given:
+        final Path jar = givenJar(NotAnnotated.class);
+
+        // When:
+        final Set<String> packages =
+                GenerateJsonSchemaTransform.annotatedPackages(jar.toFile(), Tag.class.getName());
+
+        // Then:
+        assertThat(packages, is(Set.of()));
+    }
+
+    private Path givenJar(final Class<?>... types) throws Exception {
+        final Path jar = tempDir.resolve("model.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (final Class<?> type : types) {
+                final String entry = type.getName().replace('.', '/') + ".class";
+                out.putNextEntry(new JarEntry(entry));
+                try (InputStream in = type.getResourceAsStream("/" + entry)) {
+                    out.write(in.readAllBytes());
+                }
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    @Tag("annotated")
+    private static final class Annotated {}
+
+    private static final class NotAnnotated {}
+}
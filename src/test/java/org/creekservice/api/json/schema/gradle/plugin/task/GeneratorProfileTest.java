@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GeneratorProfileTest {
+
+    @TempDir private Path reportDir;
+
+    @Test
+    void shouldPrepareReportDirectory() throws Exception {
+        // Given:
+        final GeneratorProfile profile = new GeneratorProfile(reportDir.resolve("task"));
+        Files.createDirectories(reportDir.resolve("task"));
+        Files.writeString(profile.recordingFile(), "old");
+
+        // When:
+        final List<String> jvmArgs = profile.prepare();
+
+        // Then:
+        assertThat(Files.exists(reportDir.resolve("task/generator-profile.jfc")), is(true));
+        assertThat(Files.exists(profile.recordingFile()), is(false));
+        assertThat(
+                jvmArgs,
+                hasItem(startsWith("-XX:StartFlightRecording=dumponexit=true,filename=")));
+        assertThat(jvmArgs, hasItem(containsString(profile.gcLogFile().toString())));
+    }
+
+    @Test
+    void shouldSummariseRecording() throws Exception {
+        // Given:
+        final GeneratorProfile profile = new GeneratorProfile(reportDir);
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.GarbageCollection");
+            recording.start();
+            System.gc();
+            recording.stop();
+            recording.dump(profile.recordingFile());
+        }
+
+        // When:
+        final GeneratorProfile.Summary summary = profile.summarise();
+
+        // Then:
+        assertThat(summary.gcCount(), is(greaterThan(0L)));
+        assertThat(summary.format(), containsString("GC: "));
+        assertThat(summary.format(), containsString("Hottest methods (of 0 samples):"));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GeneratorShardsTest {
+
+    @TempDir private Path dir;
+
+    @Test
+    void shouldBalanceShardsByTypeCount() {
+        // When:
+        final List<Set<String>> shards =
+                GeneratorShards.partition(Map.of("a", 5, "b", 3, "c", 2, "d", 1), 2);
+
+        // Then:
+        assertThat(shards, is(List.of(Set.of("a", "d"), Set.of("b", "c"))));
+    }
+
+    @Test
+    void shouldNotCreateEmptyShards() {
+        // When:
+        final List<Set<String>> shards = GeneratorShards.partition(Map.of("a", 5, "b", 3), 4);
+
+        // Then:
+        assertThat(shards, is(List.of(Set.of("a"), Set.of("b"))));
+    }
+
+    @Test
+    void shouldPartitionDeterministically() {
+        // When:
+        final List<Set<String>> shards =
+                GeneratorShards.partition(Map.of("b", 1, "a", 1, "c", 1), 2);
+
+        // Then:
+        assertThat(shards, is(List.of(Set.of("a", "c"), Set.of("b"))));
+    }
+
+    @Test
+    void shouldMergeShards() throws Exception {
+        // Given:
+        givenFile("0/acme/a/First.yml", "first");
+        givenFile("1/acme/b/Second.yml", "second");
+        givenFile("out/acme/a/First.yml", "old");
+
+        // When:
+        final int count =
+                GeneratorShards.merge(
+                        List.of(dir.resolve("0"), dir.resolve("1")), dir.resolve("out"));
+
+        // Then:
+        assertThat(count, is(2));
+        assertThat(Files.readString(dir.resolve("out/acme/a/First.yml")), is("first"));
+        assertThat(Files.readString(dir.resolve("out/acme/b/Second.yml")), is("second"));
+    }
+
+    @Test
+    void shouldMergeIdenticalSchemasFromMultipleShards() throws Exception {
+        // Given:
+        givenFile("0/acme/Thing.yml", "same");
+        givenFile("1/acme/Thing.yml", "same");
+
+        // When:
+        final int count =
+                GeneratorShards.merge(
+                        List.of(dir.resolve("0"), dir.resolve("1")), dir.resolve("out"));
+
+        // Then:
+        assertThat(count, is(1));
+    }
+
+    @Test
+    void shouldThrowIfShardsWriteDifferentContent() throws Exception {
+        // Given:
+        givenFile("0/acme/Thing.yml", "one");
+        givenFile("1/acme/Thing.yml", "two");
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalStateException.class,
+                        () ->
+                                GeneratorShards.merge(
+                                        List.of(dir.resolve("0"), dir.resolve("1")),
+                                        dir.resolve("out")));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("Generator shards wrote different schemas"));
+    }
+
+    private void givenFile(final String path, final String content) throws Exception {
+        final Path file = dir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, UTF_8);
+    }
+}
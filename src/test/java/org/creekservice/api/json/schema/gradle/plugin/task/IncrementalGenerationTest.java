@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IncrementalGenerationTest {
+
+    private static final String PACKAGE = IncrementalGenerationTest.class.getPackageName();
+
+    @TempDir private Path tempDir;
+    private Path stateFile;
+    private Path classes;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stateFile = tempDir.resolve("state.properties");
+        classes = Files.createDirectories(tempDir.resolve("classes"));
+    }
+
+    @Test
+    void shouldRequireFullRegenerationIfNoPreviousState() throws Exception {
+        // Given:
+        write(Annotated.class, Dependency.class);
+
+        // Then:
+        assertThat(generation("config").affectedPackages(), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldDetectNothingChanged() throws Exception {
+        // Given:
+        write(Annotated.class, Dependency.class);
+        generation("config").commit();
+
+        // Then:
+        assertThat(generation("config").affectedPackages(), is(Optional.of(Set.of())));
+    }
+
+    @Test
+    void shouldRequireFullRegenerationIfConfigChanged() throws Exception {
+        // Given:
+        write(Annotated.class, Dependency.class);
+        generation("config").commit();
+
+        // Then:
+        assertThat(generation("changed").affectedPackages(), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldRequireFullRegenerationIfInvalidated() throws Exception {
+        // Given:
+        write(Annotated.class, Dependency.class);
+        generation("config").commit();
+
+        // When:
+        IncrementalGeneration.invalidate(stateFile);
+
+        // Then:
+        assertThat(generation("config").affectedPackages(), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldDetectChangeInReferencedType() throws Exception {
+        // Given:
+        write(Annotated.class);
+        generation("config").commit();
+        write(Dependency.class);
+
+        // Then:
+        assertThat(generation("config").affectedPackages(), is(Optional.of(Set.of(PACKAGE))));
+    }
+
+    @Test
+    void shouldIgnoreChangeInUnreferencedType() throws Exception {
+        // Given:
+        write(Annotated.class, Dependency.class);
+        generation("config").commit();
+        write(Unreferenced.class);
+
+        // Then:
+        assertThat(generation("config").affectedPackages(), is(Optional.of(Set.of())));
+    }
+
+    @Test
+    void shouldRequireFullRegenerationIfTypeRemoved() throws Exception {
+        // Given:
+        write(Annotated.class, Dependency.class, Unreferenced.class);
+        generation("config").commit();
+        Files.delete(classFile(Unreferenced.class));
+
+        // Then:
+        assertThat(generation("config").affectedPackages(), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldDetectRemovedAnnotatedTypes() throws Exception {
+        // Given:
+        write(Annotated.class, Dependency.class, Removed.class);
+        generation("config").commit();
+        Files.delete(classFile(Removed.class));
+
+        // Then:
+        assertThat(generation("config").removedTypes(), is(Set.of(Removed.class.getName())));
+    }
+
+    private IncrementalGeneration generation(final String config) {
+        final List<ClassFileInfo> classFiles = ClassFileInfo.readAll(List.of(classes.toFile()));
+        return new IncrementalGeneration(stateFile, config, Tag.class.getName(), classFiles);
+    }
+
+    private void write(final Class<?>... types) throws IOException {
+        for (final Class<?> type : types) {
+            final String resource = type.getName().substring(PACKAGE.length() + 1) + ".class";
+            try (InputStream in = type.getResourceAsStream(resource)) {
+                Files.write(classFile(type), in.readAllBytes());
+            }
+        }
+    }
+
+    private Path classFile(final Class<?> type) {
+        return classes.resolve(type.getSimpleName() + ".class");
+    }
+
+    @Tag("annotated")
+    @SuppressWarnings("unused")
+    private static final class Annotated {
+        private Dependency dependency;
+    }
+
+    @Tag("removed")
+    private static final class Removed {}
+
+    private static final class Dependency {}
+
+    private static final class Unreferenced {}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class JsonTextTest {
+
+    @Test
+    void shouldWriteInOriginalKeyOrder() {
+        // Given:
+        final Map<String, Object> value = new LinkedHashMap<>();
+        value.put("b", 1L);
+        value.put("a", List.of(true, "x"));
+
+        // Then:
+        assertThat(JsonText.write(value), is("{\"b\":1,\"a\":[true,\"x\"]}"));
+    }
+
+    @Test
+    void shouldWriteCanonicalFormWithSortedKeys() {
+        // Given:
+        final Map<String, Object> value = new LinkedHashMap<>();
+        value.put("b", Map.of("d", 1L, "c", 2L));
+        value.put("a", null);
+
+        // Then:
+        assertThat(JsonText.canonical(value), is("{\"a\":null,\"b\":{\"c\":2,\"d\":1}}"));
+    }
+
+    @Test
+    void shouldWriteIntegralNumbersWithoutFraction() {
+        assertThat(JsonText.write(Arrays.asList(1.0, 1.5, 10L)), is("[1,1.5,10]"));
+    }
+
+    @Test
+    void shouldEscapeStrings() {
+        assertThat(JsonText.write("a\"b\\c\n\u0001"), is("\"a\\\"b\\\\c\\n\\u0001\""));
+    }
+
+    @Test
+    void shouldParse() {
+        // Given:
+        final String json =
+                "{\"a\": [1, 1.5, true, null, 12345678901234567890],"
+                        + " \"b\": {\"c\": \"x\\n\\u0041\"}}";
+
+        // Then:
+        assertThat(
+                JsonText.parse(json),
+                is(
+                        Map.of(
+                                "a",
+                                Arrays.asList(
+                                        1L,
+                                        1.5,
+                                        true,
+                                        null,
+                                        new BigInteger("12345678901234567890")),
+                                "b",
+                                Map.of("c", "x\nA"))));
+    }
+
+    @Test
+    void shouldRoundTrip() {
+        // Given:
+        final String json = "{\"b\":1,\"a\":[true,\"x\",{\"c\":null}]}";
+
+        // Then:
+        assertThat(JsonText.write(JsonText.parse(json)), is(json));
+    }
+
+    @Test
+    void shouldThrowOnInvalidJson() {
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> JsonText.parse("{\"a\": }"));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("Unexpected character '}'"));
+    }
+
+    @Test
+    void shouldThrowOnTrailingContent() {
+        assertThrows(IllegalArgumentException.class, () -> JsonText.parse("[1] [2]"));
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MergedGeneratorJarTest {
+
+    @TempDir private Path tempDir;
+
+    @Test
+    void shouldMergeEntriesWithFirstWinning() throws Exception {
+        // Given:
+        final Path a =
+                givenJar("a.jar", false, Map.of("acme/A.class", "a", "shared.txt", "from a"));
+        final Path b =
+                givenJar("b.jar", false, Map.of("acme/B.class", "b", "shared.txt", "from b"));
+        final Path target = tempDir.resolve("out/merged.jar");
+
+        // When:
+        final int count = MergedGeneratorJar.merge(List.of(a.toFile(), b.toFile()), target);
+
+        // Then:
+        assertThat(count, is(2));
+        assertThat(entry(target, "acme/A.class"), is("a"));
+        assertThat(entry(target, "acme/B.class"), is("b"));
+        assertThat(entry(target, "shared.txt"), is("from a"));
+    }
+
+    @Test
+    void shouldConcatenateServiceFiles() throws Exception {
+        // Given:
+        final String service = "META-INF/services/acme.Plugin";
+        final Path a = givenJar("a.jar", false, Map.of(service, "acme.APlugin"));
+        final Path b = givenJar("b.jar", false, Map.of(service, "acme.BPlugin\n"));
+        final Path target = tempDir.resolve("merged.jar");
+
+        // When:
+        MergedGeneratorJar.merge(List.of(a.toFile(), b.toFile()), target);
+
+        // Then:
+        assertThat(entry(target, service), is("acme.APlugin\nacme.BPlugin\n\n"));
+    }
+
+    @Test
+    void shouldDropSignaturesAndModuleDescriptors() throws Exception {
+        // Given:
+        final Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("module-info.class", "module");
+        entries.put("META-INF/versions/11/module-info.class", "module");
+        entries.put("META-INF/SIGNER.SF", "sig");
+        entries.put("META-INF/SIGNER.RSA", "sig");
+        entries.put("acme/A.class", "a");
+        final Path a = givenJar("a.jar", false, entries);
+        final Path target = tempDir.resolve("merged.jar");
+
+        // When:
+        MergedGeneratorJar.merge(List.of(a.toFile()), target);
+
+        // Then:
+        assertThat(entry(target, "module-info.class"), is(nullValue()));
+        assertThat(entry(target, "META-INF/versions/11/module-info.class"), is(nullValue()));
+        assertThat(entry(target, "META-INF/SIGNER.SF"), is(nullValue()));
+        assertThat(entry(target, "META-INF/SIGNER.RSA"), is(nullValue()));
+        assertThat(entry(target, "acme/A.class"), is("a"));
+    }
+
+    @Test
+    void shouldRetainMultiRelease() throws Exception {
+        // Given:
+        final Path a = givenJar("a.jar", false, Map.of("acme/A.class", "a"));
+        final Path b =
+                givenJar("b.jar", true, Map.of("META-INF/versions/11/acme/B.class", "b11"));
+        final Path target = tempDir.resolve("merged.jar");
+
+        // When:
+        MergedGeneratorJar.merge(List.of(a.toFile(), b.toFile()), target);
+
+        // Then:
+        try (JarFile jar = new JarFile(target.toFile())) {
+            assertThat(
+                    jar.getManifest().getMainAttributes().getValue(Attributes.Name.MULTI_RELEASE),
+                    is("true"));
+        }
+    }
+
+    @Test
+    void shouldIgnoreNonJars() throws Exception {
+        // Given:
+        final Path a = givenJar("a.jar", false, Map.of("acme/A.class", "a"));
+        final Path dir = Files.createDirectories(tempDir.resolve("classes"));
+        final Path target = tempDir.resolve("merged.jar");
+
+        // When:
+        final int count = MergedGeneratorJar.merge(List.of(a.toFile(), dir.toFile()), target);
+
+        // Then:
+        assertThat(count, is(1));
+    }
+
+    @Test
+    void shouldRecordMergedJarNames() throws Exception {
+        // Given:
+        final Path a = givenJar("a.jar", false, Map.of("acme/A.class", "a"));
+        final Path b = givenJar("b.jar", false, Map.of("acme/B.class", "b"));
+        final Path other = givenJar("other.jar", false, Map.of("acme/C.class", "c"));
+        final Path target = tempDir.resolve("merged.jar");
+        MergedGeneratorJar.merge(List.of(a.toFile(), b.toFile()), target);
+
+        // When:
+        final Set<String> names =
+                MergedGeneratorJar.mergedJarNames(List.of(target.toFile(), other.toFile()));
+
+        // Then:
+        assertThat(names, contains("a.jar", "b.jar"));
+    }
+
+    private Path givenJar(
+            final String name, final boolean multiRelease, final Map<String, String> entries)
+            throws IOException {
+        final Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        if (multiRelease) {
+            manifest.getMainAttributes().put(Attributes.Name.MULTI_RELEASE, "true");
+        }
+
+        final Path jar = tempDir.resolve(name);
+        try (OutputStream file = Files.newOutputStream(jar);
+                JarOutputStream out = new JarOutputStream(file, manifest)) {
+            for (final Map.Entry<String, String> e : entries.entrySet()) {
+                out.putNextEntry(new ZipEntry(e.getKey()));
+                out.write(e.getValue().getBytes(UTF_8));
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static String entry(final Path jarPath, final String name) throws IOException {
+        try (JarFile jar = new JarFile(jarPath.toFile())) {
+            final ZipEntry entry = jar.getEntry(name);
+            if (entry == null) {
+                return null;
+            }
+            return new String(jar.getInputStream(entry).readAllBytes(), UTF_8);
+        }
+    }
+}
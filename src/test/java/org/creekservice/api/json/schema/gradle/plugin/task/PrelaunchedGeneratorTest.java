@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PrelaunchedGeneratorTest {
+
+    @TempDir private Path tempDir;
+    private PrelaunchedGenerator generator;
+
+    @AfterEach
+    void tearDown() {
+        if (generator != null) {
+            generator.destroy();
+        }
+    }
+
+    @Test
+    void shouldRunMainWithHandedOverArguments() {
+        // Given:
+        generator = PrelaunchedGenerator.start(command(EchoMain.class));
+        final List<String> output = new ArrayList<>();
+
+        // When:
+        final int exitCode =
+                generator.run(List.of(), List.of("--a=1", "--b=two words"), output::add);
+
+        // Then:
+        assertThat(exitCode, is(0));
+        assertThat(output, is(List.of("--a=1", "--b=two words")));
+    }
+
+    @Test
+    void shouldMakeProjectClassPathAvailableToGenerator() throws Exception {
+        // Given:
+        final Path projectDir = tempDir.resolve("project");
+        Files.createDirectories(projectDir);
+        Files.writeString(projectDir.resolve("marker.txt"), "x");
+        generator = PrelaunchedGenerator.start(command(ResourceMain.class));
+        final List<String> output = new ArrayList<>();
+
+        // When:
+        final int exitCode =
+                generator.run(
+                        List.of(projectDir.toFile()),
+                        List.of("marker.txt", projectDir.toFile().getAbsolutePath()),
+                        output::add);
+
+        // Then:
+        assertThat(exitCode, is(0));
+        assertThat(output, is(List.of("true", "true")));
+    }
+
+    @Test
+    void shouldReturnNonZeroExitCodeIfMainThrows() {
+        // Given:
+        generator = PrelaunchedGenerator.start(command(FailingMain.class));
+
+        // When:
+        final int exitCode = generator.run(List.of(), List.of("--a=1"), line -> {});
+
+        // Then:
+        assertThat(exitCode, is(1));
+    }
+
+    @Test
+    void shouldOnlyBeUsableWithSameCommand() {
+        // Given:
+        final List<String> command = command(EchoMain.class);
+        generator = PrelaunchedGenerator.start(command);
+
+        // Then:
+        assertThat(generator.usable(command), is(true));
+        assertThat(generator.usable(command(FailingMain.class)), is(false));
+    }
+
+    @Test
+    void shouldNotBeUsableOnceDestroyed() throws Exception {
+        // Given:
+        final List<String> command = command(EchoMain.class);
+        generator = PrelaunchedGenerator.start(command);
+
+        // When:
+        generator.destroy();
+
+        // Then:
+        for (int i = 0; i < 100 && generator.usable(command); i++) {
+            Thread.sleep(50);
+        }
+        assertThat(generator.usable(command), is(false));
+    }
+
+    private List<String> command(final Class<?> mainClass) {
+        final Path launcherDir = tempDir.resolve("launcher");
+        PrelaunchedGenerator.writeLaunchers(launcherDir);
+
+        final List<File> classPath =
+                Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                        .map(File::new)
+                        .collect(Collectors.toList());
+
+        return PrelaunchedGenerator.command(
+                launcherDir, List.of(), classPath, GeneratorLauncher.class, mainClass.getName());
+    }
+
+    public static final class EchoMain {
+        public static void main(final String[] args) {
+            Arrays.stream(args).forEach(System.out::println);
+        }
+    }
+
+    public static final class ResourceMain {
+        public static void main(final String[] args) {
+            final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            System.out.println(loader.getResource(args[0]) != null);
+            System.out.println(System.getProperty("java.class.path").endsWith(args[1]));
+        }
+    }
+
+    public static final class FailingMain {
+        public static void main(final String[] args) {
+            throw new IllegalStateException("Boom");
+        }
+    }
+}
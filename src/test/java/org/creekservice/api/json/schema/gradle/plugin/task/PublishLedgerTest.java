@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PublishLedgerTest {
+
+    private static final String REGISTRY = "http://registry:8081/";
+
+    @TempDir private Path dir;
+
+    @Test
+    void shouldNotReportUnrecordedSchemasAsPublished() {
+        // Given:
+        final PublishLedger ledger = PublishLedger.load(dir.resolve("ledger"), REGISTRY);
+
+        // Then:
+        assertThat(ledger.isPublished("acme.A", "f1"), is(false));
+    }
+
+    @Test
+    void shouldPersistRecordedSchemas() {
+        // Given:
+        final PublishLedger ledger = PublishLedger.load(dir.resolve("ledger"), REGISTRY);
+        ledger.record("acme.A", "f1", 7);
+
+        // When:
+        ledger.save();
+
+        // Then:
+        final PublishLedger reloaded = PublishLedger.load(dir.resolve("ledger"), REGISTRY);
+        assertThat(reloaded.isPublished("acme.A", "f1"), is(true));
+        assertThat(reloaded.isPublished("acme.A", "f2"), is(false));
+        assertThat(reloaded.isPublished("acme.B", "f1"), is(false));
+    }
+
+    @Test
+    void shouldDiscardEntriesIfRegistryChanges() {
+        // Given:
+        final PublishLedger ledger = PublishLedger.load(dir.resolve("ledger"), REGISTRY);
+        ledger.record("acme.A", "f1", 7);
+        ledger.save();
+
+        // When:
+        final PublishLedger other =
+                PublishLedger.load(dir.resolve("ledger"), "http://other:8081/");
+
+        // Then:
+        assertThat(other.isPublished("acme.A", "f1"), is(false));
+    }
+}
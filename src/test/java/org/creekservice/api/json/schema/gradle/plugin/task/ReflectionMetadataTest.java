@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+class ReflectionMetadataTest {
+
+    private static final String ANNOTATION = Tag.class.getName();
+
+    @Test
+    void shouldIncludeAnnotatedTypesAndTypesReachableFromThem() {
+        // Given:
+        final ReflectionMetadata metadata =
+                new ReflectionMetadata(
+                        parse(
+                                Root.class,
+                                Parent.class,
+                                Property.class,
+                                Element.class,
+                                Shape.class,
+                                Circle.class,
+                                Square.class,
+                                StaticOnly.class,
+                                Unrelated.class));
+
+        // When:
+        final List<String> types = List.copyOf(metadata.reflectedTypes(ANNOTATION));
+
+        // Then:
+        assertThat(
+                types,
+                containsInAnyOrder(
+                        Root.class.getName(),
+                        Parent.class.getName(),
+                        Property.class.getName(),
+                        Element.class.getName(),
+                        Shape.class.getName(),
+                        Circle.class.getName(),
+                        Square.class.getName()));
+    }
+
+    @Test
+    void shouldFormatReflectConfig() {
+        assertThat(
+                ReflectionMetadata.toJson(List.of("acme.Thing")),
+                is(
+                        "[\n"
+                                + "  {\n"
+                                + "    \"name\": \"acme.Thing\",\n"
+                                + "    \"allDeclaredConstructors\": true,\n"
+                                + "    \"allPublicConstructors\": true,\n"
+                                + "    \"allDeclaredMethods\": true,\n"
+                                + "    \"allPublicMethods\": true,\n"
+                                + "    \"allDeclaredFields\": true,\n"
+                                + "    \"allPublicFields\": true\n"
+                                + "  }\n"
+                                + "]\n"));
+    }
+
+    @Test
+    void shouldFormatEmptyReflectConfig() {
+        assertThat(ReflectionMetadata.toJson(List.of()), is("[\n]\n"));
+    }
+
+    private static List<ClassFileInfo> parse(final Class<?>... types) {
+        return Stream.of(types)
+                .map(ReflectionMetadataTest::parse)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    private static Optional<ClassFileInfo> parse(final Class<?> type) {
+        final String resource = type.getName().substring(type.getPackageName().length() + 1);
+        try (InputStream in = type.getResourceAsStream(resource + ".class")) {
+            return ClassFileInfo.parse(in.readAllBytes());
+        } catch (final IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private abstract static class Parent {
+        private Shape shape;
+    }
+
+    @SuppressWarnings("unused")
+    @Tag("schema")
+    private static final class Root extends Parent {
+        private static StaticOnly helper;
+        private Property property;
+
+        public List<Element> getElements() {
+            return List.of(new Element());
+        }
+
+        void doSomething() {
+            new Unrelated().hashCode();
+        }
+    }
+
+    private static final class Property {}
+
+    private static final class Element {}
+
+    private sealed interface Shape permits Circle, Square {}
+
+    private static final class Circle implements Shape {}
+
+    private static final class Square implements Shape {}
+
+    private static final class StaticOnly {}
+
+    private static final class Unrelated {}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SchemaBaselineTest {
+
+    private static final String SCHEMA = "$schema: https://json-schema.org/draft/2020-12/schema\n";
+
+    @TempDir private Path dir;
+
+    @Test
+    void shouldLoadSchemasFromDirectory() throws Exception {
+        // Given:
+        givenFile("baseline/acme/models/Thing.yml", SCHEMA);
+        givenFile("baseline/schemas/acme.Flat.yaml", SCHEMA);
+        givenFile("baseline/META-INF/creek/json-schemas.idx", "");
+
+        // When:
+        final Map<String, String> schemas =
+                SchemaBaseline.load(List.of(dir.resolve("baseline").toFile()));
+
+        // Then:
+        assertThat(schemas, is(Map.of("acme.models.Thing", SCHEMA, "acme.Flat", SCHEMA)));
+    }
+
+    @Test
+    void shouldLoadSchemasFromArchive() throws Exception {
+        // Given:
+        final Path jar = dir.resolve("baseline.jar");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(jar))) {
+            addEntry(zip, "acme/models/Thing.yml", SCHEMA);
+            addEntry(zip, "acme/models/Thing.class", "");
+            addEntry(zip, "application.yml", "server: {}\n");
+            addEntry(zip, "META-INF/creek/other.yml", SCHEMA);
+        }
+
+        // When:
+        final Map<String, String> schemas = SchemaBaseline.load(List.of(jar.toFile()));
+
+        // Then:
+        assertThat(schemas, is(Map.of("acme.models.Thing", SCHEMA)));
+    }
+
+    @Test
+    void shouldLoadSchemasByResourcePath() throws Exception {
+        // Given:
+        givenFile("baseline/acme/models/Thing.yml", SCHEMA);
+        givenFile("baseline/schemas/acme.Flat.yaml", SCHEMA);
+
+        // When:
+        final Map<String, String> schemas =
+                SchemaBaseline.loadByResourcePath(List.of(dir.resolve("baseline").toFile()));
+
+        // Then:
+        assertThat(
+                schemas,
+                is(Map.of("acme/models/Thing.yml", SCHEMA, "schemas/acme.Flat.yaml", SCHEMA)));
+    }
+
+    @Test
+    void shouldIgnoreMissingFiles() {
+        assertThat(SchemaBaseline.load(List.of(dir.resolve("missing").toFile())), is(Map.of()));
+    }
+
+    @Test
+    void shouldThrowOnDuplicateSchemas() throws Exception {
+        // Given:
+        givenFile("a/acme/Thing.yml", SCHEMA);
+        givenFile("b/acme/Thing.yml", SCHEMA);
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () ->
+                                SchemaBaseline.load(
+                                        List.of(
+                                                dir.resolve("a").toFile(),
+                                                dir.resolve("b").toFile())));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("multiple schemas for acme.Thing"));
+    }
+
+    private void givenFile(final String path, final String content) throws Exception {
+        final Path file = dir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, UTF_8);
+    }
+
+    private static void addEntry(final ZipOutputStream zip, final String name, final String text)
+            throws Exception {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(text.getBytes(UTF_8));
+        zip.closeEntry();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SchemaCborTest {
+
+    @TempDir private Path root;
+
+    @Test
+    void shouldEncodeIntegersInShortestForm() {
+        // Examples from RFC 8949, Appendix A:
+        assertThat(hex(0L), is("00"));
+        assertThat(hex(23L), is("17"));
+        assertThat(hex(24L), is("1818"));
+        assertThat(hex(1000L), is("1903e8"));
+        assertThat(hex(1000000L), is("1a000f4240"));
+        assertThat(hex(1000000000000L), is("1b000000e8d4a51000"));
+        assertThat(hex(-1L), is("20"));
+        assertThat(hex(-1000L), is("3903e7"));
+        assertThat(hex(new BigInteger("18446744073709551615")), is("1bffffffffffffffff"));
+        assertThat(hex(new BigInteger("-18446744073709551616")), is("3bffffffffffffffff"));
+        assertThat(hex(new BigInteger("18446744073709551616")), is("c249010000000000000000"));
+    }
+
+    @Test
+    void shouldEncodeFloatingPointNumbers() {
+        assertThat(hex(1.5), is("fa3fc00000"));
+        assertThat(hex(1.1), is("fb3ff199999999999a"));
+        assertThat(hex(-4.0), is("23"));
+    }
+
+    @Test
+    void shouldEncodeSimpleValuesAndStrings() {
+        assertThat(hex(true), is("f5"));
+        assertThat(hex(false), is("f4"));
+        assertThat(hex(null), is("f6"));
+        assertThat(hex(""), is("60"));
+        assertThat(hex("IETF"), is("6449455446"));
+        assertThat(hex("\u00fc"), is("62c3bc"));
+    }
+
+    @Test
+    void shouldEncodeCollectionsInOriginalOrder() {
+        // Given:
+        final Map<String, Object> value = new LinkedHashMap<>();
+        value.put("b", List.of(2L, 3L));
+        value.put("a", 1L);
+
+        // Then:
+        assertThat(hex(value), is("a26162820203616101"));
+        assertThat(hex(Arrays.asList(1L, List.of(2L, 3L))), is("8201820203"));
+    }
+
+    @Test
+    void shouldThrowOnNonFiniteNumbers() {
+        assertThrows(IllegalArgumentException.class, () -> SchemaCbor.encode(Double.NaN));
+    }
+
+    @Test
+    void shouldWriteBinarySchemaNextToYaml() throws Exception {
+        // Given:
+        Files.createDirectories(root.resolve("acme"));
+        Files.writeString(root.resolve("acme/Thing.yml"), "---\ntype: object\n", UTF_8);
+
+        // When:
+        final int count = SchemaCbor.write(root);
+
+        // Then:
+        assertThat(count, is(1));
+        assertThat(
+                HexFormat.of().formatHex(Files.readAllBytes(root.resolve("acme/Thing.cbor"))),
+                is("a16474797065666f626a656374"));
+    }
+
+    @Test
+    void shouldDeleteStaleBinarySchemas() throws Exception {
+        // Given:
+        Files.createDirectories(root.resolve("acme"));
+        Files.write(root.resolve("acme/Removed.cbor"), new byte[] {0});
+
+        // When:
+        SchemaCbor.write(root);
+
+        // Then:
+        assertThat(Files.exists(root.resolve("acme/Removed.cbor")), is(false));
+    }
+
+    private static String hex(final Object value) {
+        return HexFormat.of().formatHex(SchemaCbor.encode(value));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SchemaChangesTest {
+
+    @TempDir private Path tempDir;
+
+    @Test
+    void shouldListAddedChangedAndRemovedSchemas() {
+        // Given:
+        final Map<String, String> previous =
+                Map.of("acme/A.yml", "1", "acme/B.yml", "2", "acme/C.yml", "3");
+        final Map<String, String> current =
+                Map.of("acme/A.yml", "1", "acme/B.yml", "changed", "acme/D.yml", "4");
+
+        // When:
+        final List<String> result = SchemaChanges.diff(previous, current);
+
+        // Then:
+        assertThat(
+                result,
+                contains(
+                        "changed\tacme.B\tacme/B.yml",
+                        "removed\tacme.C\tacme/C.yml",
+                        "added\tacme.D\tacme/D.yml"));
+    }
+
+    @Test
+    void shouldUseTypeNameOfFlatSchemaFiles() {
+        // When:
+        final List<String> result =
+                SchemaChanges.diff(Map.of(), Map.of("schemas/acme.Model.yml", "1"));
+
+        // Then:
+        assertThat(result, contains("added\tacme.Model\tschemas/acme.Model.yml"));
+    }
+
+    @Test
+    void shouldListAllSchemasAsAddedOnFirstRun() throws Exception {
+        // Given:
+        final Path root = tempDir.resolve("schemas");
+        givenFile(root.resolve("acme/Model.yml"), "---\ntype: object\n");
+        givenFile(root.resolve("META-INF/creek/json-schema-index.yml"), "---\n");
+
+        // When:
+        final int count = write(root);
+
+        // Then:
+        assertThat(count, is(1));
+        assertThat(
+                Files.readString(changesFile()),
+                is(
+                        "# Creek JSON schema changes v1\n"
+                                + "# change\ttype\tresource\n"
+                                + "added\tacme.Model\tacme/Model.yml\n"));
+    }
+
+    @Test
+    void shouldListNothingIfNothingChanged() throws Exception {
+        // Given:
+        final Path root = tempDir.resolve("schemas");
+        givenFile(root.resolve("acme/Model.yml"), "---\ntype: object\n");
+        write(root);
+
+        // When:
+        final int count = write(root);
+
+        // Then:
+        assertThat(count, is(0));
+        assertThat(Files.readAllLines(changesFile()).size(), is(2));
+    }
+
+    @Test
+    void shouldListChangesSinceLastRun() throws Exception {
+        // Given:
+        final Path root = tempDir.resolve("schemas");
+        givenFile(root.resolve("acme/Model.yml"), "---\ntype: object\n");
+        givenFile(root.resolve("acme/Other.yml"), "---\ntype: object\n");
+        write(root);
+        givenFile(root.resolve("acme/Model.yml"), "---\ntype: string\n");
+        Files.delete(root.resolve("acme/Other.yml"));
+
+        // When:
+        final int count = write(root);
+
+        // Then:
+        assertThat(count, is(2));
+        assertThat(
+                Files.readAllLines(changesFile()).subList(2, 4),
+                contains(
+                        "changed\tacme.Model\tacme/Model.yml",
+                        "removed\tacme.Other\tacme/Other.yml"));
+    }
+
+    private int write(final Path root) {
+        return SchemaChanges.write(root, tempDir.resolve("state.properties"), changesFile());
+    }
+
+    private Path changesFile() {
+        return tempDir.resolve("changes/changes.txt");
+    }
+
+    private static void givenFile(final Path file, final String content) throws Exception {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, UTF_8);
+    }
+}
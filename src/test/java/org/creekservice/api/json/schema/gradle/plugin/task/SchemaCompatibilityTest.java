@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SchemaCompatibilityTest {
+
+    private static final String[] OBJECT =
+            lines(
+                    "---",
+                    "$schema: https://json-schema.org/draft/2020-12/schema",
+                    "title: Model",
+                    "type: object",
+                    "additionalProperties: false",
+                    "properties:",
+                    "  name:",
+                    "    type: string",
+                    "  age:",
+                    "    type: integer",
+                    "required:",
+                    "- name");
+
+    @Test
+    void shouldAcceptIdenticalSchemas() {
+        assertThat(breakingChanges(OBJECT, OBJECT), is(empty()));
+    }
+
+    @Test
+    void shouldIgnoreAnnotationChanges() {
+        // Given:
+        final String[] changed =
+                lines(
+                        "title: Renamed",
+                        "description: Some description",
+                        "type: object",
+                        "additionalProperties: false",
+                        "properties:",
+                        "  name:",
+                        "    type: string",
+                        "    format: email",
+                        "  age:",
+                        "    type: integer",
+                        "required:",
+                        "- name");
+
+        // Then:
+        assertThat(breakingChanges(OBJECT, changed), is(empty()));
+    }
+
+    @Test
+    void shouldAcceptNewOptionalPropertyWhenAdditionalPropertiesWereNotAllowed() {
+        // Given:
+        final String[] changed =
+                lines(
+                        "type: object",
+                        "additionalProperties: false",
+                        "properties:",
+                        "  name:",
+                        "    type: string",
+                        "  age:",
+                        "    type: integer",
+                        "  email:",
+                        "    type: string",
+                        "required:",
+                        "- name");
+
+        // Then:
+        assertThat(breakingChanges(OBJECT, changed), is(empty()));
+    }
+
+    @Test
+    void shouldDetectRemovedProperty() {
+        // Given:
+        final String[] changed =
+                lines(
+                        "type: object",
+                        "additionalProperties: false",
+                        "properties:",
+                        "  name:",
+                        "    type: string",
+                        "required:",
+                        "- name");
+
+        // Then:
+        assertThat(breakingChanges(OBJECT, changed), contains("/properties/age: property removed"));
+    }
+
+    @Test
+    void shouldDetectNewlyRequiredProperty() {
+        // Given:
+        final String[] changed =
+                lines(
+                        "type: object",
+                        "additionalProperties: false",
+                        "properties:",
+                        "  name:",
+                        "    type: string",
+                        "  age:",
+                        "    type: integer",
+                        "required:",
+                        "- name",
+                        "- age");
+
+        // Then:
+        assertThat(breakingChanges(OBJECT, changed), contains("/: properties now required: [age]"));
+    }
+
+    @Test
+    void shouldDetectAdditionalPropertiesNoLongerAllowed() {
+        assertThat(
+                breakingChanges(lines("type: object"), lines("additionalProperties: false")),
+                contains("/: additional properties no longer allowed"));
+    }
+
+    @Test
+    void shouldAllowWideningType() {
+        assertThat(breakingChanges(lines("type: integer"), lines("type: number")), is(empty()));
+        assertThat(
+                breakingChanges(lines("type: string"), lines("type: [string, 'null']")),
+                is(empty()));
+        assertThat(breakingChanges(lines("type: string"), lines("{}")), is(empty()));
+    }
+
+    @Test
+    void shouldDetectNarrowedType() {
+        assertThat(
+                breakingChanges(lines("type: [string, 'null']"), lines("type: string")),
+                contains("/: type narrowed from [string, null] to [string]"));
+        assertThat(
+                breakingChanges(lines("{}"), lines("type: string")),
+                contains("/: type narrowed from any to [string]"));
+    }
+
+    @Test
+    void shouldDetectNestedChanges() {
+        // Given:
+        final String[] before = lines("items:", "  properties:", "    a:", "      type: number");
+        final String[] after = lines("items:", "  properties:", "    a:", "      type: integer");
+
+        // Then:
+        assertThat(
+                breakingChanges(before, after),
+                contains("/items/properties/a: type narrowed from [number] to [integer]"));
+    }
+
+    @Test
+    void shouldHandleEnums() {
+        assertThat(
+                breakingChanges(lines("enum: [A, B]"), lines("enum: [A, B, C]")), is(empty()));
+        assertThat(
+                breakingChanges(lines("enum: [A, B]"), lines("enum: [A]")),
+                contains("/: enum values removed: [\"B\"]"));
+        assertThat(
+                breakingChanges(lines("type: string"), lines("type: string", "enum: [A]")),
+                contains("/: values restricted to enum [\"A\"]"));
+    }
+
+    @Test
+    void shouldHandleBounds() {
+        assertThat(
+                breakingChanges(
+                        lines("minimum: 1", "maxLength: 10"), lines("minimum: 0", "maxLength: 20")),
+                is(empty()));
+        assertThat(
+                breakingChanges(lines("minimum: 1"), lines("minimum: 1.5")),
+                contains("/: 'minimum' tightened from 1 to 1.5"));
+        assertThat(
+                breakingChanges(lines("{}"), lines("maxItems: 3")),
+                contains("/: 'maxItems' tightened from none to 3"));
+    }
+
+    @Test
+    void shouldHandleAlternatives() {
+        // Given:
+        final String[] before = lines("anyOf:", "- type: string", "- type: integer");
+
+        // Then:
+        assertThat(
+                breakingChanges(
+                        before,
+                        lines("anyOf:", "- type: integer", "- type: string", "- type: boolean")),
+                is(empty()));
+        assertThat(
+                breakingChanges(before, lines("anyOf:", "- type: string")),
+                contains("/anyOf: alternative 1 no longer accepted"));
+    }
+
+    @Test
+    void shouldCompareReferencedDefinitions() {
+        // Given:
+        final String[] before =
+                lines(
+                        "$ref: '#/definitions/Thing'",
+                        "definitions:",
+                        "  Thing:",
+                        "    type: object");
+        final String[] after =
+                lines(
+                        "$ref: '#/definitions/Thing'",
+                        "definitions:",
+                        "  Thing:",
+                        "    type: array");
+
+        // Then:
+        assertThat(
+                breakingChanges(before, after),
+                contains("/definitions/Thing: type narrowed from [object] to [array]"));
+    }
+
+    @Test
+    void shouldTreatOtherChangesAsBreaking() {
+        assertThat(
+                breakingChanges(lines("pattern: ^a"), lines("pattern: ^ab")),
+                contains("/: 'pattern' changed"));
+        assertThat(breakingChanges(lines("pattern: ^a"), lines("{}")), is(empty()));
+    }
+
+    private static List<String> breakingChanges(final String[] baseline, final String[] current) {
+        return SchemaCompatibility.breakingChanges(
+                SchemaYaml.parse(String.join("\n", baseline)),
+                SchemaYaml.parse(String.join("\n", current)));
+    }
+
+    private static String[] lines(final String... lines) {
+        return lines;
+    }
+}
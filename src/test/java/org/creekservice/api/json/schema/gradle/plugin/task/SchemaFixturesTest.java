@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SchemaFixturesTest {
+
+    @TempDir private Path tempDir;
+
+    private Path fixtureRoot;
+    private SchemaFixtures fixtures;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final Path schemaRoot = tempDir.resolve("schemas");
+        givenFile(
+                schemaRoot.resolve("acme/Model.yml"),
+                "---\n"
+                        + "type: object\n"
+                        + "additionalProperties: false\n"
+                        + "properties:\n"
+                        + "  someProp:\n"
+                        + "    type: string\n");
+        fixtureRoot = tempDir.resolve("fixtures");
+        fixtures = new SchemaFixtures(List.of(schemaRoot.toFile()), List.<File>of());
+    }
+
+    @Test
+    void shouldListFixtures() throws Exception {
+        // Given:
+        givenFile(fixtureRoot.resolve("acme/Model/b.yml"), "---\n");
+        givenFile(fixtureRoot.resolve("acme/Model/a.json"), "{}");
+        givenFile(fixtureRoot.resolve("acme/Model/README.md"), "");
+
+        // Then:
+        assertThat(
+                SchemaFixtures.list(fixtureRoot),
+                contains(Path.of("acme/Model/a.json"), Path.of("acme/Model/b.yml")));
+    }
+
+    @Test
+    void shouldMapFixtureToTypeByDirectory() {
+        assertThat(
+                SchemaFixtures.typeName(Path.of("acme/models/Thing/example.json")),
+                is(Optional.of("acme.models.Thing")));
+        assertThat(SchemaFixtures.typeName(Path.of("example.json")), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldOnlyTreatSharedDefinitionYamlAsSharedDefinitions() {
+        assertThat(
+                SchemaFixtures.isSharedDefinitions(
+                        Path.of("META-INF/creek/json-schema-definitions/acme/model/main.yml")),
+                is(true));
+        assertThat(
+                SchemaFixtures.isSharedDefinitions(
+                        Path.of("META-INF/creek/json-schema-definitions/acme/model/main.cbor")),
+                is(false));
+        assertThat(
+                SchemaFixtures.isSharedDefinitions(Path.of(SchemaIndex.RESOURCE_PATH)), is(false));
+        assertThat(
+                SchemaFixtures.isSharedDefinitions(Path.of(SchemaManifest.RESOURCE_PATH)),
+                is(false));
+        assertThat(
+                SchemaFixtures.isSharedDefinitions(
+                        Path.of("META-INF/native-image/acme/model/reflect-config.json")),
+                is(false));
+        assertThat(SchemaFixtures.isSharedDefinitions(Path.of("acme/Model.cbor")), is(false));
+    }
+
+    @Test
+    void shouldPassValidFixture() throws Exception {
+        // Given:
+        givenFile(fixtureRoot.resolve("acme/Model/valid.json"), "{\"someProp\": \"x\"}");
+
+        // Then:
+        assertThat(validate("acme/Model/valid.json"), is(empty()));
+    }
+
+    @Test
+    void shouldFailInvalidFixture() throws Exception {
+        // Given:
+        givenFile(fixtureRoot.resolve("acme/Model/example.yml"), "---\nsomeProp: 1\n");
+
+        // Then:
+        assertThat(
+                validate("acme/Model/example.yml"),
+                contains("#/someProp: expected type string, got integer"));
+    }
+
+    @Test
+    void shouldPassFixtureExpectedToBeInvalid() throws Exception {
+        // Given:
+        givenFile(fixtureRoot.resolve("acme/Model/invalid-type.json"), "{\"someProp\": 1}");
+
+        // Then:
+        assertThat(validate("acme/Model/invalid-type.json"), is(empty()));
+    }
+
+    @Test
+    void shouldFailValidFixtureExpectedToBeInvalid() throws Exception {
+        // Given:
+        givenFile(fixtureRoot.resolve("acme/Model/invalid.json"), "{}");
+
+        // Then:
+        assertThat(
+                validate("acme/Model/invalid.json"),
+                contains("expected to be invalid, but is valid"));
+    }
+
+    @Test
+    void shouldFailFixtureWithNoSchema() throws Exception {
+        // Given:
+        givenFile(fixtureRoot.resolve("acme/Other/example.json"), "{}");
+
+        // Then:
+        assertThat(
+                validate("acme/Other/example.json"),
+                contains("no schema found for type acme.Other"));
+    }
+
+    @Test
+    void shouldFailFixtureThatCanNotBeParsed() throws Exception {
+        // Given:
+        givenFile(fixtureRoot.resolve("acme/Model/invalid-json.json"), "{");
+
+        // When:
+        final List<String> result = validate("acme/Model/invalid-json.json");
+
+        // Then:
+        assertThat(result.size(), is(1));
+        assertThat(result.get(0).startsWith("Failed to parse fixture: "), is(true));
+    }
+
+    @Test
+    void shouldValidateAgainstSchemasReferencingUpstreamSchemas() throws Exception {
+        // Given:
+        final Path schemaRoot = tempDir.resolve("service-schemas");
+        final Path upstreamRoot = tempDir.resolve("upstream");
+        givenFile(
+                schemaRoot.resolve("acme/service/Order.yml"),
+                "---\n"
+                        + "type: object\n"
+                        + "properties:\n"
+                        + "  address:\n"
+                        + "    $ref: classpath:acme/model/Address.yml\n"
+                        + "  total:\n"
+                        + "    $ref: https://schemas.acme.io/Money.yml\n");
+        givenFile(
+                upstreamRoot.resolve("acme/model/Address.yml"),
+                "---\ntype: object\nrequired: [street]\n");
+        givenFile(
+                upstreamRoot.resolve("acme/model/Money.yml"),
+                "---\n$id: https://schemas.acme.io/Money.yml\ntype: number\n");
+        givenFile(
+                fixtureRoot.resolve("acme/service/Order/example.yml"),
+                "---\naddress: {}\ntotal: ten\n");
+        fixtures =
+                new SchemaFixtures(List.of(schemaRoot.toFile()), List.of(upstreamRoot.toFile()));
+
+        // Then:
+        assertThat(
+                validate("acme/service/Order/example.yml"),
+                containsInAnyOrder(
+                        "#/address: missing required property 'street'",
+                        "#/total: expected type number, got string"));
+    }
+
+    private List<String> validate(final String relativePath) {
+        return fixtures.validate(fixtureRoot, Path.of(relativePath));
+    }
+
+    private static void givenFile(final Path file, final String content) throws Exception {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, UTF_8);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SchemaIndexTest {
+
+    @TempDir private Path root;
+
+    @Test
+    void shouldWriteIndexOfSchemaResourcePaths() throws Exception {
+        // Given:
+        givenFile("acme/models/Thing.yml");
+        givenFile("acme/Other.yaml");
+        givenFile("schema/json/acme.Flat.yml");
+        givenFile("acme/notes.txt");
+        givenFile("META-INF/native-image/acme/reflect-config.json");
+
+        // When:
+        final int count = SchemaIndex.write(root);
+
+        // Then:
+        assertThat(count, is(3));
+        assertThat(
+                Files.readAllLines(root.resolve(SchemaIndex.RESOURCE_PATH), UTF_8),
+                is(
+                        List.of(
+                                "# Creek JSON schema index v1",
+                                "acme/Other.yaml",
+                                "acme/models/Thing.yml",
+                                "schema/json/acme.Flat.yml")));
+    }
+
+    @Test
+    void shouldWriteEmptyIndex() throws Exception {
+        // When:
+        final int count = SchemaIndex.write(root);
+
+        // Then:
+        assertThat(count, is(0));
+        assertThat(
+                Files.readAllLines(root.resolve(SchemaIndex.RESOURCE_PATH), UTF_8),
+                is(List.of("# Creek JSON schema index v1")));
+    }
+
+    private void givenFile(final String path) throws Exception {
+        final Path file = root.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "type: object\n", UTF_8);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SchemaManifestTest {
+
+    @TempDir private Path root;
+
+    @Test
+    void shouldWriteManifestOfSchemasInDirectoryTree() throws Exception {
+        // Given:
+        givenFile("acme/models/Thing.yml", "type: object\n");
+        givenFile("acme/Other.yml", "type: string\n");
+        givenFile("acme/notes.txt", "not a schema");
+
+        // When:
+        final int count = SchemaManifest.write(root);
+
+        // Then:
+        assertThat(count, is(2));
+        final List<String> lines =
+                Files.readAllLines(root.resolve(SchemaManifest.RESOURCE_PATH), UTF_8);
+        assertThat(
+                lines,
+                is(
+                        List.of(
+                                "# Creek JSON schema manifest v1",
+                                "# type\tresource\tsize\tsha256\tfingerprint",
+                                "acme.Other\tacme/Other.yml\t13\t"
+                                        + Fingerprints.sha256("type: string\n".getBytes(UTF_8))
+                                        + "\t"
+                                        + SchemaManifest.fingerprint("type: string\n"),
+                                "acme.models.Thing\tacme/models/Thing.yml\t13\t"
+                                        + Fingerprints.sha256("type: object\n".getBytes(UTF_8))
+                                        + "\t"
+                                        + SchemaManifest.fingerprint("type: object\n"))));
+    }
+
+    @Test
+    void shouldUseFileNameAsTypeNameOfFlatSchemas() throws Exception {
+        // Given:
+        givenFile("schema/json/acme.models.Thing.yml", "type: object\n");
+
+        // When:
+        final String line = SchemaManifest.line(root, Path.of("schema/json/acme.models.Thing.yml"));
+
+        // Then:
+        assertThat(line.split("\t")[0], is("acme.models.Thing"));
+        assertThat(line.split("\t")[1], is("schema/json/acme.models.Thing.yml"));
+    }
+
+    @Test
+    void shouldExcludeMetaInf() throws Exception {
+        // Given:
+        givenFile("META-INF/other.yml", "a: 1\n");
+
+        // When:
+        final int count = SchemaManifest.write(root);
+
+        // Then:
+        assertThat(count, is(0));
+    }
+
+    @Test
+    void shouldIgnoreFormattingAndKeyOrderInFingerprint() {
+        assertThat(
+                SchemaManifest.fingerprint("type: object\ntitle: 'Thing'\nmaximum: 1.0\n"),
+                is(
+                        SchemaManifest.fingerprint(
+                                "---\n# comment\ntitle: Thing\nmaximum: 1\ntype: object")));
+    }
+
+    @Test
+    void shouldChangeFingerprintOnContentChange() {
+        assertThat(
+                SchemaManifest.fingerprint("type: object\n"),
+                is(not(SchemaManifest.fingerprint("type: string\n"))));
+    }
+
+    private void givenFile(final String path, final String content) throws Exception {
+        final Path file = root.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, UTF_8);
+    }
+}
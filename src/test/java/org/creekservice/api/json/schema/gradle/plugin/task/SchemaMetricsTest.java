@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.Map;
+import org.creekservice.api.json.schema.gradle.plugin.task.SchemaMetrics.Metric;
+import org.junit.jupiter.api.Test;
+
+class SchemaMetricsTest {
+
+    @Test
+    void shouldMeasureSize() {
+        // Given:
+        final String yaml = lines("---", "type: string");
+
+        // When:
+        final SchemaMetrics metrics = SchemaMetrics.measure(yaml);
+
+        // Then:
+        assertThat(metrics.get(Metric.SIZE), is((long) yaml.length()));
+        assertThat(metrics.get(Metric.DEPTH), is(1L));
+    }
+
+    @Test
+    void shouldMeasureDepthOfNestedSubschemas() {
+        // Given:
+        final String yaml =
+                lines(
+                        "---",
+                        "type: object",
+                        "properties:",
+                        "  items:",
+                        "    type: array",
+                        "    items:",
+                        "      type: object",
+                        "      properties:",
+                        "        name:",
+                        "          type: string");
+
+        // When:
+        final SchemaMetrics metrics = SchemaMetrics.measure(yaml);
+
+        // Then:
+        assertThat(metrics.get(Metric.DEPTH), is(4L));
+    }
+
+    @Test
+    void shouldMeasureLargestFanOut() {
+        // Given:
+        final String yaml =
+                lines(
+                        "---",
+                        "oneOf:",
+                        "- $ref: '#/$defs/A'",
+                        "- $ref: '#/$defs/B'",
+                        "- type: object",
+                        "  properties:",
+                        "    x:",
+                        "      anyOf:",
+                        "      - type: string",
+                        "      - type: integer",
+                        "$defs:",
+                        "  A:",
+                        "    type: string",
+                        "  B:",
+                        "    type: integer");
+
+        // When:
+        final SchemaMetrics metrics = SchemaMetrics.measure(yaml);
+
+        // Then:
+        assertThat(metrics.get(Metric.FAN_OUT), is(3L));
+        assertThat(metrics.get(Metric.REFS), is(2L));
+    }
+
+    @Test
+    void shouldCountPatterns() {
+        // Given:
+        final String yaml =
+                lines(
+                        "---",
+                        "type: object",
+                        "properties:",
+                        "  code:",
+                        "    type: string",
+                        "    pattern: '^[A-Z]{3}$'",
+                        "patternProperties:",
+                        "  '^x-':",
+                        "    type: string",
+                        "    pattern: '^[a-z]+$'");
+
+        // When:
+        final SchemaMetrics metrics = SchemaMetrics.measure(yaml);
+
+        // Then:
+        assertThat(metrics.get(Metric.PATTERNS), is(3L));
+    }
+
+    @Test
+    void shouldNotCountPropertiesOrValuesNamedAfterKeywords() {
+        // Given:
+        final String yaml =
+                lines(
+                        "---",
+                        "type: object",
+                        "properties:",
+                        "  pattern:",
+                        "    type: string",
+                        "  $ref:",
+                        "    type: string",
+                        "    default: '#/$defs/A'",
+                        "required:",
+                        "- pattern");
+
+        // When:
+        final SchemaMetrics metrics = SchemaMetrics.measure(yaml);
+
+        // Then:
+        assertThat(metrics.get(Metric.PATTERNS), is(0L));
+        assertThat(metrics.get(Metric.REFS), is(0L));
+        assertThat(metrics.get(Metric.DEPTH), is(2L));
+    }
+
+    @Test
+    void shouldReportExceededBudgets() {
+        // Given:
+        final SchemaMetrics metrics =
+                SchemaMetrics.measure(
+                        lines(
+                                "---",
+                                "oneOf:",
+                                "- $ref: '#/$defs/A'",
+                                "- $ref: '#/$defs/A'",
+                                "$defs:",
+                                "  A:",
+                                "    type: string"));
+
+        // When:
+        final List<String> result =
+                metrics.exceeded(Map.of(Metric.REFS, 1L, Metric.FAN_OUT, 2L, Metric.DEPTH, 5L));
+
+        // Then:
+        assertThat(result, contains("refs 2 exceeds budget of 1"));
+    }
+
+    @Test
+    void shouldReportNothingWithNoBudgets() {
+        // Given:
+        final SchemaMetrics metrics = SchemaMetrics.measure(lines("---", "type: string"));
+
+        // Then:
+        assertThat(metrics.exceeded(Map.of()), is(empty()));
+    }
+
+    private static String lines(final String... lines) {
+        return String.join("\n", lines) + "\n";
+    }
+}
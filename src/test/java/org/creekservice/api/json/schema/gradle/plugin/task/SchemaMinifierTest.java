@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SchemaMinifierTest {
+
+    @TempDir private Path tempDir;
+
+    @Test
+    void shouldStripAnnotations() {
+        // Given:
+        final String yaml =
+                lines(
+                        "---",
+                        "$schema: https://json-schema.org/draft/2020-12/schema",
+                        "title: Thing",
+                        "description: A thing",
+                        "$comment: internal",
+                        "type: object",
+                        "properties:",
+                        "  name:",
+                        "    type: string",
+                        "    description: The name",
+                        "    examples:",
+                        "    - Bob");
+
+        // When:
+        final Object result = SchemaMinifier.minify(SchemaYaml.parse(yaml));
+
+        // Then:
+        assertThat(
+                JsonText.write(result),
+                is(
+                        "{\"$schema\":\"https://json-schema.org/draft/2020-12/schema\","
+                                + "\"type\":\"object\","
+                                + "\"properties\":{\"name\":{\"type\":\"string\"}}}"));
+    }
+
+    @Test
+    void shouldNotStripPropertiesNamedAfterAnnotations() {
+        // Given:
+        final String yaml =
+                lines(
+                        "---",
+                        "type: object",
+                        "properties:",
+                        "  title:",
+                        "    type: string",
+                        "  description:",
+                        "    type: string",
+                        "required:",
+                        "- title");
+
+        // When:
+        final Object result = SchemaMinifier.minify(SchemaYaml.parse(yaml));
+
+        // Then:
+        assertThat(
+                JsonText.write(result),
+                is(
+                        "{\"type\":\"object\","
+                                + "\"properties\":{\"title\":{\"type\":\"string\"},"
+                                + "\"description\":{\"type\":\"string\"}},"
+                                + "\"required\":[\"title\"]}"));
+    }
+
+    @Test
+    void shouldNotStripValues() {
+        // Given:
+        final String yaml =
+                lines(
+                        "---",
+                        "type: object",
+                        "default:",
+                        "  title: kept",
+                        "enum:",
+                        "- description: kept");
+
+        // When:
+        final Object result = SchemaMinifier.minify(SchemaYaml.parse(yaml));
+
+        // Then:
+        assertThat(
+                JsonText.write(result),
+                is(
+                        "{\"type\":\"object\","
+                                + "\"default\":{\"title\":\"kept\"},"
+                                + "\"enum\":[{\"description\":\"kept\"}]}"));
+    }
+
+    @Test
+    void shouldMergeDuplicateDefinitions() {
+        // Given:
+        final String yaml =
+                lines(
+                        "---",
+                        "type: object",
+                        "properties:",
+                        "  billing:",
+                        "    $ref: '#/$defs/Address'",
+                        "  shipping:",
+                        "    $ref: '#/$defs/ShippingAddress'",
+                        "  street:",
+                        "    $ref: '#/$defs/ShippingAddress/properties/street'",
+                        "$defs:",
+                        "  Address:",
+                        "    title: Address",
+                        "    type: object",
+                        "    properties:",
+                        "      street:",
+                        "        type: string",
+                        "  ShippingAddress:",
+                        "    title: Shipping Address",
+                        "    type: object",
+                        "    properties:",
+                        "      street:",
+                        "        type: string");
+
+        // When:
+        final Object result = SchemaMinifier.minify(SchemaYaml.parse(yaml));
+
+        // Then:
+        assertThat(
+                JsonText.write(result),
+                is(
+                        "{\"type\":\"object\",\"properties\":{"
+                                + "\"billing\":{\"$ref\":\"#/$defs/Address\"},"
+                                + "\"shipping\":{\"$ref\":\"#/$defs/Address\"},"
+                                + "\"street\":{\"$ref\":\"#/$defs/Address/properties/street\"}},"
+                                + "\"$defs\":{\"Address\":{\"type\":\"object\","
+                                + "\"properties\":{\"street\":{\"type\":\"string\"}}}}}"));
+    }
+
+    @Test
+    void shouldMergeDefinitionsThatBecomeDuplicatesOnceReferencesMerged() {
+        // Given:
+        final String yaml =
+                lines(
+                        "---",
+                        "$ref: '#/definitions/A'",
+                        "definitions:",
+                        "  A:",
+                        "    $ref: '#/definitions/X'",
+                        "  B:",
+                        "    $ref: '#/definitions/Y'",
+                        "  X:",
+                        "    type: string",
+                        "  Y:",
+                        "    type: string");
+
+        // When:
+        final Object result = SchemaMinifier.minify(SchemaYaml.parse(yaml));
+
+        // Then:
+        assertThat(
+                JsonText.write(result),
+                is(
+                        "{\"$ref\":\"#/definitions/A\",\"definitions\":{"
+                                + "\"A\":{\"$ref\":\"#/definitions/X\"},"
+                                + "\"X\":{\"type\":\"string\"}}}"));
+    }
+
+    @Test
+    void shouldWriteMinifiedSchemasReadableAsYaml() throws Exception {
+        // Given:
+        final Path source = tempDir.resolve("source");
+        final Path target = tempDir.resolve("target");
+        final String yaml = lines("---", "title: Thing", "type: object");
+        Files.createDirectories(source.resolve("acme"));
+        Files.writeString(source.resolve("acme/Thing.yml"), yaml, UTF_8);
+
+        // When:
+        final int count = SchemaMinifier.write(source, target);
+
+        // Then:
+        assertThat(count, is(1));
+        final String minified = Files.readString(target.resolve("acme/Thing.yml"), UTF_8);
+        assertThat(minified, is("{\"type\":\"object\"}\n"));
+        assertThat(
+                JsonText.write(SchemaYaml.parse(minified)),
+                is(JsonText.write(SchemaMinifier.minify(SchemaYaml.parse(yaml)))));
+    }
+
+    @Test
+    void shouldCopyMetadataAndRemoveStaleFiles() throws Exception {
+        // Given:
+        final Path source = tempDir.resolve("source");
+        final Path target = tempDir.resolve("target");
+        Files.createDirectories(source.resolve("META-INF/creek"));
+        Files.writeString(source.resolve("META-INF/creek/json-schemas.idx"), "a.yml\n", UTF_8);
+        Files.createDirectories(target);
+        Files.writeString(target.resolve("stale.yml"), "---\n", UTF_8);
+
+        // When:
+        SchemaMinifier.write(source, target);
+
+        // Then:
+        assertThat(
+                Files.readString(target.resolve("META-INF/creek/json-schemas.idx"), UTF_8),
+                is("a.yml\n"));
+        assertThat(Files.exists(target.resolve("stale.yml")), is(false));
+    }
+
+    private static String lines(final String... lines) {
+        return String.join("\n", Arrays.asList(lines)) + "\n";
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SchemaPublisherTest {
+
+    private static final SchemaPublisher.Schema SCHEMA_A =
+            new SchemaPublisher.Schema("acme.A", "fa", "{\"type\":\"object\"}");
+    private static final SchemaPublisher.Schema SCHEMA_B =
+            new SchemaPublisher.Schema("acme.B", "fb", "{\"type\":\"string\"}");
+
+    private StandInRegistry registry;
+    private SchemaPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        registry = new StandInRegistry();
+        publisher =
+                new SchemaPublisher(
+                        registry.uri(),
+                        Optional.of("Basic dTpw"),
+                        2,
+                        Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+    }
+
+    @Test
+    void shouldBuildRequestBody() {
+        assertThat(
+                SchemaPublisher.requestBody(SCHEMA_A),
+                is("{\"schemaType\":\"JSON\",\"schema\":\"{\\\"type\\\":\\\"object\\\"}\"}"));
+    }
+
+    @Test
+    void shouldPublishSchemas() {
+        // When:
+        final SchemaPublisher.Result result = publisher.publish(List.of(SCHEMA_A, SCHEMA_B));
+
+        // Then:
+        assertThat(result.failures(), is(Map.of()));
+        assertThat(result.published().size(), is(2));
+        assertThat(result.published(), hasKey(SCHEMA_A));
+        assertThat(result.published(), hasKey(SCHEMA_B));
+
+        final List<StandInRegistry.Request> requests = registry.requests();
+        assertThat(requests, hasSize(4));
+        assertThat(result.existing(), is(Set.of()));
+        for (final StandInRegistry.Request request : requests) {
+            assertThat(request.method, is("POST"));
+            assertThat(request.contentType, is(SchemaPublisher.CONTENT_TYPE));
+            assertThat(request.authorization, is("Basic dTpw"));
+            assertThat(request.body, containsString("\"schemaType\":\"JSON\""));
+        }
+    }
+
+    @Test
+    void shouldReportFailuresWithoutStoppingOtherSchemas() {
+        // Given:
+        registry.respondWith("acme.A", 500, Integer.MAX_VALUE);
+
+        // When:
+        final SchemaPublisher.Result result = publisher.publish(List.of(SCHEMA_A, SCHEMA_B));
+
+        // Then:
+        assertThat(result.published().size(), is(1));
+        assertThat(result.published(), hasKey(SCHEMA_B));
+        assertThat(result.failures().size(), is(1));
+        assertThat(result.failures().get("acme.A"), containsString("HTTP 500"));
+    }
+
+    @Test
+    void shouldRetryWhenThrottled() {
+        // Given:
+        registry.respondWith("acme.A", 429, 1);
+
+        // When:
+        final SchemaPublisher.Result result = publisher.publish(List.of(SCHEMA_A));
+
+        // Then:
+        assertThat(result.failures(), is(Map.of()));
+        assertThat(result.published(), hasKey(SCHEMA_A));
+        assertThat(registry.requests(), hasSize(3));
+    }
+
+    @Test
+    void shouldNotRegisterSchemasTheRegistryAlreadyHolds() {
+        // Given:
+        final SchemaPublisher.Result first = publisher.publish(List.of(SCHEMA_A));
+
+        // When:
+        final SchemaPublisher.Result result = publisher.publish(List.of(SCHEMA_A, SCHEMA_B));
+
+        // Then:
+        assertThat(result.failures(), is(Map.of()));
+        assertThat(result.published().get(SCHEMA_A), is(first.published().get(SCHEMA_A)));
+        assertThat(result.existing(), is(Set.of("acme.A")));
+
+        final List<String> registrations =
+                registry.requests().stream()
+                        .filter(request -> request.register)
+                        .map(request -> request.subject)
+                        .collect(Collectors.toList());
+        assertThat(registrations, is(List.of("acme.A", "acme.B")));
+    }
+
+    @Test
+    void shouldLimitRequestsInFlight() {
+        // Given:
+        registry.delayResponses(50);
+        final List<SchemaPublisher.Schema> schemas =
+                IntStream.range(0, 8)
+                        .mapToObj(i -> new SchemaPublisher.Schema("acme.T" + i, "f" + i, "{}"))
+                        .collect(Collectors.toList());
+
+        // When:
+        final SchemaPublisher.Result result = publisher.publish(schemas);
+
+        // Then:
+        assertThat(result.published().size(), is(8));
+        assertThat(registry.maxInFlight(), is(lessThanOrEqualTo(2)));
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SchemaValidatorTest {
+
+    private static final String MODEL =
+            "---\n"
+                    + "$schema: https://json-schema.org/draft/2020-12/schema\n"
+                    + "type: object\n"
+                    + "title: Model\n"
+                    + "additionalProperties: false\n"
+                    + "required:\n"
+                    + "  - id\n"
+                    + "properties:\n"
+                    + "  id:\n"
+                    + "    type: integer\n"
+                    + "    minimum: 1\n"
+                    + "  name:\n"
+                    + "    type: string\n"
+                    + "    pattern: ^[a-z]+$\n"
+                    + "  tags:\n"
+                    + "    type: array\n"
+                    + "    items:\n"
+                    + "      $ref: '#/$defs/Tag'\n"
+                    + "$defs:\n"
+                    + "  Tag:\n"
+                    + "    enum: [a, b]\n";
+
+    @Test
+    void shouldAcceptValidInstance() {
+        // When:
+        final List<String> errors =
+                validate(MODEL, "{\"id\": 1, \"name\": \"thing\", \"tags\": [\"a\", \"b\"]}");
+
+        // Then:
+        assertThat(errors, is(empty()));
+    }
+
+    @Test
+    void shouldReportEachFailureWithItsLocation() {
+        // When:
+        final List<String> errors =
+                validate(MODEL, "{\"id\": 0, \"name\": \"Thing\", \"tags\": [\"c\"], \"x\": 1}");
+
+        // Then:
+        assertThat(
+                errors,
+                contains(
+                        "#/id: less than minimum 1",
+                        "#/name: does not match pattern '^[a-z]+$'",
+                        "#/tags/0: value not in enum [\"a\",\"b\"]",
+                        "#/x: additional property not allowed"));
+    }
+
+    @Test
+    void shouldReportMissingRequiredProperty() {
+        assertThat(validate(MODEL, "{}"), contains("#: missing required property 'id'"));
+    }
+
+    @Test
+    void shouldReportWrongType() {
+        assertThat(validate(MODEL, "[]"), contains("#: expected type object, got array"));
+    }
+
+    @Test
+    void shouldResolveRefsToOtherSchemas() {
+        // Given:
+        final SchemaValidator validator =
+                new SchemaValidator(
+                        Map.of(
+                                "acme/Model.yml",
+                                SchemaYaml.parse(
+                                        "---\n"
+                                                + "type: object\n"
+                                                + "properties:\n"
+                                                + "  other:\n"
+                                                + "    $ref: ../other/Other.yml#/$defs/Id\n"),
+                                "other/Other.yml",
+                                SchemaYaml.parse("---\n$defs:\n  Id:\n    type: string\n")));
+
+        // When:
+        final List<String> errors =
+                validator.validate("acme/Model.yml", JsonText.parse("{\"other\": 1}"));
+
+        // Then:
+        assertThat(errors, contains("#/other: expected type string, got integer"));
+    }
+
+    @Test
+    void shouldResolveUpstreamRefsByClasspathUriAndAbsoluteId() {
+        // Given:
+        final SchemaValidator validator =
+                new SchemaValidator(
+                        Map.of(
+                                "acme/Model.yml",
+                                SchemaYaml.parse(
+                                        "---\n"
+                                                + "type: object\n"
+                                                + "properties:\n"
+                                                + "  byPath:\n"
+                                                + "    $ref: classpath:other/Id.yml\n"
+                                                + "  byId:\n"
+                                                + "    $ref: https://schemas.acme.io/Count.yml\n"),
+                                "other/Id.yml",
+                                SchemaYaml.parse("---\ntype: string\n"),
+                                "other/Count.yml",
+                                SchemaYaml.parse(
+                                        "---\n$id: https://schemas.acme.io/Count.yml\n"
+                                                + "type: integer\n")));
+
+        // When:
+        final List<String> errors =
+                validator.validate(
+                        "acme/Model.yml", JsonText.parse("{\"byPath\": 1, \"byId\": \"x\"}"));
+
+        // Then:
+        assertThat(
+                errors,
+                containsInAnyOrder(
+                        "#/byPath: expected type string, got integer",
+                        "#/byId: expected type integer, got string"));
+    }
+
+    @Test
+    void shouldThrowOnRefToUnknownId() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> validate("---\n$ref: https://schemas.acme.io/Missing.yml\n", "{}"));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("no schema with $id"));
+    }
+
+    @Test
+    void shouldThrowOnUnsupportedKeyword() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> validate("---\ntype: object\nunevaluatedProperties: false\n", "{}"));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("unsupported keyword 'unevaluatedProperties'"));
+    }
+
+    @Test
+    void shouldThrowOnUnresolvableRef() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> validate("---\n$ref: '#/$defs/Missing'\n", "{}"));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("unresolvable $ref"));
+    }
+
+    private static List<String> validate(final String schema, final String instance) {
+        return new SchemaValidator(Map.of("acme/Model.yml", SchemaYaml.parse(schema)))
+                .validate("acme/Model.yml", JsonText.parse(instance));
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SchemaYamlTest {
+
+    @Test
+    void shouldParseBlockMappingsAndSequences() {
+        // Given:
+        final String yaml =
+                lines(
+                        "---",
+                        "# comment",
+                        "type: object",
+                        "properties:",
+                        "  name:",
+                        "    type: string",
+                        "required:",
+                        "- name",
+                        "- other");
+
+        // When:
+        final Object result = SchemaYaml.parse(yaml);
+
+        // Then:
+        final Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("type", "object");
+        expected.put("properties", Map.of("name", Map.of("type", "string")));
+        expected.put("required", List.of("name", "other"));
+        assertThat(result, is(expected));
+    }
+
+    @Test
+    void shouldParseSequenceOfMappings() {
+        // When:
+        final Object result = SchemaYaml.parse(lines("oneOf:", "  - type: string", "    a: 1"));
+
+        // Then:
+        assertThat(result, is(Map.of("oneOf", List.of(Map.of("type", "string", "a", 1L)))));
+    }
+
+    @Test
+    void shouldParseScalarTypes() {
+        // When:
+        final Object result =
+                SchemaYaml.parse(
+                        lines(
+                                "a: null",
+                                "b: true",
+                                "c: 10",
+                                "d: 1.5",
+                                "e: '10'",
+                                "f: \"tab\\there\"",
+                                "g: plain text"));
+
+        // Then:
+        final Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("a", null);
+        expected.put("b", true);
+        expected.put("c", 10L);
+        expected.put("d", 1.5);
+        expected.put("e", "10");
+        expected.put("f", "tab\there");
+        expected.put("g", "plain text");
+        assertThat(result, is(expected));
+    }
+
+    @Test
+    void shouldParseFlowCollections() {
+        // When:
+        final Object result = SchemaYaml.parse("enum: [a, 'b', 1]\nconst: {x: [], y: {}}");
+
+        // Then:
+        assertThat(
+                result,
+                is(
+                        Map.of(
+                                "enum",
+                                List.of("a", "b", 1L),
+                                "const",
+                                Map.of("x", List.of(), "y", Map.of()))));
+    }
+
+    @Test
+    void shouldParseBlockScalars() {
+        // When:
+        final Object result =
+                SchemaYaml.parse(
+                        lines("literal: |", "  line 1", "  line 2", "folded: >-", "  a", "  b"));
+
+        // Then:
+        assertThat(result, is(Map.of("literal", "line 1\nline 2\n", "folded", "a b")));
+    }
+
+    @Test
+    void shouldThrowOnInvalidYaml() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class, () -> SchemaYaml.parse("a: [unclosed"));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("Unterminated flow collection"));
+    }
+
+    @Test
+    void shouldWriteBlockYaml() {
+        // Given:
+        final Map<String, Object> value = new LinkedHashMap<>();
+        value.put("type", "object");
+        value.put("properties", Map.of("name", Map.of("$ref", "../Other.yml")));
+        value.put("required", List.of("name"));
+
+        // When:
+        final String result = SchemaYaml.write(value);
+
+        // Then:
+        assertThat(
+                result,
+                is(
+                        lines(
+                                "---",
+                                "type: object",
+                                "properties:",
+                                "  name:",
+                                "    $ref: ../Other.yml",
+                                "required:",
+                                "- name")));
+    }
+
+    @Test
+    void shouldRoundTripScalarsThroughWrite() {
+        // Given:
+        final Map<String, Object> value = new LinkedHashMap<>();
+        value.put("a", null);
+        value.put("b", true);
+        value.put("c", 10L);
+        value.put("d", 1.5);
+        value.put("e", "10");
+        value.put("f", "tab\there");
+        value.put("g", "#/definitions/Thing");
+        value.put("h", "");
+        value.put("i", List.of(Map.of("x", List.of()), Map.of()));
+
+        // When:
+        final Object result = SchemaYaml.parse(SchemaYaml.write(value));
+
+        // Then:
+        assertThat(result, is(value));
+    }
+
+    private static String lines(final String... lines) {
+        return String.join("\n", Arrays.asList(lines)) + "\n";
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SharedDefinitionsTest {
+
+    private static final String SHARED = "META-INF/creek/definitions.yml";
+
+    private static final String ORDER =
+            lines(
+                    "---",
+                    "$schema: https://json-schema.org/draft/2020-12/schema",
+                    "title: Order",
+                    "type: object",
+                    "properties:",
+                    "  total:",
+                    "    $ref: '#/$defs/Money'",
+                    "$defs:",
+                    "  Money:",
+                    "    type: object",
+                    "    properties:",
+                    "      currency:",
+                    "        $ref: '#/$defs/Currency'",
+                    "  Currency:",
+                    "    type: string",
+                    "    enum:",
+                    "    - GBP",
+                    "    - USD");
+
+    private static final String INVOICE =
+            lines(
+                    "---",
+                    "$schema: https://json-schema.org/draft/2020-12/schema",
+                    "title: Invoice",
+                    "type: object",
+                    "properties:",
+                    "  amount:",
+                    "    $ref: '#/$defs/Money'",
+                    "  currency:",
+                    "    $ref: '#/$defs/Currency/enum'",
+                    "$defs:",
+                    "  Money:",
+                    "    type: object",
+                    "    properties:",
+                    "      currency:",
+                    "        $ref: '#/$defs/Currency'",
+                    "  Currency:",
+                    "    type: string",
+                    "    enum:",
+                    "    - GBP",
+                    "    - USD");
+
+    @TempDir private Path root;
+
+    @Test
+    void shouldMoveRepeatedDefinitionsToSharedFile() {
+        // Given:
+        final Map<String, Map<String, Object>> schemas = new LinkedHashMap<>();
+        schemas.put("acme/order/Order.yml", parse(ORDER));
+        schemas.put("acme/billing/Invoice.yml", parse(INVOICE));
+
+        // When:
+        final Optional<Map<String, Object>> shared = SharedDefinitions.share(schemas, SHARED);
+
+        // Then:
+        assertThat(
+                shared.map(SchemaYaml::write),
+                is(
+                        Optional.of(
+                                lines(
+                                        "---",
+                                        "$schema: https://json-schema.org/draft/2020-12/schema",
+                                        "$defs:",
+                                        "  Money:",
+                                        "    type: object",
+                                        "    properties:",
+                                        "      currency:",
+                                        "        $ref: '#/$defs/Currency'",
+                                        "  Currency:",
+                                        "    type: string",
+                                        "    enum:",
+                                        "    - GBP",
+                                        "    - USD"))));
+        assertThat(
+                SchemaYaml.write(schemas.get("acme/order/Order.yml")),
+                is(
+                        lines(
+                                "---",
+                                "$schema: https://json-schema.org/draft/2020-12/schema",
+                                "title: Order",
+                                "type: object",
+                                "properties:",
+                                "  total:",
+                                "    $ref: ../../META-INF/creek/definitions.yml#/$defs/Money")));
+        assertThat(
+                SchemaYaml.write(schemas.get("acme/billing/Invoice.yml")),
+                is(
+                        lines(
+                                "---",
+                                "$schema: https://json-schema.org/draft/2020-12/schema",
+                                "title: Invoice",
+                                "type: object",
+                                "properties:",
+                                "  amount:",
+                                "    $ref: ../../META-INF/creek/definitions.yml#/$defs/Money",
+                                "  currency:",
+                                "    $ref: ../../META-INF/creek/definitions.yml"
+                                        + "#/$defs/Currency/enum")));
+    }
+
+    @Test
+    void shouldNotShareDefinitionsUsedByOneSchema() {
+        // Given:
+        final Map<String, Map<String, Object>> schemas = new LinkedHashMap<>();
+        schemas.put("acme/Order.yml", parse(ORDER));
+
+        // When:
+        final Optional<Map<String, Object>> shared = SharedDefinitions.share(schemas, SHARED);
+
+        // Then:
+        assertThat(shared, is(Optional.empty()));
+        assertThat(SchemaYaml.write(schemas.get("acme/Order.yml")), is(ORDER));
+    }
+
+    @Test
+    void shouldNotShareDefinitionsWithDifferentContent() {
+        // Given:
+        final Map<String, Map<String, Object>> schemas = new LinkedHashMap<>();
+        schemas.put("acme/Order.yml", parse(ORDER));
+        schemas.put("acme/Invoice.yml", parse(INVOICE.replace("- USD", "- EUR")));
+
+        // When:
+        final Optional<Map<String, Object>> shared = SharedDefinitions.share(schemas, SHARED);
+
+        // Then: Money not shared either, as it references Currency:
+        assertThat(shared, is(Optional.empty()));
+    }
+
+    @Test
+    void shouldNotShareDefinitionsReferencingSchemaRoot() {
+        // Given:
+        final String node =
+                lines(
+                        "---",
+                        "$ref: '#/$defs/Node'",
+                        "$defs:",
+                        "  Node:",
+                        "    type: object",
+                        "    properties:",
+                        "      parent:",
+                        "        $ref: '#'");
+        final Map<String, Map<String, Object>> schemas = new LinkedHashMap<>();
+        schemas.put("acme/A.yml", parse(node));
+        schemas.put("acme/B.yml", parse(node));
+
+        // When:
+        final Optional<Map<String, Object>> shared = SharedDefinitions.share(schemas, SHARED);
+
+        // Then:
+        assertThat(shared, is(Optional.empty()));
+    }
+
+    @Test
+    void shouldWriteSharedDefinitionsFile() throws Exception {
+        // Given:
+        givenSchema("acme/Order.yml", ORDER);
+        givenSchema("acme/Invoice.yml", INVOICE);
+
+        // When:
+        final int count = SharedDefinitions.write(root, SHARED);
+
+        // Then:
+        assertThat(count, is(2));
+        assertThat(Files.exists(root.resolve(SHARED)), is(true));
+        assertThat(
+                Files.readString(root.resolve("acme/Order.yml"), UTF_8).contains("Currency"),
+                is(false));
+    }
+
+    @Test
+    void shouldDeleteSharedFileIfNothingShared() throws Exception {
+        // Given:
+        givenSchema("acme/Order.yml", ORDER);
+        givenSchema(SHARED, "---\n$defs: {}\n");
+
+        // When:
+        final int count = SharedDefinitions.write(root, SHARED);
+
+        // Then:
+        assertThat(count, is(0));
+        assertThat(Files.exists(root.resolve(SHARED)), is(false));
+    }
+
+    private void givenSchema(final String path, final String yaml) throws Exception {
+        final Path file = root.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, yaml, UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> parse(final String yaml) {
+        return (Map<String, Object>) SchemaYaml.parse(yaml);
+    }
+
+    private static String lines(final String... lines) {
+        return String.join("\n", Arrays.asList(lines)) + "\n";
+    }
+}
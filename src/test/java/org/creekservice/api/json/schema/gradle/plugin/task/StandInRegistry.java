@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** In-process stand-in for a Confluent compatible schema registry. */
+final class StandInRegistry implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<Request> requests = new ArrayList<>();
+    private final Map<String, Integer> statusOverrides = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> overrideCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final Map<String, Long> registered = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private volatile long responseDelayMs;
+
+    StandInRegistry() {
+        try {
+            server =
+                    HttpServer.create(
+                            new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.setExecutor(executor);
+        server.createContext("/subjects/", this::handle);
+        server.start();
+    }
+
+    URI uri() {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + "/");
+    }
+
+    synchronized List<Request> requests() {
+        return List.copyOf(requests);
+    }
+
+    int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    /**
+     * @param subject the subject.
+     * @param status the status to respond with for the next {@code times} requests.
+     * @param times the number of requests to respond to with the status.
+     */
+    void respondWith(final String subject, final int status, final int times) {
+        statusOverrides.put(subject, status);
+        overrideCounts.put(subject, new AtomicInteger(times));
+    }
+
+    void delayResponses(final long delayMs) {
+        this.responseDelayMs = delayMs;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            final String path = exchange.getRequestURI().getPath();
+            final boolean register = path.endsWith("/versions");
+            final String subject =
+                    path.substring(
+                            "/subjects/".length(),
+                            path.length() - (register ? "/versions".length() : 0));
+            final String body = new String(exchange.getRequestBody().readAllBytes(), UTF_8);
+            synchronized (this) {
+                requests.add(
+                        new Request(
+                                exchange.getRequestMethod(),
+                                subject,
+                                register,
+                                exchange.getRequestHeaders().getFirst("Content-Type"),
+                                exchange.getRequestHeaders().getFirst("Authorization"),
+                                body));
+            }
+
+            if (responseDelayMs > 0) {
+                Thread.sleep(responseDelayMs);
+            }
+
+            final String key = subject + "\n" + body;
+            final AtomicInteger remaining = overrideCounts.get(subject);
+            final int status;
+            final byte[] response;
+            if (remaining != null && remaining.getAndDecrement() > 0) {
+                status = statusOverrides.get(subject);
+                response = ("{\"error_code\":" + status + "}").getBytes(UTF_8);
+            } else if (register) {
+                status = 200;
+                final long id = registered.computeIfAbsent(key, k -> nextId.getAndIncrement());
+                response = ("{\"id\":" + id + "}").getBytes(UTF_8);
+            } else if (registered.containsKey(key)) {
+                status = 200;
+                response =
+                        ("{\"subject\":\"" + subject + "\",\"id\":" + registered.get(key) + "}")
+                                .getBytes(UTF_8);
+            } else {
+                status = 404;
+                response = "{\"error_code\":40403}".getBytes(UTF_8);
+            }
+            exchange.sendResponseHeaders(status, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    static final class Request {
+        final String method;
+        final String subject;
+        final boolean register;
+        final String contentType;
+        final String authorization;
+        final String body;
+
+        Request(
+                final String method,
+                final String subject,
+                final boolean register,
+                final String contentType,
+                final String authorization,
+                final String body) {
+            this.method = method;
+            this.subject = subject;
+            this.register = register;
+            this.contentType = contentType;
+            this.authorization = authorization;
+            this.body = body;
+        }
+    }
+}
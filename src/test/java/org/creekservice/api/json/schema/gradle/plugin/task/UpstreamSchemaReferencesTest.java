@@ -0,0 +1,286 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class UpstreamSchemaReferencesTest {
+
+    private static final String ADDRESS =
+            lines(
+                    "---",
+                    "$schema: https://json-schema.org/draft/2020-12/schema",
+                    "title: Address",
+                    "type: object",
+                    "additionalProperties: false",
+                    "properties:",
+                    "  street:",
+                    "    type: string");
+
+    private static final String ORDER =
+            lines(
+                    "---",
+                    "title: Order",
+                    "type: object",
+                    "properties:",
+                    "  address:",
+                    "    $ref: '#/definitions/Address'",
+                    "definitions:",
+                    "  Address:",
+                    "    type: object",
+                    "    title: Address",
+                    "    additionalProperties: false",
+                    "    properties:",
+                    "      street:",
+                    "        type: string");
+
+    @TempDir private Path root;
+
+    @Test
+    void shouldReplaceEquivalentDefinitionWithClasspathRef() {
+        // Given:
+        final UpstreamSchemaReferences refs =
+                new UpstreamSchemaReferences(Map.of("acme/model/Address.yml", ADDRESS));
+
+        // When:
+        final Optional<Object> result = refs.rewrite(SchemaYaml.parse(ORDER));
+
+        // Then:
+        assertThat(
+                result.map(SchemaYaml::write),
+                is(
+                        Optional.of(
+                                lines(
+                                        "---",
+                                        "title: Order",
+                                        "type: object",
+                                        "properties:",
+                                        "  address:",
+                                        "    $ref: classpath:acme/model/Address.yml"))));
+    }
+
+    @Test
+    void shouldReferenceUpstreamSchemaByAbsoluteId() {
+        // Given:
+        final String upstream =
+                ADDRESS.replace("title:", "$id: https://schemas.acme.io/Address.yml\ntitle:");
+        final UpstreamSchemaReferences refs =
+                new UpstreamSchemaReferences(Map.of("acme/model/Address.yml", upstream));
+
+        // When:
+        final Optional<Object> result = refs.rewrite(SchemaYaml.parse(ORDER));
+
+        // Then:
+        assertThat(
+                result.map(schema -> ((Map<?, ?>) schema).get("properties")),
+                is(
+                        Optional.of(
+                                Map.of(
+                                        "address",
+                                        Map.of("$ref", "https://schemas.acme.io/Address.yml")))));
+    }
+
+    @Test
+    void shouldMatchFlatUpstreamSchemaBySimpleName() {
+        // Given:
+        final UpstreamSchemaReferences refs =
+                new UpstreamSchemaReferences(
+                        Map.of("schemas/acme.model.Address.yml", ADDRESS.replace("Address", "X")));
+
+        // When:
+        final Optional<Object> result = refs.rewrite(SchemaYaml.parse(ORDER));
+
+        // Then:
+        assertThat(
+                result.map(schema -> ((Map<?, ?>) schema).get("properties")),
+                is(
+                        Optional.of(
+                                Map.of(
+                                        "address",
+                                        Map.of(
+                                                "$ref",
+                                                "classpath:schemas/acme.model.Address.yml")))));
+    }
+
+    @Test
+    void shouldNotReplaceDefinitionThatDiffers() {
+        // Given:
+        final UpstreamSchemaReferences refs =
+                new UpstreamSchemaReferences(
+                        Map.of("acme/model/Address.yml", ADDRESS.replace("string", "integer")));
+
+        // When:
+        final Optional<Object> result = refs.rewrite(SchemaYaml.parse(ORDER));
+
+        // Then:
+        assertThat(result, is(Optional.empty()));
+    }
+
+    @Test
+    void shouldNotReplaceDefinitionWithDifferentName() {
+        // Given:
+        final UpstreamSchemaReferences refs =
+                new UpstreamSchemaReferences(
+                        Map.of("acme/model/Location.yml", ADDRESS.replace("Address", "Location")));
+
+        // When:
+        final Optional<Object> result = refs.rewrite(SchemaYaml.parse(ORDER));
+
+        // Then:
+        assertThat(result, is(Optional.empty()));
+    }
+
+    @Test
+    void shouldResolveLocalRefsWhenComparing() {
+        // Given:
+        final String upstream =
+                lines(
+                        "title: Node",
+                        "type: object",
+                        "properties:",
+                        "  next:",
+                        "    $ref: '#/definitions/Node'",
+                        "definitions:",
+                        "  Node:",
+                        "    type: object",
+                        "    properties:",
+                        "      next:",
+                        "        $ref: '#/definitions/Node'");
+
+        final String schema =
+                lines(
+                        "properties:",
+                        "  node:",
+                        "    $ref: '#/definitions/Node'",
+                        "definitions:",
+                        "  Node:",
+                        "    type: object",
+                        "    properties:",
+                        "      next:",
+                        "        $ref: '#/definitions/Node'");
+
+        final UpstreamSchemaReferences refs =
+                new UpstreamSchemaReferences(Map.of("acme/Node.yml", upstream));
+
+        // When:
+        final Optional<Object> result = refs.rewrite(SchemaYaml.parse(schema));
+
+        // Then:
+        assertThat(
+                result,
+                is(
+                        Optional.of(
+                                Map.of(
+                                        "properties",
+                                        Map.of(
+                                                "node",
+                                                Map.of("$ref", "classpath:acme/Node.yml"))))));
+    }
+
+    @Test
+    void shouldKeepDefinitionsStillReferenced() {
+        // Given:
+        final String schema =
+                lines(
+                        "properties:",
+                        "  address:",
+                        "    $ref: '#/definitions/Address'",
+                        "  other:",
+                        "    $ref: '#/definitions/Other'",
+                        "definitions:",
+                        "  Address:",
+                        "    type: object",
+                        "    additionalProperties: false",
+                        "    properties:",
+                        "      street:",
+                        "        type: string",
+                        "  Other:",
+                        "    type: string");
+
+        final UpstreamSchemaReferences refs =
+                new UpstreamSchemaReferences(Map.of("acme/Address.yml", ADDRESS));
+
+        // When:
+        final Optional<Object> result = refs.rewrite(SchemaYaml.parse(schema));
+
+        // Then:
+        assertThat(
+                result.map(s -> ((Map<?, ?>) s).get("definitions")),
+                is(Optional.of(Map.of("Other", Map.of("type", "string")))));
+    }
+
+    @Test
+    void shouldRewriteSchemaFilesUnderRoot() throws Exception {
+        // Given:
+        final Path order = root.resolve("acme/service/Order.yml");
+        Files.createDirectories(order.getParent());
+        Files.writeString(order, ORDER, UTF_8);
+
+        final UpstreamSchemaReferences refs =
+                new UpstreamSchemaReferences(Map.of("acme/model/Address.yml", ADDRESS));
+
+        // When:
+        final int removed = refs.apply(root);
+
+        // Then:
+        assertThat(removed, is(1));
+        assertThat(
+                SchemaYaml.parse(Files.readString(order, UTF_8)),
+                is(
+                        Map.of(
+                                "title",
+                                "Order",
+                                "type",
+                                "object",
+                                "properties",
+                                Map.of(
+                                        "address",
+                                        Map.of("$ref", "classpath:acme/model/Address.yml")))));
+    }
+
+    @Test
+    void shouldNotTouchFilesWithoutMatches() throws Exception {
+        // Given:
+        final Path order = root.resolve("acme/service/Order.yml");
+        Files.createDirectories(order.getParent());
+        Files.writeString(order, ORDER, UTF_8);
+
+        final UpstreamSchemaReferences refs =
+                new UpstreamSchemaReferences(
+                        Map.of("acme/model/Other.yml", ADDRESS.replace("Address", "Other")));
+
+        // When:
+        final int removed = refs.apply(root);
+
+        // Then:
+        assertThat(removed, is(0));
+        assertThat(Files.readString(order, UTF_8), is(ORDER));
+    }
+
+    private static String lines(final String... lines) {
+        return String.join("\n", Arrays.asList(lines)) + "\n";
+    }
+}
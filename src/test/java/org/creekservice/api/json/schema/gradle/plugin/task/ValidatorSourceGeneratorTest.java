@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.gradle.plugin.task;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ValidatorSourceGeneratorTest {
+
+    @TempDir private Path outputDir;
+
+    @Test
+    void shouldValidateObjects() throws Exception {
+        // Given:
+        final Method isValid =
+                compile(
+                        "type: object",
+                        "additionalProperties: false",
+                        "properties:",
+                        "  name:",
+                        "    type: string",
+                        "  age:",
+                        "    type: integer",
+                        "required:",
+                        "- name");
+
+        // Then:
+        assertThat(isValid.invoke(null, Map.of("name", "a", "age", 1)), is(true));
+        assertThat(isValid.invoke(null, Map.of("name", "a")), is(true));
+        assertThat(isValid.invoke(null, Map.of("age", 1)), is(false));
+        assertThat(isValid.invoke(null, Map.of("name", 1)), is(false));
+        assertThat(isValid.invoke(null, Map.of("name", "a", "age", 1.5)), is(false));
+        assertThat(isValid.invoke(null, Map.of("name", "a", "other", 1)), is(false));
+        assertThat(isValid.invoke(null, List.of()), is(false));
+    }
+
+    @Test
+    void shouldValidateArraysAndStrings() throws Exception {
+        // Given:
+        final Method isValid =
+                compile(
+                        "type: array",
+                        "minItems: 1",
+                        "uniqueItems: true",
+                        "items:",
+                        "  type: string",
+                        "  maxLength: 3",
+                        "  pattern: ^[a-z]+$");
+
+        // Then:
+        assertThat(isValid.invoke(null, List.of("a", "bc")), is(true));
+        assertThat(isValid.invoke(null, List.of()), is(false));
+        assertThat(isValid.invoke(null, List.of("a", "a")), is(false));
+        assertThat(isValid.invoke(null, List.of("abcd")), is(false));
+        assertThat(isValid.invoke(null, List.of("A")), is(false));
+    }
+
+    @Test
+    void shouldValidateNumbers() throws Exception {
+        // Given:
+        final Method isValid =
+                compile("type: number", "minimum: 0", "exclusiveMaximum: 10", "multipleOf: 0.5");
+
+        // Then:
+        assertThat(isValid.invoke(null, 0), is(true));
+        assertThat(isValid.invoke(null, 9.5), is(true));
+        assertThat(isValid.invoke(null, -1), is(false));
+        assertThat(isValid.invoke(null, 10L), is(false));
+        assertThat(isValid.invoke(null, 1.2), is(false));
+        assertThat(isValid.invoke(null, "1"), is(false));
+    }
+
+    @Test
+    void shouldCompareIntegralAndDecimalNumbersExactly() throws Exception {
+        // Given:
+        final Method isValid =
+                compile("type: number", "maximum: 9007199254740992", "multipleOf: 0.1");
+
+        // Then:
+        assertThat(isValid.invoke(null, 9007199254740990L), is(true));
+        assertThat(isValid.invoke(null, 9007199254740993L), is(false));
+        assertThat(isValid.invoke(null, new BigInteger("9007199254740993")), is(false));
+        assertThat(isValid.invoke(null, new BigDecimal("0.3")), is(true));
+        assertThat(isValid.invoke(null, new BigDecimal("0.30000000000000001")), is(false));
+        assertThat(isValid.invoke(null, 0.3), is(true));
+    }
+
+    @Test
+    void shouldCompareConstNumbersExactly() throws Exception {
+        // Given:
+        final Method isValid = compile("const: 9007199254740993");
+
+        // Then:
+        assertThat(isValid.invoke(null, 9007199254740993L), is(true));
+        assertThat(isValid.invoke(null, new BigDecimal("9007199254740993.0")), is(true));
+        assertThat(isValid.invoke(null, 9007199254740992L), is(false));
+    }
+
+    @Test
+    void shouldValidateCombinatorsAndRefs() throws Exception {
+        // Given:
+        final Method isValid =
+                compile(
+                        "oneOf:",
+                        "- $ref: '#/definitions/Small'",
+                        "- type: string",
+                        "  enum: [x, y]",
+                        "definitions:",
+                        "  Small:",
+                        "    type: integer",
+                        "    maximum: 5");
+
+        // Then:
+        assertThat(isValid.invoke(null, 3), is(true));
+        assertThat(isValid.invoke(null, "x"), is(true));
+        assertThat(isValid.invoke(null, 6), is(false));
+        assertThat(isValid.invoke(null, "z"), is(false));
+        assertThat(isValid.invoke(null, (Object) null), is(false));
+    }
+
+    @Test
+    void shouldSupportRecursiveRefs() throws Exception {
+        // Given:
+        final Method isValid = compile("type: object", "properties:", "  child:", "    $ref: '#'");
+
+        // Then:
+        assertThat(isValid.invoke(null, Map.of("child", Map.of("child", Map.of()))), is(true));
+        assertThat(isValid.invoke(null, Map.of("child", Map.of("child", 1))), is(false));
+    }
+
+    @Test
+    void shouldThrowFromValidateIfInvalid() throws Exception {
+        // Given:
+        final Method validate =
+                compile("type: string").getDeclaringClass().getMethod("validate", Object.class);
+
+        // When:
+        final Exception e =
+                assertThrows(InvocationTargetException.class, () -> validate.invoke(null, 1));
+
+        // Then:
+        assertThat(e.getCause().getMessage(), is("Instance is not valid against acme/Model.yml"));
+    }
+
+    @Test
+    void shouldThrowOnUnsupportedKeyword() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> generate("type: object", "patternProperties: {}"));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("unsupported keyword 'patternProperties'"));
+    }
+
+    @Test
+    void shouldThrowOnRemoteRef() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> generate("$ref: other.yml#/definitions/Thing"));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("only local $refs are supported"));
+    }
+
+    @Test
+    void shouldEscapeStringLiterals() {
+        assertThat(
+                ValidatorSourceGenerator.literal("a\"b\\c\n\u00e9"),
+                is("\"a\\\"b\\\\c\\n\\u00e9\""));
+    }
+
+    private static String generate(final String... schema) {
+        return ValidatorSourceGenerator.generate(
+                "acme",
+                "ModelValidator",
+                SchemaYaml.parse(String.join("\n", schema) + "\n"),
+                "acme/Model.yml");
+    }
+
+    private Method compile(final String... schema) throws Exception {
+        final Path sourceFile = outputDir.resolve("acme/ModelValidator.java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.writeString(sourceFile, generate(schema));
+
+        final int result =
+                ToolProvider.getSystemJavaCompiler()
+                        .run(
+                                null,
+                                null,
+                                null,
+                                "-Xlint:all",
+                                "-Werror",
+                                "-d",
+                                outputDir.toString(),
+                                sourceFile.toString());
+        assertThat("compilation failed", result, is(0));
+
+        final URLClassLoader loader =
+                new URLClassLoader(new URL[] {outputDir.toUri().toURL()}, null);
+        return loader.loadClass("acme.ModelValidator").getMethod("isValid", Object.class);
+    }
+}
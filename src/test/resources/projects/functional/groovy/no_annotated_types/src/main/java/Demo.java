@@ -0,0 +1 @@
+public class Demo {}
\ No newline at end of file
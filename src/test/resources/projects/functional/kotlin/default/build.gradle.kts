@@ -19,6 +19,10 @@ plugins {
     `java-library`
 }
 
+dependencies {
+    implementation("org.creekservice:creek-base-annotation:+")
+}
+
 creek.schema.json {
     extraArguments("--echo-only")
 }
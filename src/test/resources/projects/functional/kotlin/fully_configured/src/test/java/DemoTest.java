@@ -1 +1,4 @@
+import org.creekservice.api.base.annotation.schema.GeneratesSchema;
+
+@GeneratesSchema
 public class DemoTest {}
\ No newline at end of file
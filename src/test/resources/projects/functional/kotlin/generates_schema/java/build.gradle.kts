@@ -27,6 +27,11 @@ dependencies {
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:5.10.1")
 }
 
+creek.schema.json {
+    prelaunchGenerator.set(findProperty("prelaunchGenerator") == "true")
+    batchGeneration.set(findProperty("batchGeneration") == "true")
+}
+
 tasks.test {
     useJUnitPlatform()
 }
\ No newline at end of file
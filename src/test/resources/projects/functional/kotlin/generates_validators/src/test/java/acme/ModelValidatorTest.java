@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package acme;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ModelValidatorTest {
+
+    @Test
+    void shouldValidateInstances() {
+        if (!ModelValidator.isValid(Map.of("someProp", "x"))) {
+            throw new AssertionError("valid instance rejected");
+        }
+        if (ModelValidator.isValid(Map.of("other", 1))) {
+            throw new AssertionError("invalid instance accepted");
+        }
+    }
+}
@@ -19,6 +19,10 @@ plugins {
     `java-library`
 }
 
+dependencies {
+    implementation("org.creekservice:creek-base-annotation:+")
+}
+
 creek.schema.json {
     extraArguments("--unsupported-arg")
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ plugins {
 }
 
 dependencies {
+    implementation("org.creekservice:creek-base-annotation:+")
     jsonSchemaGenerator("org.apache.logging.log4j:log4j-api:+")
 }
 
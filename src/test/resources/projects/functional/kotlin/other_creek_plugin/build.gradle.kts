@@ -20,6 +20,10 @@ plugins {
     `java-library`
 }
 
+dependencies {
+    implementation("org.creekservice:creek-base-annotation:+")
+}
+
 creek.schema.json {
     extraArguments("--echo-only")
 }
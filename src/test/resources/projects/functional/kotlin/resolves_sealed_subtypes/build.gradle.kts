@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+plugins {
+    id("org.creekservice.schema.json")
+    `java-library`
+}
+
+dependencies {
+    implementation("org.creekservice:creek-base-annotation:+")
+    implementation("com.fasterxml.jackson.core:jackson-annotations:2.15.3")
+}
+
+creek.schema.json {
+    resolveSubtypesFromMetadata.set(true)
+    extraArguments("--echo-only")
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+plugins {
+    id("org.creekservice.schema.json")
+    `java-library`
+    `maven-publish`
+}
+
+group = "acme"
+version = "1.0"
+
+dependencies {
+    implementation("org.creekservice:creek-base-annotation:+")
+    implementation("com.google.guava:guava:31.1-jre")
+}
+
+creek.schema.json.publishSchemaVariant.set(findProperty("publishSchemaVariant") == "true")
+
+publishing {
+    publications {
+        create<MavenPublication>("maven") {
+            from(components["java"])
+        }
+    }
+}
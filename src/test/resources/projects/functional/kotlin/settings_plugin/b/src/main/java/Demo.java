@@ -0,0 +1,4 @@
+import org.creekservice.api.base.annotation.schema.GeneratesSchema;
+
+@GeneratesSchema
+public class Demo {}
\ No newline at end of file
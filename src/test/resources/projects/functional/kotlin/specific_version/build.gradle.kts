@@ -21,6 +21,7 @@ plugins {
 }
 
 dependencies {
+    implementation("org.creekservice:creek-base-annotation:+")
     jsonSchemaGenerator("org.creekservice:creek-json-schema-generator:0.2.0-SNAPSHOT")
 }
 